@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2018, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Storage;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.fs.jagex.CompressionType;
+import net.runelite.cache.fs.jagex.DataFile;
+import net.runelite.cache.fs.jagex.DataFileWriteResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class DataFileBenchmark
+{
+	private static final int INDEX = 42;
+	private static final int ARCHIVE = 3;
+
+	@Param(
+	{
+		"" + CompressionType.NONE, "" + CompressionType.GZ
+	})
+	public int compression;
+
+	private File folder;
+	private DataFile readFile;
+	private DataFile writeFile;
+
+	private byte[] archiveData;
+	private DataFileWriteResult written;
+
+	@Setup
+	public void setup() throws IOException
+	{
+		try (Store store = SyntheticStore.open())
+		{
+			Storage storage = store.getStorage();
+			Index index = store.findIndex(SyntheticStore.BLOB_INDEX);
+			Archive archive = index.getArchive(compression);
+			archiveData = storage.loadArchive(archive);
+		}
+
+		folder = Files.createTempDirectory("datafile").toFile();
+		readFile = new DataFile(new File(folder, "read.dat2"));
+		writeFile = new DataFile(new File(folder, "write.dat2"));
+
+		written = readFile.write(INDEX, ARCHIVE, archiveData);
+	}
+
+	@Setup(Level.Iteration)
+	public void clear() throws IOException
+	{
+		// writes always append, so start each iteration from an empty file
+		writeFile.clear();
+	}
+
+	@TearDown
+	public void teardown() throws IOException
+	{
+		readFile.close();
+		writeFile.close();
+
+		for (File file : folder.listFiles())
+		{
+			file.delete();
+		}
+		folder.delete();
+	}
+
+	@Benchmark
+	public byte[] read() throws IOException
+	{
+		return readFile.read(INDEX, ARCHIVE, written.sector, written.compressedLength);
+	}
+
+	@Benchmark
+	public DataFileWriteResult write() throws IOException
+	{
+		return writeFile.write(INDEX, ARCHIVE, archiveData);
+	}
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2018, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.benchmark;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import net.runelite.cache.ConfigType;
+import net.runelite.cache.IndexType;
+import net.runelite.cache.ItemManager;
+import net.runelite.cache.NpcManager;
+import net.runelite.cache.ObjectManager;
+import net.runelite.cache.definitions.loaders.ItemLoader;
+import net.runelite.cache.definitions.loaders.NpcLoader;
+import net.runelite.cache.definitions.loaders.ObjectLoader;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.FSFile;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Store;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Decoding of whole config archives, both by the loaders alone and through
+ * the managers, which includes reading and decompressing the archive.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class DefinitionBenchmark
+{
+	private Store store;
+
+	private List<FSFile> items;
+	private List<FSFile> npcs;
+	private List<FSFile> objects;
+
+	@Setup
+	public void setup() throws IOException
+	{
+		store = SyntheticStore.open();
+
+		items = files(ConfigType.ITEM);
+		npcs = files(ConfigType.NPC);
+		objects = files(ConfigType.OBJECT);
+	}
+
+	@TearDown
+	public void teardown() throws IOException
+	{
+		store.close();
+	}
+
+	private List<FSFile> files(ConfigType type) throws IOException
+	{
+		Index index = store.getIndex(IndexType.CONFIGS);
+		Archive archive = index.getArchive(type.getId());
+		return archive.getFiles(store.getStorage().loadArchive(archive)).getFiles();
+	}
+
+	@Benchmark
+	public void itemLoader(Blackhole bh)
+	{
+		ItemLoader loader = new ItemLoader();
+		for (FSFile f : items)
+		{
+			bh.consume(loader.load(f.getFileId(), f.getContents()));
+		}
+	}
+
+	@Benchmark
+	public void npcLoader(Blackhole bh)
+	{
+		NpcLoader loader = new NpcLoader();
+		for (FSFile f : npcs)
+		{
+			bh.consume(loader.load(f.getFileId(), f.getContents()));
+		}
+	}
+
+	@Benchmark
+	public void objectLoader(Blackhole bh)
+	{
+		ObjectLoader loader = new ObjectLoader();
+		for (FSFile f : objects)
+		{
+			bh.consume(loader.load(f.getFileId(), f.getContents()));
+		}
+	}
+
+	@Benchmark
+	public ItemManager itemManager() throws IOException
+	{
+		ItemManager manager = new ItemManager(store);
+		manager.load();
+		return manager;
+	}
+
+	@Benchmark
+	public NpcManager npcManager() throws IOException
+	{
+		NpcManager manager = new NpcManager(store);
+		manager.load();
+		return manager;
+	}
+
+	@Benchmark
+	public ObjectManager objectManager() throws IOException
+	{
+		ObjectManager manager = new ObjectManager(store);
+		manager.load();
+		return manager;
+	}
+}
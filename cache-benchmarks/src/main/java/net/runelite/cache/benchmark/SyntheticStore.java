@@ -0,0 +1,262 @@
+/*
+ * Copyright (c) 2018, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Random;
+import net.runelite.cache.ConfigType;
+import net.runelite.cache.IndexType;
+import net.runelite.cache.definitions.ItemDefinition;
+import net.runelite.cache.definitions.NpcDefinition;
+import net.runelite.cache.definitions.ObjectDefinition;
+import net.runelite.cache.definitions.savers.ItemSaver;
+import net.runelite.cache.definitions.savers.NpcSaver;
+import net.runelite.cache.definitions.savers.ObjectSaver;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.ArchiveFiles;
+import net.runelite.cache.fs.Container;
+import net.runelite.cache.fs.FSFile;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Storage;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.fs.jagex.CompressionType;
+import net.runelite.cache.index.FileData;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Generates a deterministic store with roughly the shape of a live cache,
+ * so the benchmarks do not depend on downloading one.
+ */
+public class SyntheticStore
+{
+	private static final Logger logger = LoggerFactory.getLogger(SyntheticStore.class);
+
+	private static final String LOCATION_PROPERTY = "cache.synthetic";
+	private static final long SEED = 42L;
+
+	public static final int ITEMS = 24000;
+	public static final int NPCS = 9000;
+	public static final int OBJECTS = 32000;
+
+	/**
+	 * index holding one opaque archive per compression type
+	 */
+	public static final int BLOB_INDEX = IndexType.FRAMES.getNumber();
+	public static final int BLOB_SIZE = 64 * 1024;
+
+	private static final String[] WORDS =
+	{
+		"rune", "dragon", "bronze", "iron", "steel", "mithril", "adamant",
+		"sword", "shield", "helm", "platebody", "logs", "ore", "bones", "fish"
+	};
+
+	public static void main(String[] args) throws IOException
+	{
+		File folder = args.length > 0 ? new File(args[0]) : getLocation();
+		if (exists(folder))
+		{
+			logger.info("Synthetic store already exists at {}", folder);
+			return;
+		}
+
+		generate(folder);
+	}
+
+	public static File getLocation()
+	{
+		String location = System.getProperty(LOCATION_PROPERTY);
+		if (location != null)
+		{
+			return new File(location);
+		}
+
+		return new File(System.getProperty("java.io.tmpdir"), "runelite-synthetic-cache");
+	}
+
+	/**
+	 * Opens and loads the synthetic store, generating it first if it does
+	 * not exist yet.
+	 *
+	 * @return
+	 * @throws IOException
+	 */
+	public static Store open() throws IOException
+	{
+		File folder = getLocation();
+		if (!exists(folder))
+		{
+			generate(folder);
+		}
+
+		Store store = new Store(folder);
+		store.load();
+		return store;
+	}
+
+	private static boolean exists(File folder)
+	{
+		return new File(folder, "main_file_cache.idx255").exists();
+	}
+
+	public static void generate(File folder) throws IOException
+	{
+		folder.mkdirs();
+
+		Random random = new Random(SEED);
+
+		try (Store store = new Store(folder))
+		{
+			// Store.getIndex() looks indexes up by position
+			for (int i = 0; i <= IndexType.CONFIGS.getNumber(); ++i)
+			{
+				store.addIndex(i);
+			}
+
+			Storage storage = store.getStorage();
+
+			Index blobs = store.findIndex(BLOB_INDEX);
+			int[] compressions =
+			{
+				CompressionType.NONE, CompressionType.BZ2, CompressionType.GZ
+			};
+			for (int compression : compressions)
+			{
+				byte[][] contents =
+				{
+					blob(random, BLOB_SIZE)
+				};
+				saveArchive(storage, blobs, compression, compression, contents);
+			}
+
+			Index configs = store.getIndex(IndexType.CONFIGS);
+
+			ItemSaver itemSaver = new ItemSaver();
+			byte[][] items = new byte[ITEMS][];
+			for (int i = 0; i < ITEMS; ++i)
+			{
+				ItemDefinition def = new ItemDefinition(i);
+				def.name = name(random);
+				def.inventoryModel = random.nextInt(0xFFFF);
+				def.cost = random.nextInt(1_000_000);
+				def.stackable = random.nextInt(8) == 0 ? 1 : 0;
+				def.members = random.nextBoolean();
+				items[i] = itemSaver.save(def);
+			}
+			NpcSaver npcSaver = new NpcSaver();
+			byte[][] npcs = new byte[NPCS][];
+			for (int i = 0; i < NPCS; ++i)
+			{
+				NpcDefinition def = new NpcDefinition(i);
+				def.name = name(random);
+				def.models = new int[]
+				{
+					random.nextInt(0xFFFF), random.nextInt(0xFFFF)
+				};
+				def.stanceAnimation = random.nextInt(0xFFFF);
+				def.walkAnimation = random.nextInt(0xFFFF);
+				def.options[1] = "Attack";
+				npcs[i] = npcSaver.save(def);
+			}
+			ObjectSaver objectSaver = new ObjectSaver();
+			byte[][] objects = new byte[OBJECTS][];
+			for (int i = 0; i < OBJECTS; ++i)
+			{
+				ObjectDefinition def = new ObjectDefinition();
+				def.setId(i);
+				def.setName(name(random));
+				def.setObjectModels(new int[]
+				{
+					random.nextInt(0xFFFF)
+				});
+				def.setSizeX(1 + random.nextInt(3));
+				def.setSizeY(1 + random.nextInt(3));
+				def.getActions()[0] = "Open";
+				objects[i] = objectSaver.save(def);
+			}
+			// archive ids are delta encoded in the index, so add them in order
+			saveArchive(storage, configs, ConfigType.OBJECT.getId(), CompressionType.GZ, objects);
+			saveArchive(storage, configs, ConfigType.NPC.getId(), CompressionType.GZ, npcs);
+			saveArchive(storage, configs, ConfigType.ITEM.getId(), CompressionType.GZ, items);
+
+			store.save();
+		}
+
+		logger.info("Generated synthetic store in {}", folder);
+	}
+
+	private static void saveArchive(Storage storage, Index index, int archiveId, int compression, byte[][] contents) throws IOException
+	{
+		Archive archive = index.addArchive(archiveId);
+		archive.setCompression(compression);
+
+		FileData[] fileData = new FileData[contents.length];
+		ArchiveFiles files = new ArchiveFiles();
+		for (int i = 0; i < contents.length; ++i)
+		{
+			FileData fd = fileData[i] = new FileData();
+			fd.setId(i);
+
+			FSFile file = new FSFile(i);
+			file.setContents(contents[i]);
+			files.addFile(file);
+		}
+		archive.setFileData(fileData);
+
+		Container container = new Container(compression, -1);
+		container.compress(files.saveContents(), null);
+		storage.saveArchive(archive, container.data);
+	}
+
+	/**
+	 * Generates data which compresses about as well as real archive data,
+	 * rather than incompressible noise.
+	 */
+	static byte[] blob(Random random, int size)
+	{
+		byte[] data = new byte[size];
+		int pos = 0;
+		while (pos < size)
+		{
+			if (random.nextInt(4) == 0)
+			{
+				data[pos++] = (byte) random.nextInt();
+				continue;
+			}
+
+			byte[] word = WORDS[random.nextInt(WORDS.length)].getBytes();
+			int len = Math.min(word.length, size - pos);
+			System.arraycopy(word, 0, data, pos, len);
+			pos += len;
+		}
+		return data;
+	}
+
+	private static String name(Random random)
+	{
+		return WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)];
+	}
+}
@@ -26,22 +26,14 @@ package net.runelite.cache;
 
 import java.io.IOException;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
 import net.runelite.cache.definitions.AreaDefinition;
 import net.runelite.cache.definitions.loaders.AreaLoader;
-import net.runelite.cache.fs.Archive;
-import net.runelite.cache.fs.ArchiveFiles;
-import net.runelite.cache.fs.FSFile;
-import net.runelite.cache.fs.Index;
-import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
 
 public class AreaManager
 {
 	private final Store store;
-	private final Map<Integer, AreaDefinition> areas = new HashMap<>();
+	private DefinitionStore<AreaDefinition> areas = DefinitionStore.empty();
 
 	public AreaManager(Store store)
 	{
@@ -50,24 +42,13 @@ public class AreaManager
 
 	public void load() throws IOException
 	{
-		Storage storage = store.getStorage();
-		Index index = store.getIndex(IndexType.CONFIGS);
-		Archive archive = index.getArchive(ConfigType.AREA.getId());
-
-		byte[] archiveData = storage.loadArchive(archive);
-		ArchiveFiles files = archive.getFiles(archiveData);
-
-		for (FSFile file : files.getFiles())
-		{
-			AreaLoader loader = new AreaLoader();
-			AreaDefinition area = loader.load(file.getContents(), file.getFileId());
-			areas.put(area.id, area);
-		}
+		AreaLoader loader = new AreaLoader();
+		areas = DefinitionStore.load(store, ConfigType.AREA, (id, data) -> loader.load(data, id), null);
 	}
 
 	public Collection<AreaDefinition> getAreas()
 	{
-		return Collections.unmodifiableCollection(areas.values());
+		return areas.values();
 	}
 
 	public AreaDefinition getArea(int areaId)
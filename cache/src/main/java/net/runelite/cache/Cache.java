@@ -27,6 +27,7 @@ package net.runelite.cache;
 import java.io.File;
 import java.io.IOException;
 import net.runelite.cache.fs.Store;
+import net.runelite.cache.util.XteaKeyStore;
 import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.CommandLineParser;
 import org.apache.commons.cli.DefaultParser;
@@ -45,6 +46,8 @@ public class Cache
 		options.addOption(null, "npcs", true, "directory to dump npcs to");
 		options.addOption(null, "objects", true, "directory to dump objects to");
 		options.addOption(null, "sprites", true, "directory to dump sprites to");
+		options.addOption(null, "xtea", true, "file to download xtea keys to");
+		options.addOption(null, "jsonl", false, "dump items, npcs and objects to one newline delimited json file per type");
 
 		CommandLineParser parser = new DefaultParser();
 		CommandLine cmd;
@@ -59,9 +62,19 @@ public class Cache
 			return;
 		}
 
+		if (cmd.hasOption("xtea"))
+		{
+			String xteaFile = cmd.getOptionValue("xtea");
+
+			System.out.println("Downloading xtea keys to " + xteaFile);
+			downloadKeys(new File(xteaFile));
+			return;
+		}
+
 		String cache = cmd.getOptionValue("cache");
 
 		Store store = loadStore(cache);
+		boolean jsonLines = cmd.hasOption("jsonl");
 
 		if (cmd.hasOption("items"))
 		{
@@ -74,7 +87,7 @@ public class Cache
 			}
 
 			System.out.println("Dumping items to " + itemdir);
-			dumpItems(store, new File(itemdir));
+			dumpItems(store, new File(itemdir), jsonLines);
 		}
 		else if (cmd.hasOption("npcs"))
 		{
@@ -87,7 +100,7 @@ public class Cache
 			}
 
 			System.out.println("Dumping npcs to " + npcdir);
-			dumpNpcs(store, new File(npcdir));
+			dumpNpcs(store, new File(npcdir), jsonLines);
 		}
 		else if (cmd.hasOption("objects"))
 		{
@@ -100,7 +113,7 @@ public class Cache
 			}
 
 			System.out.println("Dumping objects to " + objectdir);
-			dumpObjects(store, new File(objectdir));
+			dumpObjects(store, new File(objectdir), jsonLines);
 		}
 		else if (cmd.hasOption("sprites"))
 		{
@@ -121,6 +134,18 @@ public class Cache
 		}
 	}
 
+	private static void downloadKeys(File file)
+	{
+		try
+		{
+			XteaKeyStore.refresh(file);
+		}
+		catch (IOException ex)
+		{
+			System.err.println("Unable to download xtea keys: " + ex.getMessage());
+		}
+	}
+
 	private static Store loadStore(String cache) throws IOException
 	{
 		Store store = new Store(new File(cache));
@@ -128,27 +153,48 @@ public class Cache
 		return store;
 	}
 
-	private static void dumpItems(Store store, File itemdir) throws IOException
+	private static void dumpItems(Store store, File itemdir, boolean jsonLines) throws IOException
 	{
 		ItemManager dumper = new ItemManager(store);
 		dumper.load();
-		dumper.export(itemdir);
+		if (jsonLines)
+		{
+			dumper.exportJsonLines(new File(itemdir, "items.jsonl"));
+		}
+		else
+		{
+			dumper.export(itemdir);
+		}
 		dumper.java(itemdir);
 	}
 
-	private static void dumpNpcs(Store store, File npcdir) throws IOException
+	private static void dumpNpcs(Store store, File npcdir, boolean jsonLines) throws IOException
 	{
 		NpcManager dumper = new NpcManager(store);
 		dumper.load();
-		dumper.dump(npcdir);
+		if (jsonLines)
+		{
+			dumper.dumpJsonLines(new File(npcdir, "npcs.jsonl"));
+		}
+		else
+		{
+			dumper.dump(npcdir);
+		}
 		dumper.java(npcdir);
 	}
 
-	private static void dumpObjects(Store store, File objectdir) throws IOException
+	private static void dumpObjects(Store store, File objectdir, boolean jsonLines) throws IOException
 	{
 		ObjectManager dumper = new ObjectManager(store);
 		dumper.load();
-		dumper.dump(objectdir);
+		if (jsonLines)
+		{
+			dumper.dumpJsonLines(new File(objectdir, "objects.jsonl"));
+		}
+		else
+		{
+			dumper.dump(objectdir);
+		}
 		dumper.java(objectdir);
 	}
 
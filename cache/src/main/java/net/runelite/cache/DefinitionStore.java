@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2018, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.ArchiveFiles;
+import net.runelite.cache.fs.FSFile;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Storage;
+import net.runelite.cache.fs.Store;
+
+/**
+ * Definitions decoded from the files of a single archive, stored in an
+ * array indexed by file id.
+ *
+ * @param <T> definition type
+ */
+public class DefinitionStore<T> implements Iterable<T>
+{
+	/**
+	 * number of files decoded by each parallel task
+	 */
+	private static final int CHUNK_SIZE = 256;
+
+	@FunctionalInterface
+	public interface Decoder<T>
+	{
+		T decode(int id, byte[] data);
+	}
+
+	private static final DefinitionStore<?> EMPTY = new DefinitionStore<>(new Object[0]);
+
+	private final Object[] definitions;
+	private final List<T> values;
+
+	@SuppressWarnings("unchecked")
+	private DefinitionStore(Object[] definitions)
+	{
+		this.definitions = definitions;
+
+		List<T> values = new ArrayList<>();
+		for (Object def : definitions)
+		{
+			if (def != null)
+			{
+				values.add((T) def);
+			}
+		}
+		this.values = Collections.unmodifiableList(values);
+	}
+
+	@SuppressWarnings("unchecked")
+	public static <T> DefinitionStore<T> empty()
+	{
+		return (DefinitionStore<T>) EMPTY;
+	}
+
+	public static <T> DefinitionStore<T> load(Store store, ConfigType type, Decoder<T> decoder, IntPredicate filter) throws IOException
+	{
+		return load(store, IndexType.CONFIGS, type.getId(), decoder, filter);
+	}
+
+	/**
+	 * Load and decode the files of an archive
+	 *
+	 * @param store store to load from
+	 * @param indexType index the archive is in
+	 * @param archiveId archive to load
+	 * @param decoder decoder for the files, which must be safe to call
+	 * from multiple threads
+	 * @param filter ids to decode, or null to decode all files
+	 * @param <T> definition type
+	 * @return
+	 * @throws IOException
+	 */
+	public static <T> DefinitionStore<T> load(Store store, IndexType indexType, int archiveId, Decoder<T> decoder, IntPredicate filter) throws IOException
+	{
+		Storage storage = store.getStorage();
+		Index index = store.getIndex(indexType);
+		Archive archive = index.getArchive(archiveId);
+
+		byte[] archiveData = storage.loadArchive(archive);
+		ArchiveFiles files = archive.getFiles(archiveData);
+
+		return decode(files.getFiles(), decoder, filter);
+	}
+
+	public static <T> DefinitionStore<T> decode(List<FSFile> files, Decoder<T> decoder, IntPredicate filter)
+	{
+		int maxId = -1;
+		for (FSFile file : files)
+		{
+			maxId = Math.max(maxId, file.getFileId());
+		}
+
+		Object[] definitions = new Object[maxId + 1];
+		int chunks = (files.size() + CHUNK_SIZE - 1) / CHUNK_SIZE;
+
+		// each file id is unique, so the chunks never write to the same slot
+		IntStream.range(0, chunks).parallel().forEach(chunk ->
+		{
+			int end = Math.min(files.size(), (chunk + 1) * CHUNK_SIZE);
+			for (int i = chunk * CHUNK_SIZE; i < end; ++i)
+			{
+				FSFile file = files.get(i);
+				int id = file.getFileId();
+
+				if (filter == null || filter.test(id))
+				{
+					definitions[id] = decoder.decode(id, file.getContents());
+				}
+			}
+		});
+
+		return new DefinitionStore<>(definitions);
+	}
+
+	@SuppressWarnings("unchecked")
+	public T get(int id)
+	{
+		if (id < 0 || id >= definitions.length)
+		{
+			return null;
+		}
+
+		return (T) definitions[id];
+	}
+
+	/**
+	 * @return the decoded definitions, in id order
+	 */
+	public List<T> values()
+	{
+		return values;
+	}
+
+	public int size()
+	{
+		return values.size();
+	}
+
+	@Override
+	public Iterator<T> iterator()
+	{
+		return values.iterator();
+	}
+}
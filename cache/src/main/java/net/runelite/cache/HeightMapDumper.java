@@ -30,6 +30,8 @@ import java.io.IOException;
 import net.runelite.cache.fs.Store;
 import net.runelite.cache.region.Region;
 import net.runelite.cache.region.RegionLoader;
+import net.runelite.cache.util.XteaKeySource;
+import net.runelite.cache.util.XteaKeyStore;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -41,16 +43,29 @@ public class HeightMapDumper
 	private static final float MAX_HEIGHT = 2048f;
 
 	private final Store store;
+	private final XteaKeySource keySource;
 	private RegionLoader regionLoader;
 
+	/**
+	 * Create a dumper which reads the xtea keys from the local key store at
+	 * the default location, as described in {@link XteaKeyStore#load(java.io.File)}
+	 *
+	 * @param store
+	 */
 	public HeightMapDumper(Store store)
+	{
+		this(store, XteaKeyStore.load());
+	}
+
+	public HeightMapDumper(Store store, XteaKeySource keySource)
 	{
 		this.store = store;
+		this.keySource = keySource;
 	}
 
 	public void load() throws IOException
 	{
-		regionLoader = new RegionLoader(store);
+		regionLoader = new RegionLoader(store, keySource);
 		regionLoader.loadRegions();
 		regionLoader.calculateBounds();
 	}
@@ -28,25 +28,18 @@ import java.io.File;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.function.IntPredicate;
 import net.runelite.cache.definitions.ItemDefinition;
-import net.runelite.cache.definitions.exporters.ItemExporter;
+import net.runelite.cache.definitions.exporters.DefinitionExporter;
 import net.runelite.cache.definitions.loaders.ItemLoader;
 import net.runelite.cache.definitions.providers.ItemProvider;
-import net.runelite.cache.fs.Archive;
-import net.runelite.cache.fs.ArchiveFiles;
-import net.runelite.cache.fs.FSFile;
-import net.runelite.cache.fs.Index;
-import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
 import net.runelite.cache.util.Namer;
 
 public class ItemManager implements ItemProvider
 {
 	private final Store store;
-	private final Map<Integer, ItemDefinition> items = new HashMap<>();
+	private DefinitionStore<ItemDefinition> items = DefinitionStore.empty();
 	private final Namer namer = new Namer();
 
 	public ItemManager(Store store)
@@ -56,25 +49,24 @@ public class ItemManager implements ItemProvider
 
 	public void load() throws IOException
 	{
-		ItemLoader loader = new ItemLoader();
-
-		Storage storage = store.getStorage();
-		Index index = store.getIndex(IndexType.CONFIGS);
-		Archive archive = index.getArchive(ConfigType.ITEM.getId());
-
-		byte[] archiveData = storage.loadArchive(archive);
-		ArchiveFiles files = archive.getFiles(archiveData);
+		load(null);
+	}
 
-		for (FSFile f : files.getFiles())
-		{
-			ItemDefinition def = loader.load(f.getFileId(), f.getContents());
-			items.put(f.getFileId(), def);
-		}
+	/**
+	 * Load the item definitions
+	 *
+	 * @param filter ids of the items to decode, or null for all items
+	 * @throws IOException
+	 */
+	public void load(IntPredicate filter) throws IOException
+	{
+		ItemLoader loader = new ItemLoader();
+		items = DefinitionStore.load(store, ConfigType.ITEM, loader::load, filter);
 	}
 
 	public Collection<ItemDefinition> getItems()
 	{
-		return Collections.unmodifiableCollection(items.values());
+		return items.values();
 	}
 
 	public ItemDefinition getItem(int itemId)
@@ -84,15 +76,20 @@ public class ItemManager implements ItemProvider
 
 	public void export(File out) throws IOException
 	{
-		out.mkdirs();
-
-		for (ItemDefinition def : items.values())
-		{
-			ItemExporter exporter = new ItemExporter(def);
+		DefinitionExporter exporter = new DefinitionExporter();
+		exporter.exportFiles(items, def -> def.id, out);
+	}
 
-			File targ = new File(out, def.id + ".json");
-			exporter.exportTo(targ);
-		}
+	/**
+	 * Export all items to a single newline delimited json file
+	 *
+	 * @param file
+	 * @throws IOException
+	 */
+	public void exportJsonLines(File file) throws IOException
+	{
+		DefinitionExporter exporter = new DefinitionExporter();
+		exporter.exportJsonLines(items, file);
 	}
 
 	public void java(File java) throws IOException
@@ -107,7 +104,7 @@ public class ItemManager implements ItemProvider
 			fw.println("");
 			fw.println("public final class ItemID");
 			fw.println("{");
-			for (ItemDefinition def : items.values())
+			for (ItemDefinition def : items)
 			{
 				if (def.name.equalsIgnoreCase("NULL"))
 				{
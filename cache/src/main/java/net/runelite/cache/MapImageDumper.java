@@ -52,6 +52,8 @@ import net.runelite.cache.item.RSTextureProvider;
 import net.runelite.cache.region.Location;
 import net.runelite.cache.region.Region;
 import net.runelite.cache.region.RegionLoader;
+import net.runelite.cache.util.XteaKeySource;
+import net.runelite.cache.util.XteaKeyStore;
 import net.runelite.cache.util.Djb2;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -79,6 +81,7 @@ public class MapImageDumper
 	private final Map<Integer, OverlayDefinition> overlays = new HashMap<>();
 	private final Map<Integer, Image> scaledMapIcons = new HashMap<>();
 
+	private final XteaKeySource keySource;
 	private RegionLoader regionLoader;
 	private final AreaManager areas;
 	private final SpriteManager sprites;
@@ -93,9 +96,21 @@ public class MapImageDumper
 	@Setter
 	private boolean outlineRegions;
 
+	/**
+	 * Create a dumper which reads the xtea keys from the local key store at
+	 * the default location, as described in {@link XteaKeyStore#load(java.io.File)}
+	 *
+	 * @param store
+	 */
 	public MapImageDumper(Store store)
+	{
+		this(store, XteaKeyStore.load());
+	}
+
+	public MapImageDumper(Store store, XteaKeySource keySource)
 	{
 		this.store = store;
+		this.keySource = keySource;
 		this.areas = new AreaManager(store);
 		this.sprites = new SpriteManager(store);
 		objectManager = new ObjectManager(store);
@@ -893,7 +908,7 @@ public class MapImageDumper
 
 	private void loadRegions(Store store) throws IOException
 	{
-		regionLoader = new RegionLoader(store);
+		regionLoader = new RegionLoader(store, keySource);
 		regionLoader.loadRegions();
 		regionLoader.calculateBounds();
 
@@ -27,23 +27,18 @@ package net.runelite.cache;
 import java.io.File;
 import java.io.IOException;
 import java.io.PrintWriter;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.function.IntPredicate;
 import net.runelite.cache.definitions.NpcDefinition;
-import net.runelite.cache.definitions.exporters.NpcExporter;
+import net.runelite.cache.definitions.exporters.DefinitionExporter;
 import net.runelite.cache.definitions.loaders.NpcLoader;
-import net.runelite.cache.fs.Archive;
-import net.runelite.cache.fs.ArchiveFiles;
-import net.runelite.cache.fs.FSFile;
-import net.runelite.cache.fs.Index;
-import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
 import net.runelite.cache.util.Namer;
 
 public class NpcManager
 {
 	private final Store store;
-	private final List<NpcDefinition> npcs = new ArrayList<>();
+	private DefinitionStore<NpcDefinition> npcs = DefinitionStore.empty();
 	private final Namer namer = new Namer();
 
 	public NpcManager(Store store)
@@ -53,38 +48,47 @@ public class NpcManager
 
 	public void load() throws IOException
 	{
-		NpcLoader loader = new NpcLoader();
-
-		Storage storage = store.getStorage();
-		Index index = store.getIndex(IndexType.CONFIGS);
-		Archive archive = index.getArchive(ConfigType.NPC.getId());
-
-		byte[] archiveData = storage.loadArchive(archive);
-		ArchiveFiles files = archive.getFiles(archiveData);
+		load(null);
+	}
 
-		for (FSFile f : files.getFiles())
-		{
-			NpcDefinition npc = loader.load(f.getFileId(), f.getContents());
-			npcs.add(npc);
-		}
+	/**
+	 * Load the npc definitions
+	 *
+	 * @param filter ids of the npcs to decode, or null for all npcs
+	 * @throws IOException
+	 */
+	public void load(IntPredicate filter) throws IOException
+	{
+		NpcLoader loader = new NpcLoader();
+		npcs = DefinitionStore.load(store, ConfigType.NPC, loader::load, filter);
 	}
-	
+
 	public List<NpcDefinition> getNpcs()
 	{
-		return npcs;
+		return npcs.values();
 	}
 
-	public void dump(File out) throws IOException
+	public NpcDefinition getNpc(int npcId)
 	{
-		out.mkdirs();
+		return npcs.get(npcId);
+	}
 
-		for (NpcDefinition def : npcs)
-		{
-			NpcExporter exporter = new NpcExporter(def);
+	public void dump(File out) throws IOException
+	{
+		DefinitionExporter exporter = new DefinitionExporter();
+		exporter.exportFiles(npcs, def -> def.id, out);
+	}
 
-			File targ = new File(out, def.id + ".json");
-			exporter.exportTo(targ);
-		}
+	/**
+	 * Export all npcs to a single newline delimited json file
+	 *
+	 * @param file
+	 * @throws IOException
+	 */
+	public void dumpJsonLines(File file) throws IOException
+	{
+		DefinitionExporter exporter = new DefinitionExporter();
+		exporter.exportJsonLines(npcs, file);
 	}
 
 	public void java(File java) throws IOException
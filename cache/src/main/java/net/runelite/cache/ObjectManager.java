@@ -28,24 +28,17 @@ import java.io.File;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.function.IntPredicate;
 import net.runelite.cache.definitions.ObjectDefinition;
-import net.runelite.cache.definitions.exporters.ObjectExporter;
+import net.runelite.cache.definitions.exporters.DefinitionExporter;
 import net.runelite.cache.definitions.loaders.ObjectLoader;
-import net.runelite.cache.fs.Archive;
-import net.runelite.cache.fs.ArchiveFiles;
-import net.runelite.cache.fs.FSFile;
-import net.runelite.cache.fs.Index;
-import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
 import net.runelite.cache.util.Namer;
 
 public class ObjectManager
 {
 	private final Store store;
-	private final Map<Integer, ObjectDefinition> objects = new HashMap<>();
+	private DefinitionStore<ObjectDefinition> objects = DefinitionStore.empty();
 	private final Namer namer = new Namer();
 
 	public ObjectManager(Store store)
@@ -55,25 +48,24 @@ public class ObjectManager
 
 	public void load() throws IOException
 	{
-		ObjectLoader loader = new ObjectLoader();
-
-		Storage storage = store.getStorage();
-		Index index = store.getIndex(IndexType.CONFIGS);
-		Archive archive = index.getArchive(ConfigType.OBJECT.getId());
-
-		byte[] archiveData = storage.loadArchive(archive);
-		ArchiveFiles files = archive.getFiles(archiveData);
+		load(null);
+	}
 
-		for (FSFile f : files.getFiles())
-		{
-			ObjectDefinition def = loader.load(f.getFileId(), f.getContents());
-			objects.put(f.getFileId(), def);
-		}
+	/**
+	 * Load the object definitions
+	 *
+	 * @param filter ids of the objects to decode, or null for all objects
+	 * @throws IOException
+	 */
+	public void load(IntPredicate filter) throws IOException
+	{
+		ObjectLoader loader = new ObjectLoader();
+		objects = DefinitionStore.load(store, ConfigType.OBJECT, loader::load, filter);
 	}
 
 	public Collection<ObjectDefinition> getObjects()
 	{
-		return Collections.unmodifiableCollection(objects.values());
+		return objects.values();
 	}
 
 	public ObjectDefinition getObject(int id)
@@ -83,15 +75,20 @@ public class ObjectManager
 
 	public void dump(File out) throws IOException
 	{
-		out.mkdirs();
-
-		for (ObjectDefinition def : objects.values())
-		{
-			ObjectExporter exporter = new ObjectExporter(def);
+		DefinitionExporter exporter = new DefinitionExporter();
+		exporter.exportFiles(objects, ObjectDefinition::getId, out);
+	}
 
-			File targ = new File(out, def.getId() + ".json");
-			exporter.exportTo(targ);
-		}
+	/**
+	 * Export all objects to a single newline delimited json file
+	 *
+	 * @param file
+	 * @throws IOException
+	 */
+	public void dumpJsonLines(File file) throws IOException
+	{
+		DefinitionExporter exporter = new DefinitionExporter();
+		exporter.exportJsonLines(objects, file);
 	}
 
 	public void java(File java) throws IOException
@@ -106,7 +103,7 @@ public class ObjectManager
 			fw.println("");
 			fw.println("public final class ObjectID");
 			fw.println("{");
-			for (ObjectDefinition def : objects.values())
+			for (ObjectDefinition def : objects)
 			{
 				String name;
 				if (def.getName().equalsIgnoreCase("NULL"))
@@ -26,23 +26,15 @@ package net.runelite.cache;
 
 import java.io.IOException;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
 import net.runelite.cache.definitions.OverlayDefinition;
 import net.runelite.cache.definitions.loaders.OverlayLoader;
 import net.runelite.cache.definitions.providers.OverlayProvider;
-import net.runelite.cache.fs.Archive;
-import net.runelite.cache.fs.ArchiveFiles;
-import net.runelite.cache.fs.FSFile;
-import net.runelite.cache.fs.Index;
-import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
 
 public class OverlayManager implements OverlayProvider
 {
 	private final Store store;
-	private final Map<Integer, OverlayDefinition> overlays = new HashMap<>();
+	private DefinitionStore<OverlayDefinition> overlays = DefinitionStore.empty();
 
 	public OverlayManager(Store store)
 	{
@@ -51,25 +43,13 @@ public class OverlayManager implements OverlayProvider
 
 	public void load() throws IOException
 	{
-		Storage storage = store.getStorage();
-		Index index = store.getIndex(IndexType.CONFIGS);
-		Archive archive = index.getArchive(ConfigType.OVERLAY.getId());
-
-		byte[] archiveData = storage.loadArchive(archive);
-		ArchiveFiles files = archive.getFiles(archiveData);
-
-		for (FSFile file : files.getFiles())
-		{
-			OverlayLoader loader = new OverlayLoader();
-			OverlayDefinition overlay = loader.load(file.getFileId(), file.getContents());
-
-			overlays.put(overlay.getId(), overlay);
-		}
+		OverlayLoader loader = new OverlayLoader();
+		overlays = DefinitionStore.load(store, ConfigType.OVERLAY, loader::load, null);
 	}
 
 	public Collection<OverlayDefinition> getOverlays()
 	{
-		return Collections.unmodifiableCollection(overlays.values());
+		return overlays.values();
 	}
 
 	@Override
@@ -25,22 +25,16 @@
 package net.runelite.cache;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.List;
 import net.runelite.cache.definitions.TextureDefinition;
 import net.runelite.cache.definitions.loaders.TextureLoader;
 import net.runelite.cache.definitions.providers.TextureProvider;
-import net.runelite.cache.fs.Archive;
-import net.runelite.cache.fs.ArchiveFiles;
-import net.runelite.cache.fs.FSFile;
-import net.runelite.cache.fs.Index;
-import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
 
 public class TextureManager implements TextureProvider
 {
 	private final Store store;
-	private final List<TextureDefinition> textures = new ArrayList<>();
+	private DefinitionStore<TextureDefinition> textures = DefinitionStore.empty();
 
 	public TextureManager(Store store)
 	{
@@ -49,42 +43,23 @@ public class TextureManager implements TextureProvider
 
 	public void load() throws IOException
 	{
-		Storage storage = store.getStorage();
-		Index index = store.getIndex(IndexType.TEXTURES);
-		Archive archive = index.getArchive(0);
-
-		byte[] archiveData = storage.loadArchive(archive);
-		ArchiveFiles files = archive.getFiles(archiveData);
-
 		TextureLoader loader = new TextureLoader();
-
-		for (FSFile file : files.getFiles())
-		{
-			TextureDefinition texture = loader.load(file.getFileId(), file.getContents());
-			textures.add(texture);
-		}
+		textures = DefinitionStore.load(store, IndexType.TEXTURES, 0, loader::load, null);
 	}
 
 	public List<TextureDefinition> getTextures()
 	{
-		return textures;
+		return textures.values();
 	}
 
 	public TextureDefinition findTexture(int id)
 	{
-		for (TextureDefinition td : textures)
-		{
-			if (td.getId() == id)
-			{
-				return td;
-			}
-		}
-		return null;
+		return textures.get(id);
 	}
 
 	@Override
 	public TextureDefinition[] provide()
 	{
-		return textures.toArray(new TextureDefinition[textures.size()]);
+		return textures.values().toArray(new TextureDefinition[textures.size()]);
 	}
 }
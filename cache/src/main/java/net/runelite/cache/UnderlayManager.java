@@ -26,23 +26,15 @@ package net.runelite.cache;
 
 import java.io.IOException;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
 import net.runelite.cache.definitions.UnderlayDefinition;
 import net.runelite.cache.definitions.loaders.UnderlayLoader;
 import net.runelite.cache.definitions.providers.UnderlayProvider;
-import net.runelite.cache.fs.Archive;
-import net.runelite.cache.fs.ArchiveFiles;
-import net.runelite.cache.fs.FSFile;
-import net.runelite.cache.fs.Index;
-import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
 
 public class UnderlayManager implements UnderlayProvider
 {
 	private final Store store;
-	private final Map<Integer, UnderlayDefinition> underlays = new HashMap<>();
+	private DefinitionStore<UnderlayDefinition> underlays = DefinitionStore.empty();
 
 	public UnderlayManager(Store store)
 	{
@@ -51,25 +43,13 @@ public class UnderlayManager implements UnderlayProvider
 
 	public void load() throws IOException
 	{
-		Storage storage = store.getStorage();
-		Index index = store.getIndex(IndexType.CONFIGS);
-		Archive archive = index.getArchive(ConfigType.UNDERLAY.getId());
-
-		byte[] archiveData = storage.loadArchive(archive);
-		ArchiveFiles files = archive.getFiles(archiveData);
-
-		for (FSFile file : files.getFiles())
-		{
-			UnderlayLoader loader = new UnderlayLoader();
-			UnderlayDefinition underlay = loader.load(file.getFileId(), file.getContents());
-
-			underlays.put(underlay.getId(), underlay);
-		}
+		UnderlayLoader loader = new UnderlayLoader();
+		underlays = DefinitionStore.load(store, ConfigType.UNDERLAY, loader::load, null);
 	}
 
 	public Collection<UnderlayDefinition> getUnderlays()
 	{
-		return Collections.unmodifiableCollection(underlays.values());
+		return underlays.values();
 	}
 
 	@Override
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2018, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.definitions.exporters;
+
+import com.google.common.collect.Lists;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.ToIntFunction;
+
+/**
+ * Exports definitions to json in bulk. Definitions are streamed directly
+ * to buffered files, and per-definition files are written across a pool
+ * of worker threads.
+ */
+public class DefinitionExporter
+{
+	/**
+	 * number of definitions written by each worker task
+	 */
+	private static final int CHUNK_SIZE = 256;
+
+	static final Gson GSON = new GsonBuilder()
+		.setPrettyPrinting()
+		.create();
+
+	private static final Gson COMPACT_GSON = new Gson();
+
+	private final int threads;
+
+	public DefinitionExporter()
+	{
+		this(Runtime.getRuntime().availableProcessors());
+	}
+
+	public DefinitionExporter(int threads)
+	{
+		this.threads = threads;
+	}
+
+	/**
+	 * Export each definition to its own pretty printed json file,
+	 * named after the definition id
+	 *
+	 * @param definitions definitions to export
+	 * @param id function to get the id of a definition
+	 * @param out directory to export to
+	 * @param <T> definition type
+	 * @throws IOException
+	 */
+	public <T> void exportFiles(Iterable<T> definitions, ToIntFunction<T> id, File out) throws IOException
+	{
+		out.mkdirs();
+
+		List<List<T>> chunks = Lists.partition(Lists.newArrayList(definitions), CHUNK_SIZE);
+		List<Future<?>> futures = new ArrayList<>(chunks.size());
+
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try
+		{
+			for (List<T> chunk : chunks)
+			{
+				futures.add(executor.submit(() ->
+				{
+					for (T def : chunk)
+					{
+						File file = new File(out, id.applyAsInt(def) + ".json");
+						try (Writer writer = open(file))
+						{
+							GSON.toJson(def, def.getClass(), writer);
+						}
+					}
+					return null;
+				}));
+			}
+
+			for (Future<?> future : futures)
+			{
+				future.get();
+			}
+		}
+		catch (InterruptedException ex)
+		{
+			Thread.currentThread().interrupt();
+			throw new IOException("interrupted exporting definitions", ex);
+		}
+		catch (ExecutionException ex)
+		{
+			if (ex.getCause() instanceof IOException)
+			{
+				throw (IOException) ex.getCause();
+			}
+			throw new IOException(ex.getCause());
+		}
+		finally
+		{
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Export all definitions to a single file, one compact json
+	 * object per line
+	 *
+	 * @param definitions definitions to export
+	 * @param file file to write
+	 * @param <T> definition type
+	 * @throws IOException
+	 */
+	public <T> void exportJsonLines(Iterable<T> definitions, File file) throws IOException
+	{
+		File parent = file.getParentFile();
+		if (parent != null)
+		{
+			parent.mkdirs();
+		}
+
+		try (Writer writer = open(file))
+		{
+			for (T def : definitions)
+			{
+				COMPACT_GSON.toJson(def, def.getClass(), writer);
+				writer.write('\n');
+			}
+		}
+	}
+
+	static Writer open(File file) throws IOException
+	{
+		return new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8));
+	}
+}
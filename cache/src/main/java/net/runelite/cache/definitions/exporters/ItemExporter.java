@@ -24,37 +24,30 @@
  */
 package net.runelite.cache.definitions.exporters;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.io.Writer;
 import net.runelite.cache.definitions.ItemDefinition;
 
 public class ItemExporter
 {
 	private final ItemDefinition item;
-	private final Gson gson;
 
 	public ItemExporter(ItemDefinition item)
 	{
 		this.item = item;
-
-		GsonBuilder builder = new GsonBuilder()
-			.setPrettyPrinting();
-		gson = builder.create();
 	}
 
 	public String export()
 	{
-		return gson.toJson(item);
+		return DefinitionExporter.GSON.toJson(item);
 	}
 
 	public void exportTo(File file) throws IOException
 	{
-		try (FileWriter fw = new FileWriter(file))
+		try (Writer writer = DefinitionExporter.open(file))
 		{
-			fw.write(export());
+			DefinitionExporter.GSON.toJson(item, writer);
 		}
 	}
 }
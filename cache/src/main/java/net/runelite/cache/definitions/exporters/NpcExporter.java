@@ -24,37 +24,30 @@
  */
 package net.runelite.cache.definitions.exporters;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.io.Writer;
 import net.runelite.cache.definitions.NpcDefinition;
 
 public class NpcExporter
 {
 	private final NpcDefinition npc;
-	private final Gson gson;
 
 	public NpcExporter(NpcDefinition npc)
 	{
 		this.npc = npc;
-
-		GsonBuilder builder = new GsonBuilder()
-			.setPrettyPrinting();
-		gson = builder.create();
 	}
 
 	public String export()
 	{
-		return gson.toJson(npc);
+		return DefinitionExporter.GSON.toJson(npc);
 	}
 
 	public void exportTo(File file) throws IOException
 	{
-		try (FileWriter fw = new FileWriter(file))
+		try (Writer writer = DefinitionExporter.open(file))
 		{
-			fw.write(export());
+			DefinitionExporter.GSON.toJson(npc, writer);
 		}
 	}
 }
@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2018, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.diff;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.ArchiveFiles;
+import net.runelite.cache.fs.FSFile;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Store;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Computes the differences between two loaded stores. Indexes and archives
+ * with matching crcs and revisions are skipped without reading their data,
+ * only changed archives are read and decoded to compare their files.
+ */
+public class StoreDiff
+{
+	private static final Logger logger = LoggerFactory.getLogger(StoreDiff.class);
+
+	private static final Comparator<StoreChange> ORDER = Comparator.comparingInt(StoreChange::getIndexId)
+		.thenComparingInt(StoreChange::getArchiveId)
+		.thenComparingInt(StoreChange::getFileId);
+
+	private final Store from;
+	private final Store to;
+
+	public StoreDiff(Store from, Store to)
+	{
+		this.from = from;
+		this.to = to;
+	}
+
+	/**
+	 * Diff the stores, collecting the changes
+	 *
+	 * @return changes, ordered by index, archive, and file
+	 * @throws IOException
+	 */
+	public List<StoreChange> diff() throws IOException
+	{
+		List<StoreChange> changes = Collections.synchronizedList(new ArrayList<>());
+		diff(changes::add);
+		changes.sort(ORDER);
+		return changes;
+	}
+
+	/**
+	 * Diff the stores, streaming changes to the consumer as they are
+	 * found. Indexes are compared in parallel, so the consumer must be
+	 * thread safe. Changes within an archive are given in order.
+	 *
+	 * @param consumer
+	 * @throws IOException
+	 */
+	public void diff(Consumer<StoreChange> consumer) throws IOException
+	{
+		TreeSet<Integer> indexIds = new TreeSet<>();
+		from.getIndexes().forEach(i -> indexIds.add(i.getId()));
+		to.getIndexes().forEach(i -> indexIds.add(i.getId()));
+
+		try
+		{
+			indexIds.parallelStream().forEach(id ->
+			{
+				try
+				{
+					diffIndex(id, from.findIndex(id), to.findIndex(id), consumer);
+				}
+				catch (IOException ex)
+				{
+					throw new UncheckedIOException(ex);
+				}
+			});
+		}
+		catch (UncheckedIOException ex)
+		{
+			throw ex.getCause();
+		}
+	}
+
+	private void diffIndex(int indexId, Index fromIndex, Index toIndex, Consumer<StoreChange> consumer) throws IOException
+	{
+		if (fromIndex == null)
+		{
+			consumer.accept(new StoreChange(ChangeType.ADDED, indexId, -1, -1));
+			return;
+		}
+
+		if (toIndex == null)
+		{
+			consumer.accept(new StoreChange(ChangeType.REMOVED, indexId, -1, -1));
+			return;
+		}
+
+		if (fromIndex.getCrc() == toIndex.getCrc() && fromIndex.getRevision() == toIndex.getRevision())
+		{
+			return;
+		}
+
+		Map<Integer, Archive> fromArchives = new HashMap<>();
+		for (Archive archive : fromIndex.getArchives())
+		{
+			fromArchives.put(archive.getArchiveId(), archive);
+		}
+
+		Map<Integer, Archive> toArchives = new HashMap<>();
+		for (Archive archive : toIndex.getArchives())
+		{
+			toArchives.put(archive.getArchiveId(), archive);
+		}
+
+		TreeSet<Integer> archiveIds = new TreeSet<>(fromArchives.keySet());
+		archiveIds.addAll(toArchives.keySet());
+
+		for (int archiveId : archiveIds)
+		{
+			Archive fromArchive = fromArchives.get(archiveId);
+			Archive toArchive = toArchives.get(archiveId);
+
+			if (fromArchive == null)
+			{
+				consumer.accept(new StoreChange(ChangeType.ADDED, indexId, archiveId, -1));
+			}
+			else if (toArchive == null)
+			{
+				consumer.accept(new StoreChange(ChangeType.REMOVED, indexId, archiveId, -1));
+			}
+			else if (fromArchive.getCrc() != toArchive.getCrc() || fromArchive.getRevision() != toArchive.getRevision())
+			{
+				consumer.accept(new StoreChange(ChangeType.CHANGED, indexId, archiveId, -1));
+				diffArchive(indexId, archiveId, fromArchive, toArchive, consumer);
+			}
+		}
+	}
+
+	private void diffArchive(int indexId, int archiveId, Archive fromArchive, Archive toArchive, Consumer<StoreChange> consumer) throws IOException
+	{
+		ArchiveFiles fromFiles = loadFiles(from, fromArchive);
+		ArchiveFiles toFiles = loadFiles(to, toArchive);
+
+		if (fromFiles == null || toFiles == null)
+		{
+			// the archive change has already been reported
+			return;
+		}
+
+		TreeSet<Integer> fileIds = new TreeSet<>();
+		fromFiles.getFiles().forEach(f -> fileIds.add(f.getFileId()));
+		toFiles.getFiles().forEach(f -> fileIds.add(f.getFileId()));
+
+		for (int fileId : fileIds)
+		{
+			FSFile fromFile = fromFiles.findFile(fileId);
+			FSFile toFile = toFiles.findFile(fileId);
+
+			if (fromFile == null)
+			{
+				consumer.accept(new StoreChange(ChangeType.ADDED, indexId, archiveId, fileId));
+			}
+			else if (toFile == null)
+			{
+				consumer.accept(new StoreChange(ChangeType.REMOVED, indexId, archiveId, fileId));
+			}
+			else if (!Arrays.equals(fromFile.getContents(), toFile.getContents()))
+			{
+				consumer.accept(new StoreChange(ChangeType.CHANGED, indexId, archiveId, fileId));
+			}
+		}
+	}
+
+	private static ArchiveFiles loadFiles(Store store, Archive archive) throws IOException
+	{
+		byte[] data = store.getStorage().loadArchive(archive);
+		if (data == null)
+		{
+			return null;
+		}
+
+		try
+		{
+			return archive.getFiles(data);
+		}
+		catch (IOException | RuntimeException ex)
+		{
+			// encrypted archives (maps) can't be decoded without their keys
+			logger.debug("Unable to decode archive {}/{}", archive.getIndex().getId(), archive.getArchiveId(), ex);
+			return null;
+		}
+	}
+}
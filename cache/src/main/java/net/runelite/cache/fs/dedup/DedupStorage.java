@@ -0,0 +1,502 @@
+/*
+ * Copyright (c) 2018, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs.dedup;
+
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import com.google.common.primitives.Ints;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Storage;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.fs.jagex.CompressionType;
+import net.runelite.cache.index.FileData;
+import net.runelite.cache.util.Crc32;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Storage which keeps many cache revisions in one folder. Archive data is
+ * appended to a single segment file and addressed by its sha256, so an
+ * archive which is unchanged between revisions is only stored once. Each
+ * revision is a small manifest of its indexes and archives.
+ */
+public class DedupStorage implements Storage
+{
+	private static final Logger logger = LoggerFactory.getLogger(DedupStorage.class);
+
+	private static final String SEGMENT_FILE = "archives.dat";
+	private static final String HASH_INDEX_FILE = "archives.idx";
+	private static final String MANIFEST_EXTENSION = ".manifest";
+
+	private static final int MANIFEST_MAGIC = 0x52455653; // REVS
+	private static final int MANIFEST_VERSION = 1;
+
+	private static final int HASH_SIZE = 32;
+	private static final int HASH_INDEX_ENTRY_SIZE = HASH_SIZE + 8 + 4; // hash, offset, length
+
+	@FunctionalInterface
+	private interface IndexFactory
+	{
+		Index create(int id) throws IOException;
+	}
+
+	private static class Location
+	{
+		private final long offset;
+		private final int length;
+
+		private Location(long offset, int length)
+		{
+			this.offset = offset;
+			this.length = length;
+		}
+	}
+
+	private final File folder;
+	private final int revision;
+
+	private final FileChannel segment;
+	private final DataOutputStream hashIndex;
+	private final Map<HashCode, Location> locations = new HashMap<>();
+	private final Map<Integer, Map<Long, HashCode>> manifests = new HashMap<>();
+
+	/**
+	 * @param folder folder to store data in
+	 * @param revision revision of the cache to load and save
+	 * @throws IOException
+	 */
+	public DedupStorage(File folder, int revision) throws IOException
+	{
+		this.folder = folder;
+		this.revision = revision;
+
+		folder.mkdirs();
+
+		segment = new RandomAccessFile(new File(folder, SEGMENT_FILE), "rw").getChannel();
+
+		File hashIndexFile = new File(folder, HASH_INDEX_FILE);
+		loadHashIndex(hashIndexFile);
+		hashIndex = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(hashIndexFile, true)));
+	}
+
+	private void loadHashIndex(File file) throws IOException
+	{
+		if (!file.exists())
+		{
+			return;
+		}
+
+		long segmentLength = segment.size();
+		long entries = file.length() / HASH_INDEX_ENTRY_SIZE;
+
+		if (file.length() % HASH_INDEX_ENTRY_SIZE != 0)
+		{
+			// an entry which was only partly written, which must be removed so that later appends stay aligned
+			logger.warn("Truncating partial entry at the end of the hash index");
+
+			try (RandomAccessFile raf = new RandomAccessFile(file, "rw"))
+			{
+				raf.setLength(entries * HASH_INDEX_ENTRY_SIZE);
+			}
+		}
+
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file))))
+		{
+			byte[] hash = new byte[HASH_SIZE];
+			for (long i = 0; i < entries; ++i)
+			{
+				in.readFully(hash);
+				long offset = in.readLong();
+				int length = in.readInt();
+
+				if (offset + length > segmentLength)
+				{
+					// an append which did not complete
+					logger.warn("Hash index entry past the end of the segment, ignoring");
+					continue;
+				}
+
+				locations.put(HashCode.fromBytes(hash), new Location(offset, length));
+			}
+		}
+
+		logger.debug("Loaded {} archive hashes", locations.size());
+	}
+
+	@Override
+	public void init(Store store) throws IOException
+	{
+	}
+
+	@Override
+	public synchronized void close() throws IOException
+	{
+		hashIndex.close();
+		segment.close();
+	}
+
+	public int getRevision()
+	{
+		return revision;
+	}
+
+	/**
+	 * @return revisions which have been saved to this storage
+	 */
+	public List<Integer> getRevisions()
+	{
+		List<Integer> revisions = new ArrayList<>();
+		File[] files = folder.listFiles((dir, name) -> name.endsWith(MANIFEST_EXTENSION));
+		if (files != null)
+		{
+			for (File file : files)
+			{
+				String name = file.getName();
+				revisions.add(Integer.parseInt(name.substring(0, name.length() - MANIFEST_EXTENSION.length())));
+			}
+		}
+		revisions.sort(null);
+		return revisions;
+	}
+
+	@Override
+	public void load(Store store) throws IOException
+	{
+		readManifest(revision, store::addIndex);
+	}
+
+	@Override
+	public void save(Store store) throws IOException
+	{
+		File file = manifestFile(revision);
+		File tmp = new File(folder, file.getName() + ".tmp");
+
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp))))
+		{
+			out.writeInt(MANIFEST_MAGIC);
+			out.writeInt(MANIFEST_VERSION);
+			out.writeInt(store.getIndexes().size());
+
+			for (Index index : store.getIndexes())
+			{
+				out.writeInt(index.getId());
+				out.writeByte(index.getProtocol());
+				out.writeInt(index.getRevision());
+				out.writeBoolean(index.isNamed());
+				out.writeInt(index.getCrc());
+				out.writeByte(index.getCompression());
+				out.writeInt(index.getArchives().size());
+
+				for (Archive archive : index.getArchives())
+				{
+					out.writeInt(archive.getArchiveId());
+					out.writeInt(archive.getNameHash());
+					out.writeInt(archive.getCrc());
+					out.writeInt(archive.getRevision());
+					out.writeByte(archive.getCompression());
+
+					FileData[] files = archive.getFileData();
+					out.writeInt(files != null ? files.length : 0);
+					if (files != null)
+					{
+						for (FileData fd : files)
+						{
+							out.writeInt(fd.getId());
+							out.writeInt(fd.getNameHash());
+						}
+					}
+
+					byte[] hash = archive.getHash();
+					out.writeBoolean(hash != null);
+					if (hash != null)
+					{
+						out.write(hash);
+					}
+				}
+			}
+		}
+
+		synchronized (this)
+		{
+			// make sure all archives referenced by the manifest are on disk first
+			hashIndex.flush();
+			segment.force(false);
+			manifests.remove(revision);
+		}
+
+		Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	@Override
+	public byte[] loadArchive(Archive archive) throws IOException
+	{
+		byte[] hash = archive.getHash();
+		if (hash == null)
+		{
+			return null;
+		}
+
+		return read(HashCode.fromBytes(hash));
+	}
+
+	/**
+	 * Load archive data from any revision in this storage, without
+	 * loading the rest of the revision
+	 *
+	 * @param revision cache revision
+	 * @param indexId index id
+	 * @param archiveId archive id
+	 * @return the archive data, or null if there is no such archive
+	 * @throws IOException
+	 */
+	public byte[] loadArchive(int revision, int indexId, int archiveId) throws IOException
+	{
+		Map<Long, HashCode> manifest;
+		synchronized (this)
+		{
+			manifest = manifests.get(revision);
+			if (manifest == null)
+			{
+				manifest = new HashMap<>();
+				for (Index index : readManifest(revision, Index::new))
+				{
+					for (Archive archive : index.getArchives())
+					{
+						if (archive.getHash() != null)
+						{
+							manifest.put(key(index.getId(), archive.getArchiveId()), HashCode.fromBytes(archive.getHash()));
+						}
+					}
+				}
+				manifests.put(revision, manifest);
+			}
+		}
+
+		HashCode hash = manifest.get(key(indexId, archiveId));
+		return hash != null ? read(hash) : null;
+	}
+
+	@Override
+	public void saveArchive(Archive archive, byte[] data) throws IOException
+	{
+		HashCode hash = Hashing.sha256().hashBytes(data);
+
+		synchronized (this)
+		{
+			if (!locations.containsKey(hash))
+			{
+				long offset = segment.size();
+				ByteBuffer buffer = ByteBuffer.wrap(data);
+				while (buffer.hasRemaining())
+				{
+					segment.write(buffer, offset + buffer.position());
+				}
+
+				hashIndex.write(hash.asBytes());
+				hashIndex.writeLong(offset);
+				hashIndex.writeInt(data.length);
+
+				locations.put(hash, new Location(offset, data.length));
+			}
+		}
+
+		archive.setHash(hash.asBytes());
+
+		int compression = data[0];
+		int compressedSize = Ints.fromBytes(data[1], data[2], data[3], data[4]);
+
+		// don't crc the appended revision, if it is there
+		int length = 1 // compression type
+			+ 4 // compressed size
+			+ compressedSize
+			+ (compression != CompressionType.NONE ? 4 : 0);
+
+		Crc32 crc = new Crc32();
+		crc.update(data, 0, length);
+		archive.setCrc(crc.getHash());
+		archive.setCompression(compression);
+	}
+
+	private byte[] read(HashCode hash) throws IOException
+	{
+		Location location;
+		synchronized (this)
+		{
+			location = locations.get(hash);
+		}
+
+		if (location == null)
+		{
+			logger.warn("Missing archive data for hash {}", hash);
+			return null;
+		}
+
+		ByteBuffer buffer = ByteBuffer.allocate(location.length);
+		while (buffer.hasRemaining())
+		{
+			if (segment.read(buffer, location.offset + buffer.position()) == -1)
+			{
+				throw new EOFException();
+			}
+		}
+		return buffer.array();
+	}
+
+	private List<Index> readManifest(int revision, IndexFactory factory) throws IOException
+	{
+		File file = manifestFile(revision);
+		List<Index> indexes = new ArrayList<>();
+
+		if (!file.exists())
+		{
+			return indexes;
+		}
+
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file))))
+		{
+			if (in.readInt() != MANIFEST_MAGIC || in.readInt() != MANIFEST_VERSION)
+			{
+				throw new IOException("invalid manifest for revision " + revision);
+			}
+
+			int indexCount = in.readInt();
+			for (int i = 0; i < indexCount; ++i)
+			{
+				Index index = factory.create(in.readInt());
+				index.setProtocol(in.readUnsignedByte());
+				index.setRevision(in.readInt());
+				index.setNamed(in.readBoolean());
+				index.setCrc(in.readInt());
+				index.setCompression(in.readUnsignedByte());
+
+				int archiveCount = in.readInt();
+				for (int j = 0; j < archiveCount; ++j)
+				{
+					Archive archive = index.addArchive(in.readInt());
+					archive.setNameHash(in.readInt());
+					archive.setCrc(in.readInt());
+					archive.setRevision(in.readInt());
+					archive.setCompression(in.readUnsignedByte());
+
+					FileData[] files = new FileData[in.readInt()];
+					for (int k = 0; k < files.length; ++k)
+					{
+						FileData fd = files[k] = new FileData();
+						fd.setId(in.readInt());
+						fd.setNameHash(in.readInt());
+					}
+					archive.setFileData(files);
+
+					if (in.readBoolean())
+					{
+						byte[] hash = new byte[HASH_SIZE];
+						in.readFully(hash);
+						archive.setHash(hash);
+					}
+				}
+
+				indexes.add(index);
+			}
+		}
+
+		return indexes;
+	}
+
+	private File manifestFile(int revision)
+	{
+		return new File(folder, revision + MANIFEST_EXTENSION);
+	}
+
+	private static long key(int indexId, int archiveId)
+	{
+		return ((long) indexId << 32) | (archiveId & 0xFFFFFFFFL);
+	}
+
+	/**
+	 * Copy a loaded store into a revision of a dedup storage
+	 *
+	 * @param source store to copy
+	 * @param folder dedup storage folder
+	 * @param revision revision to save the store as
+	 * @throws IOException
+	 */
+	public static void importStore(Store source, File folder, int revision) throws IOException
+	{
+		try (Store store = new Store(new DedupStorage(folder, revision)))
+		{
+			Storage from = source.getStorage();
+			Storage to = store.getStorage();
+
+			for (Index sourceIndex : source.getIndexes())
+			{
+				Index index = store.addIndex(sourceIndex.getId());
+				index.setProtocol(sourceIndex.getProtocol());
+				index.setRevision(sourceIndex.getRevision());
+				index.setNamed(sourceIndex.isNamed());
+				index.setCrc(sourceIndex.getCrc());
+				index.setCompression(sourceIndex.getCompression());
+
+				for (Archive sourceArchive : sourceIndex.getArchives())
+				{
+					Archive archive = index.addArchive(sourceArchive.getArchiveId());
+					archive.setNameHash(sourceArchive.getNameHash());
+					archive.setRevision(sourceArchive.getRevision());
+					archive.setFileData(sourceArchive.getFileData());
+
+					byte[] data = from.loadArchive(sourceArchive);
+					if (data != null)
+					{
+						to.saveArchive(archive, data);
+					}
+					else
+					{
+						archive.setCrc(sourceArchive.getCrc());
+					}
+				}
+			}
+
+			store.save();
+		}
+	}
+}
@@ -66,7 +66,7 @@ public class DataFile implements Closeable
 	 * @return
 	 * @throws IOException
 	 */
-	public byte[] read(int indexId, int archiveId, int sector, int size) throws IOException
+	public synchronized byte[] read(int indexId, int archiveId, int sector, int size) throws IOException
 	{
 		if (sector <= 0L || dat.length() / SECTOR_SIZE < (long) sector)
 		{
@@ -169,96 +169,68 @@ public class DataFile implements Closeable
 		return buffer.array();
 	}
 
-	public DataFileWriteResult write(int indexId, int archiveId, byte[] compressedData) throws IOException
+	/**
+	 * Write an archive to the end of the data file. The archive is laid
+	 * out in one contiguous run of sectors, which is written with a single
+	 * write.
+	 *
+	 * @param indexId index of the archive
+	 * @param archiveId archive id
+	 * @param compressedData archive data
+	 * @return sector the archive starts at, and its length
+	 * @throws IOException
+	 */
+	public synchronized DataFileWriteResult write(int indexId, int archiveId, byte[] compressedData) throws IOException
 	{
-		int sector;
-		int startSector;
+		boolean extended = archiveId > 0xFFFF;
+		int headerSize = extended ? 10 : 8;
+		int blockSize = SECTOR_SIZE - headerSize;
 
-		byte[] writeBuffer = new byte[SECTOR_SIZE];
-		ByteBuffer data = ByteBuffer.wrap(compressedData);
-
-		sector = (int) ((dat.length() + (long) (SECTOR_SIZE - 1)) / (long) SECTOR_SIZE);
-		if (sector == 0)
+		int startSector = (int) ((dat.length() + (long) (SECTOR_SIZE - 1)) / (long) SECTOR_SIZE);
+		if (startSector == 0)
 		{
-			sector = 1;
+			startSector = 1;
 		}
-		startSector = sector;
 
-		for (int part = 0; data.hasRemaining(); ++part)
+		int sectors = (compressedData.length + blockSize - 1) / blockSize;
+		byte[] writeBuffer = new byte[compressedData.length + sectors * headerSize];
+		int position = 0;
+		int dataPosition = 0;
+
+		for (int part = 0; part < sectors; ++part)
 		{
-			int nextSector = 0;
-			int dataToWrite;
+			int sector = startSector + part;
+			int nextSector = part == sectors - 1 ? 0 : sector + 1;
 
-			if (nextSector == 0)
+			if (extended)
 			{
-				nextSector = (int) ((dat.length() + (long) (SECTOR_SIZE - 1)) / (long) SECTOR_SIZE);
-				if (nextSector == 0)
-				{
-					++nextSector;
-				}
-
-				if (nextSector == sector)
-				{
-					++nextSector;
-				}
-			}
-
-			if (0xFFFF < archiveId)
-			{
-				if (data.remaining() <= 510)
-				{
-					nextSector = 0;
-				}
-
-				writeBuffer[0] = (byte) (archiveId >> 24);
-				writeBuffer[1] = (byte) (archiveId >> 16);
-				writeBuffer[2] = (byte) (archiveId >> 8);
-				writeBuffer[3] = (byte) archiveId;
-				writeBuffer[4] = (byte) (part >> 8);
-				writeBuffer[5] = (byte) part;
-				writeBuffer[6] = (byte) (nextSector >> 16);
-				writeBuffer[7] = (byte) (nextSector >> 8);
-				writeBuffer[8] = (byte) nextSector;
-				writeBuffer[9] = (byte) indexId;
-				dat.seek(SECTOR_SIZE * sector);
-				dat.write(writeBuffer, 0, 10);
-
-				dataToWrite = data.remaining();
-				if (dataToWrite > 510)
-				{
-					dataToWrite = 510;
-				}
+				writeBuffer[position++] = (byte) (archiveId >> 24);
+				writeBuffer[position++] = (byte) (archiveId >> 16);
+				writeBuffer[position++] = (byte) (archiveId >> 8);
+				writeBuffer[position++] = (byte) archiveId;
 			}
 			else
 			{
-				if (data.remaining() <= 512)
-				{
-					nextSector = 0;
-				}
-
-				writeBuffer[0] = (byte) (archiveId >> 8);
-				writeBuffer[1] = (byte) archiveId;
-				writeBuffer[2] = (byte) (part >> 8);
-				writeBuffer[3] = (byte) part;
-				writeBuffer[4] = (byte) (nextSector >> 16);
-				writeBuffer[5] = (byte) (nextSector >> 8);
-				writeBuffer[6] = (byte) nextSector;
-				writeBuffer[7] = (byte) indexId;
-				dat.seek(SECTOR_SIZE * sector);
-				dat.write(writeBuffer, 0, 8);
-
-				dataToWrite = data.remaining();
-				if (dataToWrite > 512)
-				{
-					dataToWrite = 512;
-				}
+				writeBuffer[position++] = (byte) (archiveId >> 8);
+				writeBuffer[position++] = (byte) archiveId;
 			}
 
-			data.get(writeBuffer, 0, dataToWrite);
-			dat.write(writeBuffer, 0, dataToWrite);
-			sector = nextSector;
+			writeBuffer[position++] = (byte) (part >> 8);
+			writeBuffer[position++] = (byte) part;
+			writeBuffer[position++] = (byte) (nextSector >> 16);
+			writeBuffer[position++] = (byte) (nextSector >> 8);
+			writeBuffer[position++] = (byte) nextSector;
+			writeBuffer[position++] = (byte) indexId;
+
+			int dataToWrite = Math.min(blockSize, compressedData.length - dataPosition);
+			System.arraycopy(compressedData, dataPosition, writeBuffer, position, dataToWrite);
+			position += dataToWrite;
+			dataPosition += dataToWrite;
 		}
 
+		dat.seek((long) SECTOR_SIZE * startSector);
+		dat.write(writeBuffer, 0, position);
+
 		DataFileWriteResult res = new DataFileWriteResult();
 		res.sector = startSector;
 		res.compressedLength = compressedData.length;
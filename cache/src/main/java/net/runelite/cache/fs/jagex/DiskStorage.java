@@ -45,8 +45,8 @@ public class DiskStorage implements Storage
 {
 	private static final Logger logger = LoggerFactory.getLogger(DiskStorage.class);
 
-	private static final String MAIN_FILE_CACHE_DAT = "main_file_cache.dat2";
-	private static final String MAIN_FILE_CACHE_IDX = "main_file_cache.idx";
+	static final String MAIN_FILE_CACHE_DAT = "main_file_cache.dat2";
+	static final String MAIN_FILE_CACHE_IDX = "main_file_cache.idx";
 
 	private final File folder;
 
@@ -58,6 +58,9 @@ public class DiskStorage implements Storage
 	{
 		this.folder = folder;
 
+		// finish or discard a compaction which was interrupted
+		StoreCompactor.recover(folder);
+
 		this.data = new DataFile(new File(folder, MAIN_FILE_CACHE_DAT));
 		this.index255 = new IndexFile(255, new File(folder, MAIN_FILE_CACHE_IDX + "255"));
 	}
@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2018, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs.jagex;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import static net.runelite.cache.fs.jagex.DiskStorage.MAIN_FILE_CACHE_DAT;
+import static net.runelite.cache.fs.jagex.DiskStorage.MAIN_FILE_CACHE_IDX;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Rewrites a disk store without the dead sectors left behind by archives
+ * which have since been rewritten. Archive data is copied as-is, so nothing
+ * is decompressed.
+ */
+public class StoreCompactor
+{
+	private static final Logger logger = LoggerFactory.getLogger(StoreCompactor.class);
+
+	private static final int INDEX255 = 255;
+
+	static final String TMP_FOLDER = "compact.tmp";
+	private static final String COMPLETE_MARKER = "complete";
+
+	public static void main(String[] args) throws IOException
+	{
+		if (args.length != 1)
+		{
+			System.err.println("Usage: StoreCompactor <cache directory>");
+			System.exit(-1);
+			return;
+		}
+
+		compact(new File(args[0]));
+	}
+
+	/**
+	 * Compact the store in the given folder. The store must not be open.
+	 * <p>
+	 * The compacted store is written to a temporary folder, which is marked
+	 * complete before any of its files replace the store's. If the swap is
+	 * interrupted, {@link #recover(File)} finishes it the next time the
+	 * store is opened, so the store is never left with a mix of old and
+	 * compacted files.
+	 *
+	 * @param folder store folder
+	 * @throws IOException
+	 */
+	public static void compact(File folder) throws IOException
+	{
+		recover(folder);
+
+		File dat = new File(folder, MAIN_FILE_CACHE_DAT);
+		long oldLength = dat.length();
+
+		prepare(folder);
+		recover(folder);
+
+		logger.info("Compacted {} from {} to {} bytes", folder, oldLength, dat.length());
+	}
+
+	/**
+	 * Finish or discard an interrupted compaction of the store in the given
+	 * folder. A compaction which was marked complete has the rest of its
+	 * files moved into the store, otherwise the partially written files are
+	 * deleted and the store is left as it was.
+	 *
+	 * @param folder store folder
+	 * @throws IOException
+	 */
+	public static void recover(File folder) throws IOException
+	{
+		File tmp = new File(folder, TMP_FOLDER);
+		if (!tmp.exists())
+		{
+			return;
+		}
+
+		File marker = new File(tmp, COMPLETE_MARKER);
+		if (marker.exists())
+		{
+			File[] files = tmp.listFiles((dir, name) -> !name.equals(COMPLETE_MARKER));
+			if (files != null)
+			{
+				// the data file is moved last, as it is the largest and the index files refer into it
+				for (File file : files)
+				{
+					if (!file.getName().equals(MAIN_FILE_CACHE_DAT))
+					{
+						move(file, folder);
+					}
+				}
+			}
+
+			File compactedDat = new File(tmp, MAIN_FILE_CACHE_DAT);
+			if (compactedDat.exists())
+			{
+				move(compactedDat, folder);
+			}
+		}
+		else
+		{
+			logger.info("Discarding incomplete compaction of {}", folder);
+		}
+
+		delete(tmp);
+	}
+
+	/**
+	 * Write the compacted store to the temporary folder and mark it complete
+	 */
+	static void prepare(File folder) throws IOException
+	{
+		File tmp = new File(folder, TMP_FOLDER);
+		delete(tmp);
+		if (!tmp.mkdirs())
+		{
+			throw new IOException("unable to create " + tmp);
+		}
+
+		List<Integer> indexIds = new ArrayList<>();
+		indexIds.add(INDEX255);
+
+		try (DataFile in = new DataFile(new File(folder, MAIN_FILE_CACHE_DAT));
+			DataFile out = new DataFile(new File(tmp, MAIN_FILE_CACHE_DAT)))
+		{
+			try (IndexFile index255 = new IndexFile(INDEX255, new File(folder, MAIN_FILE_CACHE_IDX + INDEX255)))
+			{
+				for (int i = 0; i < index255.getIndexCount(); ++i)
+				{
+					indexIds.add(i);
+				}
+			}
+
+			for (int indexId : indexIds)
+			{
+				String name = MAIN_FILE_CACHE_IDX + indexId;
+
+				try (IndexFile from = new IndexFile(indexId, new File(folder, name));
+					IndexFile to = new IndexFile(indexId, new File(tmp, name)))
+				{
+					copyIndex(in, out, from, to);
+				}
+			}
+		}
+
+		// create the marker under another name and rename it, so it only exists once fully written
+		File marker = new File(tmp, COMPLETE_MARKER);
+		File partialMarker = new File(tmp, COMPLETE_MARKER + ".tmp");
+		Files.write(partialMarker.toPath(), new byte[0]);
+		Files.move(partialMarker.toPath(), marker.toPath(), StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	private static void copyIndex(DataFile in, DataFile out, IndexFile from, IndexFile to) throws IOException
+	{
+		int indexId = from.getIndexFileId();
+
+		for (int archiveId = 0; archiveId < from.getIndexCount(); ++archiveId)
+		{
+			IndexEntry entry = from.read(archiveId);
+			if (entry == null)
+			{
+				continue;
+			}
+
+			byte[] data = in.read(indexId, archiveId, entry.getSector(), entry.getLength());
+			if (data == null)
+			{
+				logger.warn("Unable to read archive {}/{}, dropping it", indexId, archiveId);
+				continue;
+			}
+
+			DataFileWriteResult res = out.write(indexId, archiveId, data);
+			to.write(new IndexEntry(to, archiveId, res.sector, res.compressedLength));
+		}
+	}
+
+	private static void move(File file, File folder) throws IOException
+	{
+		Files.move(file.toPath(), new File(folder, file.getName()).toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	private static void delete(File file) throws IOException
+	{
+		File[] files = file.listFiles();
+		if (files != null)
+		{
+			for (File child : files)
+			{
+				delete(child);
+			}
+		}
+
+		Files.deleteIfExists(file.toPath());
+	}
+}
@@ -24,6 +24,7 @@
  */
 package net.runelite.cache.region;
 
+import java.io.File;
 import java.io.IOException;
 import java.util.Collection;
 import java.util.HashMap;
@@ -38,6 +39,8 @@ import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
 import net.runelite.cache.util.XteaKeyManager;
+import net.runelite.cache.util.XteaKeySource;
+import net.runelite.cache.util.XteaKeyStore;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -49,18 +52,52 @@ public class RegionLoader
 
 	private final Store store;
 	private final Index index;
-	private final XteaKeyManager keyManager;
+	private final XteaKeySource keyManager;
 
 	private final Map<Integer, Region> regions = new HashMap<>();
 	private Region lowestX = null, lowestY = null;
 	private Region highestX = null, highestY = null;
 
+	/**
+	 * Create a region loader which fetches the xtea keys from the web service
+	 *
+	 * @param store
+	 */
 	public RegionLoader(Store store)
+	{
+		this(store, fetchKeys());
+	}
+
+	/**
+	 * Create a region loader which reads the xtea keys from a local key
+	 * store, as described in {@link XteaKeyStore#load(File)}
+	 *
+	 * @param store
+	 * @param keyStore location of the key store
+	 */
+	public RegionLoader(Store store, File keyStore)
+	{
+		this(store, XteaKeyStore.load(keyStore));
+	}
+
+	public RegionLoader(Store store, XteaKeySource keyManager)
 	{
 		this.store = store;
+		this.keyManager = keyManager;
 		index = store.getIndex(IndexType.MAPS);
-		keyManager = new XteaKeyManager();
+	}
+
+	private static XteaKeySource fetchKeys()
+	{
+		XteaKeyManager keyManager = new XteaKeyManager();
 		keyManager.loadKeys();
+
+		if (keyManager.getKeys().isEmpty())
+		{
+			logger.warn("No xtea keys available, locations in encrypted regions will not be loaded");
+		}
+
+		return keyManager;
 	}
 
 	public void loadRegions() throws IOException
@@ -25,6 +25,7 @@
 package net.runelite.cache.util;
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import net.runelite.http.api.xtea.XteaClient;
@@ -32,7 +33,10 @@ import net.runelite.http.api.xtea.XteaKey;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-public class XteaKeyManager
+/**
+ * Xtea keys fetched from the web service
+ */
+public class XteaKeyManager implements XteaKeySource
 {
 	private static final Logger logger = LoggerFactory.getLogger(XteaKeyManager.class);
 
@@ -59,8 +63,14 @@ public class XteaKeyManager
 		logger.info("Loaded {} keys", keys.size());
 	}
 
+	@Override
 	public int[] getKeys(int region)
 	{
 		return keys.get(region);
 	}
+
+	public Map<Integer, int[]> getKeys()
+	{
+		return Collections.unmodifiableMap(keys);
+	}
 }
@@ -0,0 +1,281 @@
+/*
+ * Copyright (c) 2018, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.util;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.TreeMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Local, memory mapped store of xtea keys. The file is a header followed by
+ * fixed size entries sorted by region, so lookups are a binary search over
+ * the mapping and nothing needs to be decoded at startup.
+ */
+public class XteaKeyStore implements XteaKeySource
+{
+	private static final Logger logger = LoggerFactory.getLogger(XteaKeyStore.class);
+
+	private static final int MAGIC = 0x58544541; // XTEA
+	private static final int VERSION = 1;
+
+	private static final int HEADER_SIZE = 12; // magic, version, count
+	private static final int ENTRY_SIZE = 20; // region + 4 keys
+
+	private final ByteBuffer buffer;
+	private final int count;
+
+	private XteaKeyStore(ByteBuffer buffer)
+	{
+		this.buffer = buffer;
+
+		if (buffer.limit() < HEADER_SIZE || buffer.getInt(0) != MAGIC)
+		{
+			throw new IllegalArgumentException("not an xtea key store");
+		}
+
+		if (buffer.getInt(4) != VERSION)
+		{
+			throw new IllegalArgumentException("unsupported xtea key store version " + buffer.getInt(4));
+		}
+
+		count = buffer.getInt(8);
+		if (buffer.limit() < HEADER_SIZE + count * ENTRY_SIZE)
+		{
+			throw new IllegalArgumentException("truncated xtea key store");
+		}
+	}
+
+	/**
+	 * Default location of the key store, overridable with the cache.xtea
+	 * system property
+	 *
+	 * @return
+	 */
+	public static File getDefaultLocation()
+	{
+		String location = System.getProperty("cache.xtea");
+		if (location != null)
+		{
+			return new File(location);
+		}
+
+		return new File(System.getProperty("user.home"), ".runelite/xtea.dat");
+	}
+
+	/**
+	 * Open an existing key store
+	 *
+	 * @param file
+	 * @return
+	 * @throws IOException
+	 */
+	public static XteaKeyStore open(File file) throws IOException
+	{
+		try (RandomAccessFile raf = new RandomAccessFile(file, "r");
+			FileChannel channel = raf.getChannel())
+		{
+			// the mapping remains valid after the channel is closed
+			ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			return new XteaKeyStore(buffer);
+		}
+		catch (IllegalArgumentException ex)
+		{
+			throw new IOException("unable to open xtea key store " + file, ex);
+		}
+	}
+
+	/**
+	 * Open the key store at the default location, as described in
+	 * {@link #load(File)}
+	 *
+	 * @return
+	 */
+	public static XteaKeySource load()
+	{
+		return load(getDefaultLocation());
+	}
+
+	/**
+	 * Open the key store at the given location as it is, without going to
+	 * the network, so that every run against the same store sees the same
+	 * keys. If the store does not exist or can't be read, no keys are
+	 * available. The store is filled by {@link #refresh(File)}.
+	 *
+	 * @param file
+	 * @return
+	 */
+	public static XteaKeySource load(File file)
+	{
+		if (!file.exists())
+		{
+			logger.warn("No xtea key store at {}, locations in encrypted regions will not be loaded. Run Cache --xtea {} to download the keys.", file, file);
+			return region -> null;
+		}
+
+		try
+		{
+			return loaded(open(file), file);
+		}
+		catch (IOException ex)
+		{
+			logger.warn("unable to open xtea key store {}, locations in encrypted regions will not be loaded", file, ex);
+			return region -> null;
+		}
+	}
+
+	/**
+	 * Fetch the keys from the web service and save them to the key store at
+	 * the given location, replacing any keys already there
+	 *
+	 * @param file
+	 * @return the refreshed store
+	 * @throws IOException if the keys can't be fetched or saved
+	 */
+	public static XteaKeyStore refresh(File file) throws IOException
+	{
+		XteaKeyManager keyManager = new XteaKeyManager();
+		keyManager.loadKeys();
+
+		if (keyManager.getKeys().isEmpty())
+		{
+			throw new IOException("unable to download xtea keys");
+		}
+
+		write(file, keyManager.getKeys());
+		logger.info("Saved {} xtea keys to {}", keyManager.getKeys().size(), file);
+		return open(file);
+	}
+
+	private static XteaKeyStore loaded(XteaKeyStore store, File file)
+	{
+		if (store.size() == 0)
+		{
+			logger.warn("No xtea keys in {}, locations in encrypted regions will not be loaded", file);
+		}
+		else
+		{
+			logger.info("Loaded {} xtea keys from {}", store.size(), file);
+		}
+
+		return store;
+	}
+
+	/**
+	 * Write a key store. The file is replaced atomically, so readers never
+	 * see a partially written store.
+	 *
+	 * @param file file to write
+	 * @param keys keys by region
+	 * @throws IOException
+	 */
+	public static void write(File file, Map<Integer, int[]> keys) throws IOException
+	{
+		File parent = file.getAbsoluteFile().getParentFile();
+		parent.mkdirs();
+
+		Map<Integer, int[]> sorted = new TreeMap<>(keys);
+		File tmp = File.createTempFile("xtea", ".tmp", parent);
+
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp))))
+		{
+			out.writeInt(MAGIC);
+			out.writeInt(VERSION);
+			out.writeInt(sorted.size());
+
+			for (Map.Entry<Integer, int[]> entry : sorted.entrySet())
+			{
+				int[] k = entry.getValue();
+				if (k.length != 4)
+				{
+					throw new IllegalArgumentException("invalid keys for region " + entry.getKey());
+				}
+
+				out.writeInt(entry.getKey());
+				out.writeInt(k[0]);
+				out.writeInt(k[1]);
+				out.writeInt(k[2]);
+				out.writeInt(k[3]);
+			}
+		}
+		catch (IOException | RuntimeException ex)
+		{
+			tmp.delete();
+			throw ex;
+		}
+
+		Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	@Override
+	public int[] getKeys(int region)
+	{
+		int lo = 0;
+		int hi = count - 1;
+
+		while (lo <= hi)
+		{
+			int mid = (lo + hi) >>> 1;
+			int offset = HEADER_SIZE + mid * ENTRY_SIZE;
+			int r = buffer.getInt(offset);
+
+			if (r < region)
+			{
+				lo = mid + 1;
+			}
+			else if (r > region)
+			{
+				hi = mid - 1;
+			}
+			else
+			{
+				return new int[]
+				{
+					buffer.getInt(offset + 4),
+					buffer.getInt(offset + 8),
+					buffer.getInt(offset + 12),
+					buffer.getInt(offset + 16)
+				};
+			}
+		}
+
+		return null;
+	}
+
+	public int size()
+	{
+		return count;
+	}
+}
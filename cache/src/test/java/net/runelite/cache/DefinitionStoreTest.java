@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2018, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import net.runelite.cache.fs.FSFile;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import org.junit.Test;
+
+public class DefinitionStoreTest
+{
+	private static List<FSFile> files(int count)
+	{
+		List<FSFile> files = new ArrayList<>();
+		for (int i = 0; i < count; ++i)
+		{
+			// leave gaps in the ids
+			FSFile file = new FSFile(i * 2);
+			file.setContents(new byte[]
+			{
+				(byte) i
+			});
+			files.add(file);
+		}
+		return files;
+	}
+
+	@Test
+	public void testDecode()
+	{
+		DefinitionStore<Integer> store = DefinitionStore.decode(files(1000), (id, data) -> id, null);
+
+		assertEquals(1000, store.size());
+		assertEquals(Integer.valueOf(0), store.get(0));
+		assertNull(store.get(1));
+		assertEquals(Integer.valueOf(1998), store.get(1998));
+		assertNull(store.get(1999));
+		assertNull(store.get(-1));
+
+		int last = -2;
+		for (int id : store)
+		{
+			assertEquals(last + 2, id);
+			last = id;
+		}
+	}
+
+	@Test
+	public void testFilter()
+	{
+		DefinitionStore<Integer> store = DefinitionStore.decode(files(1000), (id, data) -> id, id -> id < 100);
+
+		assertEquals(50, store.size());
+		assertEquals(Integer.valueOf(98), store.get(98));
+		assertNull(store.get(100));
+	}
+}
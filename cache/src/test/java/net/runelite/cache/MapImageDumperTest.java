@@ -31,6 +31,7 @@ import javax.imageio.ImageIO;
 import net.runelite.cache.fs.Store;
 import net.runelite.cache.region.Region;
 import net.runelite.cache.region.RegionLoader;
+import net.runelite.cache.util.XteaKeyStore;
 import org.junit.Ignore;
 import org.junit.Rule;
 import org.junit.Test;
@@ -82,7 +83,7 @@ public class MapImageDumperTest
 		{
 			store.load();
 
-			RegionLoader regionLoader = new RegionLoader(store);
+			RegionLoader regionLoader = new RegionLoader(store, XteaKeyStore.load());
 			regionLoader.loadRegions();
 
 			MapImageDumper dumper = new MapImageDumper(store);
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2018, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.definitions.exporters;
+
+import com.google.gson.Gson;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import net.runelite.cache.definitions.ItemDefinition;
+import static org.junit.Assert.assertEquals;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class DefinitionExporterTest
+{
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private static List<ItemDefinition> items(int count)
+	{
+		List<ItemDefinition> items = new ArrayList<>();
+		for (int i = 0; i < count; ++i)
+		{
+			ItemDefinition def = new ItemDefinition(i);
+			def.name = "item " + i;
+			items.add(def);
+		}
+		return items;
+	}
+
+	@Test
+	public void testExportFiles() throws IOException
+	{
+		File out = folder.newFolder();
+
+		DefinitionExporter exporter = new DefinitionExporter(4);
+		exporter.exportFiles(items(1000), def -> def.id, out);
+
+		assertEquals(1000, out.list().length);
+
+		String json = new String(Files.readAllBytes(new File(out, "42.json").toPath()), StandardCharsets.UTF_8);
+		assertEquals(new ItemExporter(items(43).get(42)).export(), json);
+	}
+
+	@Test
+	public void testExportJsonLines() throws IOException
+	{
+		File file = new File(folder.getRoot(), "items.jsonl");
+
+		DefinitionExporter exporter = new DefinitionExporter();
+		exporter.exportJsonLines(items(100), file);
+
+		List<String> lines = Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+		assertEquals(100, lines.size());
+
+		ItemDefinition def = new Gson().fromJson(lines.get(7), ItemDefinition.class);
+		assertEquals("item 7", def.name);
+	}
+}
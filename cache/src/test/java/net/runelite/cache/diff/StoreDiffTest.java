@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2018, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.diff;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import net.runelite.cache.StoreLocation;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.ArchiveFiles;
+import net.runelite.cache.fs.Container;
+import net.runelite.cache.fs.FSFile;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.fs.jagex.CompressionType;
+import net.runelite.cache.index.FileData;
+import static org.junit.Assert.assertEquals;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class StoreDiffTest
+{
+	@Rule
+	public TemporaryFolder folder = StoreLocation.getTemporaryFolder();
+
+	private static void addArchive(Store store, Index index, int archiveId, String... files) throws IOException
+	{
+		Archive archive = index.addArchive(archiveId);
+		archive.setFileData(new FileData[files.length]);
+
+		ArchiveFiles archiveFiles = new ArchiveFiles();
+		for (int i = 0; i < files.length; ++i)
+		{
+			FileData fileData = archive.getFileData()[i] = new FileData();
+			fileData.setId(i);
+
+			FSFile file = new FSFile(i);
+			file.setContents(files[i].getBytes());
+			archiveFiles.addFile(file);
+		}
+
+		Container container = new Container(CompressionType.GZ, -1);
+		container.compress(archiveFiles.saveContents(), null);
+		store.getStorage().saveArchive(archive, container.data);
+	}
+
+	@Test
+	public void testDiff() throws IOException
+	{
+		File fromRoot = folder.newFolder();
+		File toRoot = folder.newFolder();
+
+		try (Store store = new Store(fromRoot))
+		{
+			Index index = store.addIndex(0);
+			addArchive(store, index, 0, "unchanged");
+			addArchive(store, index, 1, "same", "old");
+			addArchive(store, index, 2, "removed");
+
+			Index index1 = store.addIndex(1);
+			addArchive(store, index1, 0, "unchanged");
+
+			store.save();
+		}
+
+		try (Store store = new Store(toRoot))
+		{
+			Index index = store.addIndex(0);
+			addArchive(store, index, 0, "unchanged");
+			addArchive(store, index, 1, "same", "new", "added");
+			addArchive(store, index, 3, "added");
+
+			Index index1 = store.addIndex(1);
+			addArchive(store, index1, 0, "unchanged");
+
+			store.addIndex(2);
+
+			store.save();
+		}
+
+		try (Store from = new Store(fromRoot);
+			Store to = new Store(toRoot))
+		{
+			from.load();
+			to.load();
+
+			List<StoreChange> changes = new StoreDiff(from, to).diff();
+
+			assertEquals(Arrays.asList(
+				new StoreChange(ChangeType.CHANGED, 0, 1, -1),
+				new StoreChange(ChangeType.CHANGED, 0, 1, 1),
+				new StoreChange(ChangeType.ADDED, 0, 1, 2),
+				new StoreChange(ChangeType.REMOVED, 0, 2, -1),
+				new StoreChange(ChangeType.ADDED, 0, 3, -1),
+				new StoreChange(ChangeType.ADDED, 2, -1, -1)
+			), changes);
+		}
+	}
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2018, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs.dedup;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import net.runelite.cache.StoreLocation;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Container;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.fs.jagex.CompressionType;
+import net.runelite.cache.index.FileData;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class DedupStorageTest
+{
+	@Rule
+	public TemporaryFolder folder = StoreLocation.getTemporaryFolder();
+
+	private static byte[] container(String contents) throws IOException
+	{
+		Container container = new Container(CompressionType.GZ, -1);
+		container.compress(contents.getBytes(), null);
+		return container.data;
+	}
+
+	private static void save(File root, int revision, String... archives) throws IOException
+	{
+		try (Store store = new Store(new DedupStorage(root, revision)))
+		{
+			Index index = store.addIndex(0);
+			for (int i = 0; i < archives.length; ++i)
+			{
+				Archive archive = index.addArchive(i);
+				archive.setNameHash(i * 7);
+				archive.setFileData(new FileData[1]);
+				FileData fileData = archive.getFileData()[0] = new FileData();
+				fileData.setId(0);
+
+				store.getStorage().saveArchive(archive, container(archives[i]));
+			}
+			store.save();
+		}
+	}
+
+	@Test
+	public void testLoad() throws IOException
+	{
+		File root = folder.newFolder();
+		save(root, 1, "first", "second");
+
+		try (Store store = new Store(new DedupStorage(root, 1)))
+		{
+			store.load();
+
+			Index index = store.findIndex(0);
+			Assert.assertEquals(2, index.getArchives().size());
+
+			Archive archive = index.getArchive(1);
+			Assert.assertEquals(7, archive.getNameHash());
+
+			byte[] data = store.getStorage().loadArchive(archive);
+			Assert.assertArrayEquals("second".getBytes(), archive.decompress(data));
+		}
+	}
+
+	@Test
+	public void testDeduplication() throws IOException
+	{
+		File root = folder.newFolder();
+		save(root, 1, "first", "second");
+
+		long length = new File(root, "archives.dat").length();
+
+		save(root, 2, "first", "second");
+		Assert.assertEquals(length, new File(root, "archives.dat").length());
+
+		save(root, 3, "first", "changed");
+		Assert.assertTrue(new File(root, "archives.dat").length() > length);
+
+		try (DedupStorage storage = new DedupStorage(root, 3))
+		{
+			Assert.assertArrayEquals(new Integer[]{1, 2, 3}, storage.getRevisions().toArray());
+
+			Assert.assertArrayEquals(container("second"), storage.loadArchive(2, 0, 1));
+			Assert.assertArrayEquals(container("changed"), storage.loadArchive(3, 0, 1));
+			Assert.assertArrayEquals(container("first"), storage.loadArchive(1, 0, 0));
+			Assert.assertNull(storage.loadArchive(3, 0, 2));
+			Assert.assertNull(storage.loadArchive(4, 0, 0));
+		}
+	}
+
+	@Test
+	public void testPartialHashIndexEntry() throws IOException
+	{
+		File root = folder.newFolder();
+		save(root, 1, "first");
+
+		// a crash part way through appending an entry
+		File hashIndex = new File(root, "archives.idx");
+		try (FileOutputStream out = new FileOutputStream(hashIndex, true))
+		{
+			out.write(new byte[5]);
+		}
+
+		save(root, 2, "first", "second");
+		save(root, 3, "first", "second", "third");
+
+		// 32 byte hash, offset and length
+		Assert.assertEquals(0, hashIndex.length() % 44);
+
+		try (DedupStorage storage = new DedupStorage(root, 3))
+		{
+			Assert.assertArrayEquals(container("first"), storage.loadArchive(3, 0, 0));
+			Assert.assertArrayEquals(container("second"), storage.loadArchive(3, 0, 1));
+			Assert.assertArrayEquals(container("third"), storage.loadArchive(3, 0, 2));
+		}
+	}
+}
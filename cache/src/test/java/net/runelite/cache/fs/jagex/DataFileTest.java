@@ -167,4 +167,26 @@ public class DataFileTest
 		Assert.assertEquals("testtesttesttest1", str);
 		Assert.assertEquals(42, res2.revision);
 	}
+
+	@Test
+	public void testMultipleSectors() throws IOException
+	{
+		DataFile df = new DataFile(folder.newFile());
+
+		byte[] b = new byte[4096];
+		for (int i = 0; i < b.length; ++i)
+		{
+			b[i] = (byte) (i * 31);
+		}
+
+		DataFileWriteResult res1 = df.write(3, 7, b);
+		DataFileWriteResult res2 = df.write(3, 0x1FFFF, b);
+
+		// 8 byte headers on small archive ids, 10 byte headers on large ones
+		Assert.assertEquals(1, res1.sector);
+		Assert.assertEquals(1 + (4096 + 511) / 512, res2.sector);
+
+		Assert.assertArrayEquals(b, df.read(3, 7, res1.sector, res1.compressedLength));
+		Assert.assertArrayEquals(b, df.read(3, 0x1FFFF, res2.sector, res2.compressedLength));
+	}
 }
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2018, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs.jagex;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Random;
+import net.runelite.cache.StoreLocation;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Container;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.index.FileData;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class StoreCompactorTest
+{
+	private static final int ARCHIVES = 16;
+
+	@Rule
+	public TemporaryFolder folder = StoreLocation.getTemporaryFolder();
+
+	@Test
+	public void testCompact() throws IOException
+	{
+		File root = folder.newFolder();
+		byte[][] contents = createStore(root);
+
+		File dat = new File(root, DiskStorage.MAIN_FILE_CACHE_DAT);
+		long before = dat.length();
+
+		StoreCompactor.compact(root);
+
+		assertTrue(dat.length() < before);
+		assertFalse(new File(root, StoreCompactor.TMP_FOLDER).exists());
+		verifyStore(root, contents);
+	}
+
+	@Test
+	public void testStaleTemporaryFolder() throws IOException
+	{
+		File root = folder.newFolder();
+		byte[][] contents = createStore(root);
+
+		// leftovers from a compaction which crashed before completing
+		File tmp = new File(root, StoreCompactor.TMP_FOLDER);
+		assertTrue(tmp.mkdirs());
+		byte[] junk = new byte[100_000];
+		new Random(1L).nextBytes(junk);
+		Files.write(new File(tmp, DiskStorage.MAIN_FILE_CACHE_DAT).toPath(), junk);
+
+		StoreCompactor.compact(root);
+
+		assertTrue(new File(root, DiskStorage.MAIN_FILE_CACHE_DAT).length() < junk.length);
+		verifyStore(root, contents);
+	}
+
+	@Test
+	public void testInterruptedSwap() throws IOException
+	{
+		File root = folder.newFolder();
+		byte[][] contents = createStore(root);
+
+		StoreCompactor.prepare(root);
+
+		// crash after moving only the first index file into place
+		File tmp = new File(root, StoreCompactor.TMP_FOLDER);
+		String name = DiskStorage.MAIN_FILE_CACHE_IDX + 0;
+		Files.move(new File(tmp, name).toPath(), new File(root, name).toPath(), StandardCopyOption.REPLACE_EXISTING);
+
+		// opening the store finishes the swap
+		verifyStore(root, contents);
+		assertFalse(tmp.exists());
+	}
+
+	private static byte[][] createStore(File root) throws IOException
+	{
+		Random random = new Random(42L);
+		byte[][] contents = new byte[ARCHIVES][];
+
+		try (Store store = new Store(root))
+		{
+			Index index = store.addIndex(0);
+			DiskStorage storage = (DiskStorage) store.getStorage();
+
+			for (int i = 0; i < ARCHIVES; ++i)
+			{
+				Archive archive = index.addArchive(i);
+				archive.setFileData(new FileData[]
+				{
+					new FileData()
+				});
+			}
+
+			// each pass rewrites every archive, leaving the previous copies dead
+			for (int pass = 0; pass < 3; ++pass)
+			{
+				for (int i = 0; i < ARCHIVES; ++i)
+				{
+					contents[i] = new byte[1 + random.nextInt(4096)];
+					random.nextBytes(contents[i]);
+
+					Container container = new Container(CompressionType.NONE, -1);
+					container.compress(contents[i], null);
+					storage.saveArchive(index.getArchive(i), container.data);
+				}
+				store.save();
+			}
+		}
+
+		return contents;
+	}
+
+	private static void verifyStore(File root, byte[][] contents) throws IOException
+	{
+		try (Store store = new Store(root))
+		{
+			store.load();
+
+			Index index = store.findIndex(0);
+			assertEquals(ARCHIVES, index.getArchives().size());
+
+			for (int i = 0; i < ARCHIVES; ++i)
+			{
+				Archive archive = index.getArchive(i);
+				byte[] data = archive.decompress(store.getStorage().loadArchive(archive));
+				assertArrayEquals(contents[i], data);
+			}
+		}
+	}
+}
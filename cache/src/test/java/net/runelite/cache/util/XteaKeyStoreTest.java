@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2018, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class XteaKeyStoreTest
+{
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testWriteAndOpen() throws IOException
+	{
+		Map<Integer, int[]> keys = new HashMap<>();
+		for (int region = 12000; region > 0; region -= 7)
+		{
+			keys.put(region, new int[]
+			{
+				region, -region, region * 31, ~region
+			});
+		}
+
+		File file = new File(folder.getRoot(), "xtea.dat");
+		XteaKeyStore.write(file, keys);
+
+		XteaKeyStore store = XteaKeyStore.open(file);
+		assertEquals(keys.size(), store.size());
+
+		for (Map.Entry<Integer, int[]> entry : keys.entrySet())
+		{
+			assertArrayEquals(entry.getValue(), store.getKeys(entry.getKey()));
+		}
+
+		assertNull(store.getKeys(0));
+		assertNull(store.getKeys(12001));
+		assertNull(store.getKeys(65535));
+	}
+
+	@Test
+	public void testLoadOldStore() throws IOException
+	{
+		Map<Integer, int[]> keys = new HashMap<>();
+		keys.put(12850, new int[]
+		{
+			1, 2, 3, 4
+		});
+
+		File file = new File(folder.getRoot(), "xtea.dat");
+		XteaKeyStore.write(file, keys);
+		file.setLastModified(0L);
+
+		// the store is used as it is, however old, without fetching
+		XteaKeySource source = XteaKeyStore.load(file);
+		assertSame(XteaKeyStore.class, source.getClass());
+		assertArrayEquals(keys.get(12850), source.getKeys(12850));
+		assertEquals(0L, file.lastModified());
+	}
+
+	@Test
+	public void testLoadMissingStore()
+	{
+		File file = new File(folder.getRoot(), "xtea.dat");
+
+		// a missing store has no keys, and is not fetched
+		XteaKeySource source = XteaKeyStore.load(file);
+		assertNull(source.getKeys(12850));
+		assertFalse(file.exists());
+	}
+
+	@Test(expected = IOException.class)
+	public void testInvalidFile() throws IOException
+	{
+		File file = folder.newFile();
+		XteaKeyStore.open(file);
+	}
+}
@@ -60,7 +60,8 @@ import net.runelite.cache.models.VertexNormal;
 import net.runelite.cache.region.Location;
 import net.runelite.cache.region.Position;
 import net.runelite.cache.region.Region;
-import net.runelite.cache.util.XteaKeyManager;
+import net.runelite.cache.util.XteaKeySource;
+import net.runelite.cache.util.XteaKeyStore;
 import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.CommandLineParser;
 import org.apache.commons.cli.DefaultParser;
@@ -192,8 +193,7 @@ public class ModelViewer
 
 			int x = Integer.parseInt(s[0]), y = Integer.parseInt(s[1]);
 
-			XteaKeyManager keyManager = new XteaKeyManager();
-			keyManager.loadKeys();
+			XteaKeySource keyManager = XteaKeyStore.load();
 
 			int[] keys = keyManager.getKeys(x << 8 | y);
 
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2018, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.api;
+
+import javax.annotation.Nonnull;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * The camera and scene state needed to project local coordinates to the canvas,
+ * read from the client once so that many points can be projected without
+ * going back to the client for each one.
+ *
+ * A snapshot is only valid for the frame it was taken in. The camera and scene
+ * only change when the client runs a game cycle, so {@link #refresh(Client)}
+ * can be called before each use and will only read the client again once a
+ * new cycle has started.
+ */
+@Getter
+public class CameraSnapshot
+{
+	private int cameraX;
+	private int cameraY;
+	private int cameraZ;
+	private int pitchSin;
+	private int pitchCos;
+	private int yawSin;
+	private int yawCos;
+	private int scale;
+	private int viewportCenterX;
+	private int viewportCenterY;
+	private int plane;
+	private int[][][] tileHeights;
+	private byte[][][] tileSettings;
+
+	@Getter(AccessLevel.NONE)
+	private int gameCycle;
+	@Getter(AccessLevel.NONE)
+	private boolean loaded;
+
+	public CameraSnapshot()
+	{
+	}
+
+	public CameraSnapshot(@Nonnull Client client)
+	{
+		update(client);
+	}
+
+	/**
+	 * Reads the current camera, viewport and scene state from the client
+	 *
+	 * @param client
+	 * @return this snapshot
+	 */
+	public CameraSnapshot update(@Nonnull Client client)
+	{
+		cameraX = client.getCameraX();
+		cameraY = client.getCameraY();
+		cameraZ = client.getCameraZ();
+
+		final int cameraPitch = client.getCameraPitch();
+		final int cameraYaw = client.getCameraYaw();
+		pitchSin = Perspective.SINE[cameraPitch];
+		pitchCos = Perspective.COSINE[cameraPitch];
+		yawSin = Perspective.SINE[cameraYaw];
+		yawCos = Perspective.COSINE[cameraYaw];
+
+		scale = client.getScale();
+		viewportCenterX = client.getViewportWidth() / 2;
+		viewportCenterY = client.getViewportHeight() / 2;
+
+		plane = client.getPlane();
+		tileHeights = client.getTileHeights();
+		tileSettings = client.getTileSettings();
+
+		gameCycle = client.getGameCycle();
+		loaded = true;
+		return this;
+	}
+
+	/**
+	 * Reads the camera, viewport and scene state from the client if the client has
+	 * run a game cycle since this snapshot was last read
+	 *
+	 * @param client
+	 * @return this snapshot
+	 */
+	public CameraSnapshot refresh(@Nonnull Client client)
+	{
+		if (!loaded || client.getGameCycle() != gameCycle)
+		{
+			update(client);
+		}
+		return this;
+	}
+
+	/**
+	 * Gets the height of the ground at a local coordinate on the current plane
+	 *
+	 * @param localX the ground coordinate on the x axis
+	 * @param localY the ground coordinate on the y axis
+	 * @return the offset from the ground of the tile
+	 */
+	public int getTileHeight(int localX, int localY)
+	{
+		return Perspective.getTileHeight(tileHeights, tileSettings, localX, localY, plane);
+	}
+}
@@ -113,6 +113,10 @@ public interface Client extends GameEngine
 
 	IndexDataBase getIndexSprites();
 
+	IndexDataBase getIndexConfigs();
+
+	IndexDataBase getIndexModels();
+
 	int getBaseX();
 
 	int getBaseY();
@@ -157,6 +161,17 @@ public interface Client extends GameEngine
 
 	MenuEntry[] getMenuEntries();
 
+	/**
+	 * Gets the current menu entries without allocating them.
+	 * <p>
+	 * The returned array and its entries are reused by the next call, so
+	 * they must not be kept. Use {@link #getMenuEntries()} for entries
+	 * which are held on to.
+	 *
+	 * @return the current menu entries
+	 */
+	MenuEntry[] getMenuEntriesView();
+
 	void setMenuEntries(MenuEntry[] entries);
 
 	boolean isMenuOpen();
@@ -192,6 +207,14 @@ public interface Client extends GameEngine
 	@VisibleForDevtools
 	void setVarbitValue(int varbit, int value);
 
+	/**
+	 * Gets the index of the varp a varbit is stored in
+	 *
+	 * @param varbit the varbit id
+	 * @return the varp index
+	 */
+	int getVarbitVarpIndex(int varbit);
+
 	HashTable getWidgetFlags();
 
 	HashTable getComponentTable();
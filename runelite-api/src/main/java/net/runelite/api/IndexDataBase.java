@@ -26,4 +26,11 @@ package net.runelite.api;
 
 public interface IndexDataBase
 {
+	/**
+	 * Gets the crc of the index's reference table, which changes whenever
+	 * any archive in the index is updated
+	 *
+	 * @return the crc, or 0 if the index is not yet loaded
+	 */
+	int getCrc();
 }
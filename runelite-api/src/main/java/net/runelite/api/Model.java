@@ -33,4 +33,20 @@ public interface Model extends Renderable
 	List<Vertex> getVertices();
 
 	List<Triangle> getTriangles();
+
+	int getVerticesCount();
+
+	int[] getVerticesX();
+
+	int[] getVerticesY();
+
+	int[] getVerticesZ();
+
+	int getTrianglesCount();
+
+	int[] getTrianglesX();
+
+	int[] getTrianglesY();
+
+	int[] getTrianglesZ();
 }
@@ -31,14 +31,10 @@ import java.awt.Rectangle;
 import java.awt.geom.Area;
 import java.awt.geom.Rectangle2D;
 import java.awt.image.BufferedImage;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Arrays;
 import javax.annotation.Nonnull;
 import net.runelite.api.coords.LocalPoint;
-import net.runelite.api.model.Jarvis;
-import net.runelite.api.model.Triangle;
-import net.runelite.api.model.Vertex;
+import net.runelite.api.model.ConvexHull;
 
 public class Perspective
 {
@@ -52,6 +48,11 @@ public class Perspective
 	public static final int[] SINE = new int[2048]; // sine angles for each of the 2048 units, * 65536 and stored as an int
 	public static final int[] COSINE = new int[2048]; // cosine
 
+	/**
+	 * Canvas coordinate written by the batch projection methods for points which are not on screen
+	 */
+	public static final int OFFSCREEN = Integer.MIN_VALUE;
+
 	static
 	{
 		for (int i = 0; i < 2048; ++i)
@@ -136,40 +137,167 @@ public class Perspective
 	 */
 	public static Point worldToCanvas(@Nonnull Client client, int x, int y, int plane, int tileX, int tileY, int zOffset)
 	{
-		if (x >= 128 && y >= 128 && x <= 13056 && y <= 13056)
+		if (!isInScene(x, y))
 		{
-			int z = getTileHeight(client, tileX, tileY, client.getPlane()) - plane;
-			x -= client.getCameraX();
-			y -= client.getCameraY();
-			z -= client.getCameraZ();
-			z -= zOffset;
-
-			int cameraPitch = client.getCameraPitch();
-			int cameraYaw = client.getCameraYaw();
-
-			int pitchSin = SINE[cameraPitch];
-			int pitchCos = COSINE[cameraPitch];
-			int yawSin = SINE[cameraYaw];
-			int yawCos = COSINE[cameraYaw];
-
-			int var8 = yawCos * x + y * yawSin >> 16;
-			y = yawCos * y - yawSin * x >> 16;
-			x = var8;
-			var8 = pitchCos * z - y * pitchSin >> 16;
-			y = z * pitchSin + y * pitchCos >> 16;
-
-			if (y >= 50)
+			return null;
+		}
+
+		final ProjectionBuffers buffers = PROJECTION_BUFFERS.get();
+		final CameraSnapshot camera = buffers.camera.refresh(client);
+		final int z = camera.getTileHeight(tileX, tileY) - plane - zOffset;
+		if (!project(camera, x, y, z, buffers.canvasX, buffers.canvasY, 0))
+		{
+			return null;
+		}
+
+		return new Point(buffers.canvasX[0], buffers.canvasY[0]);
+	}
+
+	/**
+	 * Translates arrays of local coordinates to their corresponding coordinates on the
+	 * game screen, with the height of each point taken from the ground below it.
+	 *
+	 * Points which are outside of the scene or behind the camera are written as
+	 * {@link #OFFSCREEN} in both {@code outX} and {@code outY}.
+	 *
+	 * @param camera the camera to project with
+	 * @param x ground coordinates on the x axis
+	 * @param y ground coordinates on the y axis
+	 * @param zOffset distances from ground on the z axis, or null for none
+	 * @param count the number of points to project
+	 * @param outX canvas coordinates on the x axis
+	 * @param outY canvas coordinates on the y axis
+	 * @return the number of points which were projected onto the canvas
+	 */
+	public static int worldToCanvas(@Nonnull CameraSnapshot camera, @Nonnull int[] x, @Nonnull int[] y, int[] zOffset,
+		int count, @Nonnull int[] outX, @Nonnull int[] outY)
+	{
+		final int[][][] tileHeights = camera.getTileHeights();
+		final byte[][][] tileSettings = camera.getTileSettings();
+		final int plane = camera.getPlane();
+
+		int projected = 0;
+
+		for (int i = 0; i < count; ++i)
+		{
+			final int localX = x[i];
+			final int localY = y[i];
+
+			if (isInScene(localX, localY))
 			{
-				int pointX = client.getViewportWidth() / 2 + x * client.getScale() / y;
-				int pointY = client.getViewportHeight() / 2 + var8 * client.getScale() / y;
-				return new Point(pointX, pointY);
+				final int z = getTileHeight(tileHeights, tileSettings, localX, localY, plane) - (zOffset != null ? zOffset[i] : 0);
+				if (project(camera, localX, localY, z, outX, outY, i))
+				{
+					++projected;
+					continue;
+				}
 			}
+
+			outX[i] = OFFSCREEN;
+			outY[i] = OFFSCREEN;
 		}
 
-		return null;
+		return projected;
+	}
+
+	/**
+	 * Translates arrays of local coordinates to their corresponding coordinates on the
+	 * game screen, with every point at the height of the tile provided. This is how
+	 * the points of an object are placed, so its mesh is not warped by the terrain below.
+	 *
+	 * Points which are outside of the scene or behind the camera are written as
+	 * {@link #OFFSCREEN} in both {@code outX} and {@code outY}.
+	 *
+	 * @param camera the camera to project with
+	 * @param x ground coordinates on the x axis
+	 * @param y ground coordinates on the y axis
+	 * @param zOffset distances from ground on the z axis, or null for none
+	 * @param count the number of points to project
+	 * @param tileX the X coordinate of the tile the object is on
+	 * @param tileY the Y coordinate of the tile the object is on
+	 * @param outX canvas coordinates on the x axis
+	 * @param outY canvas coordinates on the y axis
+	 * @return the number of points which were projected onto the canvas
+	 */
+	public static int worldToCanvas(@Nonnull CameraSnapshot camera, @Nonnull int[] x, @Nonnull int[] y, int[] zOffset,
+		int count, int tileX, int tileY, @Nonnull int[] outX, @Nonnull int[] outY)
+	{
+		final int height = camera.getTileHeight(tileX, tileY);
+
+		int projected = 0;
+
+		for (int i = 0; i < count; ++i)
+		{
+			final int localX = x[i];
+			final int localY = y[i];
 
+			if (isInScene(localX, localY)
+				&& project(camera, localX, localY, height - (zOffset != null ? zOffset[i] : 0), outX, outY, i))
+			{
+				++projected;
+				continue;
+			}
+
+			outX[i] = OFFSCREEN;
+			outY[i] = OFFSCREEN;
+		}
+
+		return projected;
+	}
+
+	private static boolean isInScene(int localX, int localY)
+	{
+		return localX >= 128 && localY >= 128 && localX <= 13056 && localY <= 13056;
+	}
+
+	/**
+	 * Projects a single point, writing it to {@code outX} and {@code outY} at {@code index}
+	 *
+	 * @param z the height of the point, where more negative is higher
+	 * @return false if the point is behind the camera
+	 */
+	private static boolean project(CameraSnapshot camera, int x, int y, int z, int[] outX, int[] outY, int index)
+	{
+		x -= camera.getCameraX();
+		y -= camera.getCameraY();
+		z -= camera.getCameraZ();
+
+		final int pitchSin = camera.getPitchSin();
+		final int pitchCos = camera.getPitchCos();
+		final int yawSin = camera.getYawSin();
+		final int yawCos = camera.getYawCos();
+
+		int var8 = yawCos * x + y * yawSin >> 16;
+		y = yawCos * y - yawSin * x >> 16;
+		x = var8;
+		var8 = pitchCos * z - y * pitchSin >> 16;
+		y = z * pitchSin + y * pitchCos >> 16;
+
+		if (y < 50)
+		{
+			return false;
+		}
+
+		outX[index] = camera.getViewportCenterX() + x * camera.getScale() / y;
+		outY[index] = camera.getViewportCenterY() + var8 * camera.getScale() / y;
+		return true;
 	}
 
+	/**
+	 * Camera and output buffers for the single point methods, which delegate to the batch path
+	 */
+	private static class ProjectionBuffers
+	{
+		private final CameraSnapshot camera = new CameraSnapshot();
+		private final int[] localX = new int[4];
+		private final int[] localY = new int[4];
+		private final int[] zOffset = new int[4];
+		private final int[] canvasX = new int[4];
+		private final int[] canvasY = new int[4];
+	}
+
+	private static final ThreadLocal<ProjectionBuffers> PROJECTION_BUFFERS = ThreadLocal.withInitial(ProjectionBuffers::new);
+
 	/**
 	 * Translates two-dimensional ground coordinates within the 3D world to
 	 * their corresponding coordinates on the Minimap.
@@ -235,14 +363,16 @@ public class Perspective
 	 * @return the offset from the ground of the tile
 	 */
 	public static int getTileHeight(@Nonnull Client client, int localX, int localY, int plane)
+	{
+		return getTileHeight(client.getTileHeights(), client.getTileSettings(), localX, localY, plane);
+	}
+
+	static int getTileHeight(int[][][] tileHeights, byte[][][] tileSettings, int localX, int localY, int plane)
 	{
 		int sceneX = localX >> LOCAL_COORD_BITS;
 		int sceneY = localY >> LOCAL_COORD_BITS;
 		if (sceneX >= 0 && sceneY >= 0 && sceneX <= 103 && sceneY <= 103)
 		{
-			byte[][][] tileSettings = client.getTileSettings();
-			int[][][] tileHeights = client.getTileHeights();
-
 			int var5 = plane;
 			if (plane < 3 && (tileSettings[1][sceneX][sceneY] & 2) == 2)
 			{
@@ -290,33 +420,32 @@ public class Perspective
 		int aoeSize = size / 2;
 
 		// Shift over one half tile as localLocation is the center point of the tile, and then shift the area size
-		Point southWestCorner = new Point(localLocation.getX() - (aoeSize * LOCAL_TILE_SIZE) - halfTile + 1,
-			localLocation.getY() - (aoeSize * LOCAL_TILE_SIZE) - halfTile + 1);
+		final int westX = localLocation.getX() - (aoeSize * LOCAL_TILE_SIZE) - halfTile + 1;
+		final int southY = localLocation.getY() - (aoeSize * LOCAL_TILE_SIZE) - halfTile + 1;
 		// expand by size
-		Point northEastCorner = new Point(southWestCorner.getX() + size * LOCAL_TILE_SIZE - 1,
-			southWestCorner.getY() + size * LOCAL_TILE_SIZE - 1);
-		// Take the x of top left and the y of bottom right to create bottom left
-		Point bottomLeft = new Point(southWestCorner.getX(), northEastCorner.getY());
-		// Similarly for top right
-		Point topRight = new Point(northEastCorner.getX(), southWestCorner.getY());
-
-		Point p1 = worldToCanvas(client, southWestCorner.getX(), southWestCorner.getY(), plane);
-		Point p2 = worldToCanvas(client, topRight.getX(), topRight.getY(), plane);
-		Point p3 = worldToCanvas(client, northEastCorner.getX(), northEastCorner.getY(), plane);
-		Point p4 = worldToCanvas(client, bottomLeft.getX(), bottomLeft.getY(), plane);
-
-		if (p1 == null || p2 == null || p3 == null || p4 == null)
+		final int eastX = westX + size * LOCAL_TILE_SIZE - 1;
+		final int northY = southY + size * LOCAL_TILE_SIZE - 1;
+
+		// south west, south east, north east and north west corners
+		final ProjectionBuffers buffers = PROJECTION_BUFFERS.get();
+		final int[] xs = buffers.localX;
+		final int[] ys = buffers.localY;
+		xs[0] = westX;
+		ys[0] = southY;
+		xs[1] = eastX;
+		ys[1] = southY;
+		xs[2] = eastX;
+		ys[2] = northY;
+		xs[3] = westX;
+		ys[3] = northY;
+		Arrays.fill(buffers.zOffset, plane);
+
+		if (worldToCanvas(buffers.camera.refresh(client), xs, ys, buffers.zOffset, 4, buffers.canvasX, buffers.canvasY) < 4)
 		{
 			return null;
 		}
 
-		Polygon poly = new Polygon();
-		poly.addPoint(p1.getX(), p1.getY());
-		poly.addPoint(p2.getX(), p2.getY());
-		poly.addPoint(p3.getX(), p3.getY());
-		poly.addPoint(p4.getX(), p4.getY());
-
-		return poly;
+		return new Polygon(buffers.canvasX, buffers.canvasY, 4);
 	}
 
 	/**
@@ -469,99 +598,232 @@ public class Perspective
 			return null;
 		}
 
-		List<Triangle> triangles = model.getTriangles().stream()
-			.map(triangle -> triangle.rotate(orientation))
-			.collect(Collectors.toList());
+		final ModelBuffers buffers = MODEL_BUFFERS.get();
+		final CameraSnapshot camera = buffers.camera.refresh(client);
+		final int count = rotateModel(model, orientation, buffers);
+
+		final int projected = projectModel(camera, buffers.x, buffers.y, buffers.z, count, tileX, tileY, false,
+			buffers.canvasX, buffers.canvasY);
+		int hull = ConvexHull.compute(buffers.canvasX, buffers.canvasY, projected, buffers.scratch);
+		if (hull < 3)
+		{
+			return null;
+		}
 
-		List<Vertex> vertices = model.getVertices().stream()
-				.map(v -> v.rotate(orientation))
-				.collect(Collectors.toList());
+		hull = padClickbox(client, buffers, hull);
 
-		Area clickBox = get2DGeometry(client, triangles, orientation, tileX, tileY);
-		Area visibleAABB = getAABB(client, vertices, orientation, tileX, tileY);
+		// the polygon copies the hull out of the buffers, which getAABB reuses
+		final Area clickBox = new Area(new Polygon(buffers.canvasX, buffers.canvasY, hull));
 
-		if (visibleAABB == null || clickBox == null)
+		final Polygon visibleAABB = getAABB(camera, buffers, count, tileX, tileY);
+		if (visibleAABB == null)
 		{
 			return null;
 		}
 
-		clickBox.intersect(visibleAABB);
+		clickBox.intersect(new Area(visibleAABB));
 		return clickBox;
 	}
 
-	private static Area get2DGeometry(
-		@Nonnull Client client,
-		@Nonnull List<Triangle> triangles,
-		int orientation,
-		int tileX,
-		int tileY
-	)
+	/**
+	 * Grows the clickbox hull in the buffers to match the area the client accepts clicks in.
+	 * The projected hull is padded by 5 pixels up and left, and by the viewport offset
+	 * down and right, as the in-client one is always a few pixels larger. In the fixed
+	 * client it is also shifted 4 pixels right and down.
+	 *
+	 * @return the number of points on the padded hull
+	 */
+	private static int padClickbox(Client client, ModelBuffers buffers, int hull)
 	{
-		int radius = 5;
-		Area geometry = new Area();
+		final int radius = 5;
+		final int shift = client.isResized() ? 0 : 4;
+		final int minOffsetX = shift - radius;
+		final int minOffsetY = shift - radius;
+		final int maxOffsetX = shift + client.getViewportXOffset();
+		final int maxOffsetY = shift + client.getViewportYOffset();
+
+		buffers.ensureCanvasCapacity(hull * 4);
+		final int[] xs = buffers.canvasX;
+		final int[] ys = buffers.canvasY;
+
+		// Each hull point becomes the corners of its padded box. This runs backwards
+		// so that no point is overwritten before it has been read.
+		for (int i = hull - 1; i >= 0; --i)
+		{
+			final int x = xs[i];
+			final int y = ys[i];
+			final int j = i * 4;
+			xs[j] = x + minOffsetX;
+			ys[j] = y + minOffsetY;
+			xs[j + 1] = x + maxOffsetX;
+			ys[j + 1] = y + minOffsetY;
+			xs[j + 2] = x + maxOffsetX;
+			ys[j + 2] = y + maxOffsetY;
+			xs[j + 3] = x + minOffsetX;
+			ys[j + 3] = y + maxOffsetY;
+		}
+
+		return ConvexHull.compute(xs, ys, hull * 4, buffers.scratch);
+	}
 
-		for (Triangle triangle : triangles)
+	/**
+	 * Calculates the convex hull of {@code model} on the canvas, as though it is at
+	 * ({@code localX}, {@code localY}) and rotated to angle {@code orientation}.
+	 * Each vertex is placed at the height of the ground below it.
+	 *
+	 * @param client
+	 * @param model the model to calculate the hull of
+	 * @param orientation the orientation of the model (0-2048, where 0 is north)
+	 * @param localX the local X coordinate of the model
+	 * @param localY the local Y coordinate of the model
+	 * @return the convex hull, or null if fewer than three vertices are on screen
+	 */
+	public static Polygon getConvexHull(@Nonnull Client client, @Nonnull Model model, int orientation, int localX, int localY)
+	{
+		final ModelBuffers buffers = MODEL_BUFFERS.get();
+		final CameraSnapshot camera = buffers.camera.refresh(client);
+		final int count = rotateModel(model, orientation, buffers);
+
+		final int projected = projectModel(camera, buffers.x, buffers.y, buffers.z, count, localX, localY, true,
+			buffers.canvasX, buffers.canvasY);
+		final int hull = ConvexHull.compute(buffers.canvasX, buffers.canvasY, projected, buffers.scratch);
+		if (hull < 3)
 		{
-			Vertex _a = triangle.getA();
-			Point a = worldToCanvas(client,
-				tileX - _a.getX(),
-				tileY - _a.getZ(),
-				-_a.getY(), tileX, tileY);
-			if (a == null)
+			return null;
+		}
+
+		return new Polygon(buffers.canvasX, buffers.canvasY, hull);
+	}
+
+	/**
+	 * Buffers for the model geometry methods, reused between calls so projecting
+	 * a model does not allocate per vertex
+	 */
+	private static class ModelBuffers
+	{
+		private final CameraSnapshot camera = new CameraSnapshot();
+		private int[] x = new int[0];
+		private int[] y = new int[0];
+		private int[] z = new int[0];
+		private int[] canvasX = new int[0];
+		private int[] canvasY = new int[0];
+		private long[] scratch = new long[0];
+
+		void ensureCapacity(int count)
+		{
+			if (x.length < count)
 			{
-				continue;
+				x = new int[count];
+				y = new int[count];
+				z = new int[count];
+				// the convex hull needs twice the space of its input
+				canvasX = new int[count * 2];
+				canvasY = new int[count * 2];
+				scratch = new long[count];
 			}
+		}
 
-			Vertex _b = triangle.getB();
-			Point b = worldToCanvas(client,
-				tileX - _b.getX(),
-				tileY - _b.getZ(),
-				-_b.getY(), tileX, tileY);
-			if (b == null)
+		/**
+		 * Grows the canvas buffers to hold {@code count} points and their convex hull,
+		 * keeping the points already in them
+		 */
+		void ensureCanvasCapacity(int count)
+		{
+			if (canvasX.length < count * 2)
 			{
-				continue;
+				canvasX = Arrays.copyOf(canvasX, count * 2);
+				canvasY = Arrays.copyOf(canvasY, count * 2);
 			}
-
-			Vertex _c = triangle.getC();
-			Point c = worldToCanvas(client,
-				tileX - _c.getX(),
-				tileY - _c.getZ(),
-				-_c.getY(), tileX, tileY);
-			if (c == null)
+			if (scratch.length < count)
 			{
-				continue;
+				scratch = new long[count];
 			}
+		}
+	}
 
-			int minX = Math.min(Math.min(a.getX(), b.getX()), c.getX());
-			int minY = Math.min(Math.min(a.getY(), b.getY()), c.getY());
+	private static final ThreadLocal<ModelBuffers> MODEL_BUFFERS = ThreadLocal.withInitial(ModelBuffers::new);
 
-			// For some reason, this calculation is always 4 pixels short of the actual in-client one
-			int maxX = Math.max(Math.max(a.getX(), b.getX()), c.getX()) + client.getViewportXOffset();
-			int maxY = Math.max(Math.max(a.getY(), b.getY()), c.getY()) + client.getViewportYOffset();
+	/**
+	 * Copies the vertices of {@code model} into the buffers, rotated to {@code orientation}
+	 *
+	 * @return the number of vertices
+	 */
+	private static int rotateModel(Model model, int orientation, ModelBuffers buffers)
+	{
+		final int count = model.getVerticesCount();
+		final int[] verticesX = model.getVerticesX();
+		final int[] verticesY = model.getVerticesY();
+		final int[] verticesZ = model.getVerticesZ();
+
+		// room for the corners of the bounding box too
+		buffers.ensureCapacity(Math.max(count, 8));
+
+		// models are orientated north (1024) and there are 2048 angles total
+		orientation = (orientation + 1024) % 2048;
+
+		System.arraycopy(verticesY, 0, buffers.y, 0, count);
+
+		if (orientation == 0)
+		{
+			System.arraycopy(verticesX, 0, buffers.x, 0, count);
+			System.arraycopy(verticesZ, 0, buffers.z, 0, count);
+			return count;
+		}
+
+		final int sin = SINE[orientation];
+		final int cos = COSINE[orientation];
+
+		for (int i = 0; i < count; ++i)
+		{
+			final int x = verticesX[i];
+			final int z = verticesZ[i];
+			buffers.x[i] = x * cos + z * sin >> 16;
+			buffers.z[i] = z * cos - x * sin >> 16;
+		}
+
+		return count;
+	}
+
+	/**
+	 * Projects model vertices at ({@code localX}, {@code localY}) to the canvas. Vertices
+	 * which are behind the camera or outside of the scene are skipped.
+	 *
+	 * @param vertexHeights whether each vertex is placed at the height of the ground below it,
+	 * rather than at the height of the ground at ({@code localX}, {@code localY})
+	 * @return the number of points written to {@code outX} and {@code outY}
+	 */
+	private static int projectModel(CameraSnapshot camera, int[] x, int[] y, int[] z, int count, int localX, int localY,
+		boolean vertexHeights, int[] outX, int[] outY)
+	{
+		final int modelHeight = camera.getTileHeight(localX, localY);
+
+		int projected = 0;
+
+		for (int i = 0; i < count; ++i)
+		{
+			final int worldX = localX - x[i];
+			final int worldY = localY - z[i];
 
-			// ...and the rectangles in the fixed client are shifted 4 pixels right and down
-			if (!client.isResized())
+			if (!isInScene(worldX, worldY))
 			{
-				minX += 4;
-				minY += 4;
-				maxX += 4;
-				maxY += 4;
+				continue;
 			}
 
-			Rectangle clickableRect = new Rectangle(
-				minX - radius, minY - radius,
-				maxX - minX + radius, maxY - minY + radius
-			);
-			geometry.add(new Area(clickableRect));
+			final int height = vertexHeights ? camera.getTileHeight(worldX, worldY) : modelHeight;
+
+			if (project(camera, worldX, worldY, height + y[i], outX, outY, projected))
+			{
+				++projected;
+			}
 		}
 
-		return geometry;
+		return projected;
 	}
 
-	private static Area getAABB(
-		@Nonnull Client client,
-		@Nonnull List<Vertex> vertices,
-		int orientation,
+	private static Polygon getAABB(
+		@Nonnull CameraSnapshot camera,
+		@Nonnull ModelBuffers buffers,
+		int count,
 		int tileX,
 		int tileY
 	)
@@ -573,11 +835,11 @@ public class Perspective
 		int maxZ = 0;
 		int minZ = 0;
 
-		for (Vertex vertex : vertices)
+		for (int i = 0; i < count; ++i)
 		{
-			int x = vertex.getX();
-			int y = vertex.getY();
-			int z = vertex.getZ();
+			final int x = buffers.x[i];
+			final int y = buffers.y[i];
+			final int z = buffers.z[i];
 
 			if (x > maxX)
 			{
@@ -625,59 +887,34 @@ public class Perspective
 			extremeZ = 32;
 		}
 
-		int x1 = tileX - (centerX - extremeX);
-		int y1 = centerY - extremeY;
-		int z1 = tileY - (centerZ - extremeZ);
-
-		int x2 = tileX - (centerX + extremeX);
-		int y2 = centerY + extremeY;
-		int z2 = tileY - (centerZ + extremeZ);
-
-		Point p1 = worldToCanvas(client, x1, z1, -y1, tileX, tileY);
-		Point p2 = worldToCanvas(client, x1, z2, -y1, tileX, tileY);
-		Point p3 = worldToCanvas(client, x2, z2, -y1, tileX, tileY);
-
-		Point p4 = worldToCanvas(client, x2, z1, -y1, tileX, tileY);
-		Point p5 = worldToCanvas(client, x1, z1, -y2, tileX, tileY);
-		Point p6 = worldToCanvas(client, x1, z2, -y2, tileX, tileY);
-		Point p7 = worldToCanvas(client, x2, z2, -y2, tileX, tileY);
-		Point p8 = worldToCanvas(client, x2, z1, -y2, tileX, tileY);
-
-		List<Point> points = new ArrayList<>(8);
-		points.add(p1);
-		points.add(p2);
-		points.add(p3);
-		points.add(p4);
-		points.add(p5);
-		points.add(p6);
-		points.add(p7);
-		points.add(p8);
-
-		try
-		{
-			points = Jarvis.convexHull(points);
-		}
-		catch (NullPointerException e)
+		// The corners are projected like model vertices, reusing the vertex
+		// buffers now that the bounds are known
+		final int[] cornersX = buffers.x;
+		final int[] cornersY = buffers.y;
+		final int[] cornersZ = buffers.z;
+		for (int i = 0; i < 8; ++i)
 		{
-			// No non-null screen points for this AABB e.g. for an way off-screen model
-			return null;
+			cornersX[i] = (i & 1) == 0 ? centerX - extremeX : centerX + extremeX;
+			cornersY[i] = (i & 2) == 0 ? centerY - extremeY : centerY + extremeY;
+			cornersZ[i] = (i & 4) == 0 ? centerZ - extremeZ : centerZ + extremeZ;
 		}
 
-		if (points == null)
+		final int projected = projectModel(camera, cornersX, cornersY, cornersZ, 8, tileX, tileY, false,
+			buffers.canvasX, buffers.canvasY);
+
+		// No screen points for some of this AABB e.g. for an way off-screen model
+		if (projected < 8)
 		{
 			return null;
 		}
 
-		Polygon hull = new Polygon();
-		for (Point p : points)
+		final int hull = ConvexHull.compute(buffers.canvasX, buffers.canvasY, projected, buffers.scratch);
+		if (hull < 3)
 		{
-			if (p != null)
-			{
-				hull.addPoint(p.getX(), p.getY());
-			}
+			return null;
 		}
 
-		return new Area(hull);
+		return new Polygon(buffers.canvasX, buffers.canvasY, hull);
 	}
 
 	/**
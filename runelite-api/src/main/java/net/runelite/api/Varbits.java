@@ -341,6 +341,25 @@ public enum Varbits
 	 */
 	AUTOWEED(5557),
 
+	/**
+	 * Number of items in each bank tab. The bank holds the items of tabs one
+	 * to nine first, in order, followed by the items which are in no tab.
+	 */
+	BANK_TAB_ONE_COUNT(4171),
+	BANK_TAB_TWO_COUNT(4172),
+	BANK_TAB_THREE_COUNT(4173),
+	BANK_TAB_FOUR_COUNT(4174),
+	BANK_TAB_FIVE_COUNT(4175),
+	BANK_TAB_SIX_COUNT(4176),
+	BANK_TAB_SEVEN_COUNT(4177),
+	BANK_TAB_EIGHT_COUNT(4178),
+	BANK_TAB_NINE_COUNT(4179),
+
+	/**
+	 * The bank tab being viewed, or 0 when viewing all items
+	 */
+	CURRENT_BANK_TAB(4150),
+
 	/**
 	 * The varbit that stores the players {@code AccountType}.
 	 */
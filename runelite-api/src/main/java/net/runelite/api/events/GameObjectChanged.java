@@ -28,6 +28,12 @@ import lombok.Data;
 import net.runelite.api.GameObject;
 import net.runelite.api.Tile;
 
+/**
+ * An event where a game object is replaced on a tile.
+ * <p>
+ * The client reuses a single instance of this event, so subscribers
+ * must not keep a reference to it after handling it.
+ */
 @Data
 public class GameObjectChanged
 {
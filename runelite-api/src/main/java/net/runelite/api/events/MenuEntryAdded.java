@@ -26,9 +26,17 @@ package net.runelite.api.events;
 
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
+/**
+ * An event where a new entry has been added to the right-click menu.
+ * <p>
+ * The client reuses a single instance of this event, so subscribers
+ * must not keep a reference to it after handling it.
+ */
 @Data
 @AllArgsConstructor
+@NoArgsConstructor
 public class MenuEntryAdded
 {
 	private String option;
@@ -28,7 +28,26 @@ package net.runelite.api.events;
 
 import lombok.Data;
 
+/**
+ * Posted when a varp is written. As a varp holds many varbits, subscribers
+ * interested in specific varbits should compare their values or register
+ * with the varbit manager instead.
+ */
 @Data
 public class VarbitChanged
 {
+	/**
+	 * The index of the varp which was written, or -1 if it is not known
+	 */
+	private int index = -1;
+
+	/**
+	 * The value of the varp before the write
+	 */
+	private int oldValue;
+
+	/**
+	 * The value of the varp after the write
+	 */
+	private int newValue;
 }
\ No newline at end of file
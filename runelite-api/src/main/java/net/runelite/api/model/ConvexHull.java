@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2018, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.api.model;
+
+import java.util.Arrays;
+
+/**
+ * Convex hull of points held in primitive arrays, using Andrew's monotone chain
+ * algorithm. Unlike {@link Jarvis} this runs in O(n log n) and allocates nothing,
+ * so it is suitable for projecting high poly models every frame.
+ */
+public class ConvexHull
+{
+	/**
+	 * Computes the convex hull of the first {@code count} points of {@code xs} and
+	 * {@code ys}. The hull is written back to the start of the same arrays, and
+	 * collinear points on its edges are dropped.
+	 *
+	 * @param xs x coordinates, with room for {@code 2 * count} values
+	 * @param ys y coordinates, with room for {@code 2 * count} values
+	 * @param count the number of points
+	 * @param scratch scratch space with room for {@code count} values
+	 * @return the number of points on the hull
+	 */
+	public static int compute(int[] xs, int[] ys, int count, long[] scratch)
+	{
+		if (count < 3)
+		{
+			return count;
+		}
+
+		// Pack the points so that a plain sort orders them by x then y. The sign
+		// bit of y is flipped so it orders correctly as the unsigned low half.
+		for (int i = 0; i < count; ++i)
+		{
+			scratch[i] = (long) xs[i] << 32 | (ys[i] ^ Integer.MIN_VALUE) & 0xffffffffL;
+		}
+
+		Arrays.sort(scratch, 0, count);
+
+		int k = 0;
+
+		// lower hull
+		for (int i = 0; i < count; ++i)
+		{
+			final int x = x(scratch[i]);
+			final int y = y(scratch[i]);
+
+			while (k >= 2 && cross(xs[k - 2], ys[k - 2], xs[k - 1], ys[k - 1], x, y) <= 0)
+			{
+				--k;
+			}
+
+			xs[k] = x;
+			ys[k] = y;
+			++k;
+		}
+
+		// upper hull
+		final int lower = k + 1;
+		for (int i = count - 2; i >= 0; --i)
+		{
+			final int x = x(scratch[i]);
+			final int y = y(scratch[i]);
+
+			while (k >= lower && cross(xs[k - 2], ys[k - 2], xs[k - 1], ys[k - 1], x, y) <= 0)
+			{
+				--k;
+			}
+
+			xs[k] = x;
+			ys[k] = y;
+			++k;
+		}
+
+		// the last point is the first point again
+		return k - 1;
+	}
+
+	private static int x(long packed)
+	{
+		return (int) (packed >> 32);
+	}
+
+	private static int y(long packed)
+	{
+		return (int) packed ^ Integer.MIN_VALUE;
+	}
+
+	private static long cross(int ax, int ay, int bx, int by, int cx, int cy)
+	{
+		return (long) (bx - ax) * (cy - ay) - (long) (by - ay) * (cx - ax);
+	}
+}
@@ -24,33 +24,20 @@
  */
 package net.runelite.api.queries;
 
-import net.runelite.api.Client;
+import java.util.Collection;
 import net.runelite.api.DecorativeObject;
 import net.runelite.api.Tile;
 
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.Objects;
-
 public class DecorativeObjectQuery extends TileObjectQuery<DecorativeObject, DecorativeObjectQuery>
 {
-	@Override
-	public DecorativeObject[] result(Client client)
+	public DecorativeObjectQuery()
 	{
-		return getDecorativeObjects(client).stream()
-			.filter(Objects::nonNull)
-			.filter(predicate)
-			.distinct()
-			.toArray(DecorativeObject[]::new);
+		super(DecorativeObject.class);
 	}
 
-	private Collection<DecorativeObject> getDecorativeObjects(Client client)
+	@Override
+	protected void addObjects(Tile tile, Collection<DecorativeObject> objects)
 	{
-		Collection<DecorativeObject> objects = new ArrayList<>();
-		for (Tile tile : getTiles(client))
-		{
-			objects.add(tile.getDecorativeObject());
-		}
-		return objects;
+		objects.add(tile.getDecorativeObject());
 	}
 }
@@ -24,38 +24,30 @@
  */
 package net.runelite.api.queries;
 
-import net.runelite.api.Client;
+import java.util.Collection;
 import net.runelite.api.GameObject;
 import net.runelite.api.Tile;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collection;
-import java.util.Objects;
-
 public class GameObjectQuery extends TileObjectQuery<GameObject, GameObjectQuery>
 {
-	@Override
-	public GameObject[] result(Client client)
+	public GameObjectQuery()
 	{
-		return getGameObjects(client).stream()
-			.filter(Objects::nonNull)
-			.filter(predicate)
-			.distinct()
-			.toArray(GameObject[]::new);
+		super(GameObject.class);
 	}
 
-	private Collection<GameObject> getGameObjects(Client client)
+	@Override
+	protected void addObjects(Tile tile, Collection<GameObject> objects)
 	{
-		Collection<GameObject> objects = new ArrayList<>();
-		for (Tile tile : getTiles(client))
+		GameObject[] gameObjects = tile.getGameObjects();
+		if (gameObjects != null)
 		{
-			GameObject[] gameObjects = tile.getGameObjects();
-			if (gameObjects != null)
+			for (GameObject gameObject : gameObjects)
 			{
-				objects.addAll(Arrays.asList(gameObjects));
+				if (gameObject != null)
+				{
+					objects.add(gameObject);
+				}
 			}
 		}
-		return objects;
 	}
 }
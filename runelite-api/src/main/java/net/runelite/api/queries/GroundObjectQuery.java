@@ -24,33 +24,20 @@
  */
 package net.runelite.api.queries;
 
-import net.runelite.api.Client;
+import java.util.Collection;
 import net.runelite.api.GroundObject;
 import net.runelite.api.Tile;
 
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.Objects;
-
 public class GroundObjectQuery extends TileObjectQuery<GroundObject, GroundObjectQuery>
 {
-	@Override
-	public GroundObject[] result(Client client)
+	public GroundObjectQuery()
 	{
-		return getGroundObjects(client).stream()
-			.filter(Objects::nonNull)
-			.filter(predicate)
-			.distinct()
-			.toArray(GroundObject[]::new);
+		super(GroundObject.class);
 	}
 
-	private Collection<GroundObject> getGroundObjects(Client client)
+	@Override
+	protected void addObjects(Tile tile, Collection<GroundObject> objects)
 	{
-		Collection<GroundObject> objects = new ArrayList<>();
-		for (Tile tile : getTiles(client))
-		{
-			objects.add(tile.getGroundObject());
-		}
-		return objects;
+		objects.add(tile.getGroundObject());
 	}
 }
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2018, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.api.queries;
+
+import java.util.Collection;
+import net.runelite.api.TileObject;
+
+/**
+ * An index of the objects in the scene, used by {@link TileObjectQuery} to
+ * look up candidate objects without visiting every tile.
+ * <p>
+ * The type passed to each method is one of {@link net.runelite.api.GameObject},
+ * {@link net.runelite.api.WallObject}, {@link net.runelite.api.DecorativeObject}
+ * or {@link net.runelite.api.GroundObject}. Returned collections contain each
+ * object once and must not be modified.
+ * <p>
+ * An index only needs to hold scene objects. Game objects belonging to actors
+ * may be left out, in which case queries run against the index will not return
+ * them.
+ */
+public interface TileObjectIndex
+{
+	/**
+	 * Gets all objects of a type on a plane
+	 */
+	<T extends TileObject> Collection<T> getObjects(Class<T> type, int plane);
+
+	/**
+	 * Gets the objects of a type with the given id on a plane
+	 */
+	<T extends TileObject> Collection<T> getObjects(Class<T> type, int plane, int id);
+
+	/**
+	 * Gets the objects of a type on a plane which occupy any tile within the
+	 * given scene coordinates, inclusive
+	 */
+	<T extends TileObject> Collection<T> getObjects(Class<T> type, int plane, int minX, int minY, int maxX, int maxY);
+}
@@ -25,6 +25,7 @@
 package net.runelite.api.queries;
 
 import static java.lang.Math.abs;
+import java.lang.reflect.Array;
 import net.runelite.api.Client;
 import net.runelite.api.Query;
 import net.runelite.api.Region;
@@ -32,14 +33,119 @@ import net.runelite.api.Tile;
 import net.runelite.api.TileObject;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 import net.runelite.api.coords.LocalPoint;
 import net.runelite.api.coords.WorldPoint;
+import static net.runelite.api.Perspective.LOCAL_COORD_BITS;
 
 public abstract class TileObjectQuery<EntityType extends TileObject, QueryType> extends Query<EntityType, QueryType>
 {
 	private static final int REGION_SIZE = 104;
 
+	private final Class<EntityType> type;
+
+	// Hints from the query methods used to narrow down which objects are
+	// visited, the predicate still decides which of them match
+	private int[] ids;
+	private WorldPoint worldLocation;
+	private int minX = 0;
+	private int minY = 0;
+	private int maxX = REGION_SIZE - 1;
+	private int maxY = REGION_SIZE - 1;
+
+	protected TileObjectQuery(Class<EntityType> type)
+	{
+		this.type = type;
+	}
+
+	/**
+	 * Adds the objects of this query's type on a tile to the collection
+	 */
+	protected abstract void addObjects(Tile tile, Collection<EntityType> objects);
+
+	@Override
+	public EntityType[] result(Client client)
+	{
+		return result(client, null);
+	}
+
+	/**
+	 * Runs the query, looking up candidate objects in the index if one is given
+	 * instead of visiting every tile of the scene. Game objects belonging to
+	 * actors are only found by the scan, see {@link TileObjectIndex}.
+	 *
+	 * @param client the client
+	 * @param index the scene object index, or null
+	 * @return the matching objects
+	 */
+	public EntityType[] result(Client client, TileObjectIndex index)
+	{
+		final int plane = client.getPlane();
+		int minX = this.minX, minY = this.minY, maxX = this.maxX, maxY = this.maxY;
+
+		if (worldLocation != null)
+		{
+			final LocalPoint localLocation = LocalPoint.fromWorld(client, worldLocation);
+			if (localLocation == null)
+			{
+				return newArray(0);
+			}
+
+			minX = Math.max(minX, localLocation.getRegionX());
+			minY = Math.max(minY, localLocation.getRegionY());
+			maxX = Math.min(maxX, localLocation.getRegionX());
+			maxY = Math.min(maxY, localLocation.getRegionY());
+		}
+
+		if (minX > maxX || minY > maxY)
+		{
+			return newArray(0);
+		}
+
+		final Collection<EntityType> objects;
+
+		if (index == null)
+		{
+			objects = new ArrayList<>();
+			final Tile[][] tiles = client.getRegion().getTiles()[plane];
+			for (int x = minX; x <= maxX; ++x)
+			{
+				for (int y = minY; y <= maxY; ++y)
+				{
+					final Tile tile = tiles[x][y];
+					if (tile != null)
+					{
+						addObjects(tile, objects);
+					}
+				}
+			}
+		}
+		else if (ids != null)
+		{
+			objects = new ArrayList<>();
+			for (int id : ids)
+			{
+				objects.addAll(index.getObjects(type, plane, id));
+			}
+		}
+		else if (minX > 0 || minY > 0 || maxX < REGION_SIZE - 1 || maxY < REGION_SIZE - 1)
+		{
+			objects = index.getObjects(type, plane, minX, minY, maxX, maxY);
+		}
+		else
+		{
+			objects = index.getObjects(type, plane);
+		}
+
+		return objects.stream()
+			.filter(Objects::nonNull)
+			.filter(predicate)
+			.distinct()
+			.toArray(this::newArray);
+	}
+
 	protected List<Tile> getTiles(Client client)
 	{
 		List<Tile> tilesList = new ArrayList<>();
@@ -64,6 +170,11 @@ public abstract class TileObjectQuery<EntityType extends TileObject, QueryType>
 	@SuppressWarnings("unchecked")
 	public QueryType idEquals(int... ids)
 	{
+		if (this.ids == null)
+		{
+			this.ids = ids.clone();
+		}
+
 		predicate = and(object ->
 		{
 			for (int id : ids)
@@ -81,6 +192,11 @@ public abstract class TileObjectQuery<EntityType extends TileObject, QueryType>
 	@SuppressWarnings("unchecked")
 	public QueryType atWorldLocation(WorldPoint location)
 	{
+		if (worldLocation == null)
+		{
+			worldLocation = location;
+		}
+
 		predicate = and(object -> object.getWorldLocation().equals(location));
 		return (QueryType) this;
 	}
@@ -88,6 +204,7 @@ public abstract class TileObjectQuery<EntityType extends TileObject, QueryType>
 	@SuppressWarnings("unchecked")
 	public QueryType atLocalLocation(LocalPoint location)
 	{
+		narrow(location.getX(), location.getY(), location.getX(), location.getY());
 		predicate = and(object -> object.getLocalLocation().equals(location));
 		return (QueryType) this;
 	}
@@ -95,6 +212,7 @@ public abstract class TileObjectQuery<EntityType extends TileObject, QueryType>
 	@SuppressWarnings("unchecked")
 	public QueryType isWithinDistance(LocalPoint to, int distance)
 	{
+		narrow(to.getX() - distance, to.getY() - distance, to.getX() + distance, to.getY() + distance);
 		predicate = and(a -> a.getLocalLocation().distanceTo(to) <= distance);
 		return (QueryType) this;
 	}
@@ -102,6 +220,7 @@ public abstract class TileObjectQuery<EntityType extends TileObject, QueryType>
 	@SuppressWarnings("unchecked")
 	public QueryType isWithinArea(LocalPoint from, int area)
 	{
+		narrow(from.getX() - area + 1, from.getY() - area + 1, from.getX() + area - 1, from.getY() + area - 1);
 		predicate = and(a ->
 		{
 			LocalPoint localLocation = a.getLocalLocation();
@@ -110,4 +229,21 @@ public abstract class TileObjectQuery<EntityType extends TileObject, QueryType>
 		});
 		return (QueryType) this;
 	}
+
+	/**
+	 * Narrows the tiles visited to those containing the given local coordinates
+	 */
+	private void narrow(int localMinX, int localMinY, int localMaxX, int localMaxY)
+	{
+		minX = Math.max(minX, localMinX >> LOCAL_COORD_BITS);
+		minY = Math.max(minY, localMinY >> LOCAL_COORD_BITS);
+		maxX = Math.min(maxX, localMaxX >> LOCAL_COORD_BITS);
+		maxY = Math.min(maxY, localMaxY >> LOCAL_COORD_BITS);
+	}
+
+	@SuppressWarnings("unchecked")
+	private EntityType[] newArray(int size)
+	{
+		return (EntityType[]) Array.newInstance(type, size);
+	}
 }
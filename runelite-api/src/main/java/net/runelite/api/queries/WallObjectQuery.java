@@ -24,33 +24,20 @@
  */
 package net.runelite.api.queries;
 
-import net.runelite.api.Client;
-import net.runelite.api.Tile;
-import net.runelite.api.WallObject;
-
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Objects;
+import net.runelite.api.WallObject;
+import net.runelite.api.Tile;
 
 public class WallObjectQuery extends TileObjectQuery<WallObject, WallObjectQuery>
 {
-	@Override
-	public WallObject[] result(Client client)
+	public WallObjectQuery()
 	{
-		return getWallObjects(client).stream()
-			.filter(Objects::nonNull)
-			.filter(predicate)
-			.distinct()
-			.toArray(WallObject[]::new);
+		super(WallObject.class);
 	}
 
-	private Collection<WallObject> getWallObjects(Client client)
+	@Override
+	protected void addObjects(Tile tile, Collection<WallObject> objects)
 	{
-		Collection<WallObject> objects = new ArrayList<>();
-		for (Tile tile : getTiles(client))
-		{
-			objects.add(tile.getWallObject());
-		}
-		return objects;
+		objects.add(tile.getWallObject());
 	}
 }
@@ -0,0 +1,295 @@
+/*
+ * Copyright (c) 2018, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.api;
+
+import java.awt.Polygon;
+import java.awt.Rectangle;
+import java.awt.geom.Area;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import net.runelite.api.model.Jarvis;
+import net.runelite.api.model.Triangle;
+import net.runelite.api.model.Vertex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the primitive array clickbox and hull with the previous implementations,
+ * which went through {@link Vertex} and {@link Triangle} lists, unioned an area per
+ * triangle and used {@link Jarvis}. The model is a sphere about the size of a boss,
+ * drawn in front of a fixed camera.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ClickboxBenchmark
+{
+	private static final int TILE_X = 52 * Perspective.LOCAL_TILE_SIZE;
+	private static final int TILE_Y = 52 * Perspective.LOCAL_TILE_SIZE;
+
+	/**
+	 * Number of rings and segments of the sphere, it has roughly the square of this many vertices
+	 */
+	@Param({"16", "48"})
+	private int detail;
+
+	private Client client;
+	private Model model;
+
+	@Setup
+	public void setup()
+	{
+		final int[][][] tileHeights = new int[Constants.MAX_Z][Constants.REGION_SIZE + 1][Constants.REGION_SIZE + 1];
+		final byte[][][] tileSettings = new byte[Constants.MAX_Z][Constants.REGION_SIZE][Constants.REGION_SIZE];
+
+		client = (Client) Proxy.newProxyInstance(Client.class.getClassLoader(), new Class<?>[]{Client.class},
+			(proxy, method, args) ->
+			{
+				switch (method.getName())
+				{
+					case "getCameraX":
+						return TILE_X;
+					case "getCameraY":
+						return TILE_Y - 1500;
+					case "getCameraZ":
+						return -800;
+					case "getCameraPitch":
+						return 256;
+					case "getCameraYaw":
+						return 0;
+					case "getScale":
+						return 512;
+					case "getViewportWidth":
+						return 512;
+					case "getViewportHeight":
+						return 334;
+					case "getTileHeights":
+						return tileHeights;
+					case "getTileSettings":
+						return tileSettings;
+					default:
+						return method.getReturnType() == int.class ? 0
+							: method.getReturnType() == boolean.class ? false
+							: null;
+				}
+			});
+
+		model = sphere(detail, 300);
+	}
+
+	@Benchmark
+	public Area clickbox()
+	{
+		return Perspective.getClickbox(client, model, 512, TILE_X, TILE_Y);
+	}
+
+	@Benchmark
+	public Area legacyClickbox()
+	{
+		return legacyClickbox(client, model, 512, TILE_X, TILE_Y);
+	}
+
+	@Benchmark
+	public Polygon convexHull()
+	{
+		return Perspective.getConvexHull(client, model, 512, TILE_X, TILE_Y);
+	}
+
+	@Benchmark
+	public Polygon legacyConvexHull()
+	{
+		final List<Point> points = new ArrayList<>();
+		for (Vertex v : model.getVertices())
+		{
+			v = v.rotate(512);
+			final Point p = Perspective.worldToCanvas(client, TILE_X - v.getX(), TILE_Y - v.getZ(), -v.getY());
+			if (p != null)
+			{
+				points.add(p);
+			}
+		}
+
+		final List<Point> hull = Jarvis.convexHull(points);
+		if (hull == null)
+		{
+			return null;
+		}
+
+		final Polygon polygon = new Polygon();
+		for (Point point : hull)
+		{
+			polygon.addPoint(point.getX(), point.getY());
+		}
+		return polygon;
+	}
+
+	/**
+	 * The clickbox as it was calculated before, without the bounding box intersection
+	 */
+	private static Area legacyClickbox(Client client, Model model, int orientation, int tileX, int tileY)
+	{
+		final int radius = 5;
+		final Area geometry = new Area();
+
+		for (Triangle triangle : model.getTriangles())
+		{
+			triangle = triangle.rotate(orientation);
+			final Point a = project(client, triangle.getA(), tileX, tileY);
+			final Point b = project(client, triangle.getB(), tileX, tileY);
+			final Point c = project(client, triangle.getC(), tileX, tileY);
+			if (a == null || b == null || c == null)
+			{
+				continue;
+			}
+
+			final int minX = Math.min(Math.min(a.getX(), b.getX()), c.getX());
+			final int minY = Math.min(Math.min(a.getY(), b.getY()), c.getY());
+			final int maxX = Math.max(Math.max(a.getX(), b.getX()), c.getX());
+			final int maxY = Math.max(Math.max(a.getY(), b.getY()), c.getY());
+
+			geometry.add(new Area(new Rectangle(minX - radius, minY - radius, maxX - minX + radius, maxY - minY + radius)));
+		}
+
+		return geometry;
+	}
+
+	private static Point project(Client client, Vertex v, int tileX, int tileY)
+	{
+		return Perspective.worldToCanvas(client, tileX - v.getX(), tileY - v.getZ(), -v.getY(), tileX, tileY);
+	}
+
+	private static Model sphere(int detail, int radius)
+	{
+		final int count = (detail + 1) * detail;
+		final int[] verticesX = new int[count];
+		final int[] verticesY = new int[count];
+		final int[] verticesZ = new int[count];
+
+		for (int ring = 0; ring <= detail; ++ring)
+		{
+			final double theta = Math.PI * ring / detail;
+			for (int segment = 0; segment < detail; ++segment)
+			{
+				final double phi = 2 * Math.PI * segment / detail;
+				final int i = ring * detail + segment;
+				verticesX[i] = (int) (radius * Math.sin(theta) * Math.cos(phi));
+				// models grow upwards along negative y
+				verticesY[i] = (int) (-radius - radius * Math.cos(theta));
+				verticesZ[i] = (int) (radius * Math.sin(theta) * Math.sin(phi));
+			}
+		}
+
+		final int triangleCount = detail * detail * 2;
+		final int[] trianglesX = new int[triangleCount];
+		final int[] trianglesY = new int[triangleCount];
+		final int[] trianglesZ = new int[triangleCount];
+
+		int t = 0;
+		for (int ring = 0; ring < detail; ++ring)
+		{
+			for (int segment = 0; segment < detail; ++segment)
+			{
+				final int a = ring * detail + segment;
+				final int b = ring * detail + (segment + 1) % detail;
+				final int c = a + detail;
+				final int d = b + detail;
+
+				trianglesX[t] = a;
+				trianglesY[t] = b;
+				trianglesZ[t++] = c;
+
+				trianglesX[t] = b;
+				trianglesY[t] = d;
+				trianglesZ[t++] = c;
+			}
+		}
+
+		final List<Vertex> vertices = new ArrayList<>(count);
+		for (int i = 0; i < count; ++i)
+		{
+			vertices.add(new Vertex(verticesX[i], verticesY[i], verticesZ[i]));
+		}
+
+		final List<Triangle> triangles = new ArrayList<>(triangleCount);
+		for (int i = 0; i < triangleCount; ++i)
+		{
+			triangles.add(new Triangle(vertices.get(trianglesX[i]), vertices.get(trianglesY[i]), vertices.get(trianglesZ[i])));
+		}
+
+		return (Model) Proxy.newProxyInstance(Model.class.getClassLoader(), new Class<?>[]{Model.class},
+			(proxy, method, args) ->
+			{
+				switch (method.getName())
+				{
+					case "getVerticesCount":
+						return count;
+					case "getVerticesX":
+						return verticesX;
+					case "getVerticesY":
+						return verticesY;
+					case "getVerticesZ":
+						return verticesZ;
+					case "getTrianglesCount":
+						return triangleCount;
+					case "getTrianglesX":
+						return trianglesX;
+					case "getTrianglesY":
+						return trianglesY;
+					case "getTrianglesZ":
+						return trianglesZ;
+					case "getVertices":
+						return vertices;
+					case "getTriangles":
+						return triangles;
+					default:
+						return null;
+				}
+			});
+	}
+
+	public static void main(String[] args) throws RunnerException
+	{
+		new Runner(new OptionsBuilder()
+			.include(ClickboxBenchmark.class.getSimpleName())
+			.build()).run();
+	}
+}
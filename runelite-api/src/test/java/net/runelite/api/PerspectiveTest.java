@@ -0,0 +1,287 @@
+/*
+ * Copyright (c) 2018, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.api;
+
+import java.awt.Rectangle;
+import java.awt.geom.Area;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.runelite.api.coords.LocalPoint;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+
+public class PerspectiveTest
+{
+	private static final int CAMERA_X = 52 * Perspective.LOCAL_TILE_SIZE;
+	private static final int CAMERA_Y = 40 * Perspective.LOCAL_TILE_SIZE;
+
+	private final AtomicInteger gameCycle = new AtomicInteger();
+	private final AtomicInteger cameraX = new AtomicInteger(CAMERA_X);
+	private final AtomicInteger cameraReads = new AtomicInteger();
+	private final AtomicBoolean resized = new AtomicBoolean(true);
+	private final AtomicInteger viewportOffset = new AtomicInteger();
+
+	private Client client;
+
+	@Before
+	public void before()
+	{
+		final int[][][] tileHeights = new int[Constants.MAX_Z][Constants.REGION_SIZE + 1][Constants.REGION_SIZE + 1];
+		final byte[][][] tileSettings = new byte[Constants.MAX_Z][Constants.REGION_SIZE][Constants.REGION_SIZE];
+
+		// uneven ground, so the height of each point depends on where it is
+		for (int x = 0; x <= Constants.REGION_SIZE; ++x)
+		{
+			for (int y = 0; y <= Constants.REGION_SIZE; ++y)
+			{
+				tileHeights[0][x][y] = -((x * 37 + y * 61) % 400);
+			}
+		}
+
+		client = (Client) Proxy.newProxyInstance(Client.class.getClassLoader(), new Class<?>[]{Client.class},
+			(proxy, method, args) ->
+			{
+				switch (method.getName())
+				{
+					case "getGameCycle":
+						return gameCycle.get();
+					case "getCameraX":
+						cameraReads.incrementAndGet();
+						return cameraX.get();
+					case "getCameraY":
+						return CAMERA_Y;
+					case "getCameraZ":
+						return -1000;
+					case "getCameraPitch":
+						return 256;
+					case "getCameraYaw":
+						return 0;
+					case "getScale":
+						return 512;
+					case "getViewportWidth":
+						return 512;
+					case "getViewportHeight":
+						return 334;
+					case "getTileHeights":
+						return tileHeights;
+					case "getTileSettings":
+						return tileSettings;
+					case "isResized":
+						return resized.get();
+					case "getViewportXOffset":
+					case "getViewportYOffset":
+						return viewportOffset.get();
+					default:
+						return method.getReturnType() == int.class ? 0
+							: method.getReturnType() == boolean.class ? false
+							: null;
+				}
+			});
+	}
+
+	@Test
+	public void testBatchMatchesSinglePoint()
+	{
+		// a grid over the whole scene, including points outside of it and behind the camera
+		final int count = 40 * 40;
+		final int[] x = new int[count];
+		final int[] y = new int[count];
+		final int[] zOffset = new int[count];
+		for (int i = 0; i < count; ++i)
+		{
+			x[i] = (i % 40) * 347 - 100;
+			y[i] = (i / 40) * 347 - 100;
+			zOffset[i] = (i * 13) % 300;
+		}
+
+		final CameraSnapshot camera = new CameraSnapshot(client);
+		final int tileX = 60 * Perspective.LOCAL_TILE_SIZE;
+		final int tileY = 60 * Perspective.LOCAL_TILE_SIZE;
+		final int[] outX = new int[count];
+		final int[] outY = new int[count];
+		final int[] tileOutX = new int[count];
+		final int[] tileOutY = new int[count];
+
+		final int projected = Perspective.worldToCanvas(camera, x, y, zOffset, count, outX, outY);
+		final int tileProjected = Perspective.worldToCanvas(camera, x, y, zOffset, count, tileX, tileY, tileOutX, tileOutY);
+
+		int visible = 0;
+		int tileVisible = 0;
+		for (int i = 0; i < count; ++i)
+		{
+			visible += assertSame(Perspective.worldToCanvas(client, x[i], y[i], 0, zOffset[i]), outX[i], outY[i]);
+			tileVisible += assertSame(Perspective.worldToCanvas(client, x[i], y[i], 0, tileX, tileY, zOffset[i]), tileOutX[i], tileOutY[i]);
+		}
+
+		assertEquals(visible, projected);
+		assertEquals(tileVisible, tileProjected);
+		// the grid should cover both cases
+		assertTrue(projected > 0 && projected < count);
+	}
+
+	private static int assertSame(Point point, int canvasX, int canvasY)
+	{
+		if (point == null)
+		{
+			assertEquals(Perspective.OFFSCREEN, canvasX);
+			assertEquals(Perspective.OFFSCREEN, canvasY);
+			return 0;
+		}
+
+		assertEquals(point.getX(), canvasX);
+		assertEquals(point.getY(), canvasY);
+		return 1;
+	}
+
+	@Test
+	public void testOffscreen()
+	{
+		final int[] x = {
+			CAMERA_X, // in front of the camera
+			0, // outside of the scene
+			CAMERA_X, // behind the camera
+		};
+		final int[] y = {
+			CAMERA_Y + 2000,
+			CAMERA_Y + 2000,
+			CAMERA_Y - 2000,
+		};
+		final int[] outX = new int[3];
+		final int[] outY = new int[3];
+		Arrays.fill(outX, 1);
+		Arrays.fill(outY, 1);
+
+		assertEquals(1, Perspective.worldToCanvas(new CameraSnapshot(client), x, y, null, 3, outX, outY));
+		assertEquals(256, outX[0]);
+		assertEquals(Perspective.OFFSCREEN, outX[1]);
+		assertEquals(Perspective.OFFSCREEN, outY[1]);
+		assertEquals(Perspective.OFFSCREEN, outX[2]);
+		assertEquals(Perspective.OFFSCREEN, outY[2]);
+
+		assertNotNull(Perspective.worldToCanvas(client, x[0], y[0], 0));
+		assertNull(Perspective.worldToCanvas(client, x[1], y[1], 0));
+		assertNull(Perspective.worldToCanvas(client, x[2], y[2], 0));
+	}
+
+	@Test
+	public void testSnapshotRefresh()
+	{
+		final CameraSnapshot camera = new CameraSnapshot();
+		camera.refresh(client);
+		camera.refresh(client);
+		assertEquals(1, cameraReads.get());
+
+		// the camera only moves when the client runs a cycle
+		cameraX.set(CAMERA_X + 128);
+		camera.refresh(client);
+		assertEquals(CAMERA_X, camera.getCameraX());
+
+		gameCycle.incrementAndGet();
+		camera.refresh(client);
+		assertEquals(2, cameraReads.get());
+		assertEquals(CAMERA_X + 128, camera.getCameraX());
+
+		camera.update(client);
+		assertEquals(3, cameraReads.get());
+	}
+
+	@Test
+	public void testSinglePointSharesSnapshot()
+	{
+		// prime this thread's snapshot for the cycle
+		gameCycle.set(100);
+		Perspective.worldToCanvas(client, CAMERA_X, CAMERA_Y + 2000, 0);
+		final int reads = cameraReads.get();
+
+		for (int i = 0; i < 50; ++i)
+		{
+			Perspective.worldToCanvas(client, CAMERA_X + i * 16, CAMERA_Y + 2000, 0);
+		}
+		Perspective.getCanvasTilePoly(client, new LocalPoint(CAMERA_X, CAMERA_Y + 2000));
+		assertEquals(reads, cameraReads.get());
+
+		gameCycle.incrementAndGet();
+		Perspective.worldToCanvas(client, CAMERA_X, CAMERA_Y + 2000, 0);
+		assertEquals(reads + 1, cameraReads.get());
+	}
+
+	@Test
+	public void testClickboxPadding()
+	{
+		// a thin pole, so that its bounding box is wider than it and does not clip the padding
+		final int[] verticesX = {-4, 4, -4, 4, -4, 4, -4, 4};
+		final int[] verticesY = {0, 0, 0, 0, -300, -300, -300, -300};
+		final int[] verticesZ = {-4, -4, 4, 4, -4, -4, 4, 4};
+		final Model model = (Model) Proxy.newProxyInstance(Model.class.getClassLoader(), new Class<?>[]{Model.class},
+			(proxy, method, args) ->
+			{
+				switch (method.getName())
+				{
+					case "getVerticesCount":
+						return verticesX.length;
+					case "getVerticesX":
+						return verticesX;
+					case "getVerticesY":
+						return verticesY;
+					case "getVerticesZ":
+						return verticesZ;
+					default:
+						return null;
+				}
+			});
+
+		final int tileX = CAMERA_X;
+		final int tileY = CAMERA_Y + 1000;
+
+		int minX = Integer.MAX_VALUE;
+		int maxX = Integer.MIN_VALUE;
+		for (int i = 0; i < verticesX.length; ++i)
+		{
+			// models face north, so the clickbox rotates them by 1024
+			final Point p = Perspective.worldToCanvas(client, tileX + verticesX[i], tileY + verticesZ[i], -verticesY[i], tileX, tileY);
+			minX = Math.min(minX, p.getX());
+			maxX = Math.max(maxX, p.getX());
+		}
+
+		final Rectangle resizedBounds = Perspective.getClickbox(client, model, 0, tileX, tileY).getBounds();
+		assertEquals(minX - 5, resizedBounds.x);
+		assertEquals(maxX, resizedBounds.x + resizedBounds.width);
+
+		// the fixed client is shifted 4 pixels and padded by the viewport offset
+		gameCycle.incrementAndGet();
+		resized.set(false);
+		viewportOffset.set(4);
+		final Area fixed = Perspective.getClickbox(client, model, 0, tileX, tileY);
+		final Rectangle fixedBounds = fixed.getBounds();
+		assertEquals(minX - 1, fixedBounds.x);
+		assertEquals(maxX + 8, fixedBounds.x + fixedBounds.width);
+	}
+}
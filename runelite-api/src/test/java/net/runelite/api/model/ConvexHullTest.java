@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2018, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.api.model;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ConvexHullTest
+{
+	@Test
+	public void test()
+	{
+		int[] xs = new int[16];
+		int[] ys = new int[16];
+		set(xs, ys, 0, 3, 1, 1, 2, 2, 4, 4, 0, 0, 1, 2, 3, 1, 3, 3);
+
+		int count = ConvexHull.compute(xs, ys, 8, new long[8]);
+		Assert.assertEquals(4, count);
+		assertPoint(xs, ys, 0, 0, 0);
+		assertPoint(xs, ys, 1, 3, 1);
+		assertPoint(xs, ys, 2, 4, 4);
+		assertPoint(xs, ys, 3, 0, 3);
+	}
+
+	@Test
+	public void test2()
+	{
+		int[] xs = new int[16];
+		int[] ys = new int[16];
+		set(xs, ys, 0, 3, 4, 2, 3, 5, 5, 3, 3, 0, 1, 1, 1, 2, 2, 2);
+
+		int count = ConvexHull.compute(xs, ys, 8, new long[8]);
+		Assert.assertEquals(5, count);
+		assertPoint(xs, ys, 0, 0, 3);
+		assertPoint(xs, ys, 1, 1, 1);
+		assertPoint(xs, ys, 2, 3, 0);
+		assertPoint(xs, ys, 3, 5, 3);
+		assertPoint(xs, ys, 4, 3, 5);
+	}
+
+	@Test
+	public void testNegative()
+	{
+		int[] xs = new int[8];
+		int[] ys = new int[8];
+		set(xs, ys, -5, -5, 5, -5, 0, 0, 5, 5);
+
+		int count = ConvexHull.compute(xs, ys, 4, new long[4]);
+		Assert.assertEquals(3, count);
+		assertPoint(xs, ys, 0, -5, -5);
+		assertPoint(xs, ys, 1, 5, -5);
+		assertPoint(xs, ys, 2, 5, 5);
+	}
+
+	@Test
+	public void testCollinear()
+	{
+		int[] xs = new int[8];
+		int[] ys = new int[8];
+		set(xs, ys, 0, 0, 1, 1, 2, 2, 3, 3);
+
+		// a line has no area, only its end points are kept
+		int count = ConvexHull.compute(xs, ys, 4, new long[4]);
+		Assert.assertEquals(2, count);
+	}
+
+	private static void set(int[] xs, int[] ys, int... points)
+	{
+		for (int i = 0; i < points.length / 2; ++i)
+		{
+			xs[i] = points[i * 2];
+			ys[i] = points[i * 2 + 1];
+		}
+	}
+
+	private static void assertPoint(int[] xs, int[] ys, int index, int x, int y)
+	{
+		Assert.assertEquals(x, xs[index]);
+		Assert.assertEquals(y, ys[index]);
+	}
+}
@@ -40,7 +40,7 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ExecutorService;
 import javax.inject.Provider;
 import javax.inject.Singleton;
 import lombok.extern.slf4j.Slf4j;
@@ -71,7 +71,7 @@ public class Notifier
 	private final String appName;
 	private final RuneLiteConfig runeLiteConfig;
 	private final Provider<ClientUI> clientUI;
-	private final ScheduledExecutorService executorService;
+	private final ExecutorService executorService;
 	private final Path notifyIconPath;
 	private Instant flashStart;
 
@@ -81,7 +81,7 @@ public class Notifier
 			final Provider<Client> client,
 			final RuneLiteConfig runeliteConfig,
 			final RuneLiteProperties runeLiteProperties,
-			final ScheduledExecutorService executorService)
+			final ExecutorService executorService)
 	{
 		this.client = client;
 		this.appName = runeLiteProperties.getTitle();
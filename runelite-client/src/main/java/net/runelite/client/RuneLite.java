@@ -49,6 +49,8 @@ import net.runelite.client.config.ConfigManager;
 import net.runelite.client.discord.DiscordService;
 import net.runelite.client.game.ClanManager;
 import net.runelite.client.game.ItemManager;
+import net.runelite.client.game.SceneObjectIndex;
+import net.runelite.client.game.VarbitManager;
 import net.runelite.client.menus.MenuManager;
 import net.runelite.client.plugins.PluginManager;
 import net.runelite.client.ui.ClientUI;
@@ -116,6 +118,12 @@ public class RuneLite
 	@Inject
 	private ClanManager clanManager;
 
+	@Inject
+	private Provider<SceneObjectIndex> sceneObjectIndex;
+
+	@Inject
+	private Provider<VarbitManager> varbitManager;
+
 	Client client;
 
 	public static void main(String[] args) throws Exception
@@ -200,6 +208,8 @@ public class RuneLite
 		if (this.client != null)
 		{
 			eventBus.register(itemManager.get());
+			eventBus.register(sceneObjectIndex.get());
+			eventBus.register(varbitManager.get());
 		}
 
 		// Load user configuration
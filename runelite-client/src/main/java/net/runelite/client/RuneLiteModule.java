@@ -25,13 +25,11 @@
 package net.runelite.client;
 
 import com.google.common.eventbus.EventBus;
-import com.google.common.eventbus.SubscriberExceptionContext;
 import com.google.inject.AbstractModule;
 import com.google.inject.Provides;
-import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
 import javax.inject.Singleton;
-import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Client;
 import net.runelite.client.account.SessionManager;
 import net.runelite.client.chat.ChatMessageManager;
@@ -40,16 +38,22 @@ import net.runelite.client.config.RuneLiteConfig;
 import net.runelite.client.game.ItemManager;
 import net.runelite.client.menus.MenuManager;
 import net.runelite.client.plugins.PluginManager;
+import net.runelite.client.profiler.Profiler;
+import net.runelite.client.task.ExecutorPools;
 import net.runelite.client.task.Scheduler;
+import net.runelite.client.util.CompiledEventBus;
 import net.runelite.client.util.QueryRunner;
 
-@Slf4j
 public class RuneLiteModule extends AbstractModule
 {
 	@Override
 	protected void configure()
 	{
-		bind(ScheduledExecutorService.class).toInstance(Executors.newSingleThreadScheduledExecutor());
+		ExecutorPools executorPools = new ExecutorPools();
+		bind(ExecutorPools.class).toInstance(executorPools);
+		// plain executors are for blocking work, scheduled ones are for timers
+		bind(ExecutorService.class).toInstance(executorPools.getIoExecutor());
+		bind(ScheduledExecutorService.class).toInstance(executorPools.getTimerExecutor());
 		bind(QueryRunner.class);
 		bind(MenuManager.class);
 		bind(ChatMessageManager.class);
@@ -75,13 +79,8 @@ public class RuneLiteModule extends AbstractModule
 
 	@Provides
 	@Singleton
-	EventBus provideEventBus()
+	EventBus provideEventBus(Profiler profiler)
 	{
-		return new EventBus(RuneLiteModule::eventExceptionHandler);
-	}
-
-	private static void eventExceptionHandler(Throwable exception, SubscriberExceptionContext context)
-	{
-		log.warn("uncaught exception in event subscriber", exception);
+		return new CompiledEventBus(profiler);
 	}
 }
@@ -31,6 +31,8 @@ import java.util.function.BooleanSupplier;
 import javax.inject.Singleton;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Client;
+import net.runelite.client.profiler.ProfileCategory;
+import net.runelite.client.profiler.Profiler;
 
 @Singleton
 @Slf4j
@@ -41,13 +43,33 @@ public class ClientThread
 	@Inject
 	private Client client;
 
-	public void invokeLater(Runnable r)
+	@Inject
+	private Profiler profiler;
+
+	/**
+	 * Wraps a Runnable passed to invokeLater, so it is still profiled under
+	 * its own class
+	 */
+	private static final class RunnableInvoke implements BooleanSupplier
 	{
-		invokeLater(() ->
+		private final Runnable runnable;
+
+		private RunnableInvoke(Runnable runnable)
 		{
-			r.run();
+			this.runnable = runnable;
+		}
+
+		@Override
+		public boolean getAsBoolean()
+		{
+			runnable.run();
 			return true;
-		});
+		}
+	}
+
+	public void invokeLater(Runnable r)
+	{
+		invokeLater(new RunnableInvoke(r));
 	}
 
 	/**
@@ -58,7 +80,7 @@ public class ClientThread
 	{
 		if (client.isClientThread())
 		{
-			if (r.getAsBoolean())
+			if (run(r))
 			{
 				invokes.add(r);
 			}
@@ -77,7 +99,7 @@ public class ClientThread
 			boolean remove = true;
 			try
 			{
-				remove = r.getAsBoolean();
+				remove = run(r);
 			}
 			catch (ThreadDeath d)
 			{
@@ -93,4 +115,23 @@ public class ClientThread
 			}
 		}
 	}
+
+	private boolean run(BooleanSupplier r)
+	{
+		if (!profiler.isEnabled())
+		{
+			return r.getAsBoolean();
+		}
+
+		final long start = System.nanoTime();
+		try
+		{
+			return r.getAsBoolean();
+		}
+		finally
+		{
+			final Object key = r instanceof RunnableInvoke ? ((RunnableInvoke) r).runnable.getClass() : r.getClass();
+			profiler.record(ProfileCategory.INVOKE, key, System.nanoTime() - start);
+		}
+	}
 }
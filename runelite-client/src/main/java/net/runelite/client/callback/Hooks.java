@@ -76,6 +76,7 @@ import net.runelite.client.ui.DrawManager;
 import net.runelite.client.ui.overlay.OverlayLayer;
 import net.runelite.client.ui.overlay.OverlayRenderer;
 import net.runelite.client.ui.overlay.infobox.InfoBoxManager;
+import net.runelite.client.util.CompiledEventBus;
 import net.runelite.client.util.DeferredEventBus;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -393,6 +394,16 @@ public class Hooks
 		return menuOptionClicked.isConsumed();
 	}
 
+	/**
+	 * Whether the event bus is dispatching an event on the calling thread, in which case
+	 * posting an event queues it. Reused events must not be changed after posting them then.
+	 */
+	public static boolean isDispatching()
+	{
+		// other buses give no guarantee that posting is synchronous
+		return !(eventBus instanceof CompiledEventBus) || ((CompiledEventBus) eventBus).isDispatching();
+	}
+
 	public static void addChatMessage(int type, String name, String message, String sender)
 	{
 		if (log.isDebugEnabled())
@@ -27,6 +27,7 @@ package net.runelite.client.config;
 import com.google.common.base.Strings;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.eventbus.EventBus;
+import com.google.common.util.concurrent.MoreExecutors;
 import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Point;
@@ -44,7 +45,7 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -52,6 +53,7 @@ import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.events.ConfigChanged;
 import net.runelite.client.RuneLite;
 import net.runelite.client.account.AccountSession;
+import net.runelite.client.task.ExecutorPools;
 import net.runelite.http.api.config.ConfigClient;
 import net.runelite.http.api.config.ConfigEntry;
 import net.runelite.http.api.config.Configuration;
@@ -65,8 +67,7 @@ public class ConfigManager
 	@Inject
 	EventBus eventBus;
 
-	@Inject
-	ScheduledExecutorService executor;
+	private Executor executor;
 
 	private AccountSession session;
 	private ConfigClient client;
@@ -80,6 +81,13 @@ public class ConfigManager
 		this.propertiesFile = getPropertiesFile();
 	}
 
+	@Inject
+	void setExecutorPools(ExecutorPools executorPools)
+	{
+		// settings are saved in the order they are changed
+		executor = MoreExecutors.sequentialExecutor(executorPools.getIoExecutor());
+	}
+
 	public final void switchSession(AccountSession session)
 	{
 		if (session == null)
@@ -24,18 +24,24 @@
  */
 package net.runelite.client.game;
 
+import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
+import com.google.common.collect.Lists;
 import com.google.common.eventbus.Subscribe;
 import java.awt.image.BufferedImage;
+import java.io.File;
 import java.io.IOException;
+import java.time.Instant;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import javax.inject.Inject;
@@ -45,10 +51,14 @@ import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Client;
 import static net.runelite.api.Constants.CLIENT_DEFAULT_ZOOM;
 import net.runelite.api.GameState;
+import net.runelite.api.IndexDataBase;
 import net.runelite.api.ItemComposition;
 import net.runelite.api.SpritePixels;
 import net.runelite.api.events.GameStateChanged;
+import net.runelite.client.RuneLite;
 import net.runelite.client.callback.ClientThread;
+import net.runelite.client.task.ExecutorPools;
+import net.runelite.http.api.item.Item;
 import net.runelite.http.api.item.ItemClient;
 import net.runelite.http.api.item.ItemPrice;
 import net.runelite.http.api.item.SearchResult;
@@ -65,37 +75,65 @@ public class ItemManager
 		private final boolean stackable;
 	}
 
+	private static final File PRICE_FILE = new File(RuneLite.RUNELITE_DIR, "item-prices.dat");
+	private static final File SPRITE_CACHE_DIR = new File(RuneLite.RUNELITE_DIR, "item-sprites");
+
+	/**
+	 * How long a stored price is used before it is looked up again
+	 */
+	private static final long PRICE_STALE_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+	/**
+	 * How long to wait before looking up queued prices, so that prices wanted
+	 * at about the same time are looked up together
+	 */
+	private static final long LOOKUP_DELAY_MILLIS = 500L;
+
 	/**
-	 * not yet looked up
+	 * How long to wait after a failed lookup before trying again
 	 */
-	static final ItemPrice EMPTY = new ItemPrice();
+	private static final long LOOKUP_RETRY_MILLIS = TimeUnit.MINUTES.toMillis(1);
 
 	/**
-	 * has no price
+	 * The most prices to look up in one request, as the ids are sent in the url
 	 */
-	static final ItemPrice NONE = new ItemPrice();
+	private static final int MAX_LOOKUP_SIZE = 256;
 
 	private final Client client;
+	private final ExecutorService executorService;
 	private final ScheduledExecutorService scheduledExecutorService;
 	private final ClientThread clientThread;
 
 	private final ItemClient itemClient = new ItemClient();
+	private final ItemPriceStore itemPriceStore;
+	private final Cache<Integer, ItemPrice> itemPrices;
+	private final ItemSpriteCache itemSpriteCache = new ItemSpriteCache(SPRITE_CACHE_DIR);
 	private final LoadingCache<String, SearchResult> itemSearches;
-	private final LoadingCache<Integer, ItemPrice> itemPriceCache;
 	private final LoadingCache<ImageKey, AsyncBufferedImage> itemImages;
 	private final LoadingCache<Integer, ItemComposition> itemCompositions;
 
+	/**
+	 * Items whose prices are queued or being looked up
+	 */
+	private final Set<Integer> pendingLookups = new HashSet<>();
+	private boolean lookupScheduled;
+	private long lookupRetryTime;
+
 	@Inject
-	public ItemManager(Client client, ScheduledExecutorService executor, ClientThread clientThread)
+	public ItemManager(Client client, ExecutorPools executorPools, ClientThread clientThread)
 	{
+		final ExecutorService executor = executorPools.getIoExecutor();
 		this.client = client;
-		this.scheduledExecutorService = executor;
+		this.executorService = executor;
+		this.scheduledExecutorService = executorPools.getTimerExecutor();
 		this.clientThread = clientThread;
 
-		itemPriceCache = CacheBuilder.newBuilder()
+		itemPriceStore = new ItemPriceStore(PRICE_FILE);
+
+		itemPrices = CacheBuilder.newBuilder()
 			.maximumSize(1024L)
 			.expireAfterAccess(1, TimeUnit.HOURS)
-			.build(new ItemPriceLoader(executor, itemClient));
+			.build();
 
 		itemSearches = CacheBuilder.newBuilder()
 			.maximumSize(512L)
@@ -145,20 +183,23 @@ public class ItemManager
 
 	/**
 	 * Look up an item's price asynchronously.
+	 * <p>
+	 * Prices are kept on disk between sessions. A price which is missing or
+	 * out of date is looked up in the background along with any others wanted
+	 * at about the same time, and the stored price is returned meanwhile.
 	 *
 	 * @param itemId item id
 	 * @return the price, or null if the price is not yet loaded
 	 */
 	public ItemPrice getItemPriceAsync(int itemId)
 	{
-		ItemPrice itemPrice = itemPriceCache.getIfPresent(itemId);
-		if (itemPrice != null && itemPrice != EMPTY)
+		final long time = itemPriceStore.getTime(itemId);
+		if (time < System.currentTimeMillis() - PRICE_STALE_MILLIS)
 		{
-			return itemPrice == NONE ? null : itemPrice;
+			queueLookup(itemId);
 		}
 
-		itemPriceCache.refresh(itemId);
-		return null;
+		return time == 0L ? null : getStoredPrice(itemId, time);
 	}
 
 	/**
@@ -173,52 +214,35 @@ public class ItemManager
 		final List<ItemPrice> existing = new ArrayList<>();
 		for (int itemId : itemIds)
 		{
-			ItemPrice itemPrice = itemPriceCache.getIfPresent(itemId);
-			if (itemPrice != null)
+			if (itemPriceStore.getTime(itemId) == 0L)
 			{
-				existing.add(itemPrice);
+				lookup.add(itemId);
+				continue;
 			}
-			else
+
+			ItemPrice itemPrice = getItemPriceAsync(itemId);
+			if (itemPrice != null)
 			{
-				lookup.add(itemId);
+				existing.add(itemPrice);
 			}
 		}
-		// All cached?
+		// All stored?
 		if (lookup.isEmpty())
 		{
 			return CompletableFuture.completedFuture(existing.toArray(new ItemPrice[existing.size()]));
 		}
 
 		final CompletableFuture<ItemPrice[]> future = new CompletableFuture<>();
-		scheduledExecutorService.execute(() ->
+		executorService.execute(() ->
 		{
 			try
 			{
-				// Do a query for the items not in the cache
-				ItemPrice[] itemPrices = itemClient.lookupItemPrice(lookup.toArray(new Integer[lookup.size()]));
-				if (itemPrices != null)
-				{
-					for (int itemId : lookup)
-					{
-						itemPriceCache.put(itemId, NONE);
-					}
-					for (ItemPrice itemPrice : itemPrices)
-					{
-						itemPriceCache.put(itemPrice.getItem().getId(), itemPrice);
-					}
-					// Append these to the already cached items
-					Arrays.stream(itemPrices).forEach(existing::add);
-				}
+				// Do a query for the items not stored
+				existing.addAll(lookupItemPrices(lookup));
 				future.complete(existing.toArray(new ItemPrice[existing.size()]));
 			}
 			catch (Exception ex)
 			{
-				// cache unable to lookup
-				for (int itemId : lookup)
-				{
-					itemPriceCache.put(itemId, NONE);
-				}
-
 				future.completeExceptionally(ex);
 			}
 		});
@@ -234,23 +258,148 @@ public class ItemManager
 	 */
 	public ItemPrice getItemPrice(int itemId) throws IOException
 	{
-		ItemPrice itemPrice = itemPriceCache.getIfPresent(itemId);
-		if (itemPrice != null && itemPrice != EMPTY)
+		if (itemPriceStore.getTime(itemId) != 0L)
+		{
+			return getItemPriceAsync(itemId);
+		}
+
+		ItemPrice itemPrice = itemClient.lookupItemPrice(itemId);
+		itemPriceStore.put(itemId, itemPrice == null ? ItemPriceStore.NO_PRICE : itemPrice.getPrice(), System.currentTimeMillis());
+		return itemPrice;
+	}
+
+	/**
+	 * Checks whether an item's price has been looked up, so that items with
+	 * no price can be told apart from items whose price is not yet loaded
+	 *
+	 * @param itemId item id
+	 * @return true if the price has been looked up
+	 */
+	public boolean isItemPriceLoaded(int itemId)
+	{
+		return itemPriceStore.getTime(itemId) != 0L;
+	}
+
+	private ItemPrice getStoredPrice(int itemId, long time)
+	{
+		// Reuse the price built from the same stored entry
+		final ItemPrice cached = itemPrices.getIfPresent(itemId);
+		if (cached != null && cached.getTime().toEpochMilli() == time)
 		{
-			return itemPrice == NONE ? null : itemPrice;
+			return cached;
 		}
 
-		itemPrice = itemClient.lookupItemPrice(itemId);
-		if (itemPrice == null)
+		final int price = itemPriceStore.getPrice(itemId);
+		if (price == ItemPriceStore.NO_PRICE)
 		{
-			itemPriceCache.put(itemId, NONE);
+			itemPrices.invalidate(itemId);
 			return null;
 		}
 
-		itemPriceCache.put(itemId, itemPrice);
+		final Item item = new Item();
+		item.setId(itemId);
+
+		final ItemPrice itemPrice = new ItemPrice();
+		itemPrice.setItem(item);
+		itemPrice.setPrice(price);
+		itemPrice.setTime(Instant.ofEpochMilli(time));
+		itemPrices.put(itemId, itemPrice);
 		return itemPrice;
 	}
 
+	private void queueLookup(int itemId)
+	{
+		synchronized (pendingLookups)
+		{
+			if (pendingLookups.add(itemId) && !lookupScheduled)
+			{
+				scheduleLookup();
+			}
+		}
+	}
+
+	private void scheduleLookup()
+	{
+		lookupScheduled = true;
+
+		final long delay = Math.max(LOOKUP_DELAY_MILLIS, lookupRetryTime - System.currentTimeMillis());
+		scheduledExecutorService.schedule(() -> executorService.execute(this::lookupPending), delay, TimeUnit.MILLISECONDS);
+	}
+
+	private void lookupPending()
+	{
+		final List<Integer> lookup;
+		synchronized (pendingLookups)
+		{
+			lookup = new ArrayList<>(pendingLookups);
+		}
+
+		log.debug("Looking up {} item prices", lookup.size());
+
+		boolean failed = false;
+		try
+		{
+			lookupItemPrices(lookup);
+		}
+		catch (IOException ex)
+		{
+			log.warn("unable to look up item prices", ex);
+			failed = true;
+		}
+
+		synchronized (pendingLookups)
+		{
+			if (failed)
+			{
+				lookupRetryTime = System.currentTimeMillis() + LOOKUP_RETRY_MILLIS;
+			}
+
+			// items queued during the lookup are looked up next
+			pendingLookups.removeAll(lookup);
+			lookupScheduled = false;
+
+			if (!pendingLookups.isEmpty())
+			{
+				scheduleLookup();
+			}
+		}
+	}
+
+	/**
+	 * Looks up and stores the prices of items, in as few requests as possible
+	 *
+	 * @param itemIds item ids
+	 * @return the prices of the items which have one
+	 * @throws IOException
+	 */
+	private List<ItemPrice> lookupItemPrices(List<Integer> itemIds) throws IOException
+	{
+		final List<ItemPrice> found = new ArrayList<>(itemIds.size());
+
+		for (List<Integer> batch : Lists.partition(itemIds, MAX_LOOKUP_SIZE))
+		{
+			final ItemPrice[] itemPrices = itemClient.lookupItemPrice(batch.toArray(new Integer[batch.size()]));
+			if (itemPrices == null)
+			{
+				throw new IOException("unable to look up item prices");
+			}
+
+			final long now = System.currentTimeMillis();
+			for (int itemId : batch)
+			{
+				itemPriceStore.put(itemId, ItemPriceStore.NO_PRICE, now);
+			}
+
+			for (ItemPrice itemPrice : itemPrices)
+			{
+				itemPriceStore.put(itemPrice.getItem().getId(), itemPrice.getPrice(), now);
+				found.add(itemPrice);
+			}
+		}
+
+		return found;
+	}
+
 	/**
 	 * Look up an item's composition
 	 *
@@ -276,21 +425,36 @@ public class ItemManager
 	}
 
 	/**
-	 * Loads item sprite from game, makes transparent, and generates image
+	 * Loads item sprite from the sprite cache, or from game if it isn't cached,
+	 * makes transparent, and generates image
 	 *
 	 * @param itemId
 	 * @return
 	 */
 	private AsyncBufferedImage loadImage(int itemId, int quantity, boolean stackable)
 	{
-		AsyncBufferedImage img = new AsyncBufferedImage(36, 32, BufferedImage.TYPE_INT_ARGB);
+		final int width = ItemSpriteCache.WIDTH;
+		final int height = ItemSpriteCache.HEIGHT;
+		final int crc = getCacheCrc();
+
+		AsyncBufferedImage img = new AsyncBufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+
+		final int[] pixels = new int[width * height];
+		if (crc != 0 && itemSpriteCache.read(itemId, quantity, stackable, crc, pixels))
+		{
+			img.setRGB(0, 0, width, height, pixels, 0, width);
+			return img;
+		}
+
 		clientThread.invokeLater(() ->
 		{
 			if (client.getGameState().ordinal() < GameState.LOGIN_SCREEN.ordinal())
 			{
 				return false;
 			}
-			SpritePixels sprite = client.createItemSprite(itemId, quantity, 1, SpritePixels.DEFAULT_SHADOW_COLOR,
+			// the quantity only changes the sprite of items which stack, unless it is drawn
+			final int renderQuantity = !stackable && !getItemComposition(itemId).isStackable() ? 1 : quantity;
+			SpritePixels sprite = client.createItemSprite(itemId, renderQuantity, 1, SpritePixels.DEFAULT_SHADOW_COLOR,
 				stackable ? 1 : 0, false, CLIENT_DEFAULT_ZOOM);
 			if (sprite == null)
 			{
@@ -298,11 +462,36 @@ public class ItemManager
 			}
 			sprite.toBufferedImage(img);
 			img.changed();
+
+			final int renderedCrc = getCacheCrc();
+			if (renderedCrc != 0)
+			{
+				final int[] rendered = img.getRGB(0, 0, width, height, null, 0, width);
+				executorService.execute(() -> itemSpriteCache.write(itemId, quantity, stackable, renderedCrc, rendered));
+			}
 			return true;
 		});
 		return img;
 	}
 
+	/**
+	 * Gets the crc item sprites are cached under, which changes whenever the
+	 * item definitions or models are updated
+	 *
+	 * @return the crc, or 0 if the indexes are not yet loaded
+	 */
+	private int getCacheCrc()
+	{
+		final IndexDataBase configs = client.getIndexConfigs();
+		final IndexDataBase models = client.getIndexModels();
+		if (configs == null || models == null || configs.getCrc() == 0 || models.getCrc() == 0)
+		{
+			return 0;
+		}
+
+		return configs.getCrc() * 31 + models.getCrc();
+	}
+
 	/**
 	 * Get item sprite image as BufferedImage.
 	 * <p>
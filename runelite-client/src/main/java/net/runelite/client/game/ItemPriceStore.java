@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2018, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Item prices and the time they were looked up, kept in a table indexed by
+ * item id in a memory mapped file, so that prices survive restarts and can be
+ * read without going to the network. If the file can't be opened, the table
+ * is kept in memory only.
+ */
+@Slf4j
+class ItemPriceStore
+{
+	/**
+	 * Stored as the price of items which have been looked up and have no price
+	 */
+	static final int NO_PRICE = -1;
+
+	private static final int MAGIC = 0x524c5053;
+	private static final int VERSION = 1;
+	private static final int HEADER_SIZE = 8;
+
+	/**
+	 * Each record is the price, followed by the time it was looked up in epoch
+	 * millis, or 0 if the item has not been looked up
+	 */
+	private static final int RECORD_SIZE = 12;
+	private static final int INITIAL_CAPACITY = 32768;
+
+	private final FileChannel channel;
+	private ByteBuffer buffer;
+	private int capacity;
+
+	ItemPriceStore(File file)
+	{
+		FileChannel fileChannel = null;
+		try
+		{
+			fileChannel = new RandomAccessFile(file, "rw").getChannel();
+			open(fileChannel);
+		}
+		catch (IOException ex)
+		{
+			log.warn("unable to open item price store {}, prices will not be persisted", file, ex);
+
+			if (fileChannel != null)
+			{
+				try
+				{
+					fileChannel.close();
+				}
+				catch (IOException ex2)
+				{
+					log.debug("error closing item price store", ex2);
+				}
+			}
+
+			fileChannel = null;
+			capacity = INITIAL_CAPACITY;
+			buffer = ByteBuffer.allocate(HEADER_SIZE + capacity * RECORD_SIZE);
+		}
+
+		channel = fileChannel;
+	}
+
+	private void open(FileChannel fileChannel) throws IOException
+	{
+		final long size = fileChannel.size();
+		if (size >= HEADER_SIZE)
+		{
+			final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+			fileChannel.read(header, 0);
+			header.flip();
+
+			if (header.getInt() == MAGIC && header.getInt() == VERSION && size >= HEADER_SIZE + RECORD_SIZE)
+			{
+				capacity = (int) ((size - HEADER_SIZE) / RECORD_SIZE);
+				buffer = fileChannel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + (long) capacity * RECORD_SIZE);
+				log.debug("Loaded item price store with capacity {}", capacity);
+				return;
+			}
+
+			log.warn("Item price store is truncated or has an unknown format, discarding it");
+			fileChannel.truncate(0);
+		}
+
+		capacity = INITIAL_CAPACITY;
+		buffer = fileChannel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + (long) capacity * RECORD_SIZE);
+		buffer.putInt(0, MAGIC);
+		buffer.putInt(4, VERSION);
+	}
+
+	/**
+	 * Gets the time the price of an item was stored
+	 *
+	 * @param itemId item id
+	 * @return the time in epoch millis, or 0 if no price is stored
+	 */
+	synchronized long getTime(int itemId)
+	{
+		if (itemId < 0 || itemId >= capacity)
+		{
+			return 0L;
+		}
+
+		return buffer.getLong(offset(itemId) + 4);
+	}
+
+	/**
+	 * Gets the stored price of an item
+	 *
+	 * @param itemId item id
+	 * @return the price, or {@link #NO_PRICE} if the item has no price or no price is stored
+	 */
+	synchronized int getPrice(int itemId)
+	{
+		if (itemId < 0 || itemId >= capacity || buffer.getLong(offset(itemId) + 4) == 0L)
+		{
+			return NO_PRICE;
+		}
+
+		return buffer.getInt(offset(itemId));
+	}
+
+	/**
+	 * Stores the price of an item
+	 *
+	 * @param itemId item id
+	 * @param price the price, or {@link #NO_PRICE} if the item has no price
+	 * @param time the time the price was looked up in epoch millis
+	 */
+	synchronized void put(int itemId, int price, long time)
+	{
+		if (itemId < 0)
+		{
+			return;
+		}
+
+		if (itemId >= capacity)
+		{
+			grow(itemId + 1);
+		}
+
+		final int offset = offset(itemId);
+		buffer.putInt(offset, price);
+		buffer.putLong(offset + 4, time);
+	}
+
+	private void grow(int minCapacity)
+	{
+		int newCapacity = Math.max(capacity, 1);
+		while (newCapacity < minCapacity)
+		{
+			newCapacity *= 2;
+		}
+
+		final long size = HEADER_SIZE + (long) newCapacity * RECORD_SIZE;
+
+		if (channel != null)
+		{
+			try
+			{
+				buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+				capacity = newCapacity;
+				return;
+			}
+			catch (IOException ex)
+			{
+				log.warn("unable to grow item price store", ex);
+			}
+		}
+
+		final ByteBuffer newBuffer = ByteBuffer.allocate((int) size);
+		buffer.position(0);
+		newBuffer.put(buffer);
+		buffer = newBuffer;
+		capacity = newCapacity;
+	}
+
+	private static int offset(int itemId)
+	{
+		return HEADER_SIZE + itemId * RECORD_SIZE;
+	}
+}
@@ -0,0 +1,355 @@
+/*
+ * Copyright (c) 2018, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Rendered item sprites kept on disk between sessions, so that item icons
+ * don't all have to be rendered by the client again. The sprites are packed
+ * into fixed slots in a data file, which is memory mapped for reading, and
+ * an index file maps each slot to the key of the sprite in it. When every
+ * slot is used, the oldest sprite is replaced. Both files are discarded when
+ * the crc of the game cache changes.
+ */
+@Slf4j
+class ItemSpriteCache
+{
+	static final int WIDTH = 36;
+	static final int HEIGHT = 32;
+
+	private static final int MAGIC = 0x524c4953;
+	private static final int VERSION = 2;
+
+	/**
+	 * The index starts with the magic, version, crc and the next slot to write
+	 */
+	private static final int HEADER_SIZE = 16;
+
+	/**
+	 * Each index entry is the sprite's key followed by its slot, or -1 if the
+	 * slot is being replaced
+	 */
+	private static final int ENTRY_SIZE = 12;
+	private static final int SPRITE_SIZE = WIDTH * HEIGHT * 4;
+	private static final int MAX_SPRITES = 16384;
+
+	/**
+	 * The data file is mapped in chunks of this many sprites, each of which is
+	 * mapped once, so that the mapping doesn't have to be replaced as it grows
+	 */
+	private static final int CHUNK_SPRITES = 256;
+
+	private final File indexFile;
+	private final File dataFile;
+	private final int maxSprites;
+	private final int chunkSprites;
+	private final Map<Long, Integer> slots = new HashMap<>();
+	private final long[] keys;
+	private final MappedByteBuffer[] chunks;
+
+	private FileChannel indexChannel;
+	private FileChannel dataChannel;
+	private int nextSlot;
+	private int crc;
+	private boolean opened;
+	private boolean failed;
+
+	ItemSpriteCache(File directory)
+	{
+		this(directory, MAX_SPRITES);
+	}
+
+	ItemSpriteCache(File directory, int maxSprites)
+	{
+		this.indexFile = new File(directory, "item-sprites.idx");
+		this.dataFile = new File(directory, "item-sprites.dat");
+		this.maxSprites = maxSprites;
+		this.chunkSprites = Math.min(CHUNK_SPRITES, maxSprites);
+		this.keys = new long[maxSprites];
+		this.chunks = new MappedByteBuffer[(maxSprites + chunkSprites - 1) / chunkSprites];
+	}
+
+	/**
+	 * Reads a sprite from the cache
+	 *
+	 * @param itemId item id
+	 * @param quantity item quantity
+	 * @param stackable whether the quantity is drawn
+	 * @param crc the crc of the game cache
+	 * @param pixels the array to read the ARGB pixels into
+	 * @return true if the sprite was cached
+	 */
+	synchronized boolean read(int itemId, int quantity, boolean stackable, int crc, int[] pixels)
+	{
+		if (!open(crc))
+		{
+			return false;
+		}
+
+		final Integer slot = slots.get(key(itemId, quantity, stackable));
+		if (slot == null)
+		{
+			return false;
+		}
+
+		final int chunk = slot / chunkSprites;
+
+		try
+		{
+			if (chunks[chunk] == null)
+			{
+				chunks[chunk] = dataChannel.map(FileChannel.MapMode.READ_ONLY,
+					(long) chunk * chunkSprites * SPRITE_SIZE, (long) chunkSprites * SPRITE_SIZE);
+			}
+		}
+		catch (IOException ex)
+		{
+			fail("unable to map item sprite cache", ex);
+			return false;
+		}
+
+		final ByteBuffer buffer = chunks[chunk].duplicate();
+		buffer.position(slot % chunkSprites * SPRITE_SIZE);
+		buffer.asIntBuffer().get(pixels, 0, WIDTH * HEIGHT);
+		return true;
+	}
+
+	/**
+	 * Writes a sprite to the cache, replacing the oldest sprite if the cache
+	 * is full
+	 *
+	 * @param itemId item id
+	 * @param quantity item quantity
+	 * @param stackable whether the quantity is drawn
+	 * @param crc the crc of the game cache
+	 * @param pixels the ARGB pixels of the sprite
+	 */
+	synchronized void write(int itemId, int quantity, boolean stackable, int crc, int[] pixels)
+	{
+		if (!open(crc))
+		{
+			return;
+		}
+
+		final long key = key(itemId, quantity, stackable);
+		if (slots.containsKey(key))
+		{
+			return;
+		}
+
+		final int slot = nextSlot;
+		final long entryPosition = HEADER_SIZE + (long) slot * ENTRY_SIZE;
+
+		final ByteBuffer sprite = ByteBuffer.allocate(SPRITE_SIZE);
+		sprite.asIntBuffer().put(pixels, 0, WIDTH * HEIGHT);
+
+		final ByteBuffer header = ByteBuffer.allocate(4);
+		header.putInt((slot + 1) % maxSprites);
+		header.flip();
+
+		try
+		{
+			// the slot's old entry is invalidated before the sprite is replaced, and the
+			// sprite is written before its new entry, so the index never points to a partial sprite
+			if (slots.remove(keys[slot], slot))
+			{
+				indexChannel.write(entry(keys[slot], -1), entryPosition);
+			}
+
+			dataChannel.write(sprite, (long) slot * SPRITE_SIZE);
+			indexChannel.write(entry(key, slot), entryPosition);
+			indexChannel.write(header, 12);
+		}
+		catch (IOException ex)
+		{
+			fail("unable to write item sprite cache", ex);
+			return;
+		}
+
+		slots.put(key, slot);
+		keys[slot] = key;
+		nextSlot = (slot + 1) % maxSprites;
+	}
+
+	private boolean open(int crc)
+	{
+		if (failed)
+		{
+			return false;
+		}
+
+		if (opened && this.crc == crc)
+		{
+			return true;
+		}
+
+		try
+		{
+			close();
+
+			indexFile.getParentFile().mkdirs();
+			indexChannel = new RandomAccessFile(indexFile, "rw").getChannel();
+			dataChannel = new RandomAccessFile(dataFile, "rw").getChannel();
+
+			if (!readIndex(crc))
+			{
+				log.debug("Creating item sprite cache for crc {}", crc);
+
+				slots.clear();
+				nextSlot = 0;
+				indexChannel.truncate(0);
+				dataChannel.truncate(0);
+
+				final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+				header.putInt(MAGIC);
+				header.putInt(VERSION);
+				header.putInt(crc);
+				header.putInt(0);
+				header.flip();
+				indexChannel.write(header, 0);
+			}
+		}
+		catch (IOException ex)
+		{
+			fail("unable to open item sprite cache", ex);
+			return false;
+		}
+
+		this.crc = crc;
+		opened = true;
+		return true;
+	}
+
+	/**
+	 * Reads the index, if it is for the current crc
+	 *
+	 * @return true if the index was read
+	 */
+	private boolean readIndex(int crc) throws IOException
+	{
+		final long size = indexChannel.size();
+		if (size < HEADER_SIZE)
+		{
+			return false;
+		}
+
+		final ByteBuffer index = ByteBuffer.allocate((int) Math.min(size, HEADER_SIZE + (long) maxSprites * ENTRY_SIZE));
+		while (index.hasRemaining())
+		{
+			if (indexChannel.read(index, index.position()) == -1)
+			{
+				break;
+			}
+		}
+		index.flip();
+
+		if (index.getInt() != MAGIC || index.getInt() != VERSION || index.getInt() != crc)
+		{
+			return false;
+		}
+
+		final int next = index.getInt();
+		if (next < 0 || next >= maxSprites)
+		{
+			return false;
+		}
+
+		slots.clear();
+		nextSlot = next;
+
+		// entries for slots being replaced, or a trailing partial entry from an interrupted write, are ignored
+		final long dataSize = dataChannel.size();
+		for (int slot = 0; index.remaining() >= ENTRY_SIZE; ++slot)
+		{
+			final long key = index.getLong();
+			if (index.getInt() == slot && (long) (slot + 1) * SPRITE_SIZE <= dataSize)
+			{
+				slots.put(key, slot);
+				keys[slot] = key;
+			}
+		}
+
+		log.debug("Loaded {} item sprites for crc {}", slots.size(), crc);
+		return true;
+	}
+
+	private void fail(String message, IOException ex)
+	{
+		log.warn(message, ex);
+		failed = true;
+		close();
+	}
+
+	private void close()
+	{
+		for (int i = 0; i < chunks.length; ++i)
+		{
+			chunks[i] = null;
+		}
+
+		try
+		{
+			if (indexChannel != null)
+			{
+				indexChannel.close();
+			}
+
+			if (dataChannel != null)
+			{
+				dataChannel.close();
+			}
+		}
+		catch (IOException ex)
+		{
+			log.debug("error closing item sprite cache", ex);
+		}
+
+		indexChannel = dataChannel = null;
+		opened = false;
+	}
+
+	private static ByteBuffer entry(long key, int slot)
+	{
+		final ByteBuffer entry = ByteBuffer.allocate(ENTRY_SIZE);
+		entry.putLong(key);
+		entry.putInt(slot);
+		entry.flip();
+		return entry;
+	}
+
+	private static long key(int itemId, int quantity, boolean stackable)
+	{
+		return (long) itemId << 32 | (quantity & 0x7fffffffL) << 1 | (stackable ? 1 : 0);
+	}
+}
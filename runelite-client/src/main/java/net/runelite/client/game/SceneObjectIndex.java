@@ -0,0 +1,391 @@
+/*
+ * Copyright (c) 2018, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import com.google.common.eventbus.Subscribe;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.inject.Singleton;
+import net.runelite.api.Constants;
+import net.runelite.api.DecorativeObject;
+import net.runelite.api.GameObject;
+import net.runelite.api.GameState;
+import net.runelite.api.GroundObject;
+import net.runelite.api.Point;
+import net.runelite.api.Tile;
+import net.runelite.api.TileObject;
+import net.runelite.api.WallObject;
+import net.runelite.api.events.DecorativeObjectChanged;
+import net.runelite.api.events.DecorativeObjectDespawned;
+import net.runelite.api.events.DecorativeObjectSpawned;
+import net.runelite.api.events.GameObjectChanged;
+import net.runelite.api.events.GameObjectDespawned;
+import net.runelite.api.events.GameObjectSpawned;
+import net.runelite.api.events.GameStateChanged;
+import net.runelite.api.events.GroundObjectChanged;
+import net.runelite.api.events.GroundObjectDespawned;
+import net.runelite.api.events.GroundObjectSpawned;
+import net.runelite.api.events.WallObjectChanged;
+import net.runelite.api.events.WallObjectDespawned;
+import net.runelite.api.events.WallObjectSpawned;
+import net.runelite.api.queries.TileObjectIndex;
+
+/**
+ * Index of the objects in the scene by id and by tile, kept up to date from the
+ * object spawn, despawn and change events. The index is cleared when a new
+ * region starts loading and is filled again by the spawn events fired while
+ * the scene is built.
+ * <p>
+ * Game objects which belong to actors, such as the models of players and npcs
+ * placed on the tiles they stand on, have no spawn events and are not in the
+ * index. Lookups through the index therefore return only the static scene
+ * objects, where a scan of the scene tiles would also return those.
+ * <p>
+ * Like the events it is built from, this must only be used from the client thread.
+ */
+@Singleton
+public class SceneObjectIndex implements TileObjectIndex
+{
+	private final ObjectTable<GameObject> gameObjects = new ObjectTable<>(true);
+	private final ObjectTable<WallObject> wallObjects = new ObjectTable<>(false);
+	private final ObjectTable<DecorativeObject> decorativeObjects = new ObjectTable<>(false);
+	private final ObjectTable<GroundObject> groundObjects = new ObjectTable<>(false);
+
+	private static class ObjectTable<T extends TileObject>
+	{
+		/**
+		 * whether objects may span multiple tiles, and so need to be
+		 * deduplicated when looked up by tile
+		 */
+		private final boolean multiTile;
+		private final Map<Integer, List<T>> byId = new HashMap<>();
+		private final List<Set<T>> byPlane = new ArrayList<>(Constants.MAX_Z);
+		@SuppressWarnings("unchecked")
+		private final List<T>[][][] byTile = new List[Constants.MAX_Z][Constants.REGION_SIZE][Constants.REGION_SIZE];
+
+		ObjectTable(boolean multiTile)
+		{
+			this.multiTile = multiTile;
+			for (int i = 0; i < Constants.MAX_Z; ++i)
+			{
+				byPlane.add(new LinkedHashSet<>());
+			}
+		}
+
+		void add(int plane, int minX, int minY, int maxX, int maxY, T object)
+		{
+			if (!byPlane.get(plane).add(object))
+			{
+				return;
+			}
+
+			byId.computeIfAbsent(key(plane, object.getId()), k -> new ArrayList<>(1)).add(object);
+
+			for (int x = Math.max(minX, 0); x <= Math.min(maxX, Constants.REGION_SIZE - 1); ++x)
+			{
+				for (int y = Math.max(minY, 0); y <= Math.min(maxY, Constants.REGION_SIZE - 1); ++y)
+				{
+					List<T> objects = byTile[plane][x][y];
+					if (objects == null)
+					{
+						objects = byTile[plane][x][y] = new ArrayList<>(1);
+					}
+					objects.add(object);
+				}
+			}
+		}
+
+		void remove(int plane, int minX, int minY, int maxX, int maxY, T object)
+		{
+			// multi tile objects fire a despawn for each of their tiles
+			if (!byPlane.get(plane).remove(object))
+			{
+				return;
+			}
+
+			final Integer key = key(plane, object.getId());
+			final List<T> withId = byId.get(key);
+			if (withId != null)
+			{
+				withId.remove(object);
+				if (withId.isEmpty())
+				{
+					byId.remove(key);
+				}
+			}
+
+			for (int x = Math.max(minX, 0); x <= Math.min(maxX, Constants.REGION_SIZE - 1); ++x)
+			{
+				for (int y = Math.max(minY, 0); y <= Math.min(maxY, Constants.REGION_SIZE - 1); ++y)
+				{
+					final List<T> objects = byTile[plane][x][y];
+					if (objects != null)
+					{
+						objects.remove(object);
+					}
+				}
+			}
+		}
+
+		Collection<T> get(int plane)
+		{
+			return Collections.unmodifiableSet(byPlane.get(plane));
+		}
+
+		Collection<T> get(int plane, int id)
+		{
+			final List<T> objects = byId.get(key(plane, id));
+			return objects != null ? Collections.unmodifiableList(objects) : Collections.emptyList();
+		}
+
+		Collection<T> get(int plane, int minX, int minY, int maxX, int maxY)
+		{
+			final Collection<T> result = multiTile
+				? Collections.newSetFromMap(new IdentityHashMap<>())
+				: new ArrayList<>();
+
+			for (int x = Math.max(minX, 0); x <= Math.min(maxX, Constants.REGION_SIZE - 1); ++x)
+			{
+				for (int y = Math.max(minY, 0); y <= Math.min(maxY, Constants.REGION_SIZE - 1); ++y)
+				{
+					final List<T> objects = byTile[plane][x][y];
+					if (objects != null)
+					{
+						result.addAll(objects);
+					}
+				}
+			}
+
+			return result;
+		}
+
+		void clear()
+		{
+			byId.clear();
+			for (int plane = 0; plane < Constants.MAX_Z; ++plane)
+			{
+				byPlane.get(plane).clear();
+				for (List<T>[] column : byTile[plane])
+				{
+					for (List<T> objects : column)
+					{
+						if (objects != null)
+						{
+							objects.clear();
+						}
+					}
+				}
+			}
+		}
+
+		private static Integer key(int plane, int id)
+		{
+			return id << 2 | plane;
+		}
+	}
+
+	@Override
+	public <T extends TileObject> Collection<T> getObjects(Class<T> type, int plane)
+	{
+		return table(type).get(plane);
+	}
+
+	@Override
+	public <T extends TileObject> Collection<T> getObjects(Class<T> type, int plane, int id)
+	{
+		return table(type).get(plane, id);
+	}
+
+	@Override
+	public <T extends TileObject> Collection<T> getObjects(Class<T> type, int plane, int minX, int minY, int maxX, int maxY)
+	{
+		return table(type).get(plane, minX, minY, maxX, maxY);
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T extends TileObject> ObjectTable<T> table(Class<T> type)
+	{
+		if (type == GameObject.class)
+		{
+			return (ObjectTable<T>) gameObjects;
+		}
+		else if (type == WallObject.class)
+		{
+			return (ObjectTable<T>) wallObjects;
+		}
+		else if (type == DecorativeObject.class)
+		{
+			return (ObjectTable<T>) decorativeObjects;
+		}
+		else if (type == GroundObject.class)
+		{
+			return (ObjectTable<T>) groundObjects;
+		}
+		throw new IllegalArgumentException("unknown object type " + type);
+	}
+
+	@Subscribe
+	public void onGameStateChanged(GameStateChanged event)
+	{
+		if (event.getGameState() == GameState.LOADING)
+		{
+			gameObjects.clear();
+			wallObjects.clear();
+			decorativeObjects.clear();
+			groundObjects.clear();
+		}
+	}
+
+	@Subscribe
+	public void onGameObjectSpawned(GameObjectSpawned event)
+	{
+		addGameObject(event.getTile(), event.getGameObject());
+	}
+
+	@Subscribe
+	public void onGameObjectChanged(GameObjectChanged event)
+	{
+		removeGameObject(event.getTile(), event.getPrevious());
+		addGameObject(event.getTile(), event.getGameObject());
+	}
+
+	@Subscribe
+	public void onGameObjectDespawned(GameObjectDespawned event)
+	{
+		removeGameObject(event.getTile(), event.getGameObject());
+	}
+
+	@Subscribe
+	public void onWallObjectSpawned(WallObjectSpawned event)
+	{
+		add(wallObjects, event.getTile(), event.getWallObject());
+	}
+
+	@Subscribe
+	public void onWallObjectChanged(WallObjectChanged event)
+	{
+		remove(wallObjects, event.getTile(), event.getPrevious());
+		add(wallObjects, event.getTile(), event.getWallObject());
+	}
+
+	@Subscribe
+	public void onWallObjectDespawned(WallObjectDespawned event)
+	{
+		remove(wallObjects, event.getTile(), event.getWallObject());
+	}
+
+	@Subscribe
+	public void onDecorativeObjectSpawned(DecorativeObjectSpawned event)
+	{
+		add(decorativeObjects, event.getTile(), event.getDecorativeObject());
+	}
+
+	@Subscribe
+	public void onDecorativeObjectChanged(DecorativeObjectChanged event)
+	{
+		remove(decorativeObjects, event.getTile(), event.getPrevious());
+		add(decorativeObjects, event.getTile(), event.getDecorativeObject());
+	}
+
+	@Subscribe
+	public void onDecorativeObjectDespawned(DecorativeObjectDespawned event)
+	{
+		remove(decorativeObjects, event.getTile(), event.getDecorativeObject());
+	}
+
+	@Subscribe
+	public void onGroundObjectSpawned(GroundObjectSpawned event)
+	{
+		add(groundObjects, event.getTile(), event.getGroundObject());
+	}
+
+	@Subscribe
+	public void onGroundObjectChanged(GroundObjectChanged event)
+	{
+		remove(groundObjects, event.getTile(), event.getPrevious());
+		add(groundObjects, event.getTile(), event.getGroundObject());
+	}
+
+	@Subscribe
+	public void onGroundObjectDespawned(GroundObjectDespawned event)
+	{
+		remove(groundObjects, event.getTile(), event.getGroundObject());
+	}
+
+	private void addGameObject(Tile tile, GameObject object)
+	{
+		if (tile == null || object == null)
+		{
+			return;
+		}
+
+		// A spawn is only fired for the first tile of objects larger than
+		// one tile, so index them on every tile they cover from here
+		final Point min = object.getRegionMinLocation();
+		final Point max = object.getRegionMaxLocation();
+		gameObjects.add(tile.getPlane(), min.getX(), min.getY(), max.getX(), max.getY(), object);
+	}
+
+	private void removeGameObject(Tile tile, GameObject object)
+	{
+		if (tile == null || object == null)
+		{
+			return;
+		}
+
+		final Point min = object.getRegionMinLocation();
+		final Point max = object.getRegionMaxLocation();
+		gameObjects.remove(tile.getPlane(), min.getX(), min.getY(), max.getX(), max.getY(), object);
+	}
+
+	private static <T extends TileObject> void add(ObjectTable<T> table, Tile tile, T object)
+	{
+		if (tile == null || object == null)
+		{
+			return;
+		}
+
+		final Point location = tile.getRegionLocation();
+		table.add(tile.getPlane(), location.getX(), location.getY(), location.getX(), location.getY(), object);
+	}
+
+	private static <T extends TileObject> void remove(ObjectTable<T> table, Tile tile, T object)
+	{
+		if (tile == null || object == null)
+		{
+			return;
+		}
+
+		final Point location = tile.getRegionLocation();
+		table.remove(tile.getPlane(), location.getX(), location.getY(), location.getX(), location.getY(), object);
+	}
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2018, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import com.google.common.eventbus.Subscribe;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import net.runelite.api.Client;
+import net.runelite.api.Varbits;
+import net.runelite.api.events.VarbitChanged;
+import net.runelite.client.callback.ClientThread;
+
+/**
+ * Notifies listeners when specific varbits change. Registrations are indexed
+ * by the varp holding their varbit, so a varp write only checks the varbits
+ * stored in that varp, and listeners are only called when the bits they are
+ * registered for actually change.
+ * <p>
+ * Listeners may be registered from any thread, and are called on the client thread.
+ * The value each listener compares against is read on the client thread when
+ * it is registered.
+ */
+@Singleton
+public class VarbitManager
+{
+	private static class Registration
+	{
+		private final Varbits varbit;
+		private final VarbitListener listener;
+		private int value;
+
+		private Registration(Varbits varbit, VarbitListener listener)
+		{
+			this.varbit = varbit;
+			this.listener = listener;
+		}
+	}
+
+	private final Client client;
+	private final ClientThread clientThread;
+
+	/**
+	 * Registrations whose varp index and value have not been read yet. This has
+	 * to be done on the client thread, which is asked to do it on registration.
+	 */
+	private final List<Registration> pending = new ArrayList<>();
+
+	/**
+	 * Registrations by the index of the varp their varbit is stored in
+	 */
+	private final Map<Integer, List<Registration>> byVarp = new HashMap<>();
+
+	@Inject
+	private VarbitManager(Client client, ClientThread clientThread)
+	{
+		this.client = client;
+		this.clientThread = clientThread;
+	}
+
+	/**
+	 * Registers a listener to be notified when any of {@code varbits} change
+	 *
+	 * @param listener the listener
+	 * @param varbits the varbits to listen to
+	 */
+	public synchronized void registerVarbitListener(VarbitListener listener, Varbits... varbits)
+	{
+		for (Varbits varbit : varbits)
+		{
+			pending.add(new Registration(varbit, listener));
+		}
+
+		clientThread.invokeLater(this::resolvePending);
+	}
+
+	/**
+	 * Unregisters a listener from all of the varbits it was registered for
+	 *
+	 * @param listener the listener
+	 */
+	public synchronized void unregisterVarbitListener(VarbitListener listener)
+	{
+		pending.removeIf(registration -> registration.listener == listener);
+
+		final Iterator<List<Registration>> it = byVarp.values().iterator();
+		while (it.hasNext())
+		{
+			final List<Registration> registrations = it.next();
+			registrations.removeIf(registration -> registration.listener == listener);
+			if (registrations.isEmpty())
+			{
+				it.remove();
+			}
+		}
+	}
+
+	@Subscribe
+	public void onVarbitChanged(VarbitChanged event)
+	{
+		final List<Registration> changed = new ArrayList<>();
+
+		synchronized (this)
+		{
+			if (event.getIndex() == -1)
+			{
+				// it is not known which varp changed, so every varbit has to be checked
+				for (List<Registration> registrations : byVarp.values())
+				{
+					check(registrations, changed);
+				}
+			}
+			else
+			{
+				final List<Registration> registrations = byVarp.get(event.getIndex());
+				if (registrations != null)
+				{
+					check(registrations, changed);
+				}
+			}
+		}
+
+		// listeners are called outside of the lock, so they may register and unregister
+		for (Registration registration : changed)
+		{
+			final int oldValue = registration.value;
+			registration.value = client.getVarbitValue(registration.varbit.getId());
+			registration.listener.varbitChanged(registration.varbit, oldValue, registration.value);
+		}
+	}
+
+	private synchronized void resolvePending()
+	{
+		for (Registration registration : pending)
+		{
+			final int varbitId = registration.varbit.getId();
+			registration.value = client.getVarbitValue(varbitId);
+			byVarp.computeIfAbsent(client.getVarbitVarpIndex(varbitId), k -> new ArrayList<>(1)).add(registration);
+		}
+
+		pending.clear();
+	}
+
+	private void check(List<Registration> registrations, List<Registration> changed)
+	{
+		for (Registration registration : registrations)
+		{
+			if (client.getVarbitValue(registration.varbit.getId()) != registration.value)
+			{
+				changed.add(registration);
+			}
+		}
+	}
+}
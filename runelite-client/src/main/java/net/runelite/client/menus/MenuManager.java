@@ -148,7 +148,7 @@ public class MenuManager
 			return false;
 		}
 
-		for (MenuEntry menuEntry : client.getMenuEntries())
+		for (MenuEntry menuEntry : client.getMenuEntriesView())
 		{
 			String option = menuEntry.getOption();
 			String target = menuEntry.getTarget();
@@ -34,6 +34,7 @@ import com.google.common.graph.Graphs;
 import com.google.common.graph.MutableGraph;
 import com.google.common.reflect.ClassPath;
 import com.google.common.reflect.ClassPath.ClassInfo;
+import com.google.common.util.concurrent.MoreExecutors;
 import com.google.inject.Binder;
 import com.google.inject.CreationException;
 import com.google.inject.Inject;
@@ -50,7 +51,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 import javax.inject.Singleton;
 import javax.swing.SwingUtilities;
@@ -64,6 +65,7 @@ import net.runelite.client.config.ConfigGroup;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.config.RuneLiteConfig;
 import net.runelite.client.events.PluginChanged;
+import net.runelite.client.task.ExecutorPools;
 import net.runelite.client.task.Schedule;
 import net.runelite.client.task.ScheduledMethod;
 import net.runelite.client.task.Scheduler;
@@ -87,8 +89,7 @@ public class PluginManager
 	@Inject
 	ConfigManager configManager;
 
-	@Inject
-	ScheduledExecutorService executor;
+	private Executor executor;
 
 	@Inject
 	RegionTileManager regionTileManager;
@@ -101,6 +102,13 @@ public class PluginManager
 	private final String runeliteGroupName = RuneLiteConfig.class
 			.getAnnotation(ConfigGroup.class).keyName();
 
+	@Inject
+	void setExecutorPools(ExecutorPools executorPools)
+	{
+		// plugins are started and stopped one at a time, off the timer as starting them can block
+		executor = MoreExecutors.sequentialExecutor(executorPools.getIoExecutor());
+	}
+
 	@Subscribe
 	public void onSessionOpen(SessionOpen event)
 	{
@@ -117,7 +125,7 @@ public class PluginManager
 	{
 		loadDefaultPluginConfiguration();
 		getPlugins()
-			.forEach(plugin -> executor.submit(() ->
+			.forEach(plugin -> executor.execute(() ->
 			{
 				try
 				{
@@ -27,7 +27,7 @@ package net.runelite.client.plugins.account;
 import com.google.common.eventbus.Subscribe;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ExecutorService;
 import javax.imageio.ImageIO;
 import javax.inject.Inject;
 import javax.swing.JOptionPane;
@@ -56,7 +56,7 @@ public class AccountPlugin extends Plugin
 	private TitleToolbar titleToolbar;
 
 	@Inject
-	private ScheduledExecutorService executor;
+	private ExecutorService executor;
 
 	private NavigationButton loginButton;
 	private NavigationButton logoutButton;
@@ -39,6 +39,11 @@ public class AttackStylesOverlay extends Overlay
 	private final AttackStylesConfig config;
 	private final PanelComponent panelComponent = new PanelComponent();
 
+	// What was shown on the last frame, so unchanged frames can be drawn from the render cache
+	private AttackStyle renderedStyle;
+	private boolean renderedWarning;
+	private boolean renderedAlwaysShow;
+
 	@Inject
 	public AttackStylesOverlay(AttackStylesPlugin plugin, AttackStylesConfig config)
 	{
@@ -47,15 +52,26 @@ public class AttackStylesOverlay extends Overlay
 		this.config = config;
 	}
 
+	@Override
+	public boolean isUnchanged()
+	{
+		return plugin.getAttackStyle() == renderedStyle
+			&& plugin.isWarnedSkillSelected() == renderedWarning
+			&& config.alwaysShowStyle() == renderedAlwaysShow;
+	}
+
 	@Override
 	public Dimension render(Graphics2D graphics)
 	{
 		panelComponent.getChildren().clear();
 		boolean warnedSkillSelected = plugin.isWarnedSkillSelected();
+		renderedStyle = plugin.getAttackStyle();
+		renderedWarning = warnedSkillSelected;
+		renderedAlwaysShow = config.alwaysShowStyle();
 
-		if (warnedSkillSelected || config.alwaysShowStyle())
+		if (warnedSkillSelected || renderedAlwaysShow)
 		{
-			final String attackStyleString = plugin.getAttackStyle().getName();
+			final String attackStyleString = renderedStyle.getName();
 
 			panelComponent.getChildren().add(TitleComponent.builder()
 				.text(attackStyleString)
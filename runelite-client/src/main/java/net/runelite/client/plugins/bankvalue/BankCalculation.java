@@ -24,34 +24,59 @@
  */
 package net.runelite.client.plugins.bankvalue;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.concurrent.CompletableFuture;
+import java.util.Arrays;
 import javax.inject.Inject;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
-import net.runelite.api.ItemComposition;
+import net.runelite.api.Item;
 import static net.runelite.api.ItemID.COINS_995;
 import static net.runelite.api.ItemID.PLATINUM_TOKEN;
-import net.runelite.api.queries.BankItemQuery;
-import net.runelite.api.widgets.WidgetItem;
 import net.runelite.client.game.ItemManager;
-import net.runelite.client.util.QueryRunner;
 import net.runelite.http.api.item.ItemPrice;
 
+/**
+ * Keeps the value of the bank up to date as it changes. The item, quantity
+ * and unit prices of each bank slot are kept, so a change to the bank only
+ * reprices the slots which changed, and a change of price is applied to the
+ * totals as the difference from the old price.
+ * <p>
+ * A total is also kept for each bank tab. The bank holds the items of tabs
+ * one to nine first, in order, followed by the items which are in no tab.
+ */
 @Slf4j
 class BankCalculation
 {
 	private static final float HIGH_ALCHEMY_CONSTANT = 0.6f;
 
-	private final QueryRunner queryRunner;
+	/**
+	 * Number of bank tabs, not counting the items which are in no tab
+	 */
+	static final int TAB_COUNT = 9;
+
 	private final BankValueConfig config;
 	private final ItemManager itemManager;
 
-	// Used to avoid extra calculation if the bank has not changed
-	private int itemsHash;
+	private int[] itemIds = new int[0];
+	private int[] quantities = new int[0];
+	private int[] gePrices = new int[0];
+	private int[] haPrices = new int[0];
+
+	/**
+	 * Slots whose exchange price has not been looked up yet
+	 */
+	private boolean[] pending = new boolean[0];
+	private int pendingCount;
+
+	/**
+	 * Number of items in each tab
+	 */
+	private final int[] tabSizes = new int[TAB_COUNT];
+
+	/**
+	 * Totals of each tab, with index 0 for the items which are in no tab
+	 */
+	private final long[] tabGePrices = new long[TAB_COUNT + 1];
+	private final long[] tabHaPrices = new long[TAB_COUNT + 1];
 
 	@Getter
 	private long gePrice;
@@ -59,149 +84,287 @@ class BankCalculation
 	@Getter
 	private long haPrice;
 
-	@Getter
-	private boolean finished;
-
 	@Inject
-	BankCalculation(QueryRunner queryRunner, ItemManager itemManager, BankValueConfig config)
+	BankCalculation(ItemManager itemManager, BankValueConfig config)
 	{
-		this.queryRunner = queryRunner;
 		this.itemManager = itemManager;
 		this.config = config;
 	}
 
 	/**
-	 * Calculate the bank based on the cache, price can be 0 if bank not active, or cache not set
+	 * Whether the exchange price of every item in the bank is known
+	 */
+	boolean isFinished()
+	{
+		return pendingCount == 0 || !config.showGE();
+	}
+
+	/**
+	 * Whether the contents of the bank are known
+	 */
+	boolean isEmpty()
+	{
+		return itemIds.length == 0;
+	}
+
+	void reset()
+	{
+		itemIds = new int[0];
+		quantities = new int[0];
+		gePrices = new int[0];
+		haPrices = new int[0];
+		pending = new boolean[0];
+		pendingCount = 0;
+		gePrice = haPrice = 0;
+		Arrays.fill(tabSizes, 0);
+		Arrays.fill(tabGePrices, 0);
+		Arrays.fill(tabHaPrices, 0);
+	}
+
+	/**
+	 * Gets the exchange value of a bank tab
+	 *
+	 * @param tab the tab from one to nine, or 0 for the whole bank
 	 */
-	void calculate()
+	long getGePrice(int tab)
 	{
-		WidgetItem[] widgetItems = queryRunner.runQuery(new BankItemQuery());
+		return tab > 0 && tab <= TAB_COUNT ? tabGePrices[tab] : gePrice;
+	}
+
+	/**
+	 * Gets the high alchemy value of a bank tab
+	 *
+	 * @param tab the tab from one to nine, or 0 for the whole bank
+	 */
+	long getHaPrice(int tab)
+	{
+		return tab > 0 && tab <= TAB_COUNT ? tabHaPrices[tab] : haPrice;
+	}
 
-		if (widgetItems.length == 0 || !isBankDifferent(widgetItems))
+	/**
+	 * Sets the number of items in each tab, moving the slots between the tab totals if they changed
+	 *
+	 * @param sizes the number of items in tabs one to nine
+	 */
+	void setTabSizes(int[] sizes)
+	{
+		if (Arrays.equals(tabSizes, sizes))
 		{
 			return;
 		}
 
-		log.debug("Calculating new bank value...");
+		System.arraycopy(sizes, 0, tabSizes, 0, TAB_COUNT);
 
-		gePrice = haPrice = 0;
-		finished = false;
+		Arrays.fill(tabGePrices, 0);
+		Arrays.fill(tabHaPrices, 0);
+		for (int slot = 0; slot < itemIds.length; ++slot)
+		{
+			final int tab = tabOf(slot);
+			tabGePrices[tab] += (long) gePrices[slot] * quantities[slot];
+			tabHaPrices[tab] += (long) haPrices[slot] * quantities[slot];
+		}
+	}
 
-		List<ItemComposition> itemCompositions = new ArrayList<>();
-		Map<Integer, WidgetItem> itemMap = new HashMap<>();
-		List<Integer> itemIds = new ArrayList<>();
+	/**
+	 * Updates the value from the contents of the bank, repricing only the slots which changed
+	 *
+	 * @param items the items in the bank
+	 */
+	void update(Item[] items)
+	{
+		if (items.length != itemIds.length)
+		{
+			resize(items.length);
+		}
 
-		// Generate our lists (and do some quick price additions)
-		for (WidgetItem widgetItem : widgetItems)
+		int changed = 0;
+		for (int slot = 0; slot < items.length; ++slot)
 		{
-			if (widgetItem.getId() <= 0 || widgetItem.getQuantity() == 0)
+			final Item item = items[slot];
+			final int itemId = item == null ? -1 : item.getId();
+			final int quantity = item == null ? 0 : item.getQuantity();
+
+			if (itemIds[slot] == itemId && quantities[slot] == quantity)
 			{
 				continue;
 			}
 
-			if (widgetItem.getId() == COINS_995)
+			final int tab = tabOf(slot);
+			addSlot(slot, tab, -1);
+
+			itemIds[slot] = itemId;
+			quantities[slot] = quantity;
+			priceSlot(slot);
+
+			addSlot(slot, tab, 1);
+			++changed;
+		}
+
+		log.debug("Bank changed, {} slots repriced", changed);
+	}
+
+	/**
+	 * Applies newly looked up exchange prices to the value
+	 *
+	 * @param all whether to check every slot for a price change, or only those
+	 * which have no price yet
+	 */
+	void refreshPrices(boolean all)
+	{
+		if (!config.showGE() || (!all && pendingCount == 0))
+		{
+			return;
+		}
+
+		for (int slot = 0; slot < itemIds.length; ++slot)
+		{
+			if (!all && !pending[slot])
 			{
-				gePrice += widgetItem.getQuantity();
-				haPrice += widgetItem.getQuantity();
 				continue;
 			}
 
-			if (widgetItem.getId() == PLATINUM_TOKEN)
+			final int itemId = itemIds[slot];
+			if (itemId <= 0 || quantities[slot] == 0 || itemId == COINS_995 || itemId == PLATINUM_TOKEN)
 			{
-				gePrice += widgetItem.getQuantity() * 1000L;
-				haPrice += widgetItem.getQuantity() * 1000L;
 				continue;
 			}
 
-			final ItemComposition itemComposition = itemManager.getItemComposition(widgetItem.getId());
-			itemCompositions.add(itemComposition);
-			itemMap.put(widgetItem.getId(), widgetItem);
-
-			if (config.showGE())
+			final int oldPrice = gePrices[slot];
+			if (lookupGePrice(slot))
 			{
-				itemIds.add(widgetItem.getId());
+				final long delta = (long) (gePrices[slot] - oldPrice) * quantities[slot];
+				gePrice += delta;
+				tabGePrices[tabOf(slot)] += delta;
 			}
 		}
+	}
 
-		// Now do the calculations
-		if (config.showGE() && !itemIds.isEmpty())
+	/**
+	 * Adds or removes the value of a slot to the totals
+	 *
+	 * @param sign 1 to add the value, -1 to remove it
+	 */
+	private void addSlot(int slot, int tab, int sign)
+	{
+		final long ge = sign * (long) gePrices[slot] * quantities[slot];
+		final long ha = sign * (long) haPrices[slot] * quantities[slot];
+		gePrice += ge;
+		haPrice += ha;
+		tabGePrices[tab] += ge;
+		tabHaPrices[tab] += ha;
+	}
+
+	/**
+	 * Gets the tab a slot is in
+	 *
+	 * @return the tab from one to nine, or 0 if the slot is in no tab
+	 */
+	private int tabOf(int slot)
+	{
+		int end = 0;
+		for (int tab = 0; tab < TAB_COUNT; ++tab)
 		{
-			CompletableFuture<ItemPrice[]> future = itemManager.getItemPriceBatch(itemIds);
-			future.whenComplete((ItemPrice[] itemPrices, Throwable ex) ->
+			end += tabSizes[tab];
+			if (slot < end)
 			{
-				if (ex != null)
-				{
-					log.debug("Error looking up item prices", ex);
-					return;
-				}
-
-				if (itemPrices == null)
-				{
-					log.debug("Error looking up item prices");
-					return;
-				}
-
-				log.debug("Price lookup is complete. {} prices.", itemPrices.length);
-
-				try
-				{
-					for (ItemPrice itemPrice : itemPrices)
-					{
-						if (itemPrice.getItem() == null)
-						{
-							continue; // cached no price
-						}
-
-						gePrice += (long) itemPrice.getPrice() * (long) itemMap.get(itemPrice.getItem().getId()).getQuantity();
-					}
-				}
-				catch (Exception ex2)
-				{
-					log.warn("error calculating price", ex2);
-				}
-				finally
-				{
-					finished = true;
-				}
-			});
-		}
-		else
-		{
-			finished = true;
-		}
-
-		if (config.showHA())
-		{
-			for (ItemComposition itemComposition : itemCompositions)
-			{
-				int price = itemComposition.getPrice();
-
-				if (price > 0)
-				{
-					haPrice += (long) Math.round(price * HIGH_ALCHEMY_CONSTANT) *
-						(long) itemMap.get(itemComposition.getId()).getQuantity();
-				}
+				return tab + 1;
 			}
 		}
+
+		return 0;
+	}
+
+	/**
+	 * Looks up the unit prices of the item in a slot
+	 */
+	private void priceSlot(int slot)
+	{
+		final int itemId = itemIds[slot];
+
+		if (pending[slot])
+		{
+			pending[slot] = false;
+			--pendingCount;
+		}
+
+		if (itemId <= 0 || quantities[slot] == 0)
+		{
+			gePrices[slot] = haPrices[slot] = 0;
+			return;
+		}
+
+		if (itemId == COINS_995)
+		{
+			gePrices[slot] = haPrices[slot] = 1;
+			return;
+		}
+
+		if (itemId == PLATINUM_TOKEN)
+		{
+			gePrices[slot] = haPrices[slot] = 1000;
+			return;
+		}
+
+		final int price = itemManager.getItemComposition(itemId).getPrice();
+		haPrices[slot] = price > 0 ? Math.round(price * HIGH_ALCHEMY_CONSTANT) : 0;
+
+		gePrices[slot] = 0;
+		if (!config.showGE() || !lookupGePrice(slot))
+		{
+			pending[slot] = true;
+			++pendingCount;
+		}
 	}
 
-	private boolean isBankDifferent(WidgetItem[] widgetItems)
+	/**
+	 * Sets the exchange price of the item in a slot, if it has been looked up
+	 *
+	 * @return whether the price has been looked up
+	 */
+	private boolean lookupGePrice(int slot)
 	{
-		Map<Integer, Integer> mapCheck = new HashMap<>();
+		final int itemId = itemIds[slot];
+		final ItemPrice itemPrice = itemManager.getItemPriceAsync(itemId);
 
-		for (WidgetItem widgetItem : widgetItems)
+		if (itemPrice == null && !itemManager.isItemPriceLoaded(itemId))
 		{
-			mapCheck.put(widgetItem.getId(), widgetItem.getQuantity());
+			return false;
 		}
 
-		int curHash = mapCheck.hashCode();
+		if (pending[slot])
+		{
+			pending[slot] = false;
+			--pendingCount;
+		}
+
+		gePrices[slot] = itemPrice == null ? 0 : itemPrice.getPrice();
+		return true;
+	}
 
-		if (curHash != itemsHash)
+	private void resize(int size)
+	{
+		// slots past the new end no longer hold anything
+		for (int slot = size; slot < itemIds.length; ++slot)
 		{
-			itemsHash = curHash;
-			return true;
+			addSlot(slot, tabOf(slot), -1);
+
+			if (pending[slot])
+			{
+				--pendingCount;
+			}
 		}
 
-		return false;
+		final int oldSize = itemIds.length;
+		itemIds = Arrays.copyOf(itemIds, size);
+		quantities = Arrays.copyOf(quantities, size);
+		gePrices = Arrays.copyOf(gePrices, size);
+		haPrices = Arrays.copyOf(haPrices, size);
+		pending = Arrays.copyOf(pending, size);
+
+		if (size > oldSize)
+		{
+			// new slots start out as different from any item, so they are priced
+			Arrays.fill(itemIds, oldSize, size, Integer.MIN_VALUE);
+		}
 	}
 }
@@ -29,7 +29,13 @@ import com.google.common.eventbus.Subscribe;
 import com.google.inject.Provides;
 import javax.inject.Inject;
 import net.runelite.api.Client;
+import net.runelite.api.GameState;
+import net.runelite.api.InventoryID;
+import net.runelite.api.ItemContainer;
+import net.runelite.api.Varbits;
+import net.runelite.api.events.GameStateChanged;
 import net.runelite.api.events.GameTick;
+import net.runelite.api.events.ItemContainerChanged;
 import net.runelite.api.widgets.Widget;
 import net.runelite.api.widgets.WidgetInfo;
 import net.runelite.client.config.ConfigManager;
@@ -39,6 +45,23 @@ import net.runelite.client.plugins.PluginDescriptor;
 @PluginDescriptor(name = "Bank Value")
 public class BankValuePlugin extends Plugin
 {
+	/**
+	 * How often to check the bank for changed exchange prices while it is open
+	 */
+	private static final int PRICE_REFRESH_TICKS = 100;
+
+	private static final Varbits[] TAB_SIZE_VARBITS = {
+		Varbits.BANK_TAB_ONE_COUNT,
+		Varbits.BANK_TAB_TWO_COUNT,
+		Varbits.BANK_TAB_THREE_COUNT,
+		Varbits.BANK_TAB_FOUR_COUNT,
+		Varbits.BANK_TAB_FIVE_COUNT,
+		Varbits.BANK_TAB_SIX_COUNT,
+		Varbits.BANK_TAB_SEVEN_COUNT,
+		Varbits.BANK_TAB_EIGHT_COUNT,
+		Varbits.BANK_TAB_NINE_COUNT
+	};
+
 	@Inject
 	private Client client;
 
@@ -48,6 +71,9 @@ public class BankValuePlugin extends Plugin
 	@Inject
 	private BankTitle bankTitle;
 
+	private final int[] tabSizes = new int[BankCalculation.TAB_COUNT];
+	private int refreshTicks;
+
 	@Provides
 	BankValueConfig getConfig(ConfigManager configManager)
 	{
@@ -58,6 +84,27 @@ public class BankValuePlugin extends Plugin
 	protected void shutDown()
 	{
 		bankTitle.reset();
+		bankCalculation.reset();
+	}
+
+	@Subscribe
+	public void onGameStateChanged(GameStateChanged event)
+	{
+		if (event.getGameState() == GameState.LOGIN_SCREEN)
+		{
+			bankCalculation.reset();
+		}
+	}
+
+	@Subscribe
+	public void onItemContainerChanged(ItemContainerChanged event)
+	{
+		final ItemContainer itemContainer = event.getItemContainer();
+		if (itemContainer == client.getItemContainer(InventoryID.BANK))
+		{
+			updateTabSizes();
+			bankCalculation.update(itemContainer.getItems());
+		}
 	}
 
 	@Subscribe
@@ -70,24 +117,44 @@ public class BankValuePlugin extends Plugin
 			return;
 		}
 
+		// items may have been moved between tabs without the bank changing
+		updateTabSizes();
+
+		if (bankCalculation.isEmpty())
+		{
+			// the plugin was started with the bank already open
+			final ItemContainer bank = client.getItemContainer(InventoryID.BANK);
+			if (bank != null)
+			{
+				bankCalculation.update(bank.getItems());
+			}
+		}
+
+		if (++refreshTicks >= PRICE_REFRESH_TICKS)
+		{
+			refreshTicks = 0;
+			bankCalculation.refreshPrices(true);
+		}
+		else
+		{
+			bankCalculation.refreshPrices(false);
+		}
+
 		bankTitle.save();
-		calculate(widgetBankTitleBar);
 		if (bankCalculation.isFinished())
 		{
-			bankTitle.update(bankCalculation.getGePrice(), bankCalculation.getHaPrice());
+			final int tab = client.getVar(Varbits.CURRENT_BANK_TAB);
+			bankTitle.update(bankCalculation.getGePrice(tab), bankCalculation.getHaPrice(tab));
 		}
 	}
 
-	private void calculate(Widget bankTitleBar)
+	private void updateTabSizes()
 	{
-		// Don't update on a search because rs seems to constantly update the title
-		if (bankTitleBar == null ||
-			bankTitleBar.isHidden() ||
-			bankTitleBar.getText().contains("Showing"))
+		for (int i = 0; i < TAB_SIZE_VARBITS.length; ++i)
 		{
-			return;
+			tabSizes[i] = client.getVar(TAB_SIZE_VARBITS[i]);
 		}
 
-		bankCalculation.calculate();
+		bankCalculation.setTabSizes(tabSizes);
 	}
 }
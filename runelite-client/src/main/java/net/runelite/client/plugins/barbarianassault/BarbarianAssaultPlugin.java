@@ -39,9 +39,10 @@ import net.runelite.api.MenuEntry;
 import net.runelite.api.Varbits;
 import net.runelite.api.events.ChatMessage;
 import net.runelite.api.events.GameTick;
-import net.runelite.api.events.VarbitChanged;
 import net.runelite.api.kit.KitType;
 import net.runelite.client.config.ConfigManager;
+import net.runelite.client.game.VarbitListener;
+import net.runelite.client.game.VarbitManager;
 import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.PluginDescriptor;
 import net.runelite.client.ui.FontManager;
@@ -58,7 +59,6 @@ public class BarbarianAssaultPlugin extends Plugin
 
 	private Font font;
 	private Image clockImage;
-	private int inGameBit = 0;
 
 	@Inject
 	private Client client;
@@ -69,6 +69,18 @@ public class BarbarianAssaultPlugin extends Plugin
 	@Inject
 	private BarbarianAssaultOverlay overlay;
 
+	@Inject
+	private VarbitManager varbitManager;
+
+	private final VarbitListener inGameListener = (varbit, oldValue, newValue) ->
+	{
+		if (oldValue == 1)
+		{
+			// end of game
+			overlay.setCurrentRound(null);
+		}
+	};
+
 	@Provides
 	BarbarianAssaultConfig provideConfig(ConfigManager configManager)
 	{
@@ -85,6 +97,14 @@ public class BarbarianAssaultPlugin extends Plugin
 		{
 			clockImage = ImageIO.read(getClass().getResourceAsStream("clock.png"));
 		}
+
+		varbitManager.registerVarbitListener(inGameListener, Varbits.IN_GAME_BA);
+	}
+
+	@Override
+	protected void shutDown() throws Exception
+	{
+		varbitManager.unregisterVarbitListener(inGameListener);
 	}
 
 	@Subscribe
@@ -112,20 +132,6 @@ public class BarbarianAssaultPlugin extends Plugin
 		}
 	}
 
-	@Subscribe
-	public void onVarbitChange(VarbitChanged event)
-	{
-		int inGame = client.getVar(Varbits.IN_GAME_BA);
-
-		if (inGameBit != inGame && inGameBit == 1)
-		{
-			// end of game
-			overlay.setCurrentRound(null);
-		}
-
-		inGameBit = inGame;
-	}
-
 	@Subscribe
 	public void onMessageEvent(ChatMessage event)
 	{
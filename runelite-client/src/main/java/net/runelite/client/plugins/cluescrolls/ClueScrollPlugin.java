@@ -49,9 +49,8 @@ import net.runelite.api.Item;
 import net.runelite.api.ItemComposition;
 import net.runelite.api.ItemContainer;
 import net.runelite.api.NPC;
+import net.runelite.api.Point;
 import net.runelite.api.Query;
-import net.runelite.api.Region;
-import net.runelite.api.Tile;
 import net.runelite.api.coords.LocalPoint;
 import net.runelite.api.coords.WorldPoint;
 import net.runelite.api.events.ChatMessage;
@@ -60,6 +59,7 @@ import net.runelite.api.events.GameStateChanged;
 import net.runelite.api.events.GameTick;
 import net.runelite.api.events.ItemContainerChanged;
 import net.runelite.api.events.MenuOptionClicked;
+import net.runelite.api.queries.GameObjectQuery;
 import net.runelite.api.queries.InventoryItemQuery;
 import net.runelite.api.queries.NPCQuery;
 import net.runelite.api.widgets.Widget;
@@ -326,12 +326,13 @@ public class ClueScrollPlugin extends Plugin
 
 					if (localLocation != null)
 					{
-						final Region region = client.getRegion();
-						final Tile[][][] tiles = region.getTiles();
-						final Tile tile = tiles[client.getPlane()][localLocation.getRegionX()][localLocation.getRegionY()];
+						final int x = localLocation.getRegionX();
+						final int y = localLocation.getRegionY();
 
-						objectsToMark = Arrays.stream(tile.getGameObjects())
-							.filter(object -> object != null && object.getId() == objectId)
+						final GameObject[] objects = queryRunner.runQuery(new GameObjectQuery().idEquals(objectId));
+
+						objectsToMark = Arrays.stream(objects)
+							.filter(object -> occupies(object, x, y))
 							.toArray(GameObject[]::new);
 
 						// Set hint arrow to first object found as there can only be 1 hint arrow
@@ -577,4 +578,11 @@ public class ClueScrollPlugin extends Plugin
 			worldMapPointManager.add(new ClueScrollWorldMapPoint(point));
 		}
 	}
+
+	private static boolean occupies(GameObject object, int x, int y)
+	{
+		final Point min = object.getRegionMinLocation();
+		final Point max = object.getRegionMaxLocation();
+		return x >= min.getX() && x <= max.getX() && y >= min.getY() && y <= max.getY();
+	}
 }
@@ -44,14 +44,19 @@ public class DevToolsPanel extends PluginPanel
 	private final VarTracker varTracker;
 
 	private WidgetInspector widgetInspector;
+	private ExecutorInspector executorInspector;
+	private ProfilerInspector profilerInspector;
 
 	@Inject
-	public DevToolsPanel(Client client, DevToolsPlugin plugin, WidgetInspector widgetInspector)
+	public DevToolsPanel(Client client, DevToolsPlugin plugin, WidgetInspector widgetInspector, ExecutorInspector executorInspector,
+		ProfilerInspector profilerInspector)
 	{
 		super();
 		this.client = client;
 		this.plugin = plugin;
 		this.widgetInspector = widgetInspector;
+		this.executorInspector = executorInspector;
+		this.profilerInspector = profilerInspector;
 
 		setBackground(ColorScheme.DARK_GRAY_COLOR);
 
@@ -202,6 +207,14 @@ public class DevToolsPanel extends PluginPanel
 		});
 		container.add(graphicsObjectsBtn);
 
+		final JButton executorInspectorBtn = new JButton("Executors");
+		executorInspectorBtn.addActionListener(e -> executorInspector.open());
+		container.add(executorInspectorBtn);
+
+		final JButton profilerBtn = new JButton("Profiler");
+		profilerBtn.addActionListener(e -> profilerInspector.open());
+		container.add(profilerBtn);
+
 		return container;
 	}
 
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2018, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.devtools;
+
+import java.awt.BorderLayout;
+import java.awt.Dimension;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.util.List;
+import javax.inject.Inject;
+import javax.swing.JFrame;
+import javax.swing.JScrollPane;
+import javax.swing.JTable;
+import javax.swing.Timer;
+import javax.swing.table.AbstractTableModel;
+import net.runelite.client.task.ExecutorMetrics;
+import net.runelite.client.task.ExecutorPools;
+import net.runelite.client.task.MonitoredExecutor;
+import net.runelite.client.ui.ClientUI;
+
+class ExecutorInspector extends JFrame
+{
+	private static final int REFRESH_INTERVAL_MS = 1000;
+
+	private static final String[] COLUMNS =
+	{
+		"Pool", "Threads", "Queue", "Submitted", "Completed", "Saturated",
+		"Avg wait ms", "Max wait ms", "Avg run ms", "Max run ms"
+	};
+
+	private final List<MonitoredExecutor> executors;
+	private final AbstractTableModel tableModel;
+	private final Timer refreshTimer;
+
+	@Inject
+	ExecutorInspector(ExecutorPools executorPools)
+	{
+		executors = executorPools.getExecutors();
+
+		setTitle("RuneLite Executor Inspector");
+		setIconImage(ClientUI.ICON);
+		setLayout(new BorderLayout());
+
+		tableModel = new AbstractTableModel()
+		{
+			@Override
+			public String getColumnName(int col)
+			{
+				return COLUMNS[col];
+			}
+
+			@Override
+			public int getColumnCount()
+			{
+				return COLUMNS.length;
+			}
+
+			@Override
+			public int getRowCount()
+			{
+				return executors.size();
+			}
+
+			@Override
+			public Object getValueAt(int rowIndex, int columnIndex)
+			{
+				return getValue(executors.get(rowIndex), columnIndex);
+			}
+		};
+
+		final JScrollPane scrollPane = new JScrollPane(new JTable(tableModel));
+		scrollPane.setPreferredSize(new Dimension(800, 120));
+		add(scrollPane, BorderLayout.CENTER);
+
+		refreshTimer = new Timer(REFRESH_INTERVAL_MS, e -> tableModel.fireTableDataChanged());
+
+		// Only refresh while open
+		addWindowListener(new WindowAdapter()
+		{
+			@Override
+			public void windowClosing(WindowEvent e)
+			{
+				refreshTimer.stop();
+			}
+		});
+
+		pack();
+	}
+
+	void open()
+	{
+		tableModel.fireTableDataChanged();
+		refreshTimer.start();
+		setVisible(true);
+		toFront();
+	}
+
+	private static Object getValue(MonitoredExecutor executor, int column)
+	{
+		ExecutorMetrics metrics = executor.getMetrics();
+		switch (column)
+		{
+			case 0:
+				return executor.getName();
+			case 1:
+				return executor.getActiveCount() + " / " + executor.getPoolSize();
+			case 2:
+				return executor.getSaturationThreshold() < 0
+					? Integer.toString(executor.getQueueSize())
+					: executor.getQueueSize() + " / " + executor.getSaturationThreshold();
+			case 3:
+				return metrics.getSubmitted();
+			case 4:
+				return metrics.getCompleted();
+			case 5:
+				return metrics.getSaturated();
+			case 6:
+				return String.format("%.2f", metrics.getAverageWaitMillis());
+			case 7:
+				return String.format("%.2f", metrics.getMaxWaitMillis());
+			case 8:
+				return String.format("%.2f", metrics.getAverageRunMillis());
+			case 9:
+				return String.format("%.2f", metrics.getMaxRunMillis());
+			default:
+				return null;
+		}
+	}
+}
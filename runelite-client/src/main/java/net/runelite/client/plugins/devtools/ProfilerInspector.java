@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2018, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.devtools;
+
+import java.awt.BorderLayout;
+import java.awt.Dimension;
+import java.awt.FlowLayout;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import javax.inject.Inject;
+import javax.swing.JButton;
+import javax.swing.JCheckBox;
+import javax.swing.JFileChooser;
+import javax.swing.JFrame;
+import javax.swing.JOptionPane;
+import javax.swing.JPanel;
+import javax.swing.JScrollPane;
+import javax.swing.JTable;
+import javax.swing.Timer;
+import javax.swing.table.AbstractTableModel;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.profiler.ProfileSnapshot;
+import net.runelite.client.profiler.Profiler;
+import net.runelite.client.ui.ClientUI;
+
+@Slf4j
+class ProfilerInspector extends JFrame
+{
+	private static final int REFRESH_INTERVAL_MS = 1000;
+
+	private static final String[] COLUMNS =
+	{
+		"Category", "Name", "Samples", "Mean ms", "p50 ms", "p99 ms", "Max ms"
+	};
+
+	private final Profiler profiler;
+	private final AbstractTableModel tableModel;
+	private final Timer refreshTimer;
+	private List<ProfileSnapshot> snapshots = new ArrayList<>();
+
+	@Inject
+	ProfilerInspector(Profiler profiler)
+	{
+		this.profiler = profiler;
+
+		setTitle("RuneLite Profiler");
+		setIconImage(ClientUI.ICON);
+		setLayout(new BorderLayout());
+
+		tableModel = new AbstractTableModel()
+		{
+			@Override
+			public String getColumnName(int col)
+			{
+				return COLUMNS[col];
+			}
+
+			@Override
+			public Class<?> getColumnClass(int col)
+			{
+				switch (col)
+				{
+					case 0:
+					case 1:
+						return String.class;
+					case 2:
+						return Long.class;
+					default:
+						return Double.class;
+				}
+			}
+
+			@Override
+			public int getColumnCount()
+			{
+				return COLUMNS.length;
+			}
+
+			@Override
+			public int getRowCount()
+			{
+				return snapshots.size();
+			}
+
+			@Override
+			public Object getValueAt(int rowIndex, int columnIndex)
+			{
+				return getValue(snapshots.get(rowIndex), columnIndex);
+			}
+		};
+
+		final JTable table = new JTable(tableModel);
+		table.setAutoCreateRowSorter(true);
+
+		final JScrollPane scrollPane = new JScrollPane(table);
+		scrollPane.setPreferredSize(new Dimension(900, 400));
+		add(scrollPane, BorderLayout.CENTER);
+
+		final JCheckBox enabled = new JCheckBox("Enabled", profiler.isEnabled());
+		enabled.addActionListener(e -> profiler.setEnabled(enabled.isSelected()));
+
+		final JButton reset = new JButton("Reset");
+		reset.addActionListener(e ->
+		{
+			profiler.reset();
+			refresh();
+		});
+
+		final JButton dump = new JButton("Dump");
+		dump.addActionListener(e -> dump());
+
+		final JPanel controls = new JPanel(new FlowLayout(FlowLayout.LEFT));
+		controls.add(enabled);
+		controls.add(reset);
+		controls.add(dump);
+		add(controls, BorderLayout.NORTH);
+
+		refreshTimer = new Timer(REFRESH_INTERVAL_MS, e -> refresh());
+
+		// Only refresh while open
+		addWindowListener(new WindowAdapter()
+		{
+			@Override
+			public void windowClosing(WindowEvent e)
+			{
+				refreshTimer.stop();
+			}
+		});
+
+		pack();
+	}
+
+	void open()
+	{
+		refresh();
+		refreshTimer.start();
+		setVisible(true);
+		toFront();
+	}
+
+	private void refresh()
+	{
+		snapshots = profiler.snapshot();
+		tableModel.fireTableDataChanged();
+	}
+
+	private void dump()
+	{
+		final JFileChooser fileChooser = new JFileChooser();
+		fileChooser.setSelectedFile(new File("profile-" + System.currentTimeMillis() + ".csv"));
+
+		if (fileChooser.showSaveDialog(this) != JFileChooser.APPROVE_OPTION)
+		{
+			return;
+		}
+
+		try
+		{
+			profiler.dump(fileChooser.getSelectedFile());
+		}
+		catch (IOException ex)
+		{
+			log.warn("unable to dump profiler samples", ex);
+			JOptionPane.showMessageDialog(this, "Unable to write " + fileChooser.getSelectedFile() + ": " + ex.getMessage(),
+				"Profiler", JOptionPane.ERROR_MESSAGE);
+		}
+	}
+
+	private static Object getValue(ProfileSnapshot snapshot, int column)
+	{
+		switch (column)
+		{
+			case 0:
+				return snapshot.getCategory().name();
+			case 1:
+				return snapshot.getName();
+			case 2:
+				return snapshot.getCount();
+			case 3:
+				return toMillis(snapshot.getMean());
+			case 4:
+				return toMillis(snapshot.getP50());
+			case 5:
+				return toMillis(snapshot.getP99());
+			case 6:
+				return toMillis(snapshot.getMax());
+			default:
+				return null;
+		}
+	}
+
+	private static double toMillis(long nanos)
+	{
+		// round to microseconds so the table stays readable
+		return Math.round(nanos / 1000.0) / 1000.0;
+	}
+}
@@ -30,7 +30,7 @@ import com.google.inject.Provides;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.time.temporal.ChronoUnit;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import javax.imageio.ImageIO;
@@ -60,7 +60,7 @@ public class FeedPlugin extends Plugin
 	private FeedConfig config;
 
 	@Inject
-	private ScheduledExecutorService executorService;
+	private ExecutorService executorService;
 
 	private FeedPanel feedPanel;
 	private NavigationButton navButton;
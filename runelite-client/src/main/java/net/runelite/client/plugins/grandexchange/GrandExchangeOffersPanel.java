@@ -30,7 +30,7 @@ import java.awt.CardLayout;
 import java.awt.GridBagConstraints;
 import java.awt.GridBagLayout;
 import java.awt.image.BufferedImage;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ExecutorService;
 import javax.swing.JPanel;
 import javax.swing.border.EmptyBorder;
 import net.runelite.api.Client;
@@ -62,11 +62,11 @@ public class GrandExchangeOffersPanel extends JPanel
 
 	private final Client client;
 	private final ItemManager itemManager;
-	private final ScheduledExecutorService executor;
+	private final ExecutorService executor;
 
 	private GrandExchangeOfferSlot[] offerSlotPanels = new GrandExchangeOfferSlot[MAX_OFFERS];
 
-	public GrandExchangeOffersPanel(Client client, ItemManager itemManager, ScheduledExecutorService executor)
+	public GrandExchangeOffersPanel(Client client, ItemManager itemManager, ExecutorService executor)
 	{
 		this.client = client;
 		this.itemManager = itemManager;
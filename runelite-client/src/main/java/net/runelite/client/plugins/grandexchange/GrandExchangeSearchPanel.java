@@ -35,7 +35,7 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ExecutorService;
 import javax.imageio.ImageIO;
 import javax.swing.ImageIcon;
 import javax.swing.JPanel;
@@ -73,7 +73,7 @@ class GrandExchangeSearchPanel extends JPanel
 
 	private final Client client;
 	private final ItemManager itemManager;
-	private final ScheduledExecutorService executor;
+	private final ExecutorService executor;
 
 	private final IconTextField searchBox = new IconTextField();
 
@@ -111,7 +111,7 @@ class GrandExchangeSearchPanel extends JPanel
 		}
 	}
 
-	GrandExchangeSearchPanel(Client client, ItemManager itemManager, ScheduledExecutorService executor)
+	GrandExchangeSearchPanel(Client client, ItemManager itemManager, ExecutorService executor)
 	{
 		this.client = client;
 		this.itemManager = itemManager;
@@ -26,7 +26,7 @@ package net.runelite.client.plugins.grounditems;
 
 import lombok.Builder;
 import lombok.Data;
-import lombok.Value;
+import net.runelite.api.coords.LocalPoint;
 import net.runelite.api.coords.WorldPoint;
 
 @Data
@@ -38,14 +38,15 @@ class GroundItem
 	private String name;
 	private int quantity;
 	private WorldPoint location;
+	private LocalPoint localLocation;
 	private int height;
 	private int haPrice;
 	private int gePrice;
+	private boolean highlighted;
+	private boolean hidden;
 
-	@Value
-	static class GroundItemKey
-	{
-		private int itemId;
-		private WorldPoint location;
-	}
+	/**
+	 * The text drawn for this item, built by the overlay and cleared when its price changes
+	 */
+	private String text;
 }
@@ -30,27 +30,30 @@ import java.awt.Dimension;
 import java.awt.FontMetrics;
 import java.awt.Graphics2D;
 import java.awt.Rectangle;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import javax.inject.Inject;
+import net.runelite.api.CameraSnapshot;
 import net.runelite.api.Client;
 import net.runelite.api.Perspective;
 import net.runelite.api.Player;
 import net.runelite.api.Point;
 import net.runelite.api.coords.LocalPoint;
 import net.runelite.api.coords.WorldPoint;
-import net.runelite.client.game.ItemManager;
 import static net.runelite.client.plugins.grounditems.config.ItemHighlightMode.MENU;
 import net.runelite.client.ui.overlay.Overlay;
 import net.runelite.client.ui.overlay.OverlayLayer;
 import net.runelite.client.ui.overlay.OverlayPosition;
 import net.runelite.client.ui.overlay.components.TextComponent;
 import net.runelite.client.util.StackFormatter;
-import net.runelite.http.api.item.ItemPrice;
 
 public class GroundItemsOverlay extends Overlay
 {
 	private static final int MAX_DISTANCE = 2500;
+	// The max distance in tiles between the player and the item.
+	private static final int MAX_RANGE = 18;
 	// We must offset the text on the z-axis such that
 	// it doesn't obscure the ground items below it.
 	private static final int OFFSET_Z = 20;
@@ -61,6 +64,8 @@ public class GroundItemsOverlay extends Overlay
 	private static final int STRING_GAP = 15;
 	// Size of the hidden/highlight boxes
 	private static final int RECTANGLE_SIZE = 8;
+	// How far outside of the viewport an item can be and still have its text drawn
+	private static final int VIEWPORT_MARGIN = 200;
 
 	private final Client client;
 	private final GroundItemsPlugin plugin;
@@ -68,17 +73,22 @@ public class GroundItemsOverlay extends Overlay
 	private final StringBuilder itemStringBuilder = new StringBuilder();
 	private final TextComponent textComponent = new TextComponent();
 	private final Map<WorldPoint, Integer> offsetMap = new HashMap<>();
-	private final ItemManager itemManager;
+	private final CameraSnapshot camera = new CameraSnapshot();
+	private final List<GroundItem> visibleItems = new ArrayList<>();
+	private int[] localX = new int[0];
+	private int[] localY = new int[0];
+	private int[] zOffset = new int[0];
+	private int[] canvasX = new int[0];
+	private int[] canvasY = new int[0];
 
 	@Inject
-	public GroundItemsOverlay(Client client, GroundItemsPlugin plugin, GroundItemsConfig config, ItemManager itemManager)
+	public GroundItemsOverlay(Client client, GroundItemsPlugin plugin, GroundItemsConfig config)
 	{
 		setPosition(OverlayPosition.DYNAMIC);
 		setLayer(OverlayLayer.ABOVE_SCENE);
 		this.client = client;
 		this.plugin = plugin;
 		this.config = config;
-		this.itemManager = itemManager;
 	}
 
 	@Override
@@ -100,19 +110,26 @@ public class GroundItemsOverlay extends Overlay
 		plugin.checkItems();
 
 		offsetMap.clear();
+		visibleItems.clear();
 		final LocalPoint localLocation = player.getLocalLocation();
+		final List<GroundItem> groundItems = plugin.getCollectedGroundItems();
+		final int plane = client.getPlane();
 
-		for (GroundItem item : plugin.getCollectedGroundItems().values())
+		ensureCapacity(groundItems.size());
+
+		for (GroundItem item : groundItems)
 		{
-			final LocalPoint groundPoint = LocalPoint.fromWorld(client, item.getLocation());
+			final LocalPoint groundPoint = item.getLocalLocation();
 
-			if (groundPoint == null || localLocation.distanceTo(groundPoint) > MAX_DISTANCE)
+			if (groundPoint == null || localLocation.distanceTo(groundPoint) > MAX_DISTANCE
+				|| Math.abs(groundPoint.getRegionX() - localLocation.getRegionX()) > MAX_RANGE
+				|| Math.abs(groundPoint.getRegionY() - localLocation.getRegionY()) > MAX_RANGE)
 			{
 				continue;
 			}
 
-			final boolean highlighted = plugin.isHighlighted(item.getName());
-			final boolean hidden = plugin.isHidden(item.getName());
+			final boolean highlighted = item.isHighlighted();
+			final boolean hidden = item.isHidden();
 
 			if (!plugin.isHotKeyPressed())
 			{
@@ -129,12 +146,15 @@ public class GroundItemsOverlay extends Overlay
 				}
 			}
 
-			// Update GE price for item
-			final ItemPrice itemPrice = itemManager.getItemPriceAsync(item.getItemId());
-
-			if (itemPrice != null && itemPrice.getPrice() > 0)
+			// Update GE price for item, once it is known
+			if (item.getGePrice() == 0)
 			{
-				item.setGePrice(itemPrice.getPrice() * item.getQuantity());
+				final int gePrice = plugin.getGePrice(item.getId());
+				if (gePrice > 0)
+				{
+					item.setGePrice(gePrice * item.getQuantity());
+					item.setText(null);
+				}
 			}
 
 			// Do not display items that are under HA or GE price and are not highlighted
@@ -145,53 +165,50 @@ public class GroundItemsOverlay extends Overlay
 				continue;
 			}
 
-			final Color color = getCostColor(item.getGePrice() > 0 ? item.getGePrice() : item.getHaPrice(),
-				highlighted, hidden);
-			itemStringBuilder.append(item.getName());
+			final int index = visibleItems.size();
+			localX[index] = groundPoint.getX();
+			localY[index] = groundPoint.getY();
+			zOffset[index] = plane + item.getHeight() + OFFSET_Z;
+			visibleItems.add(item);
+		}
 
-			if (item.getQuantity() > 1)
-			{
-				if (item.getQuantity() >= MAX_QUANTITY)
-				{
-					itemStringBuilder.append(" (Lots!)");
-				}
-				else
-				{
-					itemStringBuilder.append(" (").append(item.getQuantity()).append(")");
-				}
-			}
+		// Project every item at once, then only draw those which are in view
+		final int count = visibleItems.size();
+		Perspective.worldToCanvas(camera.update(client), localX, localY, zOffset, count, canvasX, canvasY);
 
-			if (config.showGEPrice() && item.getGePrice() > 0)
-			{
-				itemStringBuilder.append(" (EX: ")
-					.append(StackFormatter.quantityToStackSize(item.getGePrice()))
-					.append(" gp)");
-			}
+		final int viewportWidth = client.getViewportWidth();
+		final int viewportHeight = client.getViewportHeight();
+
+		for (int i = 0; i < count; ++i)
+		{
+			final int x = canvasX[i];
+			final int y = canvasY[i];
 
-			if (config.showHAValue() && item.getHaPrice() > 0)
+			if (x == Perspective.OFFSCREEN
+				|| x < -VIEWPORT_MARGIN || x > viewportWidth + VIEWPORT_MARGIN
+				|| y < -VIEWPORT_MARGIN || y > viewportHeight + VIEWPORT_MARGIN)
 			{
-				itemStringBuilder.append(" (HA: ")
-					.append(StackFormatter.quantityToStackSize(item.getHaPrice()))
-					.append(" gp)");
+				continue;
 			}
 
-			final String itemString = itemStringBuilder.toString();
-			itemStringBuilder.setLength(0);
+			final GroundItem item = visibleItems.get(i);
+			final boolean highlighted = item.isHighlighted();
+			final boolean hidden = item.isHidden();
 
-			final Point textPoint = Perspective.getCanvasTextLocation(client,
-				graphics,
-				groundPoint,
-				itemString,
-				item.getHeight() + OFFSET_Z);
+			final Color color = getCostColor(item.getGePrice() > 0 ? item.getGePrice() : item.getHaPrice(),
+				highlighted, hidden);
 
-			if (textPoint == null)
+			String itemString = item.getText();
+			if (itemString == null)
 			{
-				continue;
+				itemString = buildText(item);
+				item.setText(itemString);
 			}
 
+			final int stringWidth = fm.stringWidth(itemString);
 			final int offset = offsetMap.compute(item.getLocation(), (k, v) -> v != null ? v + 1 : 0);
-			final int textX = textPoint.getX();
-			final int textY = textPoint.getY() - (STRING_GAP * offset);
+			final int textX = x - stringWidth / 2;
+			final int textY = y - (STRING_GAP * offset);
 
 			textComponent.setText(itemString);
 			textComponent.setColor(color);
@@ -200,7 +217,6 @@ public class GroundItemsOverlay extends Overlay
 
 			if (plugin.isHotKeyPressed())
 			{
-				final int stringWidth = fm.stringWidth(itemString);
 				final int stringHeight = fm.getHeight();
 
 				// Hidden box
@@ -236,6 +252,53 @@ public class GroundItemsOverlay extends Overlay
 		return null;
 	}
 
+	private String buildText(GroundItem item)
+	{
+		itemStringBuilder.append(item.getName());
+
+		if (item.getQuantity() > 1)
+		{
+			if (item.getQuantity() >= MAX_QUANTITY)
+			{
+				itemStringBuilder.append(" (Lots!)");
+			}
+			else
+			{
+				itemStringBuilder.append(" (").append(item.getQuantity()).append(")");
+			}
+		}
+
+		if (config.showGEPrice() && item.getGePrice() > 0)
+		{
+			itemStringBuilder.append(" (EX: ")
+				.append(StackFormatter.quantityToStackSize(item.getGePrice()))
+				.append(" gp)");
+		}
+
+		if (config.showHAValue() && item.getHaPrice() > 0)
+		{
+			itemStringBuilder.append(" (HA: ")
+				.append(StackFormatter.quantityToStackSize(item.getHaPrice()))
+				.append(" gp)");
+		}
+
+		final String itemString = itemStringBuilder.toString();
+		itemStringBuilder.setLength(0);
+		return itemString;
+	}
+
+	private void ensureCapacity(int count)
+	{
+		if (localX.length < count)
+		{
+			localX = new int[count];
+			localY = new int[count];
+			zOffset = new int[count];
+			canvasX = new int[count];
+			canvasY = new int[count];
+		}
+	}
+
 	Color getCostColor(int cost, boolean highlighted, boolean hidden)
 	{
 		if (hidden)
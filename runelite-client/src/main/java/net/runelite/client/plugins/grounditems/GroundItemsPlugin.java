@@ -41,11 +41,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
-import java.util.function.Function;
 import java.util.regex.Pattern;
-import java.util.stream.Collector;
-import java.util.stream.Collectors;
-import javax.annotation.Nullable;
 import javax.inject.Inject;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -63,12 +59,13 @@ import net.runelite.api.Node;
 import net.runelite.api.Player;
 import net.runelite.api.Region;
 import net.runelite.api.Tile;
-import net.runelite.api.coords.LocalPoint;
+import net.runelite.api.coords.WorldPoint;
 import net.runelite.api.events.ConfigChanged;
 import net.runelite.api.events.FocusChanged;
 import net.runelite.api.events.GameStateChanged;
 import net.runelite.api.events.ItemLayerChanged;
 import net.runelite.api.events.MenuEntryAdded;
+import net.runelite.client.callback.ClientThread;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.game.ItemManager;
 import net.runelite.client.input.KeyManager;
@@ -81,6 +78,7 @@ import static net.runelite.client.plugins.grounditems.config.MenuHighlightMode.B
 import static net.runelite.client.plugins.grounditems.config.MenuHighlightMode.NAME;
 import static net.runelite.client.plugins.grounditems.config.MenuHighlightMode.OPTION;
 import net.runelite.client.ui.overlay.Overlay;
+import net.runelite.client.util.WildcardMatcherSet;
 import net.runelite.http.api.item.ItemPrice;
 
 @PluginDescriptor(
@@ -91,8 +89,6 @@ public class GroundItemsPlugin extends Plugin
 {
 	//Size of one region
 	private static final int REGION_SIZE = 104;
-	// The max distance in tiles between the player and the item.
-	private static final int MAX_RANGE = 18;
 	// Used when getting High Alchemy value - multiplied by general store price.
 	private static final float HIGH_ALCHEMY_CONSTANT = 0.6f;
 	// ItemID for coins
@@ -124,6 +120,9 @@ public class GroundItemsPlugin extends Plugin
 	@Inject
 	private Client client;
 
+	@Inject
+	private ClientThread clientThread;
+
 	@Inject
 	private ItemManager itemManager;
 
@@ -133,23 +132,31 @@ public class GroundItemsPlugin extends Plugin
 	@Inject
 	private GroundItemsOverlay overlay;
 
-	@Getter
-	private final Map<GroundItem.GroundItemKey, GroundItem> collectedGroundItems = new LinkedHashMap<>();
-	private final List<GroundItem> groundItems = new ArrayList<>();
+	/**
+	 * Ground items on each tile of the current plane, with items of the same id merged
+	 */
+	private final Map<WorldPoint, List<GroundItem>> tileItems = new HashMap<>();
+
+	/**
+	 * Details of each item id seen on the ground, cleared when the config changes
+	 */
+	private final Map<Integer, GroundItemDetails> itemDetails = new HashMap<>();
+
+	/**
+	 * All ground items on the current plane, grouped by tile. Rebuilt from
+	 * {@link #tileItems} only when a tile changes.
+	 */
+	@Getter(AccessLevel.PACKAGE)
+	private final List<GroundItem> collectedGroundItems = new ArrayList<>();
+
 	private LoadingCache<String, Boolean> highlightedItems;
 	private LoadingCache<String, Boolean> hiddenItems;
 
-	// Collects similar ground items
-	private final Collector<GroundItem, ?, Map<GroundItem.GroundItemKey, GroundItem>> groundItemMapCollector = Collectors
-		.toMap
-			((item) -> new GroundItem.GroundItemKey(item.getItemId(), item.getLocation()), Function.identity(), (a, b) ->
-				{
-					b.setHaPrice(a.getHaPrice() + b.getHaPrice());
-					b.setGePrice(a.getGePrice() + b.getGePrice());
-					b.setQuantity(a.getQuantity() + b.getQuantity());
-					return b;
-				},
-				() -> collectedGroundItems);
+	/**
+	 * The plane {@link #tileItems} was scanned from
+	 */
+	private int plane = -1;
+	private boolean rescan;
 
 	@Provides
 	GroundItemsConfig provideConfig(ConfigManager configManager)
@@ -176,7 +183,8 @@ public class GroundItemsPlugin extends Plugin
 	{
 		mouseManager.unregisterMouseListener(inputListener);
 		keyManager.unregisterKeyListener(inputListener);
-		groundItems.clear();
+		tileItems.clear();
+		itemDetails.clear();
 		collectedGroundItems.clear();
 		highlightedItems.invalidateAll();
 		highlightedItems = null;
@@ -191,7 +199,8 @@ public class GroundItemsPlugin extends Plugin
 	{
 		if (event.getGroup().equals("grounditems"))
 		{
-			reset();
+			// the item details are read and written on the client thread
+			clientThread.invokeLater(this::reset);
 		}
 	}
 
@@ -200,13 +209,23 @@ public class GroundItemsPlugin extends Plugin
 	{
 		if (event.getGameState() == GameState.LOGGED_IN)
 		{
-			dirty = true;
+			// the region has been loaded, so every tile may have changed
+			rescan = true;
 		}
 	}
 
 	@Subscribe
 	public void onItemLayerChanged(ItemLayerChanged event)
 	{
+		final Tile tile = event.getTile();
+
+		// Tiles on other planes are picked up by the rescan when the plane changes
+		if (rescan || tile.getPlane() != plane)
+		{
+			return;
+		}
+
+		updateTile(tile);
 		dirty = true;
 	}
 
@@ -214,96 +233,161 @@ public class GroundItemsPlugin extends Plugin
 	{
 		final Player player = client.getLocalPlayer();
 
-		if (!dirty || player == null || client.getViewportWidget() == null)
+		if (player == null || client.getViewportWidget() == null)
 		{
 			return;
 		}
 
-		dirty = false;
+		if (rescan || client.getPlane() != plane)
+		{
+			rescanTiles();
+		}
 
-		final Region region = client.getRegion();
-		final Tile[][][] tiles = region.getTiles();
-		final int z = client.getPlane();
-		final LocalPoint from = player.getLocalLocation();
+		if (!dirty)
+		{
+			return;
+		}
+
+		dirty = false;
 
-		final int lowerX = Math.max(0, from.getRegionX() - MAX_RANGE);
-		final int lowerY = Math.max(0, from.getRegionY() - MAX_RANGE);
+		collectedGroundItems.clear();
+		for (List<GroundItem> items : tileItems.values())
+		{
+			collectedGroundItems.addAll(items);
+		}
+	}
 
-		final int upperX = Math.min(from.getRegionX() + MAX_RANGE, REGION_SIZE - 1);
-		final int upperY = Math.min(from.getRegionY() + MAX_RANGE, REGION_SIZE - 1);
+	private void rescanTiles()
+	{
+		rescan = false;
+		dirty = true;
+		plane = client.getPlane();
+		tileItems.clear();
 
-		groundItems.clear();
+		final Tile[][] tiles = client.getRegion().getTiles()[plane];
 
-		for (int x = lowerX; x <= upperX; ++x)
+		for (int x = 0; x < REGION_SIZE; ++x)
 		{
-			for (int y = lowerY; y <= upperY; ++y)
+			for (int y = 0; y < REGION_SIZE; ++y)
 			{
-				Tile tile = tiles[z][x][y];
-				if (tile == null)
-				{
-					continue;
-				}
-
-				ItemLayer itemLayer = tile.getItemLayer();
-				if (itemLayer == null)
+				final Tile tile = tiles[x][y];
+				if (tile != null && tile.getItemLayer() != null)
 				{
-					continue;
+					updateTile(tile);
 				}
+			}
+		}
+	}
 
-				Node current = itemLayer.getBottom();
+	/**
+	 * Rebuilds the ground items of a single tile from its item layer
+	 */
+	private void updateTile(final Tile tile)
+	{
+		final WorldPoint location = tile.getWorldLocation();
+		final ItemLayer itemLayer = tile.getItemLayer();
 
-				// adds the items on the ground to the ArrayList to be drawn
-				while (current instanceof Item)
-				{
-					final Item item = (Item) current;
+		if (itemLayer == null)
+		{
+			tileItems.remove(location);
+			return;
+		}
 
-					// Continue iteration
-					current = current.getNext();
+		final List<Item> layerItems = new ArrayList<>();
+		for (Node current = itemLayer.getBottom(); current instanceof Item; current = current.getNext())
+		{
+			layerItems.add((Item) current);
+		}
 
-					// Build ground item
-					final GroundItem groundItem = buildGroundItem(tile, item);
+		// Group ground items of the same id together, with the top of the pile first
+		final Map<Integer, GroundItem> merged = new LinkedHashMap<>();
+		for (final Item item : Lists.reverse(layerItems))
+		{
+			final GroundItem groundItem = buildGroundItem(tile, item);
+			groundItem.setHeight(itemLayer.getHeight());
 
-					if (groundItem != null)
-					{
-						groundItem.setHeight(itemLayer.getHeight());
-						groundItems.add(groundItem);
-					}
-				}
-			}
+			merged.merge(groundItem.getItemId(), groundItem, (a, b) ->
+			{
+				a.setHaPrice(a.getHaPrice() + b.getHaPrice());
+				a.setGePrice(a.getGePrice() + b.getGePrice());
+				a.setQuantity(a.getQuantity() + b.getQuantity());
+				return a;
+			});
 		}
 
-		// Group ground items together and sort them properly
-		collectedGroundItems.clear();
-		Lists.reverse(groundItems).stream().collect(groundItemMapCollector);
+		if (merged.isEmpty())
+		{
+			tileItems.remove(location);
+		}
+		else
+		{
+			tileItems.put(location, new ArrayList<>(merged.values()));
+		}
 	}
 
-	@Nullable
 	private GroundItem buildGroundItem(final Tile tile, final Item item)
 	{
-		// Collect the data for the item
-		final int itemId = item.getId();
-		final ItemComposition itemComposition = itemManager.getItemComposition(itemId);
-		final int realItemId = itemComposition.getNote() != -1 ? itemComposition.getLinkedNoteId() : itemId;
-		final int alchPrice = Math.round(itemComposition.getPrice() * HIGH_ALCHEMY_CONSTANT);
-
-		final GroundItem groundItem = GroundItem.builder()
-			.id(itemId)
+		final GroundItemDetails details = getItemDetails(item.getId());
+		final int quantity = item.getQuantity();
+
+		return GroundItem.builder()
+			.id(item.getId())
 			.location(tile.getWorldLocation())
-			.itemId(realItemId)
-			.quantity(item.getQuantity())
-			.name(itemComposition.getName())
-			.haPrice(alchPrice * item.getQuantity())
+			.localLocation(tile.getLocalLocation())
+			.itemId(details.getItemId())
+			.quantity(quantity)
+			.name(details.getName())
+			.haPrice(details.getHaPrice() * quantity)
+			.gePrice(details.getGePrice() * quantity)
+			.highlighted(details.isHighlighted())
+			.hidden(details.isHidden())
 			.build();
+	}
+
+	private GroundItemDetails getItemDetails(final int id)
+	{
+		GroundItemDetails details = itemDetails.get(id);
+		if (details != null)
+		{
+			return details;
+		}
 
+		final ItemComposition itemComposition = itemManager.getItemComposition(id);
+		final int realItemId = itemComposition.getNote() != -1 ? itemComposition.getLinkedNoteId() : id;
+		final String name = itemComposition.getName();
 
-		// Update item price in case it is coins
+		// Coins are worth their quantity
+		final int haPrice = realItemId == COINS ? 1 : Math.round(itemComposition.getPrice() * HIGH_ALCHEMY_CONSTANT);
+
+		details = new GroundItemDetails(realItemId, name, haPrice, isHighlighted(name), isHidden(name));
 		if (realItemId == COINS)
 		{
-			groundItem.setHaPrice(groundItem.getQuantity());
-			groundItem.setGePrice(groundItem.getQuantity());
+			details.setGePrice(1);
+		}
+
+		itemDetails.put(id, details);
+		return details;
+	}
+
+	/**
+	 * Gets the exchange price of one of an item, looking it up if it is not known yet
+	 *
+	 * @param id the item id, which may be noted
+	 * @return the price, or 0 if it is not known
+	 */
+	int getGePrice(final int id)
+	{
+		final GroundItemDetails details = getItemDetails(id);
+		if (details.getGePrice() == 0)
+		{
+			final ItemPrice itemPrice = itemManager.getItemPriceAsync(details.getItemId());
+			if (itemPrice != null && itemPrice.getPrice() > 0)
+			{
+				details.setGePrice(itemPrice.getPrice());
+			}
 		}
 
-		return groundItem;
+		return details.getGePrice();
 	}
 
 	private void reset()
@@ -319,14 +403,16 @@ public class GroundItemsPlugin extends Plugin
 		highlightedItems = CacheBuilder.newBuilder()
 			.maximumSize(512L)
 			.expireAfterAccess(10, TimeUnit.MINUTES)
-			.build(new WildcardMatchLoader(highlightedItemsList));
+			.build(new WildcardMatchLoader(new WildcardMatcherSet(highlightedItemsList)));
 
 		hiddenItems = CacheBuilder.newBuilder()
 			.maximumSize(512L)
 			.expireAfterAccess(10, TimeUnit.MINUTES)
-			.build(new WildcardMatchLoader(hiddenItemList));
+			.build(new WildcardMatchLoader(new WildcardMatcherSet(hiddenItemList)));
 
-		dirty = true;
+		// the highlight state of every item may have changed
+		itemDetails.clear();
+		rescan = true;
 	}
 
 	private ItemPrice getItemPrice(ItemComposition itemComposition)
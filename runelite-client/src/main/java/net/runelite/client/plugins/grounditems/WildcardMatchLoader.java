@@ -26,15 +26,14 @@ package net.runelite.client.plugins.grounditems;
 
 import com.google.common.base.Strings;
 import com.google.common.cache.CacheLoader;
-import java.util.List;
 import javax.annotation.Nonnull;
-import net.runelite.client.util.WildcardMatcher;
+import net.runelite.client.util.WildcardMatcherSet;
 
 class WildcardMatchLoader extends CacheLoader<String, Boolean>
 {
-	private final List<String> nameFilters;
+	private final WildcardMatcherSet nameFilters;
 
-	WildcardMatchLoader(List<String> nameFilters)
+	WildcardMatchLoader(WildcardMatcherSet nameFilters)
 	{
 		this.nameFilters = nameFilters;
 	}
@@ -47,16 +46,6 @@ class WildcardMatchLoader extends CacheLoader<String, Boolean>
 			return false;
 		}
 
-		final String filteredName = key.trim();
-
-		for (final String filter : nameFilters)
-		{
-			if (WildcardMatcher.matches(filter, filteredName))
-			{
-				return true;
-			}
-		}
-
-		return false;
+		return nameFilters.matches(key.trim());
 	}
 }
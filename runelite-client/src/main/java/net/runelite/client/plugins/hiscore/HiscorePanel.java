@@ -39,7 +39,7 @@ import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ExecutorService;
 import javax.annotation.Nullable;
 import javax.imageio.ImageIO;
 import javax.inject.Inject;
@@ -116,7 +116,7 @@ public class HiscorePanel extends PluginPanel
 	);
 
 	@Inject
-	ScheduledExecutorService executor;
+	ExecutorService executor;
 
 	@Inject
 	@Nullable
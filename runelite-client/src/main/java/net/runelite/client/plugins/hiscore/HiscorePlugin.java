@@ -30,7 +30,7 @@ import com.google.common.eventbus.Subscribe;
 import com.google.inject.Provides;
 import java.awt.image.BufferedImage;
 import java.lang.reflect.InvocationTargetException;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ExecutorService;
 import javax.annotation.Nullable;
 import javax.imageio.ImageIO;
 import javax.inject.Inject;
@@ -73,7 +73,7 @@ public class HiscorePlugin extends Plugin
 	private MenuManager menuManager;
 
 	@Inject
-	private ScheduledExecutorService executor;
+	private ExecutorService executor;
 
 	@Inject
 	private HiscoreConfig config;
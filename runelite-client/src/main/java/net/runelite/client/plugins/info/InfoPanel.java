@@ -35,7 +35,7 @@ import java.awt.GridLayout;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 import java.io.IOException;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ExecutorService;
 import javax.annotation.Nullable;
 import javax.imageio.ImageIO;
 import javax.inject.Singleton;
@@ -85,7 +85,7 @@ public class InfoPanel extends PluginPanel
 	private SessionManager sessionManager;
 
 	@Inject
-	private ScheduledExecutorService executor;
+	private ExecutorService executor;
 
 	static
 	{
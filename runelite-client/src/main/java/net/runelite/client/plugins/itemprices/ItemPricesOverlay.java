@@ -79,7 +79,7 @@ class ItemPricesOverlay extends Overlay
 			return null;
 		}
 
-		final MenuEntry[] menuEntries = client.getMenuEntries();
+		final MenuEntry[] menuEntries = client.getMenuEntriesView();
 		final int last = menuEntries.length - 1;
 
 		if (last < 0)
@@ -493,7 +493,7 @@ public class MenuEntrySwapperPlugin extends Plugin
 
 	private void swap(String optionA, String optionB, String target, boolean strict)
 	{
-		MenuEntry[] entries = client.getMenuEntries();
+		MenuEntry[] entries = client.getMenuEntriesView();
 
 		int idxA = searchIndex(entries, optionA, target, strict);
 		int idxB = searchIndex(entries, optionB, target, strict);
@@ -61,7 +61,7 @@ class MouseHighlightOverlay extends Overlay
 			return null;
 		}
 
-		MenuEntry[] menuEntries = client.getMenuEntries();
+		MenuEntry[] menuEntries = client.getMenuEntriesView();
 		int last = menuEntries.length - 1;
 
 		if (last < 0)
@@ -27,12 +27,12 @@ package net.runelite.client.plugins.npchighlight;
 
 import com.google.common.eventbus.Subscribe;
 import com.google.inject.Provides;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Set;
 import javax.inject.Inject;
 import lombok.AccessLevel;
@@ -52,7 +52,7 @@ import net.runelite.client.menus.MenuManager;
 import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.PluginDescriptor;
 import net.runelite.client.ui.overlay.Overlay;
-import net.runelite.client.util.WildcardMatcher;
+import net.runelite.client.util.WildcardMatcherSet;
 
 @PluginDescriptor(name = "NPC Indicators")
 public class NpcIndicatorsPlugin extends Plugin
@@ -99,7 +99,7 @@ public class NpcIndicatorsPlugin extends Plugin
 	/**
 	 * Highlight strings from the configuration
 	 */
-	private List<String> highlights = new ArrayList<>();
+	private WildcardMatcherSet highlights = new WildcardMatcherSet(Collections.emptyList());
 
 	private boolean hotKeyPressed = false;
 
@@ -120,7 +120,7 @@ public class NpcIndicatorsPlugin extends Plugin
 	protected void startUp() throws Exception
 	{
 		keyManager.registerKeyListener(inputListener);
-		highlights = getHighlights();
+		highlights = new WildcardMatcherSet(getHighlights());
 		rebuildNpcs();
 	}
 
@@ -149,13 +149,13 @@ public class NpcIndicatorsPlugin extends Plugin
 			return;
 		}
 
-		highlights = getHighlights();
+		highlights = new WildcardMatcherSet(getHighlights());
 		rebuildNpcs();
 	}
 
 	private List<String> getHighlights()
 	{
-		String configNpcs = config.getNpcToHighlight().toLowerCase();
+		String configNpcs = config.getNpcToHighlight().toLowerCase(Locale.ROOT);
 		if (configNpcs.isEmpty())
 			return Collections.emptyList();
 
@@ -179,13 +179,9 @@ public class NpcIndicatorsPlugin extends Plugin
 				continue;
 			}
 
-			for (String highlight : highlights)
+			if (highlights.matches(npcName))
 			{
-				if (WildcardMatcher.matches(highlight, npcName))
-				{
-					highlightedNpcs.add(npc);
-					break;
-				}
+				highlightedNpcs.add(npc);
 			}
 		}
 	}
@@ -214,13 +210,9 @@ public class NpcIndicatorsPlugin extends Plugin
 		String npcName = npc.getName();
 		if (npcName != null)
 		{
-			for (String highlight : highlights)
+			if (highlights.matches(npcName))
 			{
-				if (WildcardMatcher.matches(highlight, npcName))
-				{
-					highlightedNpcs.add(npc);
-					break;
-				}
+				highlightedNpcs.add(npc);
 			}
 		}
 	}
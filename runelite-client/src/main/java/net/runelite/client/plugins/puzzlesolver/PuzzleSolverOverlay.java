@@ -37,8 +37,8 @@ import java.awt.image.AffineTransformOp;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
-import java.util.concurrent.ScheduledExecutorService;
 import javax.imageio.ImageIO;
 import javax.inject.Inject;
 import lombok.extern.slf4j.Slf4j;
@@ -51,8 +51,8 @@ import net.runelite.api.widgets.Widget;
 import net.runelite.api.widgets.WidgetInfo;
 import net.runelite.client.plugins.puzzlesolver.solver.PuzzleSolver;
 import net.runelite.client.plugins.puzzlesolver.solver.PuzzleState;
-import net.runelite.client.plugins.puzzlesolver.solver.heuristics.ManhattanDistance;
-import net.runelite.client.plugins.puzzlesolver.solver.pathfinding.IDAStar;
+import net.runelite.client.plugins.puzzlesolver.solver.pathfinding.PackedIDAStar;
+import net.runelite.client.task.ExecutorPools;
 import net.runelite.client.ui.overlay.Overlay;
 import net.runelite.client.ui.overlay.OverlayLayer;
 import net.runelite.client.ui.overlay.OverlayPosition;
@@ -77,7 +77,7 @@ public class PuzzleSolverOverlay extends Overlay
 
 	private final Client client;
 	private final PuzzleSolverConfig config;
-	private final ScheduledExecutorService executorService;
+	private final ExecutorService executorService;
 
 	private PuzzleSolver solver;
 	private Future<?> solverFuture;
@@ -89,14 +89,14 @@ public class PuzzleSolverOverlay extends Overlay
 	private BufferedImage rightArrow;
 
 	@Inject
-	public PuzzleSolverOverlay(Client client, PuzzleSolverConfig config, ScheduledExecutorService executorService)
+	public PuzzleSolverOverlay(Client client, PuzzleSolverConfig config, ExecutorPools executorPools)
 	{
 		setPosition(OverlayPosition.DYNAMIC);
 		setPriority(OverlayPriority.HIGH);
 		setLayer(OverlayLayer.ABOVE_WIDGETS);
 		this.client = client;
 		this.config = config;
-		this.executorService = executorService;
+		this.executorService = executorPools.getCpuExecutor();
 	}
 
 	@Override
@@ -421,7 +421,7 @@ public class PuzzleSolverOverlay extends Overlay
 
 		PuzzleState puzzleState = new PuzzleState(items);
 
-		solver = new PuzzleSolver(new IDAStar(new ManhattanDistance()), puzzleState);
+		solver = new PuzzleSolver(new PackedIDAStar(), puzzleState);
 		solverFuture = executorService.submit(solver);
 	}
 
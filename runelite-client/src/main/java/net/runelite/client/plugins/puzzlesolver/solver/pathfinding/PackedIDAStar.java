@@ -0,0 +1,725 @@
+/*
+ * Copyright (c) 2018, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.puzzlesolver.solver.pathfinding;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import net.runelite.client.plugins.puzzlesolver.solver.PuzzleState;
+import static net.runelite.client.plugins.puzzlesolver.solver.PuzzleSolver.DIMENSION;
+
+/**
+ * An implementation of the IDA* algorithm which searches a single mutable
+ * board in place instead of allocating a state for every node.
+ * <p>
+ * The heuristic is the manhattan distance plus linear conflicts, both updated
+ * incrementally as tiles move: a move changes the manhattan distance of one
+ * tile, and the linear conflicts of the two lines it crosses. The move undoing
+ * the previous move is never tried.
+ * <p>
+ * The search can optionally be split across an executor, by expanding the
+ * first few moves of each iteration and searching the resulting boards in
+ * parallel. Boards reached by more than one path are only searched once,
+ * which is found by packing each board into two longs.
+ */
+public class PackedIDAStar extends Pathfinder
+{
+	private static final int SIZE = DIMENSION * DIMENSION;
+	private static final int BLANK = -1;
+
+	/**
+	 * The number of nodes to search between checks for interruption
+	 */
+	private static final int CHECK_INTERVAL = 1 << 16;
+
+	/**
+	 * How many boards to search in parallel per thread, so that the threads
+	 * stay busy when some boards are searched faster than others
+	 */
+	private static final int BOARDS_PER_THREAD = 8;
+
+	/**
+	 * The cells next to each cell
+	 */
+	private static final int[][] NEIGHBOURS = new int[SIZE][];
+
+	/**
+	 * The manhattan distance of each tile from each cell to its goal
+	 */
+	private static final int[][] DISTANCE = new int[SIZE - 1][SIZE];
+
+	/**
+	 * The linear conflict of each line, indexed by the goal position of each
+	 * tile along the line in base {@code DIMENSION + 1}, with 0 for tiles
+	 * which don't belong in the line
+	 */
+	private static final byte[] LINE_CONFLICTS;
+
+	static
+	{
+		for (int cell = 0; cell < SIZE; ++cell)
+		{
+			final int x = cell % DIMENSION;
+			final int y = cell / DIMENSION;
+			final List<Integer> neighbours = new ArrayList<>(4);
+
+			if (x > 0)
+			{
+				neighbours.add(cell - 1);
+			}
+			if (x < DIMENSION - 1)
+			{
+				neighbours.add(cell + 1);
+			}
+			if (y > 0)
+			{
+				neighbours.add(cell - DIMENSION);
+			}
+			if (y < DIMENSION - 1)
+			{
+				neighbours.add(cell + DIMENSION);
+			}
+
+			NEIGHBOURS[cell] = neighbours.stream().mapToInt(Integer::intValue).toArray();
+
+			for (int tile = 0; tile < SIZE - 1; ++tile)
+			{
+				DISTANCE[tile][cell] = Math.abs(x - tile % DIMENSION) + Math.abs(y - tile / DIMENSION);
+			}
+		}
+
+		int lines = 1;
+		for (int i = 0; i < DIMENSION; ++i)
+		{
+			lines *= DIMENSION + 1;
+		}
+
+		LINE_CONFLICTS = new byte[lines];
+		final int[] line = new int[DIMENSION];
+		for (int index = 0; index < lines; ++index)
+		{
+			int code = index;
+			for (int i = DIMENSION - 1; i >= 0; --i)
+			{
+				line[i] = code % (DIMENSION + 1) - 1;
+				code /= DIMENSION + 1;
+			}
+
+			LINE_CONFLICTS[index] = (byte) lineConflicts(line);
+		}
+	}
+
+	private final ExecutorService executor;
+	private final int threads;
+
+	/**
+	 * Creates a pathfinder which searches on the calling thread
+	 */
+	public PackedIDAStar()
+	{
+		this(null, 1);
+	}
+
+	/**
+	 * Creates a pathfinder which splits the search across an executor
+	 *
+	 * @param executor the executor to search on
+	 * @param threads the number of threads of the executor to use
+	 */
+	public PackedIDAStar(ExecutorService executor, int threads)
+	{
+		this.executor = executor;
+		this.threads = executor != null ? threads : 1;
+	}
+
+	@Override
+	public List<PuzzleState> computePath(PuzzleState start)
+	{
+		final int[] pieces = new int[SIZE];
+		for (int cell = 0; cell < SIZE; ++cell)
+		{
+			pieces[cell] = start.getPiece(cell % DIMENSION, cell / DIMENSION);
+		}
+
+		if (!isSolvable(pieces))
+		{
+			return null;
+		}
+
+		final Search root = new Search(pieces);
+		final int[] moves = threads > 1 ? searchParallel(root) : searchSerial(root);
+
+		if (moves == null)
+		{
+			return null;
+		}
+
+		final List<PuzzleState> path = new ArrayList<>(moves.length + 1);
+		path.add(start);
+
+		int blank = start.getEmptyPiece();
+		for (int move : moves)
+		{
+			pieces[blank] = pieces[move];
+			pieces[move] = BLANK;
+			blank = move;
+			path.add(new PuzzleState(pieces.clone()));
+		}
+
+		return path;
+	}
+
+	private int[] searchSerial(Search root)
+	{
+		int bound = root.heuristic();
+
+		while (true)
+		{
+			final int result = root.search(bound, null);
+			if (result == Search.FOUND)
+			{
+				return root.getMoves();
+			}
+
+			if (result == Search.CANCELLED)
+			{
+				return null;
+			}
+
+			bound = result;
+		}
+	}
+
+	private int[] searchParallel(Search root)
+	{
+		int bound = root.heuristic();
+
+		while (true)
+		{
+			// expand the first moves until there are enough boards to keep the threads busy
+			List<Search> boards = new ArrayList<>();
+			boards.add(root);
+
+			int depth = 0;
+			while (boards.size() < threads * BOARDS_PER_THREAD && depth < bound)
+			{
+				final List<Search> expanded = new ArrayList<>();
+				final Set<Key> seen = new HashSet<>();
+
+				for (Search board : boards)
+				{
+					if (board.heuristic() == 0)
+					{
+						return board.getMoves();
+					}
+
+					board.expand(expanded, seen);
+				}
+
+				boards = expanded;
+				++depth;
+			}
+
+			final int searchBound = bound;
+			final AtomicBoolean done = new AtomicBoolean();
+			final List<Future<Integer>> results = new ArrayList<>(boards.size());
+			for (Search board : boards)
+			{
+				results.add(executor.submit(() -> board.search(searchBound, done)));
+			}
+
+			int nextBound = Integer.MAX_VALUE;
+			int[] moves = null;
+
+			try
+			{
+				for (int i = 0; i < results.size(); ++i)
+				{
+					final int result = results.get(i).get();
+					if (result == Search.FOUND && moves == null)
+					{
+						moves = boards.get(i).getMoves();
+					}
+					else if (result >= 0)
+					{
+						nextBound = Math.min(nextBound, result);
+					}
+				}
+			}
+			catch (InterruptedException ex)
+			{
+				done.set(true);
+				Thread.currentThread().interrupt();
+				return null;
+			}
+			catch (ExecutionException ex)
+			{
+				done.set(true);
+				throw new RuntimeException(ex.getCause());
+			}
+
+			if (moves != null)
+			{
+				return moves;
+			}
+
+			if (nextBound == Integer.MAX_VALUE)
+			{
+				return null;
+			}
+
+			bound = nextBound;
+		}
+	}
+
+	/**
+	 * Whether the goal can be reached from a board. A move changes the parity
+	 * of the permutation of the cells, and moves the blank by one cell, so the
+	 * parity of the permutation and of the blank's distance from its goal
+	 * must match.
+	 */
+	private static boolean isSolvable(int[] pieces)
+	{
+		final int[] values = new int[SIZE];
+		int blank = -1;
+		for (int cell = 0; cell < SIZE; ++cell)
+		{
+			values[cell] = pieces[cell] == BLANK ? SIZE - 1 : pieces[cell];
+			if (pieces[cell] == BLANK)
+			{
+				blank = cell;
+			}
+		}
+
+		int inversions = 0;
+		for (int i = 0; i < SIZE; ++i)
+		{
+			for (int j = i + 1; j < SIZE; ++j)
+			{
+				if (values[i] > values[j])
+				{
+					++inversions;
+				}
+			}
+		}
+
+		final int blankDistance = (DIMENSION - 1 - blank % DIMENSION) + (DIMENSION - 1 - blank / DIMENSION);
+		return (inversions & 1) == (blankDistance & 1);
+	}
+
+	/**
+	 * Computes the linear conflict of the tiles in {@code line}, given as
+	 * their goal position along the line, or -1 for tiles which don't
+	 * belong in the line. The tiles in the longest subsequence which is
+	 * already in order can stay in the line, and every other tile has to
+	 * leave it to let them past, which costs two moves.
+	 */
+	private static int lineConflicts(int[] line)
+	{
+		// longest[i] is the length of the longest ordered subsequence ending with tile i
+		final int[] longest = new int[DIMENSION];
+		int present = 0;
+		int ordered = 0;
+
+		for (int i = 0; i < DIMENSION; ++i)
+		{
+			if (line[i] == -1)
+			{
+				continue;
+			}
+
+			++present;
+			longest[i] = 1;
+
+			for (int j = 0; j < i; ++j)
+			{
+				if (line[j] != -1 && line[j] < line[i])
+				{
+					longest[i] = Math.max(longest[i], longest[j] + 1);
+				}
+			}
+
+			ordered = Math.max(ordered, longest[i]);
+		}
+
+		return (present - ordered) * 2;
+	}
+
+	/**
+	 * Gets the linear conflict of a line from the table
+	 *
+	 * @param index the goal position of each tile along the line in base
+	 *              {@code DIMENSION + 1}, with 0 for tiles which don't belong in the line
+	 */
+	static int getLineConflicts(int index)
+	{
+		return LINE_CONFLICTS[index];
+	}
+
+	/**
+	 * A board packed into two longs, as the cell of each of the 24 tiles
+	 */
+	private static final class Key
+	{
+		private final long low;
+		private final long high;
+
+		private Key(int[] board)
+		{
+			long low = 0;
+			long high = 0;
+
+			for (int cell = 0; cell < SIZE; ++cell)
+			{
+				final int tile = board[cell];
+				if (tile == BLANK)
+				{
+					continue;
+				}
+
+				if (tile < 12)
+				{
+					low |= (long) cell << (5 * tile);
+				}
+				else
+				{
+					high |= (long) cell << (5 * (tile - 12));
+				}
+			}
+
+			this.low = low;
+			this.high = high;
+		}
+
+		@Override
+		public boolean equals(Object other)
+		{
+			if (!(other instanceof Key))
+			{
+				return false;
+			}
+
+			final Key key = (Key) other;
+			return low == key.low && high == key.high;
+		}
+
+		@Override
+		public int hashCode()
+		{
+			return Long.hashCode(low * 31 + high);
+		}
+	}
+
+	/**
+	 * A board being searched, with its heuristic and the moves made to reach it
+	 */
+	private static final class Search
+	{
+		private static final int FOUND = -1;
+		private static final int CANCELLED = -2;
+
+		private final int[] board;
+
+		/**
+		 * The linear conflicts of each row, then each column
+		 */
+		private final int[] conflicts = new int[DIMENSION * 2];
+
+		private final int start;
+		private int blank;
+		private int distance;
+		private int conflict;
+
+		/**
+		 * The cell the blank moved to for each move, from the start
+		 */
+		private int[] moves;
+		private int depth;
+
+		private int nodes;
+
+		private Search(int[] pieces)
+		{
+			board = pieces.clone();
+			moves = new int[64];
+
+			for (int cell = 0; cell < SIZE; ++cell)
+			{
+				if (board[cell] == BLANK)
+				{
+					blank = cell;
+				}
+				else
+				{
+					distance += DISTANCE[board[cell]][cell];
+				}
+			}
+
+			for (int i = 0; i < DIMENSION; ++i)
+			{
+				conflicts[i] = rowConflicts(i);
+				conflicts[DIMENSION + i] = columnConflicts(i);
+				conflict += conflicts[i] + conflicts[DIMENSION + i];
+			}
+
+			start = blank;
+		}
+
+		private Search(Search other)
+		{
+			board = other.board.clone();
+			System.arraycopy(other.conflicts, 0, conflicts, 0, conflicts.length);
+			start = other.start;
+			blank = other.blank;
+			distance = other.distance;
+			conflict = other.conflict;
+			moves = other.moves.clone();
+			depth = other.depth;
+		}
+
+		int heuristic()
+		{
+			return distance + conflict;
+		}
+
+		int[] getMoves()
+		{
+			final int[] path = new int[depth];
+			System.arraycopy(moves, 0, path, 0, depth);
+			return path;
+		}
+
+		/**
+		 * Adds the boards one move away from this one to {@code boards}, skipping boards already seen
+		 */
+		void expand(List<Search> boards, Set<Key> seen)
+		{
+			final int previous = previousBlank();
+			final int from = blank;
+
+			for (int to : NEIGHBOURS[from])
+			{
+				if (to == previous)
+				{
+					continue;
+				}
+
+				move(to);
+				if (seen.add(new Key(board)))
+				{
+					boards.add(new Search(this));
+				}
+				undo(from);
+			}
+		}
+
+		/**
+		 * The cell the blank was in before the last move, or -1 if no moves were made
+		 */
+		private int previousBlank()
+		{
+			if (depth == 0)
+			{
+				return -1;
+			}
+
+			return depth > 1 ? moves[depth - 2] : start;
+		}
+
+		/**
+		 * Searches for the goal within {@code bound} moves
+		 *
+		 * @param bound the most moves a path may need, by the heuristic
+		 * @param done set when the search should stop, or null
+		 * @return {@link #FOUND} if the goal was found, {@link #CANCELLED} if the
+		 * search was interrupted, otherwise the lowest bound exceeded
+		 */
+		int search(int bound, AtomicBoolean done)
+		{
+			final int result = search(bound, previousBlank(), done);
+			if (result == FOUND && done != null)
+			{
+				done.set(true);
+			}
+			return result;
+		}
+
+		private int search(int bound, int previous, AtomicBoolean done)
+		{
+			final int h = distance + conflict;
+			final int f = depth + h;
+
+			if (f > bound)
+			{
+				return f;
+			}
+
+			if (h == 0)
+			{
+				return FOUND;
+			}
+
+			if (++nodes == CHECK_INTERVAL)
+			{
+				nodes = 0;
+				if (Thread.currentThread().isInterrupted() || (done != null && done.get()))
+				{
+					return CANCELLED;
+				}
+			}
+
+			int min = Integer.MAX_VALUE;
+			final int from = blank;
+
+			for (int to : NEIGHBOURS[from])
+			{
+				// undoing the last move can't lead anywhere new
+				if (to == previous)
+				{
+					continue;
+				}
+
+				move(to);
+				final int result = search(bound, from, done);
+
+				if (result == FOUND)
+				{
+					return FOUND;
+				}
+
+				undo(from);
+
+				if (result == CANCELLED)
+				{
+					return CANCELLED;
+				}
+
+				min = Math.min(min, result);
+			}
+
+			return min;
+		}
+
+		/**
+		 * Moves the tile in {@code to} into the blank
+		 */
+		private void move(int to)
+		{
+			final int from = blank;
+			final int tile = board[to];
+
+			board[from] = tile;
+			board[to] = BLANK;
+			blank = to;
+			distance += DISTANCE[tile][from] - DISTANCE[tile][to];
+
+			if (depth == moves.length)
+			{
+				final int[] grown = new int[moves.length * 2];
+				System.arraycopy(moves, 0, grown, 0, moves.length);
+				moves = grown;
+			}
+			moves[depth++] = to;
+
+			updateConflicts(tile, to, from);
+		}
+
+		/**
+		 * Moves the tile back from the blank into {@code from}, undoing the last move
+		 */
+		private void undo(int from)
+		{
+			final int to = blank;
+			final int tile = board[from];
+
+			board[to] = tile;
+			board[from] = BLANK;
+			blank = from;
+			distance += DISTANCE[tile][to] - DISTANCE[tile][from];
+			--depth;
+
+			updateConflicts(tile, to, from);
+		}
+
+		/**
+		 * Updates the linear conflicts after {@code tile} moved between {@code from} and {@code to}.
+		 * A tile moving along a row keeps its order in the row, so only the column it
+		 * left or entered can change, and only if the tile belongs in that column.
+		 * Likewise for a tile moving along a column.
+		 */
+		private void updateConflicts(int tile, int from, int to)
+		{
+			if (from / DIMENSION == to / DIMENSION)
+			{
+				final int column = tile % DIMENSION;
+				if (column == from % DIMENSION || column == to % DIMENSION)
+				{
+					updateLine(DIMENSION + column, columnConflicts(column));
+				}
+			}
+			else
+			{
+				final int row = tile / DIMENSION;
+				if (row == from / DIMENSION || row == to / DIMENSION)
+				{
+					updateLine(row, rowConflicts(row));
+				}
+			}
+		}
+
+		private void updateLine(int index, int value)
+		{
+			conflict += value - conflicts[index];
+			conflicts[index] = value;
+		}
+
+		private int rowConflicts(int row)
+		{
+			int index = 0;
+			for (int x = 0; x < DIMENSION; ++x)
+			{
+				final int tile = board[row * DIMENSION + x];
+				index = index * (DIMENSION + 1) + (tile != BLANK && tile / DIMENSION == row ? tile % DIMENSION + 1 : 0);
+			}
+			return LINE_CONFLICTS[index];
+		}
+
+		private int columnConflicts(int column)
+		{
+			int index = 0;
+			for (int y = 0; y < DIMENSION; ++y)
+			{
+				final int tile = board[y * DIMENSION + column];
+				index = index * (DIMENSION + 1) + (tile != BLANK && tile % DIMENSION == column ? tile / DIMENSION + 1 : 0);
+			}
+			return LINE_CONFLICTS[index];
+		}
+	}
+}
@@ -38,6 +38,14 @@ public abstract class Pathfinder
 		this.heuristic = heuristic;
 	}
 
+	/**
+	 * Creates a pathfinder which computes its own heuristic
+	 */
+	Pathfinder()
+	{
+		this(null);
+	}
+
 	Heuristic getHeuristic()
 	{
 		return heuristic;
@@ -43,7 +43,6 @@ import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.time.LocalDate;
 import java.util.Date;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Consumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -75,6 +74,7 @@ import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.PluginDescriptor;
 import net.runelite.client.plugins.screenshot.imgur.ImageUploadRequest;
 import net.runelite.client.plugins.screenshot.imgur.ImageUploadResponse;
+import net.runelite.client.task.ExecutorPools;
 import net.runelite.client.ui.ClientUI;
 import net.runelite.client.ui.DrawManager;
 import net.runelite.client.ui.NavigationButton;
@@ -137,7 +137,7 @@ public class ScreenshotPlugin extends Plugin
 	private ScreenshotInput inputListener;
 
 	@Inject
-	private ScheduledExecutorService executor;
+	private ExecutorPools executorPools;
 
 	@Inject
 	private KeyManager keyManager;
@@ -446,7 +446,7 @@ public class ScreenshotPlugin extends Plugin
 
 			playerFolder.mkdirs();
 
-			executor.execute(() ->
+			executorPools.getIoExecutor().execute(() ->
 			{
 				try
 				{
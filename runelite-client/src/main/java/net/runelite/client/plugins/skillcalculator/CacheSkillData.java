@@ -24,28 +24,63 @@
  */
 package net.runelite.client.plugins.skillcalculator;
 
-import com.google.gson.Gson;
+import com.google.common.io.ByteStreams;
+import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.util.HashMap;
 import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
 import net.runelite.client.plugins.skillcalculator.beans.SkillData;
 
+/**
+ * Loads skill data, preferring the binary form compiled from the json by
+ * {@link SkillDataCompiler} during the build, and falling back to the json
+ * when the binary form is missing or was compiled from different json, such
+ * as after the json is edited and rebuilt by an IDE.
+ */
+@Slf4j
 class CacheSkillData
 {
 	private final Map<String, SkillData> cache = new HashMap<>();
 
 	SkillData getSkillData(String dataFile)
 	{
-		if (cache.containsKey(dataFile))
+		return cache.computeIfAbsent(dataFile, CacheSkillData::loadSkillData);
+	}
+
+	private static SkillData loadSkillData(String dataFile)
+	{
+		final byte[] json;
+		try (InputStream in = SkillCalculatorPlugin.class.getResourceAsStream(dataFile))
+		{
+			json = ByteStreams.toByteArray(in);
+		}
+		catch (IOException ex)
 		{
-			return cache.get(dataFile);
+			throw new RuntimeException("unable to read skill data " + dataFile, ex);
 		}
 
-		InputStream skillDataFile = SkillCalculatorPlugin.class.getResourceAsStream(dataFile);
-		SkillData skillData = new Gson().fromJson(new InputStreamReader(skillDataFile), SkillData.class);
+		final String compiledFile = dataFile.replace(".json", ".dat");
+
+		try (InputStream in = SkillCalculatorPlugin.class.getResourceAsStream(compiledFile))
+		{
+			if (in != null)
+			{
+				final SkillData skillData = SkillDataCompiler.read(ByteStreams.toByteArray(in), json);
+				if (skillData != null)
+				{
+					return skillData;
+				}
+
+				log.debug("Compiled skill data {} is out of date", compiledFile);
+			}
+		}
+		catch (IOException ex)
+		{
+			log.warn("unable to read compiled skill data {}", compiledFile, ex);
+		}
 
-		cache.put(dataFile, skillData);
-		return skillData;
+		log.debug("Loading skill data from {}", dataFile);
+		return SkillDataCompiler.parse(json);
 	}
-}
\ No newline at end of file
+}
@@ -25,19 +25,26 @@
 package net.runelite.client.plugins.skillcalculator;
 
 import java.awt.BorderLayout;
+import java.awt.Dimension;
+import java.awt.Rectangle;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
+import java.awt.image.BufferedImage;
 import java.text.DecimalFormat;
 import java.text.NumberFormat;
 import java.util.ArrayList;
-import java.util.List;
 import javax.swing.BorderFactory;
 import javax.swing.BoxLayout;
+import javax.swing.Icon;
+import javax.swing.ImageIcon;
 import javax.swing.JCheckBox;
 import javax.swing.JLabel;
+import javax.swing.JList;
 import javax.swing.JPanel;
+import javax.swing.SwingUtilities;
 import net.runelite.api.Client;
 import net.runelite.api.Experience;
+import net.runelite.client.game.AsyncBufferedImage;
 import net.runelite.client.game.ItemManager;
 import net.runelite.client.game.SpriteManager;
 import net.runelite.client.plugins.skillcalculator.beans.SkillData;
@@ -48,16 +55,24 @@ class SkillCalculator extends JPanel
 {
 	private Client client;
 	private SkillData skillData;
-	private List<UIActionSlot> uiActionSlots = new ArrayList<>();
 	private UICalculatorInputArea uiInput;
 
+	// The actions are shown in a list which only renders the visible rows,
+	// reusing one slot to paint each of them.
+	private final JList<SkillDataEntry> uiActionList = new JList<>();
+	private final UIActionSlot uiActionRenderer = new UIActionSlot();
+
+	// Icons of the actions, loaded as their rows are first shown.
+	private Icon[] actionIcons = new Icon[0];
+	private boolean[] selectedActions = new boolean[0];
+
 	private CacheSkillData cacheSkillData = new CacheSkillData();
 
 	static SpriteManager spriteManager;
 	static ItemManager itemManager;
 
 	private UICombinedActionSlot combinedActionSlot = new UICombinedActionSlot();
-	private ArrayList<UIActionSlot> combinedActionSlots = new ArrayList<>();
+	private ArrayList<Integer> combinedActionSlots = new ArrayList<>();
 
 	private int currentLevel = 1;
 	private int currentXP = Experience.getXpForLevel(currentLevel);
@@ -69,6 +84,8 @@ class SkillCalculator extends JPanel
 
 	private static DecimalFormat XP_FORMAT = new DecimalFormat("#.#");
 
+	private static final Icon NO_ICON = new ImageIcon(new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB));
+
 	SkillCalculator(Client client, UICalculatorInputArea uiInput)
 	{
 		this.client = client;
@@ -82,6 +99,39 @@ class SkillCalculator extends JPanel
 		uiInput.uiFieldCurrentXP.addActionListener(e -> onFieldCurrentXPUpdated());
 		uiInput.uiFieldTargetLevel.addActionListener(e -> onFieldTargetLevelUpdated());
 		uiInput.uiFieldTargetXP.addActionListener(e -> onFieldTargetXPUpdated());
+
+		SkillDataEntry prototype = new SkillDataEntry();
+		prototype.name = "Action";
+		prototype.xp = 1;
+
+		// Size the rows from a prototype, so the list doesn't render every row to measure it.
+		uiActionList.setCellRenderer((list, action, index, isSelected, cellHasFocus) -> renderActionSlot(action, index));
+		uiActionList.setPrototypeCellValue(prototype);
+		uiActionList.setMaximumSize(new Dimension(Integer.MAX_VALUE, Integer.MAX_VALUE));
+		uiActionList.setBackground(getBackground());
+		uiActionList.addMouseListener(new MouseAdapter()
+		{
+			@Override
+			public void mousePressed(MouseEvent e)
+			{
+				int index = uiActionList.locationToIndex(e.getPoint());
+				Rectangle bounds = index != -1 ? uiActionList.getCellBounds(index, index) : null;
+				if (bounds == null || !bounds.contains(e.getPoint()))
+					return;
+
+				if (!e.isShiftDown())
+					clearCombinedSlots();
+
+				if (selectedActions[index])
+					combinedActionSlots.remove((Integer) index);
+				else
+					combinedActionSlots.add(index);
+
+				selectedActions[index] = !selectedActions[index];
+				updateCombinedAction();
+				uiActionList.repaint();
+			}
+		});
 	}
 
 	void openCalculator(CalculatorType calculatorType)
@@ -136,8 +186,8 @@ class SkillCalculator extends JPanel
 		int neededXP = targetXP - currentXP;
 		double xp = 0;
 
-		for (UIActionSlot slot : combinedActionSlots)
-			xp += slot.value;
+		for (int index : combinedActionSlots)
+			xp += skillData.actions[index].xp * xpFactor;
 
 		if (neededXP > 0)
 			actionCount = (int) Math.ceil(neededXP / xp);
@@ -147,8 +197,8 @@ class SkillCalculator extends JPanel
 
 	private void clearCombinedSlots()
 	{
-		for (UIActionSlot slot : combinedActionSlots)
-			slot.setSelected(false);
+		for (int index : combinedActionSlots)
+			selectedActions[index] = false;
 
 		combinedActionSlots.clear();
 	}
@@ -178,55 +228,74 @@ class SkillCalculator extends JPanel
 
 	private void renderActionSlots()
 	{
-		// Wipe the list of references to the slot components.
-		uiActionSlots.clear();
-
-		// Create new components for the action slots.
-		for (SkillDataEntry action : skillData.actions)
-		{
-			UIActionSlot slot = new UIActionSlot(action);
-			uiActionSlots.add(slot); // Keep our own reference.
-			add(slot); // Add component to the panel.
+		// Forget the selection and icons of the previous skill's actions.
+		combinedActionSlots.clear();
+		actionIcons = new Icon[skillData.actions.length];
+		selectedActions = new boolean[skillData.actions.length];
+		updateCombinedAction();
 
-			slot.addMouseListener(new MouseAdapter()
-			{
-				@Override
-				public void mousePressed(MouseEvent e)
-				{
-					if (!e.isShiftDown())
-						clearCombinedSlots();
-
-					if (slot.isSelected)
-						combinedActionSlots.remove(slot);
-					else
-						combinedActionSlots.add(slot);
-
-					slot.setSelected(!slot.isSelected);
-					updateCombinedAction();
-				}
-			});
-		}
+		uiActionList.setListData(skillData.actions);
+		add(uiActionList);
 
 		// Refresh the rendering of this panel.
 		revalidate();
 		repaint();
 	}
 
-	private void calculate()
+	private UIActionSlot renderActionSlot(SkillDataEntry action, int index)
 	{
-		for (UIActionSlot slot : uiActionSlots)
-		{
-			int actionCount = 0;
-			int neededXP = targetXP - currentXP;
-			double xp = slot.action.xp * xpFactor;
+		// The text is worked out as the row is painted, so changing the
+		// levels or bonuses only costs as much as the visible rows.
+		int actionCount = 0;
+		int neededXP = targetXP - currentXP;
+		double xp = action.xp * xpFactor;
 
-			if (neededXP > 0)
-				actionCount = (int) Math.ceil(neededXP / xp);
+		if (neededXP > 0)
+			actionCount = (int) Math.ceil(neededXP / xp);
+
+		// The prototype row used for sizing has no index.
+		boolean isRow = index >= 0 && index < actionIcons.length;
+
+		uiActionRenderer.setAction(action, isRow ? getActionIcon(index) : NO_ICON);
+		uiActionRenderer.setText(formatXPActionString(xp, actionCount));
+		uiActionRenderer.setAvailable(currentLevel >= action.level);
+		uiActionRenderer.setSelected(isRow && selectedActions[index]);
+		return uiActionRenderer;
+	}
 
-			slot.setText(formatXPActionString(xp, actionCount));
-			slot.setAvailable(currentLevel >= slot.action.level);
-			slot.value = xp;
+	private Icon getActionIcon(int index)
+	{
+		Icon icon = actionIcons[index];
+		if (icon != null)
+			return icon;
+
+		SkillDataEntry action = skillData.actions[index];
+		Icon[] icons = actionIcons;
+		icon = NO_ICON;
+
+		if (action.icon != null)
+		{
+			AsyncBufferedImage image = itemManager.getImage(action.icon);
+			image.onChanged(uiActionList::repaint);
+			icon = new ImageIcon(image);
 		}
+		else if (action.sprite != null)
+		{
+			spriteManager.getSpriteAsync(action.sprite, 0, image -> SwingUtilities.invokeLater(() ->
+			{
+				icons[index] = new ImageIcon(image);
+				uiActionList.repaint();
+			}));
+		}
+
+		icons[index] = icon;
+		return icon;
+	}
+
+	private void calculate()
+	{
+		// Rows are worked out as they are painted.
+		uiActionList.repaint();
 	}
 
 	private String formatXPActionString(double xp, int actionCount)
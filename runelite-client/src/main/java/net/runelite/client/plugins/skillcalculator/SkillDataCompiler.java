@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2018, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.skillcalculator;
+
+import com.google.common.io.Files;
+import com.google.gson.Gson;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+import net.runelite.client.plugins.skillcalculator.beans.SkillData;
+import net.runelite.client.plugins.skillcalculator.beans.SkillDataBonus;
+import net.runelite.client.plugins.skillcalculator.beans.SkillDataEntry;
+
+/**
+ * Compiles the skill calculator's json data files into a compact binary form,
+ * so the client doesn't have to parse json when a calculator is opened. This
+ * is run over the client's output directory by the build.
+ * <p>
+ * Each file is written as the crc of the json it was compiled from, the number
+ * of actions, followed by each action's name, level, xp, item icon and sprite
+ * (-1 for none), then the number of bonuses, followed by each bonus's name and
+ * value.
+ */
+public class SkillDataCompiler
+{
+	private static final Gson GSON = new Gson();
+
+	public static void main(String[] args) throws IOException
+	{
+		if (args.length != 1)
+		{
+			System.err.println("Usage: SkillDataCompiler <skill data directory>");
+			System.exit(1);
+		}
+
+		final File directory = new File(args[0]);
+		final File[] dataFiles = directory.listFiles((dir, name) -> name.startsWith("skill_") && name.endsWith(".json"));
+		if (dataFiles == null)
+		{
+			throw new IOException("unable to list skill data directory " + directory);
+		}
+
+		for (File dataFile : dataFiles)
+		{
+			final String name = dataFile.getName();
+			final File outFile = new File(directory, name.substring(0, name.length() - ".json".length()) + ".dat");
+			final byte[] compiled = compile(Files.toByteArray(dataFile));
+
+			// leave unchanged output alone so it doesn't look modified to later build steps
+			if (!outFile.exists() || !Arrays.equals(Files.toByteArray(outFile), compiled))
+			{
+				Files.write(compiled, outFile);
+			}
+		}
+
+		System.out.println("Compiled " + dataFiles.length + " skill data files");
+	}
+
+	/**
+	 * Compiles a json data file
+	 *
+	 * @param json the json data file
+	 * @return the compiled data
+	 */
+	static byte[] compile(byte[] json) throws IOException
+	{
+		final SkillData skillData = parse(json);
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		try (DataOutputStream fout = new DataOutputStream(out))
+		{
+			fout.writeInt(crc(json));
+
+			final SkillDataEntry[] actions = skillData.actions != null ? skillData.actions : new SkillDataEntry[0];
+			fout.writeShort(actions.length);
+			for (SkillDataEntry action : actions)
+			{
+				fout.writeUTF(action.name);
+				fout.writeShort(action.level);
+				fout.writeDouble(action.xp);
+				fout.writeInt(action.icon != null ? action.icon : -1);
+				fout.writeInt(action.sprite != null ? action.sprite : -1);
+			}
+
+			final SkillDataBonus[] bonuses = skillData.bonuses != null ? skillData.bonuses : new SkillDataBonus[0];
+			fout.writeShort(bonuses.length);
+			for (SkillDataBonus bonus : bonuses)
+			{
+				fout.writeUTF(bonus.name);
+				fout.writeFloat(bonus.value);
+			}
+		}
+
+		return out.toByteArray();
+	}
+
+	/**
+	 * Reads compiled data, if it was compiled from the given json
+	 *
+	 * @param compiled the compiled data
+	 * @param json the json data file
+	 * @return the data, or null if it was compiled from different json
+	 */
+	static SkillData read(byte[] compiled, byte[] json) throws IOException
+	{
+		final DataInputStream in = new DataInputStream(new ByteArrayInputStream(compiled));
+		if (in.readInt() != crc(json))
+		{
+			return null;
+		}
+
+		final SkillData skillData = new SkillData();
+
+		skillData.actions = new SkillDataEntry[in.readUnsignedShort()];
+		for (int i = 0; i < skillData.actions.length; ++i)
+		{
+			final SkillDataEntry action = new SkillDataEntry();
+			action.name = in.readUTF();
+			action.level = in.readUnsignedShort();
+			action.xp = in.readDouble();
+
+			final int icon = in.readInt();
+			final int sprite = in.readInt();
+			action.icon = icon != -1 ? icon : null;
+			action.sprite = sprite != -1 ? sprite : null;
+
+			skillData.actions[i] = action;
+		}
+
+		final int bonusCount = in.readUnsignedShort();
+		if (bonusCount > 0)
+		{
+			skillData.bonuses = new SkillDataBonus[bonusCount];
+			for (int i = 0; i < bonusCount; ++i)
+			{
+				final SkillDataBonus bonus = new SkillDataBonus();
+				bonus.name = in.readUTF();
+				bonus.value = in.readFloat();
+				skillData.bonuses[i] = bonus;
+			}
+		}
+
+		return skillData;
+	}
+
+	static SkillData parse(byte[] json)
+	{
+		return GSON.fromJson(new InputStreamReader(new ByteArrayInputStream(json), StandardCharsets.UTF_8), SkillData.class);
+	}
+
+	private static int crc(byte[] data)
+	{
+		final CRC32 crc32 = new CRC32();
+		crc32.update(data);
+		return (int) crc32.getValue();
+	}
+}
@@ -30,41 +30,37 @@ import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.GridLayout;
 import javax.swing.BorderFactory;
+import javax.swing.Icon;
 import javax.swing.JLabel;
 import javax.swing.JPanel;
 import net.runelite.client.plugins.skillcalculator.beans.SkillDataEntry;
 import net.runelite.client.ui.FontManager;
 import net.runelite.client.ui.components.shadowlabel.JShadowedLabel;
 
+/**
+ * Renders the rows of the action list. A single slot is reused for every
+ * row, so it is set up for each action as the row is painted.
+ */
 class UIActionSlot extends JPanel
 {
-	SkillDataEntry action;
+	private final JLabel uiIcon;
+	private final JShadowedLabel uiLabelName;
 	private JShadowedLabel uiLabelActions;
 	private static final Dimension ICON_SIZE = new Dimension(32, 32);
 	private final JPanel uiInfo;
 
-	boolean isAvailable = false;
-	boolean isSelected = false;
-
-	double value = 0;
+	private boolean isAvailable = false;
+	private boolean isSelected = false;
 
-	UIActionSlot(SkillDataEntry action)
+	UIActionSlot()
 	{
-		this.action = action;
-
 		BorderLayout layout = new BorderLayout();
 		layout.setHgap(8);
 		setLayout(layout);
 
 		setBorder(BorderFactory.createEmptyBorder(4, 4, 4, 4));
 
-		JLabel uiIcon = new JLabel();
-
-		if (action.icon != null)
-			SkillCalculator.itemManager.getImage(action.icon).addTo(uiIcon);
-		else if (action.sprite != null)
-			SkillCalculator.spriteManager.addSpriteTo(uiIcon, action.sprite, 0);
-
+		uiIcon = new JLabel();
 		uiIcon.setMinimumSize(ICON_SIZE);
 		uiIcon.setMaximumSize(ICON_SIZE);
 		uiIcon.setPreferredSize(ICON_SIZE);
@@ -73,7 +69,7 @@ class UIActionSlot extends JPanel
 
 		uiInfo = new JPanel(new GridLayout(2, 1));
 
-		JShadowedLabel uiLabelName = new JShadowedLabel(action.name);
+		uiLabelName = new JShadowedLabel();
 		uiInfo.add(uiLabelName);
 
 		uiLabelActions = new JShadowedLabel("Unknown");
@@ -83,6 +79,12 @@ class UIActionSlot extends JPanel
 		add(uiInfo, BorderLayout.CENTER);
 	}
 
+	void setAction(SkillDataEntry action, Icon icon)
+	{
+		uiLabelName.setText(action.name);
+		uiIcon.setIcon(icon);
+	}
+
 	void setSelected(boolean selected)
 	{
 		isSelected = selected;
@@ -109,4 +111,4 @@ class UIActionSlot extends JPanel
 
 		uiInfo.setBackground(getBackground());
 	}
-}
\ No newline at end of file
+}
@@ -28,7 +28,7 @@ import com.google.common.eventbus.Subscribe;
 import java.io.IOException;
 import java.util.HashSet;
 import java.util.Set;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ExecutorService;
 import javax.inject.Inject;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Client;
@@ -53,7 +53,7 @@ public class XteaPlugin extends Plugin
 	private Client client;
 
 	@Inject
-	private ScheduledExecutorService executor;
+	private ExecutorService executor;
 
 	@Subscribe
 	public void onMapRegionChanged(MapRegionChanged event)
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2018, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.profiler;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Collects timings for overlays, event subscribers, client thread invokes and
+ * scheduled methods. Profiling is off by default, in which case the only cost
+ * to callers is a volatile read of {@link #isEnabled()}.
+ * <p>
+ * Callers time their own work and pass the elapsed nanoseconds to
+ * {@link #record(ProfileCategory, Object, long)}. The object being timed is
+ * normally a {@link Class} or {@link Method}; samples are grouped by its name so
+ * that the profiler does not keep classes from unloaded plugins alive.
+ */
+@Singleton
+@Slf4j
+public class Profiler
+{
+	private final Map<ProfileCategory, Map<String, SampleBuffer>> buffers = new EnumMap<>(ProfileCategory.class);
+	private final LoadingCache<Object, String> names = CacheBuilder.newBuilder()
+		.weakKeys()
+		.build(CacheLoader.from(Profiler::describe));
+
+	private volatile boolean enabled;
+
+	public Profiler()
+	{
+		for (ProfileCategory category : ProfileCategory.values())
+		{
+			buffers.put(category, new ConcurrentHashMap<>());
+		}
+	}
+
+	public boolean isEnabled()
+	{
+		return enabled;
+	}
+
+	public void setEnabled(boolean enabled)
+	{
+		this.enabled = enabled;
+	}
+
+	public void record(ProfileCategory category, Object key, long nanos)
+	{
+		final Map<String, SampleBuffer> map = buffers.get(category);
+		final String name = names.getUnchecked(key);
+		SampleBuffer buffer = map.get(name);
+
+		if (buffer == null)
+		{
+			buffer = map.computeIfAbsent(name, n -> new SampleBuffer(category, n, SampleBuffer.DEFAULT_CAPACITY));
+		}
+
+		buffer.record(nanos);
+	}
+
+	public List<ProfileSnapshot> snapshot()
+	{
+		final List<ProfileSnapshot> snapshots = new ArrayList<>();
+
+		for (Map<String, SampleBuffer> map : buffers.values())
+		{
+			for (SampleBuffer buffer : map.values())
+			{
+				if (buffer.getCount() > 0)
+				{
+					snapshots.add(buffer.snapshot());
+				}
+			}
+		}
+
+		return snapshots;
+	}
+
+	public void reset()
+	{
+		for (Map<String, SampleBuffer> map : buffers.values())
+		{
+			for (SampleBuffer buffer : map.values())
+			{
+				buffer.reset();
+			}
+		}
+	}
+
+	/**
+	 * Writes the current snapshot to a csv file, with durations in microseconds.
+	 */
+	public void dump(File file) throws IOException
+	{
+		try (PrintWriter writer = new PrintWriter(file, StandardCharsets.UTF_8.name()))
+		{
+			writer.println("category,name,count,mean_us,p50_us,p99_us,max_us");
+
+			for (ProfileSnapshot snapshot : snapshot())
+			{
+				writer.printf("%s,%s,%d,%.1f,%.1f,%.1f,%.1f%n",
+					snapshot.getCategory(),
+					snapshot.getName(),
+					snapshot.getCount(),
+					snapshot.getMean() / 1000.0,
+					snapshot.getP50() / 1000.0,
+					snapshot.getP99() / 1000.0,
+					snapshot.getMax() / 1000.0);
+			}
+		}
+
+		log.debug("Dumped profiler samples to {}", file);
+	}
+
+	static String describe(Object key)
+	{
+		if (key instanceof Method)
+		{
+			final Method method = (Method) key;
+			return method.getDeclaringClass().getName() + "." + method.getName();
+		}
+
+		if (key instanceof Class)
+		{
+			final String name = ((Class<?>) key).getName();
+			// lambda classes are named Outer$$Lambda$<index>/<hash>; keep the
+			// declaring class and index so each lambda gets its own row
+			final int idx = name.indexOf("$$Lambda$");
+			if (idx == -1)
+			{
+				return name;
+			}
+
+			final int end = name.indexOf('/', idx);
+			return name.substring(0, idx) + "$lambda$" + name.substring(idx + 9, end != -1 ? end : name.length());
+		}
+
+		return String.valueOf(key);
+	}
+}
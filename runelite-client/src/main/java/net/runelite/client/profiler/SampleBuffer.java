@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2018, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.profiler;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import lombok.Getter;
+
+/**
+ * Fixed size ring buffer of timing samples. Writers claim a slot with a single
+ * atomic increment and never block, readers copy out whatever the buffer holds
+ * when asked for a snapshot.
+ */
+public class SampleBuffer
+{
+	static final int DEFAULT_CAPACITY = 512;
+
+	@Getter
+	private final ProfileCategory category;
+
+	@Getter
+	private final String name;
+
+	private final AtomicLongArray samples;
+	private final int mask;
+	private final AtomicLong count = new AtomicLong();
+
+	SampleBuffer(ProfileCategory category, String name, int capacity)
+	{
+		if (Integer.bitCount(capacity) != 1)
+		{
+			throw new IllegalArgumentException("capacity must be a power of two");
+		}
+
+		this.category = category;
+		this.name = name;
+		this.samples = new AtomicLongArray(capacity);
+		this.mask = capacity - 1;
+	}
+
+	public void record(long nanos)
+	{
+		final long index = count.getAndIncrement();
+		samples.lazySet((int) (index & mask), nanos);
+	}
+
+	public long getCount()
+	{
+		return count.get();
+	}
+
+	public ProfileSnapshot snapshot()
+	{
+		final long total = count.get();
+		final int size = (int) Math.min(total, samples.length());
+
+		if (size == 0)
+		{
+			return new ProfileSnapshot(category, name, 0, 0, 0, 0, 0);
+		}
+
+		// Samples are written after the count is bumped, so the newest few may
+		// still hold an older value. That is fine for a rolling percentile.
+		final long[] copy = new long[size];
+		long sum = 0;
+		for (int i = 0; i < size; ++i)
+		{
+			copy[i] = samples.get(i);
+			sum += copy[i];
+		}
+
+		Arrays.sort(copy);
+
+		return new ProfileSnapshot(category, name, total,
+			sum / size,
+			percentile(copy, 50),
+			percentile(copy, 99),
+			copy[size - 1]);
+	}
+
+	void reset()
+	{
+		for (int i = 0; i < samples.length(); ++i)
+		{
+			samples.set(i, 0);
+		}
+		count.set(0);
+	}
+
+	private static long percentile(long[] sorted, int percent)
+	{
+		return sorted[(sorted.length - 1) * percent / 100];
+	}
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2018, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.task;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Task counts and timings of an executor
+ */
+public class ExecutorMetrics
+{
+	private final LongAdder submitted = new LongAdder();
+	private final LongAdder started = new LongAdder();
+	private final LongAdder completed = new LongAdder();
+	private final LongAdder saturated = new LongAdder();
+	private final LongAdder waitNanos = new LongAdder();
+	private final LongAdder runNanos = new LongAdder();
+	private final LongAccumulator maxWaitNanos = new LongAccumulator(Math::max, 0);
+	private final LongAccumulator maxRunNanos = new LongAccumulator(Math::max, 0);
+
+	void taskSubmitted()
+	{
+		submitted.increment();
+	}
+
+	void taskSaturated()
+	{
+		saturated.increment();
+	}
+
+	void taskStarted(long waitNanos)
+	{
+		started.increment();
+		this.waitNanos.add(waitNanos);
+		maxWaitNanos.accumulate(waitNanos);
+	}
+
+	void taskCompleted(long runNanos)
+	{
+		completed.increment();
+		this.runNanos.add(runNanos);
+		maxRunNanos.accumulate(runNanos);
+	}
+
+	public long getSubmitted()
+	{
+		return submitted.sum();
+	}
+
+	public long getCompleted()
+	{
+		return completed.sum();
+	}
+
+	/**
+	 * @return number of tasks which found the executor saturated
+	 */
+	public long getSaturated()
+	{
+		return saturated.sum();
+	}
+
+	/**
+	 * @return average time tasks spent queued before starting
+	 */
+	public double getAverageWaitMillis()
+	{
+		return average(waitNanos.sum(), started.sum());
+	}
+
+	public double getMaxWaitMillis()
+	{
+		return millis(maxWaitNanos.get());
+	}
+
+	public double getAverageRunMillis()
+	{
+		return average(runNanos.sum(), completed.sum());
+	}
+
+	public double getMaxRunMillis()
+	{
+		return millis(maxRunNanos.get());
+	}
+
+	private static double average(long nanos, long count)
+	{
+		return count == 0 ? 0 : millis(nanos) / count;
+	}
+
+	private static double millis(long nanos)
+	{
+		return (double) nanos / TimeUnit.MILLISECONDS.toNanos(1);
+	}
+}
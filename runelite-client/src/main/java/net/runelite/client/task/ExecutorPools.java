@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2018, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.task;
+
+import com.google.common.collect.ImmutableList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * The client's executors, one per kind of work, so that a slow task of one
+ * kind doesn't hold up the others.
+ */
+public class ExecutorPools
+{
+	private static final int IO_THREADS = 4;
+	private static final int SATURATION_THRESHOLD = 256;
+
+	/**
+	 * For blocking work, such as http requests and file writes
+	 */
+	private final WorkerPool ioExecutor = new WorkerPool("io", IO_THREADS, SATURATION_THRESHOLD);
+
+	/**
+	 * For computation, leaving a processor for the client thread
+	 */
+	private final WorkerPool cpuExecutor = new WorkerPool("cpu",
+		Math.max(1, Runtime.getRuntime().availableProcessors() - 1), SATURATION_THRESHOLD);
+
+	/**
+	 * For delayed and periodic tasks. Tasks on this executor should be
+	 * short, and hand off longer work to the other executors.
+	 */
+	private final TimerPool timerExecutor = new TimerPool("timer", 1);
+
+	public ExecutorService getIoExecutor()
+	{
+		return ioExecutor;
+	}
+
+	public ExecutorService getCpuExecutor()
+	{
+		return cpuExecutor;
+	}
+
+	public ScheduledExecutorService getTimerExecutor()
+	{
+		return timerExecutor;
+	}
+
+	public List<MonitoredExecutor> getExecutors()
+	{
+		return ImmutableList.of(ioExecutor, cpuExecutor, timerExecutor);
+	}
+}
@@ -24,6 +24,7 @@
  */
 package net.runelite.client.task;
 
+import com.google.common.util.concurrent.MoreExecutors;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.time.Duration;
@@ -31,10 +32,12 @@ import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Executor;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.profiler.ProfileCategory;
+import net.runelite.client.profiler.Profiler;
 
 @Singleton
 @Slf4j
@@ -42,8 +45,17 @@ public class Scheduler
 {
 	private final List<ScheduledMethod> scheduledMethods = new CopyOnWriteArrayList<>();
 
+	private Executor executor;
+
+	@Inject
+	private Profiler profiler;
+
 	@Inject
-	ScheduledExecutorService executor;
+	void setExecutorPools(ExecutorPools executorPools)
+	{
+		// asynchronous tasks run one at a time, as they did on the shared executor
+		executor = MoreExecutors.sequentialExecutor(executorPools.getIoExecutor());
+	}
 
 	public void addScheduledMethod(ScheduledMethod method)
 	{
@@ -81,7 +93,7 @@ public class Scheduler
 
 				if (schedule.asynchronous())
 				{
-					executor.submit(() -> run(scheduledMethod));
+					executor.execute(() -> run(scheduledMethod));
 				}
 				else
 				{
@@ -94,6 +106,8 @@ public class Scheduler
 	private void run(ScheduledMethod scheduledMethod)
 	{
 		Method method = scheduledMethod.getMethod();
+		boolean profile = profiler.isEnabled();
+		long start = profile ? System.nanoTime() : 0;
 
 		try
 		{
@@ -107,5 +121,12 @@ public class Scheduler
 		{
 			log.warn("error during scheduled task", ex);
 		}
+		finally
+		{
+			if (profile)
+			{
+				profiler.record(ProfileCategory.SCHEDULED, method, System.nanoTime() - start);
+			}
+		}
 	}
 }
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2018, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.task;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RunnableScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * A scheduled executor for timers and periodic tasks. The wait time of a
+ * task is how late it started after its scheduled time. Each run of a
+ * periodic task counts as a submission, so that submissions, starts and
+ * completions can be compared.
+ */
+public class TimerPool extends ScheduledThreadPoolExecutor implements MonitoredExecutor
+{
+	private final String name;
+	private final ExecutorMetrics metrics = new ExecutorMetrics();
+	private final ThreadLocal<Long> started = new ThreadLocal<>();
+
+	public TimerPool(String name, int threads)
+	{
+		super(threads, new ThreadFactoryBuilder().setNameFormat(name + "-%d").build());
+		this.name = name;
+	}
+
+	@Override
+	protected <V> RunnableScheduledFuture<V> decorateTask(Runnable runnable, RunnableScheduledFuture<V> task)
+	{
+		metrics.taskSubmitted();
+		return new CountedTask<>(task);
+	}
+
+	@Override
+	protected <V> RunnableScheduledFuture<V> decorateTask(Callable<V> callable, RunnableScheduledFuture<V> task)
+	{
+		metrics.taskSubmitted();
+		return new CountedTask<>(task);
+	}
+
+	@Override
+	protected void beforeExecute(Thread t, Runnable r)
+	{
+		super.beforeExecute(t, r);
+
+		long late = r instanceof RunnableScheduledFuture
+			? -((RunnableScheduledFuture<?>) r).getDelay(TimeUnit.NANOSECONDS)
+			: 0;
+		metrics.taskStarted(Math.max(late, 0));
+		started.set(System.nanoTime());
+	}
+
+	@Override
+	protected void afterExecute(Runnable r, Throwable t)
+	{
+		super.afterExecute(r, t);
+		metrics.taskCompleted(System.nanoTime() - started.get());
+	}
+
+	@Override
+	public String getName()
+	{
+		return name;
+	}
+
+	@Override
+	public ExecutorMetrics getMetrics()
+	{
+		return metrics;
+	}
+
+	@Override
+	public int getQueueSize()
+	{
+		return getQueue().size();
+	}
+
+	@Override
+	public int getSaturationThreshold()
+	{
+		return -1;
+	}
+
+	/**
+	 * Counts a submission each time a periodic task is queued again for its next run
+	 */
+	private final class CountedTask<V> implements RunnableScheduledFuture<V>
+	{
+		private final RunnableScheduledFuture<V> task;
+
+		private CountedTask(RunnableScheduledFuture<V> task)
+		{
+			this.task = task;
+		}
+
+		@Override
+		public void run()
+		{
+			task.run();
+
+			if (task.isPeriodic() && !task.isDone() && !isShutdown())
+			{
+				metrics.taskSubmitted();
+			}
+		}
+
+		@Override
+		public boolean isPeriodic()
+		{
+			return task.isPeriodic();
+		}
+
+		@Override
+		public long getDelay(TimeUnit unit)
+		{
+			return task.getDelay(unit);
+		}
+
+		@Override
+		public int compareTo(Delayed other)
+		{
+			return task.compareTo(other);
+		}
+
+		@Override
+		public boolean cancel(boolean mayInterruptIfRunning)
+		{
+			return task.cancel(mayInterruptIfRunning);
+		}
+
+		@Override
+		public boolean isCancelled()
+		{
+			return task.isCancelled();
+		}
+
+		@Override
+		public boolean isDone()
+		{
+			return task.isDone();
+		}
+
+		@Override
+		public V get() throws InterruptedException, ExecutionException
+		{
+			return task.get();
+		}
+
+		@Override
+		public V get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException
+		{
+			return task.get(timeout, unit);
+		}
+	}
+}
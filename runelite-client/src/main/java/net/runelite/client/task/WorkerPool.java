@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2018, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.task;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * A fixed size pool of worker threads. Tasks are always queued, never run
+ * on the submitting thread, so that blocking work can't end up on the client
+ * thread. Tasks submitted while more than the saturation threshold are
+ * already queued are counted as saturated in the pool metrics.
+ */
+@Slf4j
+public class WorkerPool extends ThreadPoolExecutor implements MonitoredExecutor
+{
+	private final String name;
+	private final int saturationThreshold;
+	private final ExecutorMetrics metrics = new ExecutorMetrics();
+
+	public WorkerPool(String name, int threads, int saturationThreshold)
+	{
+		super(threads, threads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+			new ThreadFactoryBuilder().setNameFormat(name + "-%d").build());
+		this.name = name;
+		this.saturationThreshold = saturationThreshold;
+
+		allowCoreThreadTimeOut(true);
+		// the queue is unbounded, so tasks are only rejected after shutdown
+		setRejectedExecutionHandler((task, executor) -> log.debug("Dropping task submitted to {} after shutdown", name));
+	}
+
+	@Override
+	public void execute(Runnable command)
+	{
+		metrics.taskSubmitted();
+
+		if (getQueue().size() >= saturationThreshold)
+		{
+			metrics.taskSaturated();
+			log.debug("{} is saturated, {} tasks queued", name, getQueue().size());
+		}
+
+		super.execute(new TimedTask(command));
+	}
+
+	@Override
+	public String getName()
+	{
+		return name;
+	}
+
+	@Override
+	public ExecutorMetrics getMetrics()
+	{
+		return metrics;
+	}
+
+	@Override
+	public int getQueueSize()
+	{
+		return getQueue().size();
+	}
+
+	@Override
+	public int getSaturationThreshold()
+	{
+		return saturationThreshold;
+	}
+
+	private final class TimedTask implements Runnable
+	{
+		private final Runnable task;
+		private final long queued = System.nanoTime();
+
+		private TimedTask(Runnable task)
+		{
+			this.task = task;
+		}
+
+		@Override
+		public void run()
+		{
+			long start = System.nanoTime();
+			metrics.taskStarted(start - queued);
+
+			try
+			{
+				task.run();
+			}
+			finally
+			{
+				metrics.taskCompleted(System.nanoTime() - start);
+			}
+		}
+	}
+}
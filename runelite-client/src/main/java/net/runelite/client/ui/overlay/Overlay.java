@@ -26,7 +26,11 @@ package net.runelite.client.ui.overlay;
 
 import java.awt.Point;
 import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.Getter;
+import lombok.Setter;
 
 @Data
 public abstract class Overlay implements RenderableEntity
@@ -37,4 +41,50 @@ public abstract class Overlay implements RenderableEntity
 	private OverlayPosition position = OverlayPosition.TOP_LEFT;
 	private OverlayPriority priority = OverlayPriority.NONE;
 	private OverlayLayer layer = OverlayLayer.UNDER_WIDGETS;
+
+	/**
+	 * Time taken to draw this overlay on the last frame, in nanoseconds.
+	 */
+	@Setter(AccessLevel.NONE)
+	private transient long lastRenderNanos;
+
+	/**
+	 * Exponential moving average of {@link #getLastRenderNanos()}, in nanoseconds.
+	 */
+	@Setter(AccessLevel.NONE)
+	private transient long averageRenderNanos;
+
+	/**
+	 * Image of this overlay's last render into the render cache
+	 */
+	@Getter(AccessLevel.NONE)
+	@Setter(AccessLevel.NONE)
+	transient BufferedImage cachedImage;
+
+	/**
+	 * Whether {@link #cachedImage} holds the overlay as it is now
+	 */
+	@Getter(AccessLevel.NONE)
+	@Setter(AccessLevel.NONE)
+	transient boolean cachedImageValid;
+
+	void recordRenderTime(long nanos)
+	{
+		lastRenderNanos = nanos;
+		averageRenderNanos = averageRenderNanos == 0 ? nanos : averageRenderNanos + (nanos - averageRenderNanos) / 8;
+	}
+
+	/**
+	 * Whether everything this overlay draws, including its size, is unchanged
+	 * since the last frame. Overlays opt in to the render cache by overriding
+	 * this: while it returns true the overlay is drawn from an image of its
+	 * last render instead of being rendered again. Dynamic and tooltip overlays
+	 * are always rendered.
+	 *
+	 * @return true if the overlay can be drawn from the render cache
+	 */
+	public boolean isUnchanged()
+	{
+		return false;
+	}
 }
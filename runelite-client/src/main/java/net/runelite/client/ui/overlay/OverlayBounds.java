@@ -50,6 +50,15 @@ class OverlayBounds
 		aboveChatboxRight = new Rectangle(other.aboveChatboxRight);
 	}
 
+	void setFrom(OverlayBounds other)
+	{
+		topLeft.setBounds(other.topLeft);
+		topRight.setBounds(other.topRight);
+		bottomLeft.setBounds(other.bottomLeft);
+		bottomRight.setBounds(other.bottomRight);
+		aboveChatboxRight.setBounds(other.aboveChatboxRight);
+	}
+
 	OverlayBounds translated(final int x, final int y)
 	{
 		final OverlayBounds translated = new OverlayBounds(this);
@@ -24,15 +24,17 @@
  */
 package net.runelite.client.ui.overlay;
 
-import com.google.common.base.MoreObjects;
 import com.google.common.eventbus.Subscribe;
+import java.awt.AlphaComposite;
 import java.awt.Color;
 import java.awt.Dimension;
+import java.awt.Font;
 import java.awt.Graphics2D;
 import java.awt.Point;
 import java.awt.Rectangle;
 import java.awt.event.KeyEvent;
 import java.awt.event.MouseEvent;
+import java.awt.image.BufferedImage;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -48,6 +50,7 @@ import javax.swing.SwingUtilities;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Client;
 import net.runelite.api.GameState;
+import net.runelite.api.events.ConfigChanged;
 import net.runelite.api.events.FocusChanged;
 import net.runelite.api.events.GameStateChanged;
 import net.runelite.api.widgets.Widget;
@@ -61,6 +64,8 @@ import net.runelite.client.input.KeyManager;
 import net.runelite.client.input.MouseListener;
 import net.runelite.client.input.MouseManager;
 import net.runelite.client.plugins.PluginManager;
+import net.runelite.client.profiler.ProfileCategory;
+import net.runelite.client.profiler.Profiler;
 import net.runelite.client.ui.FontManager;
 import net.runelite.client.ui.overlay.infobox.InfoBoxOverlay;
 import net.runelite.client.ui.overlay.tooltip.TooltipOverlay;
@@ -93,6 +98,7 @@ public class OverlayRenderer extends MouseListener implements KeyListener
 	private final RuneLiteConfig runeLiteConfig;
 	private final TooltipOverlay tooltipOverlay;
 	private final WorldMapOverlay worldMapOverlay;
+	private final Profiler profiler;
 	private final List<Overlay> allOverlays = new CopyOnWriteArrayList<>();
 	private final String runeliteGroupName = RuneLiteConfig.class.getAnnotation(ConfigGroup.class).keyName();
 
@@ -108,6 +114,17 @@ public class OverlayRenderer extends MouseListener implements KeyListener
 	private boolean chatboxHidden;
 	private boolean isResizeable;
 	private OverlayBounds snapCorners;
+	private final OverlayBounds workingSnapCorners = new OverlayBounds(
+		new Rectangle(), new Rectangle(), new Rectangle(), new Rectangle(), new Rectangle());
+
+	// Reused each frame to avoid allocating in the render loop
+	private final Point dynamicPoint = new Point();
+	private final Point overlayLocation = new Point();
+	private final Dimension overlayDimension = new Dimension();
+
+	// Fonts from the config, looked up when it changes rather than for each overlay
+	private Font dynamicFont;
+	private Font tooltipFont;
 	private final Map<OverlayLayer, List<Overlay>> overlayLayerOverlayMap = Collections
 		.synchronizedMap(new HashMap<>());
 
@@ -121,7 +138,8 @@ public class OverlayRenderer extends MouseListener implements KeyListener
 		final InfoBoxOverlay infoBoxOverlay,
 		final WorldMapOverlay worldMapOverlay,
 		final ConfigManager configManager,
-		final RuneLiteConfig runeLiteConfig)
+		final RuneLiteConfig runeLiteConfig,
+		final Profiler profiler)
 	{
 		this.clientProvider = clientProvider;
 		this.pluginManager = pluginManager;
@@ -130,8 +148,25 @@ public class OverlayRenderer extends MouseListener implements KeyListener
 		this.worldMapOverlay = worldMapOverlay;
 		this.configManager = configManager;
 		this.runeLiteConfig = runeLiteConfig;
+		this.profiler = profiler;
 		keyManager.registerKeyListener(this);
 		mouseManager.registerMouseListener(this);
+		updateFonts();
+	}
+
+	@Subscribe
+	public void onConfigChanged(ConfigChanged event)
+	{
+		if (event.getGroup().equals(runeliteGroupName))
+		{
+			updateFonts();
+		}
+	}
+
+	private void updateFonts()
+	{
+		dynamicFont = runeLiteConfig.fontType().getFont();
+		tooltipFont = runeLiteConfig.tooltipFontType().getFont();
 	}
 
 	@Subscribe
@@ -284,8 +319,9 @@ public class OverlayRenderer extends MouseListener implements KeyListener
 			snapCorners = buildSnapCorners();
 		}
 
-		// Create copy of snap corners because overlays will modify them
-		OverlayBounds snapCorners = new OverlayBounds(this.snapCorners);
+		// Copy the snap corners because overlays will modify them
+		final OverlayBounds snapCorners = workingSnapCorners;
+		snapCorners.setFrom(this.snapCorners);
 		OverlayUtil.setGraphicProperties(graphics);
 
 		// Draw snap corners
@@ -325,12 +361,15 @@ public class OverlayRenderer extends MouseListener implements KeyListener
 
 			if (overlayPosition == OverlayPosition.DYNAMIC || overlayPosition == OverlayPosition.TOOLTIP)
 			{
-				safeRender(client, overlay, layer, graphics, new Point());
+				dynamicPoint.setLocation(0, 0);
+				safeRender(client, overlay, layer, graphics, dynamicPoint);
 			}
 			else
 			{
-				final Point location = overlay.getBounds().getLocation();
-				final Dimension dimension = overlay.getBounds().getSize();
+				final Point location = overlayLocation;
+				final Dimension dimension = overlayDimension;
+				location.setLocation(overlay.getBounds().x, overlay.getBounds().y);
+				dimension.setSize(overlay.getBounds().width, overlay.getBounds().height);
 
 				// If the final position is not modified, layout it
 				if (overlay.getPreferredLocation() == null || overlay.getPreferredPosition() != null)
@@ -347,7 +386,7 @@ public class OverlayRenderer extends MouseListener implements KeyListener
 				}
 
 				safeRender(client, overlay, layer, graphics, location);
-				dimension.setSize(overlay.getBounds().getSize());
+				dimension.setSize(overlay.getBounds().width, overlay.getBounds().height);
 
 				if (dimension.width == 0 && dimension.height == 0)
 				{
@@ -496,39 +535,133 @@ public class OverlayRenderer extends MouseListener implements KeyListener
 		}
 	}
 
-	private void safeRender(Client client, Overlay overlay, OverlayLayer layer, Graphics2D graphics, Point point)
+	void safeRender(Client client, Overlay overlay, OverlayLayer layer, Graphics2D graphics, Point point)
 	{
-		final Graphics2D subGraphics = (Graphics2D) graphics.create();
+		final long start = System.nanoTime();
+		final OverlayPosition position = overlay.getPosition();
+		final Rectangle bounds = overlay.getBounds();
+		final boolean clipToViewport = !isResizeable && (layer == OverlayLayer.ABOVE_SCENE || layer == OverlayLayer.UNDER_WIDGETS);
 
-		if (!isResizeable && (layer == OverlayLayer.ABOVE_SCENE || layer == OverlayLayer.UNDER_WIDGETS))
+		if (position != OverlayPosition.DYNAMIC && position != OverlayPosition.TOOLTIP && overlay.isUnchanged()
+			&& (overlay.cachedImageValid || renderCached(overlay, graphics, bounds.width, bounds.height)))
 		{
-			subGraphics.setClip(client.getViewportXOffset(),
-				client.getViewportYOffset(),
-				client.getViewportWidth(),
-				client.getViewportHeight());
+			drawCached(client, overlay.cachedImage, graphics, point, bounds.width, bounds.height, clipToViewport);
+			bounds.setLocation(point);
 		}
+		else
+		{
+			overlay.cachedImageValid = false;
 
-		final OverlayPosition position = overlay.getPosition();
+			final Graphics2D subGraphics = (Graphics2D) graphics.create();
+
+			if (clipToViewport)
+			{
+				subGraphics.setClip(client.getViewportXOffset(),
+					client.getViewportYOffset(),
+					client.getViewportWidth(),
+					client.getViewportHeight());
+			}
+
+			// Set font based on configuration
+			if (position == OverlayPosition.DYNAMIC)
+			{
+				subGraphics.setFont(dynamicFont);
+			}
+			else if (position == OverlayPosition.TOOLTIP)
+			{
+				subGraphics.setFont(tooltipFont);
+			}
+			else
+			{
+				subGraphics.setFont(FontManager.getRunescapeFont());
+			}
 
-		// Set font based on configuration
-		if (position == OverlayPosition.DYNAMIC)
+			subGraphics.translate(point.x, point.y);
+			final Dimension dimension = overlay.render(subGraphics);
+			subGraphics.dispose();
+
+			if (dimension != null)
+			{
+				bounds.setBounds(point.x, point.y, dimension.width, dimension.height);
+			}
+			else
+			{
+				bounds.setBounds(point.x, point.y, 0, 0);
+			}
+		}
+
+		final long elapsed = System.nanoTime() - start;
+		overlay.recordRenderTime(elapsed);
+
+		if (profiler.isEnabled())
 		{
-			subGraphics.setFont(runeLiteConfig.fontType().getFont());
+			profiler.record(ProfileCategory.OVERLAY, overlay.getClass(), elapsed);
 		}
-		else if (position == OverlayPosition.TOOLTIP)
+	}
+
+	/**
+	 * Renders an overlay into its cached image, at the size it was last drawn.
+	 * This is done in place of rendering it to the screen, so it is only
+	 * rendered once on the frame its cache is filled.
+	 *
+	 * @return true if the cached image holds the overlay, or false if it has
+	 * no size or didn't render at its last size, in which case it has to be
+	 * rendered to the screen
+	 */
+	private static boolean renderCached(Overlay overlay, Graphics2D graphics, int width, int height)
+	{
+		if (width <= 0 || height <= 0)
 		{
-			subGraphics.setFont(runeLiteConfig.tooltipFontType().getFont());
+			return false;
 		}
-		else
+
+		BufferedImage image = overlay.cachedImage;
+		if (image == null || image.getWidth() < width || image.getHeight() < height)
 		{
-			subGraphics.setFont(FontManager.getRunescapeFont());
+			image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+			overlay.cachedImage = image;
 		}
 
+		final Graphics2D imageGraphics = image.createGraphics();
+		imageGraphics.setComposite(AlphaComposite.Clear);
+		imageGraphics.fillRect(0, 0, image.getWidth(), image.getHeight());
+		imageGraphics.setComposite(AlphaComposite.SrcOver);
+		imageGraphics.setRenderingHints(graphics.getRenderingHints());
+		imageGraphics.setFont(FontManager.getRunescapeFont());
+
+		final Dimension dimension = overlay.render(imageGraphics);
+		imageGraphics.dispose();
+
+		overlay.cachedImageValid = dimension != null && dimension.width == width && dimension.height == height;
+		return overlay.cachedImageValid;
+	}
+
+	/**
+	 * Draws an overlay's cached image through the graphics' own clip and
+	 * transform, cropped to the viewport where a rendered overlay would be
+	 * clipped to it
+	 */
+	private static void drawCached(Client client, BufferedImage image, Graphics2D graphics, Point point, int width, int height, boolean clipToViewport)
+	{
+		int x1 = point.x;
+		int y1 = point.y;
+		int x2 = point.x + width;
+		int y2 = point.y + height;
+
+		if (clipToViewport)
+		{
+			x1 = Math.max(x1, client.getViewportXOffset());
+			y1 = Math.max(y1, client.getViewportYOffset());
+			x2 = Math.min(x2, client.getViewportXOffset() + client.getViewportWidth());
+			y2 = Math.min(y2, client.getViewportYOffset() + client.getViewportHeight());
+
+			if (x1 >= x2 || y1 >= y2)
+			{
+				return;
+			}
+		}
 
-		subGraphics.translate(point.x, point.y);
-		final Dimension dimension = MoreObjects.firstNonNull(overlay.render(subGraphics), new Dimension());
-		subGraphics.dispose();
-		overlay.setBounds(new Rectangle(point, dimension));
+		graphics.drawImage(image, x1, y1, x2, y2, x1 - point.x, y1 - point.y, x2 - point.x, y2 - point.y, null);
 	}
 
 	private boolean shouldInvalidateBounds()
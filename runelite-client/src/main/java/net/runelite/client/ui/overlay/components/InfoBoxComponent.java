@@ -68,7 +68,7 @@ public class InfoBoxComponent implements RenderableEntity
 		textComponent.setColor(color);
 		textComponent.setText(text);
 		textComponent.setPosition(new Point(
-			position.x + ((BOX_SIZE - metrics.stringWidth(text)) / 2),
+			position.x + ((BOX_SIZE - TextComponent.getTextWidth(metrics, text)) / 2),
 			position.y + BOX_SIZE - SEPARATOR));
 		textComponent.render(graphics);
 		return new Dimension(BOX_SIZE, BOX_SIZE);
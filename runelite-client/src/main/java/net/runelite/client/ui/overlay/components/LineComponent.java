@@ -129,7 +129,7 @@ public class LineComponent implements LayoutableRenderableEntity
 
 	private static int getLineWidth(final String line, final FontMetrics metrics)
 	{
-		return metrics.stringWidth(TextComponent.textWithoutColTags(line));
+		return TextComponent.getTextWidthWithoutColTags(metrics, line);
 	}
 
 	private static String[] lineBreakText(String text, int maxWidth, FontMetrics metrics)
@@ -142,13 +142,13 @@ public class LineComponent implements LayoutableRenderableEntity
 		}
 
 		final StringBuilder wrapped = new StringBuilder(words[0]);
-		int spaceLeft = maxWidth - metrics.stringWidth(wrapped.toString());
+		int spaceLeft = maxWidth - TextComponent.getTextWidth(metrics, words[0]);
 
 		for (int i = 1; i < words.length; i++)
 		{
 			final String word = words[i];
-			final int wordLen = metrics.stringWidth(word);
-			final int spaceWidth = metrics.stringWidth(" ");
+			final int wordLen = TextComponent.getTextWidth(metrics, word);
+			final int spaceWidth = TextComponent.getTextWidth(metrics, " ");
 
 			if (wordLen + spaceWidth > spaceLeft)
 			{
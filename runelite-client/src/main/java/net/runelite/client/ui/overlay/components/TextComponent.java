@@ -24,6 +24,10 @@
  */
 package net.runelite.client.ui.overlay.components;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.FontMetrics;
@@ -40,6 +44,14 @@ public class TextComponent implements RenderableEntity
 	private static final Pattern COL_TAG_PATTERN_W_LOOKAHEAD = Pattern.compile("(?=" + COL_TAG_REGEX + ")");
 	private static final Pattern COL_TAG_PATTERN = Pattern.compile(COL_TAG_REGEX);
 
+	// Overlay text rarely changes between frames, so widths are remembered per font metrics
+	private static final LoadingCache<FontMetrics, Cache<String, Integer>> TEXT_WIDTHS = CacheBuilder.newBuilder()
+		.weakKeys()
+		.build(CacheLoader.from(() -> CacheBuilder.newBuilder().maximumSize(1024).build()));
+	private static final LoadingCache<FontMetrics, Cache<String, Integer>> TEXT_WIDTHS_WITHOUT_COL_TAGS = CacheBuilder.newBuilder()
+		.weakKeys()
+		.build(CacheLoader.from(() -> CacheBuilder.newBuilder().maximumSize(1024).build()));
+
 	private String text;
 	private Point position = new Point();
 	private Color color = Color.WHITE;
@@ -49,6 +61,24 @@ public class TextComponent implements RenderableEntity
 		return COL_TAG_PATTERN.matcher(text).replaceAll("");
 	}
 
+	/**
+	 * Width of the text, measured as {@link FontMetrics#stringWidth(String)} does
+	 */
+	static int getTextWidth(FontMetrics metrics, String text)
+	{
+		return TEXT_WIDTHS.getUnchecked(metrics).asMap()
+			.computeIfAbsent(text, metrics::stringWidth);
+	}
+
+	/**
+	 * Width of the text as drawn, with col tags removed
+	 */
+	static int getTextWidthWithoutColTags(FontMetrics metrics, String text)
+	{
+		return TEXT_WIDTHS_WITHOUT_COL_TAGS.getUnchecked(metrics).asMap()
+			.computeIfAbsent(text, t -> metrics.stringWidth(textWithoutColTags(t)));
+	}
+
 	@Override
 	public Dimension render(Graphics2D graphics)
 	{
@@ -51,7 +51,7 @@ public class TitleComponent implements LayoutableRenderableEntity
 		final TextComponent titleComponent = new TextComponent();
 		titleComponent.setText(text);
 		titleComponent.setColor(color);
-		titleComponent.setPosition(new Point((preferredSize.width - metrics.stringWidth(text)) / 2, 0));
+		titleComponent.setPosition(new Point((preferredSize.width - TextComponent.getTextWidth(metrics, text)) / 2, 0));
 		final Dimension dimension = titleComponent.render(graphics);
 		return new Dimension(Math.max(preferredSize.width, dimension.width), Math.max(preferredSize.height, dimension.height));
 	}
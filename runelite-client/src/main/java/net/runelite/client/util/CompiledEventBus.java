@@ -0,0 +1,403 @@
+/*
+ * Copyright (c) 2018, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import com.google.common.eventbus.DeadEvent;
+import com.google.common.eventbus.EventBus;
+import com.google.common.eventbus.Subscribe;
+import com.google.common.reflect.TypeToken;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.profiler.ProfileCategory;
+import net.runelite.client.profiler.Profiler;
+
+/**
+ * An {@link EventBus} which dispatches events without reflection. Each
+ * {@link Subscribe} method is compiled once into an invoker with
+ * {@link LambdaMetafactory}, and subscribers are looked up from a table
+ * per event class which is built on the first post of that class. Posting
+ * takes no locks. Exceptions thrown by subscribers are logged.
+ * <p>
+ * Events are dispatched in the same order as Guava's default dispatcher:
+ * an event posted from within a subscriber is queued, and dispatched once
+ * every subscriber of the current event has been called.
+ */
+@Slf4j
+public class CompiledEventBus extends EventBus
+{
+	private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+	private static final MethodType INVOKER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+	private static final Subscriber[] NO_SUBSCRIBERS = new Subscriber[0];
+
+	/**
+	 * Subscriber methods of each listener class, shared between buses. This is
+	 * a class value so that it doesn't keep plugin classes loaded.
+	 */
+	private static final ClassValue<List<SubscriberMethod>> subscriberMethods = new ClassValue<List<SubscriberMethod>>()
+	{
+		@Override
+		protected List<SubscriberMethod> computeValue(Class<?> type)
+		{
+			return findSubscriberMethods(type);
+		}
+	};
+
+	@FunctionalInterface
+	interface Invoker
+	{
+		void invoke(Object target, Object event) throws Throwable;
+	}
+
+	private static final class SubscriberMethod
+	{
+		private final Method method;
+		private final Class<?> eventType;
+		private final Invoker invoker;
+
+		private SubscriberMethod(Method method, Invoker invoker)
+		{
+			this.method = method;
+			this.eventType = method.getParameterTypes()[0];
+			this.invoker = invoker;
+		}
+	}
+
+	private static final class Subscriber
+	{
+		private final Object target;
+		private final SubscriberMethod method;
+
+		private Subscriber(Object target, SubscriberMethod method)
+		{
+			this.target = target;
+			this.method = method;
+		}
+	}
+
+	private static final class PendingEvent
+	{
+		private final Object event;
+		private final Subscriber[] subscribers;
+
+		private PendingEvent(Object event, Subscriber[] subscribers)
+		{
+			this.event = event;
+			this.subscribers = subscribers;
+		}
+	}
+
+	/**
+	 * The events posted on a thread while it is dispatching another event
+	 */
+	private static final class DispatchState
+	{
+		private final Queue<PendingEvent> queue = new ArrayDeque<>();
+		private boolean dispatching;
+	}
+
+	private final Object lock = new Object();
+	private final Profiler profiler;
+	private final ThreadLocal<DispatchState> dispatchState = ThreadLocal.withInitial(DispatchState::new);
+
+	/**
+	 * Subscribers by the event type they subscribe to, guarded by lock
+	 */
+	private final Map<Class<?>, List<Subscriber>> subscribers = new HashMap<>();
+
+	/**
+	 * Subscribers to post each event class to, including subscribers to its
+	 * supertypes. Replaced whenever a subscriber is added or removed.
+	 */
+	private volatile Map<Class<?>, Subscriber[]> dispatchTables = new ConcurrentHashMap<>();
+
+	public CompiledEventBus()
+	{
+		this(null);
+	}
+
+	/**
+	 * @param profiler profiler to record subscriber timings to, or null
+	 */
+	public CompiledEventBus(Profiler profiler)
+	{
+		this.profiler = profiler;
+	}
+
+	@Override
+	public void register(Object object)
+	{
+		synchronized (lock)
+		{
+			for (SubscriberMethod method : getSubscriberMethods(object.getClass()))
+			{
+				List<Subscriber> list = subscribers.computeIfAbsent(method.eventType, k -> new ArrayList<>());
+				if (list.stream().noneMatch(s -> s.target == object && s.method == method))
+				{
+					list.add(new Subscriber(object, method));
+				}
+			}
+
+			dispatchTables = new ConcurrentHashMap<>();
+		}
+	}
+
+	@Override
+	public void unregister(Object object)
+	{
+		synchronized (lock)
+		{
+			for (SubscriberMethod method : getSubscriberMethods(object.getClass()))
+			{
+				List<Subscriber> list = subscribers.get(method.eventType);
+				if (list == null || !list.removeIf(s -> s.target == object && s.method == method))
+				{
+					throw new IllegalArgumentException("missing event subscriber for an annotated method. Is " + object + " registered?");
+				}
+			}
+
+			dispatchTables = new ConcurrentHashMap<>();
+		}
+	}
+
+	@Override
+	public void post(Object event)
+	{
+		Subscriber[] subscribers = getSubscribers(event.getClass());
+
+		if (subscribers.length == 0)
+		{
+			if (!(event instanceof DeadEvent) && getSubscribers(DeadEvent.class).length > 0)
+			{
+				post(new DeadEvent(this, event));
+			}
+			return;
+		}
+
+		final DispatchState state = dispatchState.get();
+		if (state.dispatching)
+		{
+			state.queue.add(new PendingEvent(event, subscribers));
+			return;
+		}
+
+		state.dispatching = true;
+		try
+		{
+			dispatch(event, subscribers);
+
+			PendingEvent pending;
+			while ((pending = state.queue.poll()) != null)
+			{
+				dispatch(pending.event, pending.subscribers);
+			}
+		}
+		finally
+		{
+			state.queue.clear();
+			state.dispatching = false;
+		}
+	}
+
+	/**
+	 * Whether an event is being dispatched on the calling thread. Events posted
+	 * while it is are queued rather than dispatched before post returns.
+	 */
+	public boolean isDispatching()
+	{
+		return dispatchState.get().dispatching;
+	}
+
+	private void dispatch(Object event, Subscriber[] subscribers)
+	{
+		final boolean profile = profiler != null && profiler.isEnabled();
+
+		for (Subscriber subscriber : subscribers)
+		{
+			final long start = profile ? System.nanoTime() : 0;
+
+			try
+			{
+				subscriber.method.invoker.invoke(subscriber.target, event);
+			}
+			catch (Throwable ex)
+			{
+				log.warn("uncaught exception in event subscriber", ex);
+			}
+
+			if (profile)
+			{
+				profiler.record(ProfileCategory.SUBSCRIBER, subscriber.method.method, System.nanoTime() - start);
+			}
+		}
+	}
+
+	private Subscriber[] getSubscribers(Class<?> eventClass)
+	{
+		Map<Class<?>, Subscriber[]> tables = dispatchTables;
+		Subscriber[] table = tables.get(eventClass);
+
+		if (table == null)
+		{
+			// if a subscriber is registered meanwhile this table goes into the old map, which is discarded
+			table = buildTable(eventClass);
+			tables.put(eventClass, table);
+		}
+
+		return table;
+	}
+
+	private Subscriber[] buildTable(Class<?> eventClass)
+	{
+		List<Subscriber> table = new ArrayList<>();
+
+		synchronized (lock)
+		{
+			for (Class<?> type : TypeToken.of(eventClass).getTypes().rawTypes())
+			{
+				List<Subscriber> list = subscribers.get(type);
+				if (list != null)
+				{
+					table.addAll(list);
+				}
+			}
+		}
+
+		return table.isEmpty() ? NO_SUBSCRIBERS : table.toArray(new Subscriber[table.size()]);
+	}
+
+	private static List<SubscriberMethod> getSubscriberMethods(Class<?> clazz)
+	{
+		return subscriberMethods.get(clazz);
+	}
+
+	private static List<SubscriberMethod> findSubscriberMethods(Class<?> clazz)
+	{
+		List<SubscriberMethod> methods = new ArrayList<>();
+		Set<List<Object>> seen = new HashSet<>();
+
+		for (Class<?> type : TypeToken.of(clazz).getTypes().rawTypes())
+		{
+			for (Method method : type.getDeclaredMethods())
+			{
+				if (!method.isAnnotationPresent(Subscribe.class) || method.isSynthetic())
+				{
+					continue;
+				}
+
+				Class<?>[] parameterTypes = method.getParameterTypes();
+				if (parameterTypes.length != 1)
+				{
+					throw new IllegalArgumentException("Method " + method + " has @Subscribe annotation but has "
+						+ parameterTypes.length + " parameters. Subscriber methods must have exactly 1 parameter.");
+				}
+
+				// overridden methods are only subscribed once
+				if (seen.add(Arrays.asList(method.getName(), Arrays.asList(parameterTypes))))
+				{
+					methods.add(new SubscriberMethod(method, createInvoker(method)));
+				}
+			}
+		}
+
+		return methods;
+	}
+
+	private static Invoker createInvoker(Method method)
+	{
+		method.setAccessible(true);
+
+		if (canCompile(method))
+		{
+			try
+			{
+				MethodHandle handle = LOOKUP.unreflect(method);
+				CallSite site = LambdaMetafactory.metafactory(LOOKUP,
+					"invoke",
+					MethodType.methodType(Invoker.class),
+					INVOKER_TYPE,
+					handle,
+					MethodType.methodType(void.class, method.getDeclaringClass(), method.getParameterTypes()[0]));
+				return (Invoker) site.getTarget().invoke();
+			}
+			catch (Throwable ex)
+			{
+				log.debug("unable to compile subscriber method {}, falling back to reflection", method, ex);
+			}
+		}
+
+		// non public subscribers can't be linked to from the generated class, so are invoked reflectively like Guava does
+		return (target, event) ->
+		{
+			try
+			{
+				method.invoke(target, event);
+			}
+			catch (InvocationTargetException ex)
+			{
+				throw ex.getCause();
+			}
+		};
+	}
+
+	private static boolean canCompile(Method method)
+	{
+		if (!Modifier.isPublic(method.getModifiers()) || Modifier.isStatic(method.getModifiers()))
+		{
+			return false;
+		}
+
+		// the generated class must be able to see the subscriber and event classes
+		return isVisible(method.getDeclaringClass()) && isVisible(method.getParameterTypes()[0]);
+	}
+
+	private static boolean isVisible(Class<?> clazz)
+	{
+		for (Class<?> c = clazz; c != null; c = c.getEnclosingClass())
+		{
+			if (!Modifier.isPublic(c.getModifiers()) || c.getClassLoader() != CompiledEventBus.class.getClassLoader())
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+}
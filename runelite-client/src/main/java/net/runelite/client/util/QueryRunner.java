@@ -28,6 +28,8 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 import net.runelite.api.Client;
 import net.runelite.api.Query;
+import net.runelite.api.queries.TileObjectQuery;
+import net.runelite.client.game.SceneObjectIndex;
 
 @Singleton
 public class QueryRunner
@@ -35,9 +37,17 @@ public class QueryRunner
 	@Inject
 	private Client client;
 
+	@Inject
+	private SceneObjectIndex sceneObjectIndex;
+
 	@SuppressWarnings("unchecked")
 	public <T> T[] runQuery(Query query)
 	{
+		if (query instanceof TileObjectQuery)
+		{
+			return (T[]) ((TileObjectQuery) query).result(client, sceneObjectIndex);
+		}
+
 		return (T[]) query.result(client);
 	}
 }
\ No newline at end of file
@@ -24,34 +24,76 @@
  */
 package net.runelite.client.util;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import com.google.common.base.Splitter;
+import java.util.List;
+import java.util.Locale;
 
+/**
+ * Matches text against patterns where {@code *} matches any run of characters,
+ * ignoring case. Patterns are matched segment by segment rather than through
+ * a regex, so nothing has to be compiled per call.
+ *
+ * @see WildcardMatcherSet for matching against many patterns at once
+ */
 public class WildcardMatcher
 {
-	private static final Pattern WILDCARD_PATTERN = Pattern.compile("(?i)[^*]+|(\\*)");
+	private static final Splitter WILDCARD_SPLITTER = Splitter.on('*');
 
 	public static boolean matches(String pattern, String text)
 	{
-		final Matcher matcher = WILDCARD_PATTERN.matcher(pattern);
-		final StringBuffer buffer = new StringBuffer();
+		pattern = pattern.toLowerCase(Locale.ROOT);
+		text = text.toLowerCase(Locale.ROOT);
 
-		buffer.append("(?i)");
-		while (matcher.find())
+		if (pattern.indexOf('*') == -1)
 		{
-			if (matcher.group(1) != null)
-			{
-				matcher.appendReplacement(buffer, ".*");
-			}
-			else
+			return pattern.equals(text);
+		}
+
+		return matchesSegments(split(pattern), text);
+	}
+
+	/**
+	 * Splits a lowercase pattern containing at least one wildcard into the
+	 * literal segments between the wildcards
+	 */
+	static String[] split(String pattern)
+	{
+		final List<String> segments = WILDCARD_SPLITTER.splitToList(pattern);
+		return segments.toArray(new String[segments.size()]);
+	}
+
+	/**
+	 * Matches lowercase text against the segments of a pattern. The first segment
+	 * must start the text and the last must end it, and the others must appear in
+	 * order between them; taking the leftmost occurrence of each is always enough.
+	 *
+	 * @param segments the segments of the pattern, at least two
+	 * @param text the text, in lowercase
+	 */
+	static boolean matchesSegments(String[] segments, String text)
+	{
+		final String prefix = segments[0];
+		final String suffix = segments[segments.length - 1];
+		final int end = text.length() - suffix.length();
+
+		if (end < prefix.length() || !text.startsWith(prefix) || !text.endsWith(suffix))
+		{
+			return false;
+		}
+
+		int position = prefix.length();
+		for (int i = 1; i < segments.length - 1; ++i)
+		{
+			final String segment = segments[i];
+			final int index = text.indexOf(segment, position);
+			if (index == -1 || index + segment.length() > end)
 			{
-				matcher.appendReplacement(buffer, "\\\\Q" + matcher.group(0) + "\\\\E");
+				return false;
 			}
-		}
 
-		matcher.appendTail(buffer);
-		final String replaced = buffer.toString();
+			position = index + segment.length();
+		}
 
-		return text.matches(replaced);
+		return true;
 	}
 }
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2018, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A set of wildcard patterns, compiled once, which answers whether any of them
+ * matches a piece of text. Patterns without wildcards are kept in a hash set,
+ * and the others are bucketed by the first character they require so that
+ * only patterns which could match are tried. Matching ignores case, like
+ * {@link WildcardMatcher}.
+ */
+public class WildcardMatcherSet
+{
+	private static final String[][] NO_PATTERNS = new String[0][];
+
+	private final Set<String> literals = new HashSet<>();
+
+	/**
+	 * Wildcard patterns which start with a literal, by their first character
+	 */
+	private final Map<Character, String[][]> prefixed = new HashMap<>();
+
+	/**
+	 * Wildcard patterns which start with a wildcard, and so could match anything
+	 */
+	private final String[][] unprefixed;
+
+	public WildcardMatcherSet(Collection<String> patterns)
+	{
+		final Map<Character, List<String[]>> prefixedLists = new HashMap<>();
+		final List<String[]> unprefixedList = new ArrayList<>();
+
+		for (String pattern : patterns)
+		{
+			pattern = pattern.toLowerCase(Locale.ROOT);
+
+			if (pattern.indexOf('*') == -1)
+			{
+				literals.add(pattern);
+				continue;
+			}
+
+			final String[] segments = WildcardMatcher.split(pattern);
+			if (segments[0].isEmpty())
+			{
+				unprefixedList.add(segments);
+			}
+			else
+			{
+				prefixedLists.computeIfAbsent(segments[0].charAt(0), k -> new ArrayList<>()).add(segments);
+			}
+		}
+
+		for (Map.Entry<Character, List<String[]>> entry : prefixedLists.entrySet())
+		{
+			prefixed.put(entry.getKey(), entry.getValue().toArray(NO_PATTERNS));
+		}
+
+		unprefixed = unprefixedList.toArray(NO_PATTERNS);
+	}
+
+	/**
+	 * Checks whether any pattern in the set matches {@code text}
+	 *
+	 * @param text the text to match
+	 * @return true if a pattern matches
+	 */
+	public boolean matches(String text)
+	{
+		text = text.toLowerCase(Locale.ROOT);
+
+		if (literals.contains(text))
+		{
+			return true;
+		}
+
+		if (!text.isEmpty())
+		{
+			final String[][] candidates = prefixed.get(text.charAt(0));
+			if (candidates != null && matchesAny(candidates, text))
+			{
+				return true;
+			}
+		}
+
+		return matchesAny(unprefixed, text);
+	}
+
+	public boolean isEmpty()
+	{
+		return literals.isEmpty() && prefixed.isEmpty() && unprefixed.length == 0;
+	}
+
+	private static boolean matchesAny(String[][] patterns, String text)
+	{
+		for (String[] segments : patterns)
+		{
+			if (WildcardMatcher.matchesSegments(segments, text))
+			{
+				return true;
+			}
+		}
+
+		return false;
+	}
+}
@@ -31,14 +31,16 @@ import com.google.inject.testing.fieldbinder.BoundFieldModule;
 import java.io.IOException;
 import java.time.Instant;
 import java.util.UUID;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ExecutorService;
 import javax.inject.Inject;
 import net.runelite.client.account.AccountSession;
+import net.runelite.client.task.ExecutorPools;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
+import static org.mockito.Mockito.when;
 import org.mockito.runners.MockitoJUnitRunner;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -48,9 +50,12 @@ public class ConfigManagerTest
 	@Bind
 	EventBus eventBus;
 
+	@Mock
+	ExecutorService executor;
+
 	@Mock
 	@Bind
-	ScheduledExecutorService executor;
+	ExecutorPools executorPools;
 
 	@Mock
 	@Bind
@@ -62,6 +67,7 @@ public class ConfigManagerTest
 	@Before
 	public void before()
 	{
+		when(executorPools.getIoExecutor()).thenReturn(executor);
 		Guice.createInjector(BoundFieldModule.of(this)).injectMembers(this);
 	}
 
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2018, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import static org.junit.Assert.assertEquals;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ItemPriceStoreTest
+{
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testPut() throws IOException
+	{
+		ItemPriceStore store = new ItemPriceStore(folder.newFile());
+
+		assertEquals(0L, store.getTime(4151));
+		assertEquals(ItemPriceStore.NO_PRICE, store.getPrice(4151));
+
+		store.put(4151, 1_500_000, 1000L);
+		store.put(995, ItemPriceStore.NO_PRICE, 2000L);
+
+		assertEquals(1000L, store.getTime(4151));
+		assertEquals(1_500_000, store.getPrice(4151));
+		assertEquals(2000L, store.getTime(995));
+		assertEquals(ItemPriceStore.NO_PRICE, store.getPrice(995));
+	}
+
+	@Test
+	public void testReopen() throws IOException
+	{
+		File file = folder.newFile();
+
+		ItemPriceStore store = new ItemPriceStore(file);
+		store.put(4151, 1_500_000, 1000L);
+		// beyond the initial capacity
+		store.put(100_000, 42, 3000L);
+
+		store = new ItemPriceStore(file);
+		assertEquals(1000L, store.getTime(4151));
+		assertEquals(1_500_000, store.getPrice(4151));
+		assertEquals(3000L, store.getTime(100_000));
+		assertEquals(42, store.getPrice(100_000));
+	}
+
+	@Test
+	public void testUnknownFormat() throws IOException
+	{
+		File file = folder.newFile();
+		try (RandomAccessFile raf = new RandomAccessFile(file, "rw"))
+		{
+			raf.writeLong(0x1234567890L);
+			raf.writeLong(1000L);
+		}
+
+		ItemPriceStore store = new ItemPriceStore(file);
+		assertEquals(0L, store.getTime(0));
+
+		store.put(4151, 1_500_000, 1000L);
+		assertEquals(1_500_000, store.getPrice(4151));
+	}
+
+	@Test(timeout = 10_000)
+	public void testTruncated() throws IOException
+	{
+		// a valid header without room for a single record
+		File file = folder.newFile();
+		try (RandomAccessFile raf = new RandomAccessFile(file, "rw"))
+		{
+			raf.writeInt(0x524c5053);
+			raf.writeInt(1);
+			raf.writeInt(1000);
+		}
+
+		ItemPriceStore store = new ItemPriceStore(file);
+		store.put(4151, 1_500_000, 1000L);
+		assertEquals(1_500_000, store.getPrice(4151));
+	}
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2018, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import java.io.File;
+import java.io.IOException;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ItemSpriteCacheTest
+{
+	private static final int CRC = 0x1f2e3d4c;
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testReadWrite() throws IOException
+	{
+		File directory = folder.newFolder();
+		int[] whip = sprite(1);
+		int[] coins = sprite(2);
+
+		ItemSpriteCache cache = new ItemSpriteCache(directory);
+		int[] pixels = new int[whip.length];
+		assertFalse(cache.read(4151, 1, false, CRC, pixels));
+
+		cache.write(4151, 1, false, CRC, whip);
+		cache.write(995, 1000, true, CRC, coins);
+
+		assertTrue(cache.read(4151, 1, false, CRC, pixels));
+		assertArrayEquals(whip, pixels);
+		assertTrue(cache.read(995, 1000, true, CRC, pixels));
+		assertArrayEquals(coins, pixels);
+		assertFalse(cache.read(995, 1000, false, CRC, pixels));
+		assertFalse(cache.read(995, 1, true, CRC, pixels));
+
+		// sprites are kept between sessions
+		cache = new ItemSpriteCache(directory);
+		assertTrue(cache.read(995, 1000, true, CRC, pixels));
+		assertArrayEquals(coins, pixels);
+	}
+
+	@Test
+	public void testCrcChange() throws IOException
+	{
+		File directory = folder.newFolder();
+		int[] whip = sprite(1);
+
+		ItemSpriteCache cache = new ItemSpriteCache(directory);
+		cache.write(4151, 1, false, CRC, whip);
+
+		cache = new ItemSpriteCache(directory);
+		int[] pixels = new int[whip.length];
+		assertFalse(cache.read(4151, 1, false, CRC + 1, pixels));
+
+		cache = new ItemSpriteCache(directory);
+		assertFalse(cache.read(4151, 1, false, CRC, pixels));
+	}
+
+	@Test
+	public void testEviction() throws IOException
+	{
+		File directory = folder.newFolder();
+		int[] pixels = new int[ItemSpriteCache.WIDTH * ItemSpriteCache.HEIGHT];
+
+		ItemSpriteCache cache = new ItemSpriteCache(directory, 4);
+		for (int itemId = 1; itemId <= 4; ++itemId)
+		{
+			cache.write(itemId, 1, false, CRC, sprite(itemId));
+		}
+
+		// the oldest sprite is replaced once the cache is full
+		cache.write(5, 1, false, CRC, sprite(5));
+		assertFalse(cache.read(1, 1, false, CRC, pixels));
+		assertTrue(cache.read(5, 1, false, CRC, pixels));
+		assertArrayEquals(sprite(5), pixels);
+
+		// and the next oldest after the cache is reopened
+		cache = new ItemSpriteCache(directory, 4);
+		cache.write(6, 1, false, CRC, sprite(6));
+		assertFalse(cache.read(2, 1, false, CRC, pixels));
+		for (int itemId = 3; itemId <= 6; ++itemId)
+		{
+			assertTrue(cache.read(itemId, 1, false, CRC, pixels));
+			assertArrayEquals(sprite(itemId), pixels);
+		}
+	}
+
+	private static int[] sprite(int seed)
+	{
+		int[] pixels = new int[ItemSpriteCache.WIDTH * ItemSpriteCache.HEIGHT];
+		for (int i = 0; i < pixels.length; ++i)
+		{
+			pixels[i] = i % 3 == 0 ? 0 : 0xff000000 | i * seed;
+		}
+		return pixels;
+	}
+}
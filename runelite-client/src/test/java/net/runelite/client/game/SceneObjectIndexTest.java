@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2018, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import java.util.Collection;
+import net.runelite.api.Client;
+import net.runelite.api.GameObject;
+import net.runelite.api.GameState;
+import net.runelite.api.Point;
+import net.runelite.api.Tile;
+import net.runelite.api.WallObject;
+import net.runelite.api.coords.LocalPoint;
+import net.runelite.api.events.GameObjectDespawned;
+import net.runelite.api.events.GameObjectSpawned;
+import net.runelite.api.events.GameStateChanged;
+import net.runelite.api.events.WallObjectSpawned;
+import net.runelite.api.queries.GameObjectQuery;
+import net.runelite.api.queries.WallObjectQuery;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class SceneObjectIndexTest
+{
+	private SceneObjectIndex index;
+	private Client client;
+
+	@Before
+	public void before()
+	{
+		index = new SceneObjectIndex();
+		client = mock(Client.class);
+		when(client.getPlane()).thenReturn(0);
+	}
+
+	@Test
+	public void testMultiTileGameObject()
+	{
+		GameObject object = gameObject(100, 10, 10, 11, 11);
+		spawn(tile(0, 10, 10), object);
+
+		assertEquals(1, index.getObjects(GameObject.class, 0, 100).size());
+		assertEquals(1, index.getObjects(GameObject.class, 0).size());
+		assertTrue(index.getObjects(GameObject.class, 1, 100).isEmpty());
+
+		// found from any of its tiles, but only once
+		Collection<GameObject> found = index.getObjects(GameObject.class, 0, 11, 11, 20, 20);
+		assertEquals(1, found.size());
+		assertEquals(1, index.getObjects(GameObject.class, 0, 0, 0, 103, 103).size());
+		assertTrue(index.getObjects(GameObject.class, 0, 12, 12, 20, 20).isEmpty());
+
+		// despawns are fired for every tile
+		despawn(tile(0, 10, 10), object);
+		despawn(tile(0, 11, 10), object);
+		assertTrue(index.getObjects(GameObject.class, 0, 100).isEmpty());
+		assertTrue(index.getObjects(GameObject.class, 0, 0, 0, 103, 103).isEmpty());
+	}
+
+	@Test
+	public void testQuery()
+	{
+		GameObject near = gameObject(100, 10, 10, 10, 10);
+		GameObject far = gameObject(100, 50, 50, 50, 50);
+		GameObject other = gameObject(200, 10, 11, 10, 11);
+		spawn(tile(0, 10, 10), near);
+		spawn(tile(0, 50, 50), far);
+		spawn(tile(0, 10, 11), other);
+
+		GameObject[] result = new GameObjectQuery()
+			.idEquals(100)
+			.result(client, index);
+		assertEquals(2, result.length);
+
+		result = new GameObjectQuery()
+			.isWithinDistance(LocalPoint.fromRegion(10, 10), 256)
+			.result(client, index);
+		assertEquals(2, result.length);
+
+		result = new GameObjectQuery()
+			.idEquals(100)
+			.isWithinDistance(LocalPoint.fromRegion(10, 10), 256)
+			.result(client, index);
+		assertArrayEquals(new GameObject[]{near}, result);
+
+		WallObject wall = mock(WallObject.class);
+		when(wall.getId()).thenReturn(300);
+		WallObjectSpawned wallObjectSpawned = new WallObjectSpawned();
+		wallObjectSpawned.setTile(tile(0, 10, 10));
+		wallObjectSpawned.setWallObject(wall);
+		index.onWallObjectSpawned(wallObjectSpawned);
+
+		assertArrayEquals(new WallObject[]{wall}, new WallObjectQuery().idEquals(300).result(client, index));
+		assertEquals(0, new WallObjectQuery().idEquals(100).result(client, index).length);
+	}
+
+	@Test
+	public void testClearedOnLoad()
+	{
+		spawn(tile(0, 10, 10), gameObject(100, 10, 10, 10, 10));
+
+		GameStateChanged gameStateChanged = new GameStateChanged();
+		gameStateChanged.setGameState(GameState.LOADING);
+		index.onGameStateChanged(gameStateChanged);
+
+		assertTrue(index.getObjects(GameObject.class, 0).isEmpty());
+		assertTrue(index.getObjects(GameObject.class, 0, 100).isEmpty());
+	}
+
+	private void spawn(Tile tile, GameObject object)
+	{
+		GameObjectSpawned event = new GameObjectSpawned();
+		event.setTile(tile);
+		event.setGameObject(object);
+		index.onGameObjectSpawned(event);
+	}
+
+	private void despawn(Tile tile, GameObject object)
+	{
+		GameObjectDespawned event = new GameObjectDespawned();
+		event.setTile(tile);
+		event.setGameObject(object);
+		index.onGameObjectDespawned(event);
+	}
+
+	private static Tile tile(int plane, int x, int y)
+	{
+		Tile tile = mock(Tile.class);
+		when(tile.getPlane()).thenReturn(plane);
+		when(tile.getRegionLocation()).thenReturn(new Point(x, y));
+		return tile;
+	}
+
+	private static GameObject gameObject(int id, int minX, int minY, int maxX, int maxY)
+	{
+		GameObject object = mock(GameObject.class);
+		when(object.getId()).thenReturn(id);
+		when(object.getRegionMinLocation()).thenReturn(new Point(minX, minY));
+		when(object.getRegionMaxLocation()).thenReturn(new Point(maxX, maxY));
+		LocalPoint center = new LocalPoint(
+			(minX + maxX + 1) * 64,
+			(minY + maxY + 1) * 64);
+		when(object.getLocalLocation()).thenReturn(center);
+		return object;
+	}
+}
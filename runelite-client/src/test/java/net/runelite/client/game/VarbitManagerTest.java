@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2018, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import com.google.inject.Guice;
+import com.google.inject.testing.fieldbinder.Bind;
+import com.google.inject.testing.fieldbinder.BoundFieldModule;
+import javax.inject.Inject;
+import net.runelite.api.Client;
+import net.runelite.api.Varbits;
+import net.runelite.api.events.VarbitChanged;
+import net.runelite.client.callback.ClientThread;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+import org.mockito.runners.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class VarbitManagerTest
+{
+	private static final int IN_GAME_BA_VARP = 100;
+	private static final int KINGDOM_VARP = 200;
+
+	@Mock
+	@Bind
+	private Client client;
+
+	@Mock
+	@Bind
+	private ClientThread clientThread;
+
+	@Inject
+	private VarbitManager varbitManager;
+
+	@Before
+	public void before()
+	{
+		Guice.createInjector(BoundFieldModule.of(this)).injectMembers(this);
+
+		when(client.getVarbitVarpIndex(Varbits.IN_GAME_BA.getId())).thenReturn(IN_GAME_BA_VARP);
+		when(client.getVarbitVarpIndex(Varbits.KINGDOM_FAVOR.getId())).thenReturn(KINGDOM_VARP);
+		when(client.getVarbitVarpIndex(Varbits.KINGDOM_COFFER.getId())).thenReturn(KINGDOM_VARP);
+
+		// registrations are made from the client thread, which runs invokes immediately
+		doAnswer(invocation ->
+		{
+			((Runnable) invocation.getArguments()[0]).run();
+			return null;
+		}).when(clientThread).invokeLater(any(Runnable.class));
+	}
+
+	@Test
+	public void testChange()
+	{
+		VarbitListener listener = mock(VarbitListener.class);
+		varbitManager.registerVarbitListener(listener, Varbits.IN_GAME_BA);
+
+		when(client.getVarbitValue(Varbits.IN_GAME_BA.getId())).thenReturn(1);
+		varbitManager.onVarbitChanged(changed(IN_GAME_BA_VARP));
+		verify(listener).varbitChanged(Varbits.IN_GAME_BA, 0, 1);
+
+		// a write which does not change the bits is not reported
+		reset(listener);
+		varbitManager.onVarbitChanged(changed(IN_GAME_BA_VARP));
+		verifyZeroInteractions(listener);
+	}
+
+	@Test
+	public void testOtherVarp()
+	{
+		VarbitListener listener = mock(VarbitListener.class);
+		varbitManager.registerVarbitListener(listener, Varbits.IN_GAME_BA);
+
+		when(client.getVarbitValue(Varbits.IN_GAME_BA.getId())).thenReturn(1);
+		varbitManager.onVarbitChanged(changed(KINGDOM_VARP));
+		verify(listener, never()).varbitChanged(Varbits.IN_GAME_BA, 0, 1);
+
+		// an unknown index checks every registered varbit
+		varbitManager.onVarbitChanged(changed(-1));
+		verify(listener).varbitChanged(Varbits.IN_GAME_BA, 0, 1);
+	}
+
+	@Test
+	public void testSharedVarp()
+	{
+		VarbitListener listener = mock(VarbitListener.class);
+		varbitManager.registerVarbitListener(listener, Varbits.KINGDOM_FAVOR, Varbits.KINGDOM_COFFER);
+
+		when(client.getVarbitValue(Varbits.KINGDOM_COFFER.getId())).thenReturn(5000);
+		varbitManager.onVarbitChanged(changed(KINGDOM_VARP));
+		verify(listener).varbitChanged(Varbits.KINGDOM_COFFER, 0, 5000);
+		verify(listener, never()).varbitChanged(Varbits.KINGDOM_FAVOR, 0, 5000);
+	}
+
+	@Test
+	public void testUnregister()
+	{
+		VarbitListener listener = mock(VarbitListener.class);
+		varbitManager.registerVarbitListener(listener, Varbits.IN_GAME_BA);
+		varbitManager.unregisterVarbitListener(listener);
+
+		when(client.getVarbitValue(Varbits.IN_GAME_BA.getId())).thenReturn(1);
+		varbitManager.onVarbitChanged(changed(IN_GAME_BA_VARP));
+		verifyZeroInteractions(listener);
+	}
+
+	@Test
+	public void testBaselineAtRegistration()
+	{
+		// the value when registering is the baseline, not zero
+		when(client.getVarbitValue(Varbits.IN_GAME_BA.getId())).thenReturn(1);
+		VarbitListener listener = mock(VarbitListener.class);
+		varbitManager.registerVarbitListener(listener, Varbits.IN_GAME_BA);
+
+		varbitManager.onVarbitChanged(changed(IN_GAME_BA_VARP));
+		verifyZeroInteractions(listener);
+
+		when(client.getVarbitValue(Varbits.IN_GAME_BA.getId())).thenReturn(0);
+		varbitManager.onVarbitChanged(changed(IN_GAME_BA_VARP));
+		verify(listener).varbitChanged(Varbits.IN_GAME_BA, 1, 0);
+	}
+
+	private static VarbitChanged changed(int index)
+	{
+		VarbitChanged event = new VarbitChanged();
+		event.setIndex(index);
+		return event;
+	}
+}
@@ -24,25 +24,24 @@
  */
 package net.runelite.client.plugins.bankvalue;
 
-import com.google.common.collect.ImmutableList;
 import com.google.inject.Guice;
 import com.google.inject.testing.fieldbinder.Bind;
 import com.google.inject.testing.fieldbinder.BoundFieldModule;
 import javax.inject.Inject;
 import net.runelite.api.Client;
+import net.runelite.api.Item;
 import net.runelite.api.ItemComposition;
 import net.runelite.api.ItemID;
-import net.runelite.api.queries.BankItemQuery;
-import net.runelite.api.widgets.WidgetItem;
 import net.runelite.client.game.ItemManager;
-import net.runelite.client.util.QueryRunner;
+import net.runelite.http.api.item.ItemPrice;
 import static org.junit.Assert.*;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
-import static org.mockito.Matchers.any;
 import org.mockito.Mock;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.runners.MockitoJUnitRunner;
 
@@ -53,10 +52,6 @@ public class BankCalculationTest
 	@Bind
 	private Client client;
 
-	@Mock
-	@Bind
-	private QueryRunner queryRunner;
-
 	@Mock
 	@Bind
 	private ItemManager itemManager;
@@ -80,14 +75,6 @@ public class BankCalculationTest
 		when(bankValueConfig.showHA())
 			.thenReturn(true);
 
-		WidgetItem[] widgetItems = ImmutableList.of(
-			new WidgetItem(ItemID.COINS_995, Integer.MAX_VALUE, -1, null),
-			new WidgetItem(ItemID.ABYSSAL_WHIP, 1_000_000_000, -1, null)
-		).toArray(new WidgetItem[0]);
-
-		when(queryRunner.runQuery(any(BankItemQuery.class)))
-			.thenReturn(widgetItems);
-
 		ItemComposition whip = mock(ItemComposition.class);
 		when(whip.getId())
 			.thenReturn(ItemID.ABYSSAL_WHIP);
@@ -96,9 +83,175 @@ public class BankCalculationTest
 		when(itemManager.getItemComposition(ItemID.ABYSSAL_WHIP))
 			.thenReturn(whip);
 
-		bankCalculation.calculate();
+		bankCalculation.update(new Item[]
+		{
+			item(ItemID.COINS_995, Integer.MAX_VALUE),
+			item(ItemID.ABYSSAL_WHIP, 1_000_000_000)
+		});
 
 		long value = bankCalculation.getHaPrice();
 		assertTrue(value > Integer.MAX_VALUE);
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void testUpdate()
+	{
+		when(bankValueConfig.showGE())
+			.thenReturn(true);
+		composition(ItemID.ABYSSAL_WHIP, 120_001);
+		composition(ItemID.DRAGON_BONES, 1);
+		price(ItemID.ABYSSAL_WHIP, 1_500_000);
+		price(ItemID.DRAGON_BONES, 2_000);
+
+		bankCalculation.update(new Item[]
+		{
+			item(ItemID.COINS_995, 1000),
+			item(ItemID.ABYSSAL_WHIP, 2),
+			item(ItemID.DRAGON_BONES, 100)
+		});
+
+		assertTrue(bankCalculation.isFinished());
+		assertEquals(1000 + 2 * 1_500_000 + 100 * 2_000, bankCalculation.getGePrice());
+		assertEquals(1000 + 2 * 72_001 + 100 * 1, bankCalculation.getHaPrice());
+
+		// only the changed slot is repriced
+		bankCalculation.update(new Item[]
+		{
+			item(ItemID.COINS_995, 500),
+			item(ItemID.ABYSSAL_WHIP, 2),
+			item(ItemID.DRAGON_BONES, 100)
+		});
+
+		assertEquals(500 + 2 * 1_500_000 + 100 * 2_000, bankCalculation.getGePrice());
+		verify(itemManager).getItemComposition(ItemID.ABYSSAL_WHIP);
+
+		// the bank shrinks
+		bankCalculation.update(new Item[]
+		{
+			item(ItemID.COINS_995, 500)
+		});
+
+		assertEquals(500, bankCalculation.getGePrice());
+		assertEquals(500, bankCalculation.getHaPrice());
+	}
+
+	@Test
+	public void testRefreshPrices()
+	{
+		when(bankValueConfig.showGE())
+			.thenReturn(true);
+		composition(ItemID.ABYSSAL_WHIP, 120_001);
+		composition(ItemID.COAL, 45);
+
+		bankCalculation.update(new Item[]
+		{
+			item(ItemID.ABYSSAL_WHIP, 2),
+			item(ItemID.COAL, 10)
+		});
+
+		assertFalse(bankCalculation.isFinished());
+		assertEquals(0, bankCalculation.getGePrice());
+
+		// the whip price is looked up, and coal turns out to have no price
+		price(ItemID.ABYSSAL_WHIP, 1_500_000);
+		when(itemManager.isItemPriceLoaded(ItemID.COAL))
+			.thenReturn(true);
+		bankCalculation.refreshPrices(false);
+
+		assertTrue(bankCalculation.isFinished());
+		assertEquals(2 * 1_500_000, bankCalculation.getGePrice());
+
+		// price changes are applied as the difference
+		price(ItemID.ABYSSAL_WHIP, 1_400_000);
+		bankCalculation.refreshPrices(false);
+		assertEquals(2 * 1_500_000, bankCalculation.getGePrice());
+
+		bankCalculation.refreshPrices(true);
+		assertEquals(2 * 1_400_000, bankCalculation.getGePrice());
+	}
+
+	@Test
+	public void testPlaceholder()
+	{
+		bankCalculation.update(new Item[]
+		{
+			item(ItemID.ABYSSAL_WHIP, 0)
+		});
+
+		assertTrue(bankCalculation.isFinished());
+		verify(itemManager, never()).getItemComposition(ItemID.ABYSSAL_WHIP);
+	}
+
+	@Test
+	public void testTabs()
+	{
+		when(bankValueConfig.showGE())
+			.thenReturn(true);
+		composition(ItemID.ABYSSAL_WHIP, 120_001);
+		composition(ItemID.DRAGON_BONES, 1);
+		price(ItemID.ABYSSAL_WHIP, 1_500_000);
+		price(ItemID.DRAGON_BONES, 2_000);
+
+		// the whip is in tab one, the bones in tab two and the coins in no tab
+		bankCalculation.setTabSizes(new int[]{1, 1, 0, 0, 0, 0, 0, 0, 0});
+		bankCalculation.update(new Item[]
+		{
+			item(ItemID.ABYSSAL_WHIP, 2),
+			item(ItemID.DRAGON_BONES, 100),
+			item(ItemID.COINS_995, 1000)
+		});
+
+		assertEquals(2 * 1_500_000, bankCalculation.getGePrice(1));
+		assertEquals(2 * 72_001, bankCalculation.getHaPrice(1));
+		assertEquals(100 * 2_000, bankCalculation.getGePrice(2));
+		assertEquals(0, bankCalculation.getGePrice(3));
+		assertEquals(1000 + 2 * 1_500_000 + 100 * 2_000, bankCalculation.getGePrice(0));
+
+		// the bones are moved into tab one
+		bankCalculation.setTabSizes(new int[]{2, 0, 0, 0, 0, 0, 0, 0, 0});
+		assertEquals(2 * 1_500_000 + 100 * 2_000, bankCalculation.getGePrice(1));
+		assertEquals(0, bankCalculation.getGePrice(2));
+
+		// a change to one slot only changes the value of its tab
+		price(ItemID.DRAGON_BONES, 2_500);
+		bankCalculation.refreshPrices(true);
+		bankCalculation.update(new Item[]
+		{
+			item(ItemID.ABYSSAL_WHIP, 1),
+			item(ItemID.DRAGON_BONES, 100),
+			item(ItemID.COINS_995, 1000)
+		});
+
+		assertEquals(1_500_000 + 100 * 2_500, bankCalculation.getGePrice(1));
+		assertEquals(1000 + 1_500_000 + 100 * 2_500, bankCalculation.getGePrice(0));
+	}
+
+	private static Item item(int itemId, int quantity)
+	{
+		Item item = mock(Item.class);
+		when(item.getId())
+			.thenReturn(itemId);
+		when(item.getQuantity())
+			.thenReturn(quantity);
+		return item;
+	}
+
+	private void composition(int itemId, int price)
+	{
+		ItemComposition itemComposition = mock(ItemComposition.class);
+		when(itemComposition.getPrice())
+			.thenReturn(price);
+		when(itemManager.getItemComposition(itemId))
+			.thenReturn(itemComposition);
+	}
+
+	private void price(int itemId, int price)
+	{
+		ItemPrice itemPrice = new ItemPrice();
+		itemPrice.setPrice(price);
+		when(itemManager.getItemPriceAsync(itemId))
+			.thenReturn(itemPrice);
+		when(itemManager.isItemPriceLoaded(itemId))
+			.thenReturn(true);
+	}
+}
@@ -0,0 +1,251 @@
+/*
+ * Copyright (c) 2018, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.grounditems;
+
+import com.google.inject.Guice;
+import com.google.inject.testing.fieldbinder.Bind;
+import com.google.inject.testing.fieldbinder.BoundFieldModule;
+import java.util.List;
+import javax.inject.Inject;
+import net.runelite.api.Client;
+import net.runelite.api.GameState;
+import net.runelite.api.Item;
+import net.runelite.api.ItemComposition;
+import net.runelite.api.ItemLayer;
+import net.runelite.api.Player;
+import net.runelite.api.Region;
+import net.runelite.api.Tile;
+import net.runelite.api.coords.LocalPoint;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.api.events.ConfigChanged;
+import net.runelite.api.events.GameStateChanged;
+import net.runelite.api.events.ItemLayerChanged;
+import net.runelite.api.widgets.Widget;
+import net.runelite.client.callback.ClientThread;
+import net.runelite.client.game.ItemManager;
+import net.runelite.client.input.KeyManager;
+import net.runelite.client.input.MouseManager;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.runners.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class GroundItemsPluginTest
+{
+	private static final int BONES = 526;
+	private static final int LOGS = 1511;
+
+	@Mock
+	@Bind
+	Client client;
+
+	@Mock
+	@Bind
+	ClientThread clientThread;
+
+	@Mock
+	@Bind
+	ItemManager itemManager;
+
+	@Mock
+	@Bind
+	GroundItemsConfig config;
+
+	@Mock
+	@Bind
+	GroundItemsOverlay overlay;
+
+	@Mock
+	@Bind
+	GroundItemInputListener inputListener;
+
+	@Mock
+	@Bind
+	MouseManager mouseManager;
+
+	@Mock
+	@Bind
+	KeyManager keyManager;
+
+	@Inject
+	GroundItemsPlugin plugin;
+
+	private final Tile[][][] tiles = new Tile[4][104][104];
+
+	@Before
+	public void before()
+	{
+		Guice.createInjector(BoundFieldModule.of(this)).injectMembers(this);
+
+		final Region region = mock(Region.class);
+		when(region.getTiles()).thenReturn(tiles);
+		when(client.getRegion()).thenReturn(region);
+		when(client.getLocalPlayer()).thenReturn(mock(Player.class));
+		when(client.getViewportWidget()).thenReturn(mock(Widget.class));
+
+		when(config.getHiddenItems()).thenReturn("");
+		when(config.getHighlightItems()).thenReturn("");
+
+		when(itemManager.getItemComposition(anyInt())).thenAnswer(invocation ->
+		{
+			final int id = (int) invocation.getArguments()[0];
+			final ItemComposition composition = mock(ItemComposition.class);
+			when(composition.getId()).thenReturn(id);
+			when(composition.getNote()).thenReturn(-1);
+			when(composition.getName()).thenReturn("Item " + id);
+			when(composition.getPrice()).thenReturn(10);
+			return composition;
+		});
+
+		plugin.startUp();
+
+		final GameStateChanged gameStateChanged = new GameStateChanged();
+		gameStateChanged.setGameState(GameState.LOGGED_IN);
+		plugin.onGameStateChanged(gameStateChanged);
+	}
+
+	@Test
+	public void testTileUpdates()
+	{
+		final Tile first = tile(0, 10, 10, item(BONES, 1), item(LOGS, 5), item(BONES, 1));
+		final Tile second = tile(0, 20, 20, item(LOGS, 1));
+
+		plugin.checkItems();
+		List<GroundItem> items = plugin.getCollectedGroundItems();
+		assertEquals(3, items.size());
+
+		// items of the same id on a tile are merged
+		final GroundItem bones = find(items, BONES, 10);
+		assertEquals(2, bones.getQuantity());
+		assertEquals(12, bones.getHaPrice());
+		final GroundItem logs = find(items, LOGS, 20);
+
+		// only the tile which changed is rebuilt
+		setItems(first, item(BONES, 1));
+		plugin.onItemLayerChanged(new ItemLayerChanged(first));
+		plugin.checkItems();
+		items = plugin.getCollectedGroundItems();
+		assertEquals(2, items.size());
+		assertEquals(1, find(items, BONES, 10).getQuantity());
+		assertSame(logs, find(items, LOGS, 20));
+
+		// and a tile without items is dropped
+		when(second.getItemLayer()).thenReturn(null);
+		plugin.onItemLayerChanged(new ItemLayerChanged(second));
+		plugin.checkItems();
+		items = plugin.getCollectedGroundItems();
+		assertEquals(1, items.size());
+		assertEquals(BONES, items.get(0).getId());
+
+		// the details of each id are only looked up once
+		verify(itemManager, times(1)).getItemComposition(BONES);
+		verify(itemManager, times(1)).getItemComposition(LOGS);
+	}
+
+	@Test
+	public void testOtherPlane()
+	{
+		tile(0, 10, 10, item(BONES, 1));
+		plugin.checkItems();
+		assertEquals(1, plugin.getCollectedGroundItems().size());
+
+		// items on other planes are picked up when the plane changes
+		final Tile upstairs = tile(1, 10, 10, item(LOGS, 1));
+		plugin.onItemLayerChanged(new ItemLayerChanged(upstairs));
+		plugin.checkItems();
+		assertEquals(1, plugin.getCollectedGroundItems().size());
+
+		when(client.getPlane()).thenReturn(1);
+		plugin.checkItems();
+		assertEquals(1, plugin.getCollectedGroundItems().size());
+		assertEquals(LOGS, plugin.getCollectedGroundItems().get(0).getId());
+	}
+
+	@Test
+	public void testConfigChangedResetsOnClientThread()
+	{
+		final ConfigChanged configChanged = new ConfigChanged();
+		configChanged.setGroup("grounditems");
+		plugin.onConfigChanged(configChanged);
+
+		// the config is only read again once the client thread runs the reset
+		verify(config, times(1)).getHiddenItems();
+
+		final ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass(Runnable.class);
+		verify(clientThread).invokeLater(captor.capture());
+		captor.getValue().run();
+		verify(config, times(2)).getHiddenItems();
+	}
+
+	private Tile tile(int plane, int x, int y, Item... items)
+	{
+		final Tile tile = mock(Tile.class);
+		when(tile.getPlane()).thenReturn(plane);
+		when(tile.getWorldLocation()).thenReturn(new WorldPoint(3200 + x, 3200 + y, plane));
+		when(tile.getLocalLocation()).thenReturn(LocalPoint.fromRegion(x, y));
+		setItems(tile, items);
+		tiles[plane][x][y] = tile;
+		return tile;
+	}
+
+	private static void setItems(Tile tile, Item... items)
+	{
+		for (int i = 0; i < items.length - 1; ++i)
+		{
+			when(items[i].getNext()).thenReturn(items[i + 1]);
+		}
+
+		final ItemLayer itemLayer = mock(ItemLayer.class);
+		when(itemLayer.getBottom()).thenReturn(items[0]);
+		when(tile.getItemLayer()).thenReturn(itemLayer);
+	}
+
+	private static Item item(int id, int quantity)
+	{
+		final Item item = mock(Item.class);
+		when(item.getId()).thenReturn(id);
+		when(item.getQuantity()).thenReturn(quantity);
+		return item;
+	}
+
+	private static GroundItem find(List<GroundItem> items, int id, int x)
+	{
+		return items.stream()
+			.filter(item -> item.getId() == id && item.getLocation().getX() == 3200 + x)
+			.findFirst()
+			.orElseThrow(AssertionError::new);
+	}
+}
@@ -27,6 +27,7 @@ package net.runelite.client.plugins.grounditems;
 import java.util.Arrays;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import net.runelite.client.util.WildcardMatcherSet;
 import org.junit.Test;
 
 public class WildcardMatchLoaderTest
@@ -34,7 +35,7 @@ public class WildcardMatchLoaderTest
 	@Test
 	public void testLoad()
 	{
-		WildcardMatchLoader loader = new WildcardMatchLoader(Arrays.asList("rune*", "Abyssal whip"));
+		WildcardMatchLoader loader = new WildcardMatchLoader(new WildcardMatcherSet(Arrays.asList("rune*", "Abyssal whip")));
 		assertTrue(loader.load("rune pouch"));
 		assertTrue(loader.load("Rune pouch"));
 		assertFalse(loader.load("Adamant dagger"));
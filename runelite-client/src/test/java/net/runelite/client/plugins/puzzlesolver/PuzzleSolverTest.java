@@ -25,12 +25,17 @@
  */
 package net.runelite.client.plugins.puzzlesolver;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import net.runelite.client.plugins.puzzlesolver.solver.PuzzleSolver;
 import net.runelite.client.plugins.puzzlesolver.solver.PuzzleState;
 import net.runelite.client.plugins.puzzlesolver.solver.heuristics.ManhattanDistance;
 import net.runelite.client.plugins.puzzlesolver.solver.pathfinding.IDAStar;
+import net.runelite.client.plugins.puzzlesolver.solver.pathfinding.PackedIDAStar;
 import org.junit.Test;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 public class PuzzleSolverTest
@@ -98,4 +103,74 @@ public class PuzzleSolverTest
 			assertTrue(solver.getStep(solver.getStepCount() - 1).hasPieces(FINISHED_STATE));
 		}
 	}
+
+	@Test
+	public void testPackedSolver()
+	{
+		for (PuzzleState state : START_STATES)
+		{
+			PuzzleSolver solver = new PuzzleSolver(new IDAStar(new ManhattanDistance()), state);
+			solver.run();
+
+			PuzzleSolver packedSolver = new PuzzleSolver(new PackedIDAStar(), state);
+			packedSolver.run();
+
+			assertTrue(packedSolver.hasSolution());
+			assertEquals(solver.getStepCount(), packedSolver.getStepCount());
+			assertValidSolution(packedSolver);
+		}
+	}
+
+	@Test
+	public void testPackedSolverParallel()
+	{
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+
+		try
+		{
+			for (PuzzleState state : START_STATES)
+			{
+				PuzzleSolver solver = new PuzzleSolver(new PackedIDAStar(), state);
+				solver.run();
+
+				PuzzleSolver parallelSolver = new PuzzleSolver(new PackedIDAStar(executor, 4), state);
+				parallelSolver.run();
+
+				assertTrue(parallelSolver.hasSolution());
+				assertEquals(solver.getStepCount(), parallelSolver.getStepCount());
+				assertValidSolution(parallelSolver);
+			}
+		}
+		finally
+		{
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void testPackedSolverUnsolvable()
+	{
+		// the last two pieces swapped
+		int[] pieces = FINISHED_STATE.clone();
+		pieces[22] = 23;
+		pieces[23] = 22;
+
+		assertNull(new PackedIDAStar().computePath(new PuzzleState(pieces)));
+	}
+
+	private static void assertValidSolution(PuzzleSolver solver)
+	{
+		for (int i = 1; i < solver.getStepCount(); ++i)
+		{
+			PuzzleState previous = solver.getStep(i - 1);
+			PuzzleState step = solver.getStep(i);
+			int from = previous.getEmptyPiece();
+			int to = step.getEmptyPiece();
+
+			assertEquals(1, Math.abs(from % 5 - to % 5) + Math.abs(from / 5 - to / 5));
+			assertEquals(previous.getPiece(to % 5, to / 5), step.getPiece(from % 5, from / 5));
+		}
+
+		assertTrue(solver.getStep(solver.getStepCount() - 1).hasPieces(FINISHED_STATE));
+	}
 }
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2018, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.puzzlesolver.solver.pathfinding;
+
+import static net.runelite.client.plugins.puzzlesolver.solver.PuzzleSolver.DIMENSION;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+public class PackedIDAStarTest
+{
+	private static final int BASE = DIMENSION + 1;
+
+	@Test
+	public void testLineConflicts()
+	{
+		// tiles 0 and 4 can't stay, since only three of the five are in order
+		assertEquals(4, PackedIDAStar.getLineConflicts(index(1, 3, 0, 4, 2)));
+		assertEquals(0, PackedIDAStar.getLineConflicts(index(0, 1, 2, 3, 4)));
+		assertEquals(8, PackedIDAStar.getLineConflicts(index(4, 3, 2, 1, 0)));
+		assertEquals(2, PackedIDAStar.getLineConflicts(index(-1, 3, -1, 1, -1)));
+	}
+
+	@Test
+	public void testLineConflictsTable()
+	{
+		int lines = 1;
+		for (int i = 0; i < DIMENSION; ++i)
+		{
+			lines *= BASE;
+		}
+
+		final int[] line = new int[DIMENSION];
+		for (int index = 0; index < lines; ++index)
+		{
+			int code = index;
+			for (int i = DIMENSION - 1; i >= 0; --i)
+			{
+				line[i] = code % BASE - 1;
+				code /= BASE;
+			}
+
+			// only lines which could occur on a board, where each goal position is held by one tile
+			if (hasDuplicates(line))
+			{
+				continue;
+			}
+
+			int present = 0;
+			for (int goal : line)
+			{
+				if (goal != -1)
+				{
+					++present;
+				}
+			}
+
+			assertEquals("line " + index, 2 * (present - longestOrdered(line)), PackedIDAStar.getLineConflicts(index));
+		}
+	}
+
+	/**
+	 * Finds the largest set of tiles which are in order, by trying every subset
+	 */
+	private static int longestOrdered(int[] line)
+	{
+		int longest = 0;
+
+		for (int subset = 0; subset < 1 << DIMENSION; ++subset)
+		{
+			int previous = -1;
+			int size = 0;
+			boolean ordered = true;
+
+			for (int i = 0; i < DIMENSION && ordered; ++i)
+			{
+				if ((subset & 1 << i) == 0)
+				{
+					continue;
+				}
+
+				ordered = line[i] > previous;
+				previous = line[i];
+				++size;
+			}
+
+			if (ordered)
+			{
+				longest = Math.max(longest, size);
+			}
+		}
+
+		return longest;
+	}
+
+	private static boolean hasDuplicates(int[] line)
+	{
+		for (int i = 0; i < DIMENSION; ++i)
+		{
+			for (int j = i + 1; j < DIMENSION; ++j)
+			{
+				if (line[i] != -1 && line[i] == line[j])
+				{
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private static int index(int... line)
+	{
+		int index = 0;
+		for (int goal : line)
+		{
+			index = index * BASE + goal + 1;
+		}
+		return index;
+	}
+}
@@ -42,6 +42,7 @@ import static net.runelite.api.widgets.WidgetInfo.LEVEL_UP_LEVEL;
 import static net.runelite.api.widgets.WidgetInfo.PACK;
 import net.runelite.client.Notifier;
 import net.runelite.client.config.RuneLiteConfig;
+import net.runelite.client.task.ExecutorPools;
 import net.runelite.client.ui.ClientUI;
 import net.runelite.client.ui.DrawManager;
 import static org.junit.Assert.assertEquals;
@@ -93,9 +94,14 @@ public class ScreenshotPluginTest
 	@Bind
 	ScheduledExecutorService service;
 
+	@Mock
+	@Bind
+	ExecutorPools executorPools;
+
 	@Before
 	public void before()
 	{
+		when(executorPools.getIoExecutor()).thenReturn(service);
 		Guice.createInjector(BoundFieldModule.of(this)).injectMembers(this);
 		when(screenshotConfig.screenshotRewards()).thenReturn(true);
 		when(screenshotConfig.screenshotLevels()).thenReturn(true);
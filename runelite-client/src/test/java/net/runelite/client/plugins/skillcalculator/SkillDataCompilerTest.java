@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2018, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.skillcalculator;
+
+import com.google.common.io.ByteStreams;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import net.runelite.client.plugins.skillcalculator.beans.SkillData;
+import net.runelite.client.plugins.skillcalculator.beans.SkillDataBonus;
+import net.runelite.client.plugins.skillcalculator.beans.SkillDataEntry;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import org.junit.Test;
+
+public class SkillDataCompilerTest
+{
+	@Test
+	public void testRoundTrip() throws IOException
+	{
+		for (CalculatorType calculatorType : CalculatorType.values())
+		{
+			final byte[] json = json(calculatorType.getDataFile());
+			final SkillData expected = SkillDataCompiler.parse(json);
+			final SkillData actual = SkillDataCompiler.read(SkillDataCompiler.compile(json), json);
+			assertNotNull(actual);
+
+			assertEquals(expected.actions.length, actual.actions.length);
+			for (int i = 0; i < expected.actions.length; ++i)
+			{
+				final SkillDataEntry expectedAction = expected.actions[i];
+				final SkillDataEntry action = actual.actions[i];
+				assertEquals(expectedAction.name, action.name);
+				assertEquals(expectedAction.level, action.level);
+				assertEquals(expectedAction.xp, action.xp, 0);
+				assertEquals(expectedAction.icon, action.icon);
+				assertEquals(expectedAction.sprite, action.sprite);
+			}
+
+			final SkillDataBonus[] expectedBonuses = expected.bonuses != null ? expected.bonuses : new SkillDataBonus[0];
+			final SkillDataBonus[] bonuses = actual.bonuses != null ? actual.bonuses : new SkillDataBonus[0];
+			assertEquals(expectedBonuses.length, bonuses.length);
+			for (int i = 0; i < expectedBonuses.length; ++i)
+			{
+				assertEquals(expectedBonuses[i].name, bonuses[i].name);
+				assertEquals(expectedBonuses[i].value, bonuses[i].value, 0);
+			}
+		}
+	}
+
+	@Test
+	public void testChangedJson() throws IOException
+	{
+		final byte[] json = json(CalculatorType.MINING.getDataFile());
+		final byte[] compiled = SkillDataCompiler.compile(json);
+
+		// data compiled from json which has since been edited is not used
+		final byte[] edited = Arrays.copyOf(json, json.length + 1);
+		edited[json.length] = '\n';
+		assertNull(SkillDataCompiler.read(compiled, edited));
+	}
+
+	private static byte[] json(String dataFile) throws IOException
+	{
+		try (InputStream in = SkillCalculatorPlugin.class.getResourceAsStream(dataFile))
+		{
+			return ByteStreams.toByteArray(in);
+		}
+	}
+}
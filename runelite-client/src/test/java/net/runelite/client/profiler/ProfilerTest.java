@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2018, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.profiler;
+
+import java.util.List;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class ProfilerTest
+{
+	@Test
+	public void testPercentiles()
+	{
+		SampleBuffer buffer = new SampleBuffer(ProfileCategory.OVERLAY, "test", 128);
+		for (int i = 1; i <= 100; ++i)
+		{
+			buffer.record(i);
+		}
+
+		ProfileSnapshot snapshot = buffer.snapshot();
+		assertEquals(100, snapshot.getCount());
+		assertEquals(50, snapshot.getP50());
+		assertEquals(99, snapshot.getP99());
+		assertEquals(100, snapshot.getMax());
+		assertEquals(50, snapshot.getMean());
+	}
+
+	@Test
+	public void testWraps()
+	{
+		SampleBuffer buffer = new SampleBuffer(ProfileCategory.OVERLAY, "test", 4);
+		for (int i = 1; i <= 10; ++i)
+		{
+			buffer.record(i * 1000);
+		}
+
+		// only the last 4 samples are kept
+		ProfileSnapshot snapshot = buffer.snapshot();
+		assertEquals(10, snapshot.getCount());
+		assertEquals(8000, snapshot.getP50());
+		assertEquals(10000, snapshot.getMax());
+	}
+
+	@Test
+	public void testRecord()
+	{
+		Profiler profiler = new Profiler();
+		profiler.record(ProfileCategory.INVOKE, ProfilerTest.class, 10);
+		profiler.record(ProfileCategory.INVOKE, ProfilerTest.class, 20);
+		profiler.record(ProfileCategory.SCHEDULED, ProfilerTest.class, 30);
+
+		List<ProfileSnapshot> snapshots = profiler.snapshot();
+		assertEquals(2, snapshots.size());
+		assertTrue(snapshots.stream().allMatch(s -> s.getName().equals(ProfilerTest.class.getName())));
+
+		profiler.reset();
+		assertTrue(profiler.snapshot().isEmpty());
+	}
+
+	@Test
+	public void testDescribeLambda()
+	{
+		Runnable r1 = () ->
+		{
+		};
+		Runnable r2 = () ->
+		{
+		};
+
+		String name1 = Profiler.describe(r1.getClass());
+		String name2 = Profiler.describe(r2.getClass());
+		assertTrue(name1.startsWith(ProfilerTest.class.getName() + "$lambda$"));
+		assertTrue(name2.startsWith(ProfilerTest.class.getName() + "$lambda$"));
+		assertNotEquals(name1, name2);
+
+		Profiler profiler = new Profiler();
+		profiler.record(ProfileCategory.INVOKE, r1.getClass(), 10);
+		profiler.record(ProfileCategory.INVOKE, r2.getClass(), 20);
+		profiler.record(ProfileCategory.INVOKE, r1.getClass(), 30);
+
+		List<ProfileSnapshot> snapshots = profiler.snapshot();
+		assertEquals(2, snapshots.size());
+		assertEquals(3, snapshots.stream().mapToLong(ProfileSnapshot::getCount).sum());
+	}
+}
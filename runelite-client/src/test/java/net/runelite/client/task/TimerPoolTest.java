@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2018, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.task;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class TimerPoolTest
+{
+	@Test
+	public void testPeriodicSubmissions() throws InterruptedException
+	{
+		TimerPool pool = new TimerPool("test", 1);
+		CountDownLatch runs = new CountDownLatch(3);
+
+		ScheduledFuture<?> future = pool.scheduleAtFixedRate(runs::countDown, 0, 1, TimeUnit.MILLISECONDS);
+		assertTrue(runs.await(5, TimeUnit.SECONDS));
+		future.cancel(false);
+
+		pool.shutdown();
+		assertTrue(pool.awaitTermination(5, TimeUnit.SECONDS));
+
+		// every completed run was counted as submitted, plus at most the next run which was queued when cancelled
+		ExecutorMetrics metrics = pool.getMetrics();
+		long completed = metrics.getCompleted();
+		assertTrue(completed >= 3);
+		assertTrue(metrics.getSubmitted() - completed <= 1);
+	}
+
+	@Test
+	public void testDelayedSubmission() throws InterruptedException
+	{
+		TimerPool pool = new TimerPool("test", 1);
+		CountDownLatch ran = new CountDownLatch(1);
+
+		pool.schedule(ran::countDown, 1, TimeUnit.MILLISECONDS);
+		assertTrue(ran.await(5, TimeUnit.SECONDS));
+
+		pool.shutdown();
+		assertTrue(pool.awaitTermination(5, TimeUnit.SECONDS));
+
+		assertEquals(1, pool.getMetrics().getSubmitted());
+		assertEquals(1, pool.getMetrics().getCompleted());
+	}
+}
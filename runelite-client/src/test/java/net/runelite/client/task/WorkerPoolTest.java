@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2018, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.task;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class WorkerPoolTest
+{
+	@Test
+	public void testSaturated() throws InterruptedException
+	{
+		WorkerPool pool = new WorkerPool("test", 1, 1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		try
+		{
+			// occupy the only thread, then fill the queue
+			pool.execute(() ->
+			{
+				try
+				{
+					release.await();
+				}
+				catch (InterruptedException ex)
+				{
+					Thread.currentThread().interrupt();
+				}
+			});
+			pool.execute(() ->
+			{
+			});
+
+			// past the threshold the task is still queued, rather than run by the caller
+			AtomicReference<Thread> ranOn = new AtomicReference<>();
+			pool.execute(() -> ranOn.set(Thread.currentThread()));
+
+			assertNull(ranOn.get());
+			assertEquals(2, pool.getQueueSize());
+			assertEquals(1, pool.getMetrics().getSaturated());
+			assertEquals(3, pool.getMetrics().getSubmitted());
+		}
+		finally
+		{
+			release.countDown();
+			pool.shutdown();
+		}
+
+		assertTrue(pool.awaitTermination(5, TimeUnit.SECONDS));
+		assertEquals(3, pool.getMetrics().getCompleted());
+	}
+}
@@ -24,12 +24,35 @@
  */
 package net.runelite.client.ui.overlay;
 
+import com.google.inject.Guice;
+import com.google.inject.testing.fieldbinder.Bind;
+import com.google.inject.testing.fieldbinder.BoundFieldModule;
+import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Graphics2D;
+import java.awt.Point;
+import java.awt.image.BufferedImage;
 import java.util.Arrays;
 import java.util.List;
+import javax.inject.Inject;
+import net.runelite.api.Client;
+import net.runelite.client.config.ConfigManager;
+import net.runelite.client.config.FontType;
+import net.runelite.client.config.RuneLiteConfig;
+import net.runelite.client.input.KeyManager;
+import net.runelite.client.input.MouseManager;
+import net.runelite.client.plugins.PluginManager;
+import net.runelite.client.profiler.Profiler;
+import net.runelite.client.ui.overlay.infobox.InfoBoxOverlay;
+import net.runelite.client.ui.overlay.tooltip.TooltipOverlay;
+import net.runelite.client.ui.overlay.worldmap.WorldMapOverlay;
 import static org.junit.Assert.assertEquals;
+import org.junit.Before;
 import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.when;
+import org.mockito.runners.MockitoJUnitRunner;
 
 class TestOverlay extends Overlay
 {
@@ -46,8 +69,127 @@ class TestOverlay extends Overlay
 	}
 }
 
+class CountingOverlay extends Overlay
+{
+	boolean unchanged;
+	Color color = Color.RED;
+	int renders;
+
+	CountingOverlay()
+	{
+		setPosition(OverlayPosition.TOP_LEFT);
+	}
+
+	@Override
+	public boolean isUnchanged()
+	{
+		return unchanged;
+	}
+
+	@Override
+	public Dimension render(Graphics2D graphics)
+	{
+		++renders;
+		graphics.setColor(color);
+		graphics.fillRect(0, 0, 10, 10);
+		return new Dimension(10, 10);
+	}
+}
+
+@RunWith(MockitoJUnitRunner.class)
 public class OverlayRendererTest
 {
+	@Mock
+	@Bind
+	private Client client;
+
+	@Mock
+	@Bind
+	private PluginManager pluginManager;
+
+	@Mock
+	@Bind
+	private MouseManager mouseManager;
+
+	@Mock
+	@Bind
+	private KeyManager keyManager;
+
+	@Mock
+	@Bind
+	private TooltipOverlay tooltipOverlay;
+
+	@Mock
+	@Bind
+	private InfoBoxOverlay infoBoxOverlay;
+
+	@Mock
+	@Bind
+	private WorldMapOverlay worldMapOverlay;
+
+	@Mock
+	@Bind
+	private ConfigManager configManager;
+
+	@Mock
+	@Bind
+	private RuneLiteConfig runeLiteConfig;
+
+	@Mock
+	@Bind
+	private Profiler profiler;
+
+	@Inject
+	private OverlayRenderer overlayRenderer;
+
+	@Before
+	public void before()
+	{
+		when(runeLiteConfig.fontType()).thenReturn(FontType.SMALL);
+		when(runeLiteConfig.tooltipFontType()).thenReturn(FontType.SMALL);
+		Guice.createInjector(BoundFieldModule.of(this)).injectMembers(this);
+	}
+
+	@Test
+	public void testRenderCache()
+	{
+		final CountingOverlay overlay = new CountingOverlay();
+		final BufferedImage screen = new BufferedImage(40, 40, BufferedImage.TYPE_INT_ARGB);
+		final Graphics2D graphics = screen.createGraphics();
+
+		overlayRenderer.safeRender(client, overlay, OverlayLayer.ABOVE_WIDGETS, graphics, new Point(5, 5));
+		assertEquals(1, overlay.renders);
+
+		// the first unchanged frame renders into the cache instead of the screen, so only once
+		overlay.unchanged = true;
+		screen.setRGB(10, 10, 0);
+		overlayRenderer.safeRender(client, overlay, OverlayLayer.ABOVE_WIDGETS, graphics, new Point(5, 5));
+		assertEquals(2, overlay.renders);
+		assertEquals(Color.RED.getRGB(), screen.getRGB(10, 10));
+
+		// later unchanged frames are drawn from the cache, wherever the overlay is now
+		overlay.color = Color.BLUE;
+		overlayRenderer.safeRender(client, overlay, OverlayLayer.ABOVE_WIDGETS, graphics, new Point(20, 20));
+		assertEquals(2, overlay.renders);
+		assertEquals(Color.RED.getRGB(), screen.getRGB(25, 25));
+		assertEquals(20, overlay.getBounds().x);
+		assertEquals(10, overlay.getBounds().width);
+
+		// the graphics' clip is honored
+		screen.setRGB(25, 25, 0);
+		graphics.setClip(0, 0, 25, 25);
+		overlayRenderer.safeRender(client, overlay, OverlayLayer.ABOVE_WIDGETS, graphics, new Point(20, 20));
+		assertEquals(Color.RED.getRGB(), screen.getRGB(24, 24));
+		assertEquals(0, screen.getRGB(25, 25));
+
+		// a changed overlay is rendered again
+		graphics.setClip(null);
+		overlay.unchanged = false;
+		overlayRenderer.safeRender(client, overlay, OverlayLayer.ABOVE_WIDGETS, graphics, new Point(20, 20));
+		assertEquals(3, overlay.renders);
+		assertEquals(Color.BLUE.getRGB(), screen.getRGB(25, 25));
+	}
+
 	@Test
 	public void testSort()
 	{
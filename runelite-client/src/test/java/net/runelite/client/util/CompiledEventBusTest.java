@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2018, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import com.google.common.eventbus.DeadEvent;
+import com.google.common.eventbus.Subscribe;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class CompiledEventBusTest
+{
+	static class BaseEvent
+	{
+	}
+
+	public static class Event extends BaseEvent
+	{
+	}
+
+	public static class PublicSubscriber
+	{
+		int events;
+		int baseEvents;
+
+		@Subscribe
+		public void onEvent(Event event)
+		{
+			++events;
+		}
+
+		@Subscribe
+		public void onBaseEvent(BaseEvent event)
+		{
+			++baseEvents;
+		}
+	}
+
+	public static class OverridingSubscriber extends PublicSubscriber
+	{
+		@Subscribe
+		@Override
+		public void onEvent(Event event)
+		{
+			events += 10;
+		}
+	}
+
+	static class PrivateSubscriber
+	{
+		int events;
+
+		@Subscribe
+		private void onEvent(Event event)
+		{
+			++events;
+		}
+
+		@Subscribe
+		void onString(String string)
+		{
+			throw new RuntimeException("subscriber exception");
+		}
+	}
+
+	public static class DeadEventSubscriber
+	{
+		int events;
+
+		@Subscribe
+		public void onDeadEvent(DeadEvent event)
+		{
+			++events;
+		}
+	}
+
+	public static class NestingSubscriber
+	{
+		final List<String> calls = new ArrayList<>();
+		CompiledEventBus eventBus;
+		boolean dispatching;
+
+		@Subscribe
+		public void onEvent(Event event)
+		{
+			dispatching = eventBus.isDispatching();
+			calls.add("event");
+			eventBus.post("nested");
+			calls.add("event done");
+		}
+
+		@Subscribe
+		public void onBaseEvent(BaseEvent event)
+		{
+			calls.add("base event");
+		}
+
+		@Subscribe
+		public void onString(String string)
+		{
+			calls.add(string);
+		}
+	}
+
+	@Test
+	public void testPost()
+	{
+		CompiledEventBus eventBus = new CompiledEventBus();
+		PublicSubscriber publicSubscriber = new PublicSubscriber();
+		PrivateSubscriber privateSubscriber = new PrivateSubscriber();
+
+		eventBus.register(publicSubscriber);
+		eventBus.register(publicSubscriber);
+		eventBus.register(privateSubscriber);
+
+		eventBus.post(new Event());
+		eventBus.post(new BaseEvent());
+		eventBus.post("exception is logged");
+
+		assertEquals(1, publicSubscriber.events);
+		assertEquals(2, publicSubscriber.baseEvents);
+		assertEquals(1, privateSubscriber.events);
+	}
+
+	@Test
+	public void testOverride()
+	{
+		CompiledEventBus eventBus = new CompiledEventBus();
+		OverridingSubscriber subscriber = new OverridingSubscriber();
+
+		eventBus.register(subscriber);
+		eventBus.post(new Event());
+
+		assertEquals(10, subscriber.events);
+		assertEquals(1, subscriber.baseEvents);
+	}
+
+	@Test
+	public void testUnregister()
+	{
+		CompiledEventBus eventBus = new CompiledEventBus();
+		PublicSubscriber subscriber = new PublicSubscriber();
+
+		eventBus.register(subscriber);
+		eventBus.post(new Event());
+		eventBus.unregister(subscriber);
+		eventBus.post(new Event());
+
+		assertEquals(1, subscriber.events);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testUnregisterMissing()
+	{
+		new CompiledEventBus().unregister(new PublicSubscriber());
+	}
+
+	@Test
+	public void testDeadEvent()
+	{
+		CompiledEventBus eventBus = new CompiledEventBus();
+		DeadEventSubscriber subscriber = new DeadEventSubscriber();
+
+		eventBus.register(subscriber);
+		eventBus.post(new Event());
+
+		assertEquals(1, subscriber.events);
+	}
+
+	@Test
+	public void testNestedPost()
+	{
+		CompiledEventBus eventBus = new CompiledEventBus();
+		NestingSubscriber subscriber = new NestingSubscriber();
+		subscriber.eventBus = eventBus;
+
+		eventBus.register(subscriber);
+		eventBus.post(new Event());
+
+		// the nested event is dispatched after every subscriber of the outer event, like Guava
+		List<String> expected = new ArrayList<>();
+		expected.add("event");
+		expected.add("event done");
+		expected.add("base event");
+		expected.add("nested");
+		assertEquals(expected, subscriber.calls);
+
+		assertTrue(subscriber.dispatching);
+		assertFalse(eventBus.isDispatching());
+	}
+}
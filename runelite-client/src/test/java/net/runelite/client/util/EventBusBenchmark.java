@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2018, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import com.google.common.eventbus.EventBus;
+import com.google.common.eventbus.Subscribe;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares posting to the Guava event bus and the compiled event bus, with
+ * subscribers shaped like plugins: most of them subscribe to events other
+ * than the one being posted.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class EventBusBenchmark
+{
+	public static class SpawnEvent
+	{
+	}
+
+	public static class MenuEvent
+	{
+	}
+
+	public static class SpawnSubscriber
+	{
+		int count;
+
+		@Subscribe
+		public void onSpawn(SpawnEvent event)
+		{
+			++count;
+		}
+	}
+
+	public static class MenuSubscriber
+	{
+		int count;
+
+		@Subscribe
+		public void onMenu(MenuEvent event)
+		{
+			++count;
+		}
+	}
+
+	@Param({"80"})
+	private int plugins;
+
+	/**
+	 * One in this many plugins subscribes to spawn events
+	 */
+	@Param({"8"})
+	private int spawnSubscriberRatio;
+
+	private EventBus guava;
+	private EventBus compiled;
+	private final SpawnEvent spawnEvent = new SpawnEvent();
+	private final MenuEvent menuEvent = new MenuEvent();
+
+	@Setup
+	public void setup()
+	{
+		guava = new EventBus();
+		compiled = new CompiledEventBus();
+
+		for (int i = 0; i < plugins; ++i)
+		{
+			Object subscriber = i % spawnSubscriberRatio == 0 ? new SpawnSubscriber() : new MenuSubscriber();
+			guava.register(subscriber);
+			compiled.register(subscriber);
+		}
+	}
+
+	@Benchmark
+	public void guavaSpawn()
+	{
+		guava.post(spawnEvent);
+	}
+
+	@Benchmark
+	public void compiledSpawn()
+	{
+		compiled.post(spawnEvent);
+	}
+
+	@Benchmark
+	public void guavaMenu()
+	{
+		guava.post(menuEvent);
+	}
+
+	@Benchmark
+	public void compiledMenu()
+	{
+		compiled.post(menuEvent);
+	}
+
+	public static void main(String[] args) throws RunnerException
+	{
+		new Runner(new OptionsBuilder()
+			.include(EventBusBenchmark.class.getSimpleName())
+			.build()).run();
+	}
+}
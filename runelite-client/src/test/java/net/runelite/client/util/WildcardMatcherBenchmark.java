@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2018, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares matching a crowd of names against a highlight list one pattern at a
+ * time with {@link WildcardMatcher} and all at once with {@link WildcardMatcherSet}.
+ * A quarter of the patterns have wildcards, and most names match nothing.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class WildcardMatcherBenchmark
+{
+	private static final String[] WORDS = {
+		"rune", "dragon", "abyssal", "bones", "whip", "shield", "arrow", "seed",
+		"herb", "ore", "bar", "potion", "scimitar", "platebody", "ranarr", "coins"
+	};
+
+	@Param({"10", "100"})
+	private int patternCount;
+
+	private final List<String> patterns = new ArrayList<>();
+	private final List<String> names = new ArrayList<>();
+	private WildcardMatcherSet set;
+
+	@Setup
+	public void setup()
+	{
+		patterns.clear();
+		names.clear();
+
+		for (int i = 0; i < patternCount; ++i)
+		{
+			final String name = WORDS[i % WORDS.length] + " " + WORDS[(i * 7 + 3) % WORDS.length] + " " + i;
+			patterns.add(i % 4 == 0 ? WORDS[i % WORDS.length] + "*" + i : name);
+		}
+
+		for (int i = 0; i < 200; ++i)
+		{
+			names.add(WORDS[(i * 5) % WORDS.length] + " " + WORDS[(i * 3 + 1) % WORDS.length] + " " + i * 13);
+		}
+
+		set = new WildcardMatcherSet(patterns);
+	}
+
+	@Benchmark
+	public void perPattern(Blackhole blackhole)
+	{
+		for (String name : names)
+		{
+			boolean matched = false;
+			for (String pattern : patterns)
+			{
+				if (WildcardMatcher.matches(pattern, name))
+				{
+					matched = true;
+					break;
+				}
+			}
+			blackhole.consume(matched);
+		}
+	}
+
+	@Benchmark
+	public void matcherSet(Blackhole blackhole)
+	{
+		for (String name : names)
+		{
+			blackhole.consume(set.matches(name));
+		}
+	}
+
+	public static void main(String[] args) throws RunnerException
+	{
+		new Runner(new OptionsBuilder()
+			.include(WildcardMatcherBenchmark.class.getSimpleName())
+			.build()).run();
+	}
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2018, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Locale;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class WildcardMatcherSetTest
+{
+	@Test
+	public void testMatches()
+	{
+		WildcardMatcherSet set = new WildcardMatcherSet(Arrays.asList("rune*", "Abyssal whip", "*bones", "d*ide"));
+
+		assertTrue(set.matches("rune pouch"));
+		assertTrue(set.matches("Rune pouch"));
+		assertTrue(set.matches("Runeite Ore"));
+		assertTrue(set.matches("abyssal whip"));
+		assertTrue(set.matches("Dragon bones"));
+		assertTrue(set.matches("Dragonhide"));
+		assertFalse(set.matches("Adamant dagger"));
+		assertFalse(set.matches("Abyssal whip (or)"));
+		assertFalse(set.matches("Dragon bones (noted)"));
+	}
+
+	@Test
+	public void testSegments()
+	{
+		// segments have to appear in order and may not overlap
+		WildcardMatcherSet set = new WildcardMatcherSet(Collections.singletonList("ab*ba"));
+
+		assertTrue(set.matches("abba"));
+		assertTrue(set.matches("ab ba"));
+		assertFalse(set.matches("aba"));
+
+		set = new WildcardMatcherSet(Collections.singletonList("*a*b*"));
+		assertTrue(set.matches("xaxbx"));
+		assertTrue(set.matches("ab"));
+		assertFalse(set.matches("ba"));
+	}
+
+	@Test
+	public void testEmpty()
+	{
+		WildcardMatcherSet set = new WildcardMatcherSet(Collections.emptyList());
+		assertTrue(set.isEmpty());
+		assertFalse(set.matches("Coins"));
+
+		set = new WildcardMatcherSet(Collections.singletonList("*"));
+		assertTrue(set.matches(""));
+		assertTrue(set.matches("Coins"));
+	}
+
+	@Test
+	public void testTurkishLocale()
+	{
+		final Locale locale = Locale.getDefault();
+		Locale.setDefault(new Locale("tr", "TR"));
+
+		try
+		{
+			// the default lower case of I in Turkish is a dotless i
+			WildcardMatcherSet set = new WildcardMatcherSet(Arrays.asList("IRON*", "Bird nest"));
+			assertTrue(set.matches("iron ore"));
+			assertTrue(set.matches("BIRD NEST"));
+			assertTrue(WildcardMatcher.matches("IRON*", "iron ore"));
+		}
+		finally
+		{
+			Locale.setDefault(locale);
+		}
+	}
+}
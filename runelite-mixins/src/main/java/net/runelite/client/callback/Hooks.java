@@ -108,4 +108,9 @@ public class Hooks
 	{
 		throw new RuntimeException();
 	}
+
+	public static boolean isDispatching()
+	{
+		throw new RuntimeException();
+	}
 }
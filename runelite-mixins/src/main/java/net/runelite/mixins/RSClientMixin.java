@@ -135,6 +135,21 @@ public abstract class RSClientMixin implements RSClient
 	@Inject
 	private static int oldMenuEntryCount;
 
+	@Inject
+	private static MenuEntryAdded menuEntryAdded = new MenuEntryAdded();
+
+	@Inject
+	private static MenuEntry[] menuEntryPool;
+
+	@Inject
+	private static MenuEntry[][] menuEntryViews;
+
+	/**
+	 * The varps as of the last write, so that varp changes can carry their old value
+	 */
+	@Inject
+	private static int[] oldVarps;
+
 	@Inject
 	@Override
 	public boolean isInterpolatePlayerAnimations()
@@ -461,6 +476,50 @@ public abstract class RSClientMixin implements RSClient
 		return entries;
 	}
 
+	@Inject
+	@Override
+	public MenuEntry[] getMenuEntriesView()
+	{
+		int count = getMenuOptionCount();
+		String[] menuOptions = getMenuOptions();
+		String[] menuTargets = getMenuTargets();
+		int[] menuIdentifiers = getMenuIdentifiers();
+		int[] menuTypes = getMenuTypes();
+		int[] params0 = getMenuActionParams0();
+		int[] params1 = getMenuActionParams1();
+
+		if (menuEntryViews == null)
+		{
+			menuEntryPool = new MenuEntry[menuOptions.length];
+			menuEntryViews = new MenuEntry[menuOptions.length + 1][];
+		}
+
+		// one array per menu size, all backed by the same pooled entries
+		MenuEntry[] entries = menuEntryViews[count];
+		if (entries == null)
+		{
+			entries = menuEntryViews[count] = new MenuEntry[count];
+		}
+
+		for (int i = 0; i < count; ++i)
+		{
+			MenuEntry entry = menuEntryPool[i];
+			if (entry == null)
+			{
+				entry = menuEntryPool[i] = new MenuEntry();
+			}
+
+			entries[i] = entry;
+			entry.setOption(menuOptions[i]);
+			entry.setTarget(menuTargets[i]);
+			entry.setIdentifier(menuIdentifiers[i]);
+			entry.setType(menuTypes[i]);
+			entry.setParam0(params0[i]);
+			entry.setParam1(params1[i]);
+		}
+		return entries;
+	}
+
 	@Inject
 	@Override
 	public void setMenuEntries(MenuEntry[] entries)
@@ -499,14 +558,28 @@ public abstract class RSClientMixin implements RSClient
 
 		if (newCount == oldCount + 1)
 		{
-			MenuEntryAdded event = new MenuEntryAdded(
-				client.getMenuOptions()[newCount - 1],
-				client.getMenuTargets()[newCount - 1],
-				client.getMenuTypes()[newCount - 1],
-				client.getMenuIdentifiers()[newCount - 1],
-				client.getMenuActionParams0()[newCount - 1],
-				client.getMenuActionParams1()[newCount - 1]
-			);
+			String option = client.getMenuOptions()[newCount - 1];
+			String target = client.getMenuTargets()[newCount - 1];
+			int type = client.getMenuTypes()[newCount - 1];
+			int identifier = client.getMenuIdentifiers()[newCount - 1];
+			int param0 = client.getMenuActionParams0()[newCount - 1];
+			int param1 = client.getMenuActionParams1()[newCount - 1];
+
+			if (Hooks.isDispatching())
+			{
+				// posting only queues the event while another is being dispatched,
+				// such as when a subscriber adds an entry, so the shared one can't be used
+				eventBus.post(new MenuEntryAdded(option, target, type, identifier, param0, param1));
+				return;
+			}
+
+			MenuEntryAdded event = menuEntryAdded;
+			event.setOption(option);
+			event.setTarget(target);
+			event.setType(type);
+			event.setIdentifier(identifier);
+			event.setActionParam0(param0);
+			event.setActionParam1(param1);
 
 			eventBus.post(event);
 		}
@@ -857,6 +930,27 @@ public abstract class RSClientMixin implements RSClient
 	public static void settingsChanged(int idx)
 	{
 		VarbitChanged varbitChanged = new VarbitChanged();
+
+		int[] varps = client.getVarps();
+		if (oldVarps == null || oldVarps.length != varps.length)
+		{
+			// Seed from the current values. The value before this write is
+			// already gone, so the event does not say which varp changed.
+			oldVarps = varps.clone();
+		}
+		else if (idx >= 0 && idx < varps.length)
+		{
+			varbitChanged.setIndex(idx);
+			varbitChanged.setOldValue(oldVarps[idx]);
+			varbitChanged.setNewValue(varps[idx]);
+			oldVarps[idx] = varps[idx];
+		}
+		else
+		{
+			// the whole array was replaced
+			System.arraycopy(varps, 0, oldVarps, 0, varps.length);
+		}
+
 		eventBus.post(varbitChanged);
 	}
 
@@ -52,6 +52,7 @@ import net.runelite.api.mixins.FieldHook;
 import net.runelite.api.mixins.Inject;
 import net.runelite.api.mixins.Mixin;
 import net.runelite.api.mixins.Shadow;
+import net.runelite.client.callback.Hooks;
 import static net.runelite.client.callback.Hooks.eventBus;
 import net.runelite.rs.api.RSClient;
 import net.runelite.rs.api.RSCollisionData;
@@ -67,6 +68,46 @@ public abstract class RSTileMixin implements RSTile
 	@Inject
 	private static GameObject lastGameObject;
 
+	// tile events are posted very often, so each event is reused. Subscribers are
+	// told not to keep them, and their references are cleared after posting. An
+	// event posted while another is being dispatched is queued instead, so a new
+	// event is posted then.
+	@Inject
+	private static WallObjectSpawned wallObjectSpawned = new WallObjectSpawned();
+
+	@Inject
+	private static WallObjectDespawned wallObjectDespawned = new WallObjectDespawned();
+
+	@Inject
+	private static WallObjectChanged wallObjectChanged = new WallObjectChanged();
+
+	@Inject
+	private static DecorativeObjectSpawned decorativeObjectSpawned = new DecorativeObjectSpawned();
+
+	@Inject
+	private static DecorativeObjectDespawned decorativeObjectDespawned = new DecorativeObjectDespawned();
+
+	@Inject
+	private static DecorativeObjectChanged decorativeObjectChanged = new DecorativeObjectChanged();
+
+	@Inject
+	private static GroundObjectSpawned groundObjectSpawned = new GroundObjectSpawned();
+
+	@Inject
+	private static GroundObjectDespawned groundObjectDespawned = new GroundObjectDespawned();
+
+	@Inject
+	private static GroundObjectChanged groundObjectChanged = new GroundObjectChanged();
+
+	@Inject
+	private static GameObjectSpawned gameObjectSpawned = new GameObjectSpawned();
+
+	@Inject
+	private static GameObjectDespawned gameObjectDespawned = new GameObjectDespawned();
+
+	@Inject
+	private static GameObjectChanged gameObjectChanged = new GameObjectChanged();
+
 	@Inject
 	private WallObject previousWallObject;
 
@@ -109,27 +150,45 @@ public abstract class RSTileMixin implements RSTile
 
 		previousWallObject = current;
 
+		final boolean pooled = !Hooks.isDispatching();
+
 		if (current == null && previous != null)
 		{
-			WallObjectDespawned wallObjectDespawned = new WallObjectDespawned();
-			wallObjectDespawned.setTile(this);
-			wallObjectDespawned.setWallObject(previous);
-			eventBus.post(wallObjectDespawned);
+			WallObjectDespawned event = pooled ? wallObjectDespawned : new WallObjectDespawned();
+			event.setTile(this);
+			event.setWallObject(previous);
+			eventBus.post(event);
+			if (pooled)
+			{
+				event.setTile(null);
+				event.setWallObject(null);
+			}
 		}
 		else if (current != null && previous == null)
 		{
-			WallObjectSpawned wallObjectSpawned = new WallObjectSpawned();
-			wallObjectSpawned.setTile(this);
-			wallObjectSpawned.setWallObject(current);
-			eventBus.post(wallObjectSpawned);
+			WallObjectSpawned event = pooled ? wallObjectSpawned : new WallObjectSpawned();
+			event.setTile(this);
+			event.setWallObject(current);
+			eventBus.post(event);
+			if (pooled)
+			{
+				event.setTile(null);
+				event.setWallObject(null);
+			}
 		}
 		else if (current != null && previous != null)
 		{
-			WallObjectChanged wallObjectChanged = new WallObjectChanged();
-			wallObjectChanged.setTile(this);
-			wallObjectChanged.setPrevious(previous);
-			wallObjectChanged.setWallObject(current);
-			eventBus.post(wallObjectChanged);
+			WallObjectChanged event = pooled ? wallObjectChanged : new WallObjectChanged();
+			event.setTile(this);
+			event.setPrevious(previous);
+			event.setWallObject(current);
+			eventBus.post(event);
+			if (pooled)
+			{
+				event.setTile(null);
+				event.setPrevious(null);
+				event.setWallObject(null);
+			}
 		}
 	}
 
@@ -142,27 +201,45 @@ public abstract class RSTileMixin implements RSTile
 
 		previousDecorativeObject = current;
 
+		final boolean pooled = !Hooks.isDispatching();
+
 		if (current == null && previous != null)
 		{
-			DecorativeObjectDespawned decorativeObjectDespawned = new DecorativeObjectDespawned();
-			decorativeObjectDespawned.setTile(this);
-			decorativeObjectDespawned.setDecorativeObject(previous);
-			eventBus.post(decorativeObjectDespawned);
+			DecorativeObjectDespawned event = pooled ? decorativeObjectDespawned : new DecorativeObjectDespawned();
+			event.setTile(this);
+			event.setDecorativeObject(previous);
+			eventBus.post(event);
+			if (pooled)
+			{
+				event.setTile(null);
+				event.setDecorativeObject(null);
+			}
 		}
 		else if (current != null && previous == null)
 		{
-			DecorativeObjectSpawned decorativeObjectSpawned = new DecorativeObjectSpawned();
-			decorativeObjectSpawned.setTile(this);
-			decorativeObjectSpawned.setDecorativeObject(current);
-			eventBus.post(decorativeObjectSpawned);
+			DecorativeObjectSpawned event = pooled ? decorativeObjectSpawned : new DecorativeObjectSpawned();
+			event.setTile(this);
+			event.setDecorativeObject(current);
+			eventBus.post(event);
+			if (pooled)
+			{
+				event.setTile(null);
+				event.setDecorativeObject(null);
+			}
 		}
 		else if (current != null && previous != null)
 		{
-			DecorativeObjectChanged decorativeObjectChanged = new DecorativeObjectChanged();
-			decorativeObjectChanged.setTile(this);
-			decorativeObjectChanged.setPrevious(previous);
-			decorativeObjectChanged.setDecorativeObject(current);
-			eventBus.post(decorativeObjectChanged);
+			DecorativeObjectChanged event = pooled ? decorativeObjectChanged : new DecorativeObjectChanged();
+			event.setTile(this);
+			event.setPrevious(previous);
+			event.setDecorativeObject(current);
+			eventBus.post(event);
+			if (pooled)
+			{
+				event.setTile(null);
+				event.setPrevious(null);
+				event.setDecorativeObject(null);
+			}
 		}
 	}
 
@@ -175,27 +252,45 @@ public abstract class RSTileMixin implements RSTile
 
 		previousGroundObject = current;
 
+		final boolean pooled = !Hooks.isDispatching();
+
 		if (current == null && previous != null)
 		{
-			GroundObjectDespawned groundObjectDespawned = new GroundObjectDespawned();
-			groundObjectDespawned.setTile(this);
-			groundObjectDespawned.setGroundObject(previous);
-			eventBus.post(groundObjectDespawned);
+			GroundObjectDespawned event = pooled ? groundObjectDespawned : new GroundObjectDespawned();
+			event.setTile(this);
+			event.setGroundObject(previous);
+			eventBus.post(event);
+			if (pooled)
+			{
+				event.setTile(null);
+				event.setGroundObject(null);
+			}
 		}
 		else if (current != null && previous == null)
 		{
-			GroundObjectSpawned groundObjectSpawned = new GroundObjectSpawned();
-			groundObjectSpawned.setTile(this);
-			groundObjectSpawned.setGroundObject(current);
-			eventBus.post(groundObjectSpawned);
+			GroundObjectSpawned event = pooled ? groundObjectSpawned : new GroundObjectSpawned();
+			event.setTile(this);
+			event.setGroundObject(current);
+			eventBus.post(event);
+			if (pooled)
+			{
+				event.setTile(null);
+				event.setGroundObject(null);
+			}
 		}
 		else if (current != null && previous != null)
 		{
-			GroundObjectChanged groundObjectChanged = new GroundObjectChanged();
-			groundObjectChanged.setTile(this);
-			groundObjectChanged.setPrevious(previous);
-			groundObjectChanged.setGroundObject(current);
-			eventBus.post(groundObjectChanged);
+			GroundObjectChanged event = pooled ? groundObjectChanged : new GroundObjectChanged();
+			event.setTile(this);
+			event.setPrevious(previous);
+			event.setGroundObject(current);
+			eventBus.post(event);
+			if (pooled)
+			{
+				event.setTile(null);
+				event.setPrevious(null);
+				event.setGroundObject(null);
+			}
 		}
 	}
 
@@ -234,30 +329,48 @@ public abstract class RSTileMixin implements RSTile
 			return;
 		}
 
+		final boolean pooled = !Hooks.isDispatching();
+
 		// Characters seem to generate a constant stream of new GameObjects
 		if (current == null || !(current.getRenderable() instanceof Actor))
 		{
 			if (current == null && previous != null)
 			{
-				GameObjectDespawned gameObjectDespawned = new GameObjectDespawned();
-				gameObjectDespawned.setTile(this);
-				gameObjectDespawned.setGameObject(previous);
-				eventBus.post(gameObjectDespawned);
+				GameObjectDespawned event = pooled ? gameObjectDespawned : new GameObjectDespawned();
+				event.setTile(this);
+				event.setGameObject(previous);
+				eventBus.post(event);
+				if (pooled)
+				{
+					event.setTile(null);
+					event.setGameObject(null);
+				}
 			}
 			else if (current != null && previous == null)
 			{
-				GameObjectSpawned gameObjectSpawned = new GameObjectSpawned();
-				gameObjectSpawned.setTile(this);
-				gameObjectSpawned.setGameObject(current);
-				eventBus.post(gameObjectSpawned);
+				GameObjectSpawned event = pooled ? gameObjectSpawned : new GameObjectSpawned();
+				event.setTile(this);
+				event.setGameObject(current);
+				eventBus.post(event);
+				if (pooled)
+				{
+					event.setTile(null);
+					event.setGameObject(null);
+				}
 			}
 			else if (current != null && previous != null)
 			{
-				GameObjectChanged gameObjectsChanged = new GameObjectChanged();
-				gameObjectsChanged.setTile(this);
-				gameObjectsChanged.setPrevious(previous);
-				gameObjectsChanged.setGameObject(current);
-				eventBus.post(gameObjectsChanged);
+				GameObjectChanged event = pooled ? gameObjectChanged : new GameObjectChanged();
+				event.setTile(this);
+				event.setPrevious(previous);
+				event.setGameObject(current);
+				eventBus.post(event);
+				if (pooled)
+				{
+					event.setTile(null);
+					event.setPrevious(null);
+					event.setGameObject(null);
+				}
 			}
 		}
 	}
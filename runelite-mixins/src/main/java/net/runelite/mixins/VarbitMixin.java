@@ -24,8 +24,7 @@
  */
 package net.runelite.mixins;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
+import java.util.Arrays;
 import net.runelite.api.VarClientInt;
 import net.runelite.api.VarClientStr;
 import net.runelite.api.Varbits;
@@ -39,13 +38,23 @@ import net.runelite.rs.api.RSVarbit;
 @Mixin(RSClient.class)
 public abstract class VarbitMixin implements RSClient
 {
+	/**
+	 * Set on entries of the varbit table which have been loaded
+	 */
+	private static final int VARBIT_LOADED = 1 << 31;
+	private static final int VARBIT_INDEX_SHIFT = 10;
+	private static final int VARBIT_LSB_SHIFT = 5;
+	private static final int VARBIT_BITS_MASK = 0x1f;
+
 	@Shadow("clientInstance")
 	private static RSClient client;
 
+	/**
+	 * The varp index, least significant bit and most significant bit of each
+	 * varbit, packed into one int per varbit id and filled as varbits are first used
+	 */
 	@Inject
-	private Cache<Integer, RSVarbit> varbitCache = CacheBuilder.newBuilder()
-		.maximumSize(128)
-		.build();
+	private int[] varbitTable = new int[0];
 
 	@Inject
 	VarbitMixin()
@@ -72,41 +81,66 @@ public abstract class VarbitMixin implements RSClient
 	@Override
 	public int getVarbitValue(int varbitId)
 	{
-		RSVarbit v = varbitCache.getIfPresent(varbitId);
-		if (v == null)
-		{
-			client.getVarbit(varbitId); // load varbit into cache
-			RSNodeCache varbits = client.getVarbitCache();
-			v = (RSVarbit) varbits.get(varbitId); // get from cache
-			varbitCache.put(varbitId, v);
-		}
+		int packed = getVarbitEntry(varbitId);
+		int value = getVarps()[packed >>> VARBIT_INDEX_SHIFT & 0xffff];
+		int lsb = packed >>> VARBIT_LSB_SHIFT & VARBIT_BITS_MASK;
+		int msb = packed & VARBIT_BITS_MASK;
+		return (value >>> lsb) & getVarbitMask(lsb, msb);
+	}
 
-		int[] varps = getVarps();
-		int value = varps[v.getIndex()];
-		int lsb = v.getLeastSignificantBit();
-		int msb = v.getMostSignificantBit();
-		int mask = (1 << ((msb - lsb) + 1)) - 1;
-		return (value >> lsb) & mask;
+	@Inject
+	@Override
+	public int getVarbitVarpIndex(int varbitId)
+	{
+		return getVarbitEntry(varbitId) >>> VARBIT_INDEX_SHIFT & 0xffff;
 	}
 
 	@Inject
 	@Override
 	public void setVarbitValue(int varbitId, int value)
 	{
-		RSVarbit v = varbitCache.getIfPresent(varbitId);
-		if (v == null)
+		int packed = getVarbitEntry(varbitId);
+		int[] varps = getVarps();
+		int index = packed >>> VARBIT_INDEX_SHIFT & 0xffff;
+		int lsb = packed >>> VARBIT_LSB_SHIFT & VARBIT_BITS_MASK;
+		int msb = packed & VARBIT_BITS_MASK;
+		int mask = getVarbitMask(lsb, msb);
+		varps[index] = (varps[index] & ~(mask << lsb)) | ((value & mask) << lsb);
+	}
+
+	@Inject
+	private int getVarbitEntry(int varbitId)
+	{
+		int[] table = varbitTable;
+		if (varbitId < table.length && table[varbitId] != 0)
 		{
-			client.getVarbit(varbitId); // load varbit into cache
-			RSNodeCache varbits = client.getVarbitCache();
-			v = (RSVarbit) varbits.get(varbitId); // get from cache
-			varbitCache.put(varbitId, v);
+			return table[varbitId];
 		}
 
-		int[] varps = getVarps();
-		int lsb = v.getLeastSignificantBit();
-		int msb = v.getMostSignificantBit();
-		int mask = (1 << ((msb - lsb) + 1)) - 1;
-		varps[v.getIndex()] = (varps[v.getIndex()] & ~(mask << lsb)) | ((value & mask) << lsb);
+		client.getVarbit(varbitId); // load varbit into cache
+		RSNodeCache varbits = client.getVarbitCache();
+		RSVarbit v = (RSVarbit) varbits.get(varbitId); // get from cache
+
+		int packed = VARBIT_LOADED
+			| v.getIndex() << VARBIT_INDEX_SHIFT
+			| v.getLeastSignificantBit() << VARBIT_LSB_SHIFT
+			| v.getMostSignificantBit();
+
+		if (varbitId >= table.length)
+		{
+			table = Arrays.copyOf(table, Math.max(varbitId + 1, table.length * 2));
+			varbitTable = table;
+		}
+
+		table[varbitId] = packed;
+		return packed;
+	}
+
+	@Inject
+	private static int getVarbitMask(int lsb, int msb)
+	{
+		// msb - lsb can be 31, so the shift is done on a long
+		return (int) ((1L << (msb - lsb + 1)) - 1);
 	}
 
 	@Inject
@@ -24,13 +24,30 @@
  */
 package net.runelite.script;
 
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
 import com.google.common.io.Files;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import net.runelite.cache.IndexType;
 import net.runelite.cache.definitions.ScriptDefinition;
 import net.runelite.cache.definitions.savers.ScriptSaver;
+import net.runelite.cache.script.Instruction;
+import net.runelite.cache.script.Instructions;
 import net.runelite.cache.script.assembler.Assembler;
 import org.apache.maven.plugin.AbstractMojo;
 import org.apache.maven.plugin.MojoExecutionException;
@@ -42,16 +59,36 @@ import org.apache.maven.plugins.annotations.Parameter;
 
 @Mojo(
 	name = "assemble",
-	defaultPhase = LifecyclePhase.GENERATE_RESOURCES
+	defaultPhase = LifecyclePhase.GENERATE_RESOURCES,
+	threadSafe = true
 )
 public class AssembleMojo extends AbstractMojo
 {
+	/**
+	 * Bump when the assembler or script saver output changes, to
+	 * invalidate previously cached scripts
+	 */
+	private static final int CACHE_VERSION = 1;
+
 	@Parameter(required = true)
 	private File scriptDirectory;
 
 	@Parameter(required = true)
 	private File outputDirectory;
 
+	/**
+	 * Assembled scripts, keyed by the hash of their source and of the
+	 * instruction table they were assembled with
+	 */
+	@Parameter(defaultValue = "${project.build.directory}/assembled-scripts")
+	private File cacheDirectory;
+
+	/**
+	 * Number of scripts to assemble at once, 0 to use one per processor
+	 */
+	@Parameter(defaultValue = "0")
+	private int threads;
+
 	private final Log log = getLog();
 
 	@Override
@@ -62,43 +99,163 @@ public class AssembleMojo extends AbstractMojo
 
 		Assembler assembler = new Assembler(instructions);
 		ScriptSaver saver = new ScriptSaver();
+		String instructionsHash = hash(instructions);
 
-		int count = 0;
 		File scriptOut = new File(outputDirectory, Integer.toString(IndexType.CLIENTSCRIPT.getNumber()));
 		scriptOut.mkdirs();
+		cacheDirectory.mkdirs();
 
-		for (File scriptFile : scriptDirectory.listFiles((dir, name) -> name.endsWith(".rs2asm")))
+		File[] scriptFiles = scriptDirectory.listFiles((dir, name) -> name.endsWith(".rs2asm"));
+		Arrays.sort(scriptFiles);
+
+		ExecutorService executor = Executors.newFixedThreadPool(threads > 0 ? threads : Runtime.getRuntime().availableProcessors());
+		int count = 0;
+
+		try
 		{
-			log.debug("Assembling " + scriptFile);
+			List<Future<Boolean>> results = new ArrayList<>(scriptFiles.length);
+			for (File scriptFile : scriptFiles)
+			{
+				results.add(executor.submit(() -> assemble(assembler, saver, instructionsHash, scriptFile, scriptOut)));
+			}
 
-			try (FileInputStream fin = new FileInputStream(scriptFile))
+			for (Future<Boolean> result : results)
+			{
+				if (result.get())
+				{
+					++count;
+				}
+			}
+		}
+		catch (InterruptedException ex)
+		{
+			Thread.currentThread().interrupt();
+			throw new MojoExecutionException("interrupted assembling scripts", ex);
+		}
+		catch (ExecutionException ex)
+		{
+			Throwable cause = ex.getCause();
+			if (cause instanceof MojoExecutionException)
+			{
+				throw (MojoExecutionException) cause;
+			}
+			if (cause instanceof IOException)
 			{
-				ScriptDefinition script = assembler.assemble(fin);
-				byte[] packedScript = saver.save(script);
+				throw new MojoFailureException("unable to open file", cause);
+			}
+			throw new MojoExecutionException("error assembling scripts", cause);
+		}
+		finally
+		{
+			executor.shutdownNow();
+		}
 
-				File targetFile = new File(scriptOut, Integer.toString(script.getId()));
-				Files.write(packedScript, targetFile);
+		log.info("Assembled " + count + " scripts (" + (scriptFiles.length - count) + " up to date)");
+	}
 
-				// Copy hash file
+	/**
+	 * Assemble a script, or reuse the cached output if neither it nor the
+	 * instruction table have changed
+	 *
+	 * @return true if the script was assembled
+	 */
+	private boolean assemble(Assembler assembler, ScriptSaver saver, String instructionsHash, File scriptFile, File scriptOut)
+		throws IOException, MojoExecutionException
+	{
+		byte[] source = Files.toByteArray(scriptFile);
+		String key = Hashing.sha256().newHasher()
+			.putString(instructionsHash, StandardCharsets.UTF_8)
+			.putBytes(source)
+			.hash()
+			.toString();
 
-				File hashFile = new File(scriptDirectory, Files.getNameWithoutExtension(scriptFile.getName()) + ".hash");
-				if (hashFile.exists())
-				{
-					Files.copy(hashFile, new File(scriptOut, Integer.toString(script.getId()) + ".hash"));
-				}
-				else if (script.getId() < 10000) // Scripts >=10000 are RuneLite scripts, so they shouldn't have a .hash
-				{
-					throw new MojoExecutionException("Unable to find hash file for " + scriptFile);
-				}
+		File cacheFile = new File(cacheDirectory, key);
+		boolean assembled = false;
+		int id;
+		byte[] packedScript;
 
-				++count;
+		if (cacheFile.exists())
+		{
+			try (DataInputStream in = new DataInputStream(new FileInputStream(cacheFile)))
+			{
+				id = in.readInt();
+				packedScript = new byte[(int) cacheFile.length() - 4];
+				in.readFully(packedScript);
+			}
+		}
+		else
+		{
+			log.debug("Assembling " + scriptFile);
+
+			ScriptDefinition script;
+			try
+			{
+				script = assembler.assemble(new ByteArrayInputStream(source));
 			}
-			catch (IOException ex)
+			catch (RuntimeException ex)
 			{
-				throw new MojoFailureException("unable to open file", ex);
+				throw new MojoExecutionException("Unable to assemble " + scriptFile, ex);
 			}
+
+			id = script.getId();
+			packedScript = saver.save(script);
+			assembled = true;
+
+			File tmp = new File(cacheDirectory, key + ".tmp");
+			try (DataOutputStream out = new DataOutputStream(new FileOutputStream(tmp)))
+			{
+				out.writeInt(id);
+				out.write(packedScript);
+			}
+			Files.move(tmp, cacheFile);
+		}
+
+		writeIfChanged(new File(scriptOut, Integer.toString(id)), packedScript);
+
+		// Copy hash file
+
+		File hashFile = new File(scriptDirectory, Files.getNameWithoutExtension(scriptFile.getName()) + ".hash");
+		if (hashFile.exists())
+		{
+			writeIfChanged(new File(scriptOut, Integer.toString(id) + ".hash"), Files.toByteArray(hashFile));
+		}
+		else if (id < 10000) // Scripts >=10000 are RuneLite scripts, so they shouldn't have a .hash
+		{
+			throw new MojoExecutionException("Unable to find hash file for " + scriptFile);
 		}
 
-		log.info("Assembled " + count + " scripts");
+		return assembled;
+	}
+
+	/**
+	 * Only touch output files whose contents change, so later build steps
+	 * see unchanged scripts as up to date
+	 */
+	private static void writeIfChanged(File file, byte[] contents) throws IOException
+	{
+		if (file.exists() && file.length() == contents.length && Arrays.equals(Files.toByteArray(file), contents))
+		{
+			return;
+		}
+
+		Files.write(contents, file);
+	}
+
+	private static String hash(Instructions instructions)
+	{
+		Hasher hasher = Hashing.sha256().newHasher()
+			.putInt(CACHE_VERSION);
+
+		instructions.getInstructions().stream()
+			.sorted(Comparator.comparingInt(Instruction::getOpcode))
+			.forEach(i -> hasher
+				.putInt(i.getOpcode())
+				.putString(i.getName() != null ? i.getName() : "", StandardCharsets.UTF_8)
+				.putInt(i.getIntStackPops())
+				.putInt(i.getIntStackPushes())
+				.putInt(i.getStringStackPops())
+				.putInt(i.getStringStackPushes()));
+
+		return hasher.hash().toString();
 	}
 }
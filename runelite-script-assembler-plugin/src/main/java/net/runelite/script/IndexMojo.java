@@ -24,10 +24,12 @@
  */
 package net.runelite.script;
 
+import com.google.common.io.Files;
+import java.io.ByteArrayOutputStream;
 import java.io.DataOutputStream;
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
+import java.util.Arrays;
 import static java.lang.Integer.parseInt;
 import org.apache.maven.plugin.AbstractMojo;
 import org.apache.maven.plugin.MojoExecutionException;
@@ -51,14 +53,22 @@ public class IndexMojo extends AbstractMojo
 	@Override
 	public void execute() throws MojoExecutionException, MojoFailureException
 	{
-		try (DataOutputStream fout = new DataOutputStream(new FileOutputStream(indexFile)))
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		try (DataOutputStream fout = new DataOutputStream(out))
 		{
-			for (File indexFolder : archiveOverlayDirectory.listFiles())
+			File[] indexFolders = archiveOverlayDirectory.listFiles();
+			Arrays.sort(indexFolders);
+
+			for (File indexFolder : indexFolders)
 			{
 				if (indexFolder.isDirectory())
 				{
 					int indexId = parseInt(indexFolder.getName());
-					for (File archiveFile : indexFolder.listFiles())
+					File[] archiveFiles = indexFolder.listFiles();
+					Arrays.sort(archiveFiles);
+
+					for (File archiveFile : archiveFiles)
 					{
 						int archiveId;
 						try
@@ -81,6 +91,23 @@ public class IndexMojo extends AbstractMojo
 		{
 			throw new MojoExecutionException("error build index file", ex);
 		}
+
+		byte[] index = out.toByteArray();
+
+		try
+		{
+			// leave an unchanged index alone so it doesn't look modified to later build steps
+			if (indexFile.exists() && Arrays.equals(Files.toByteArray(indexFile), index))
+			{
+				return;
+			}
+
+			Files.write(index, indexFile);
+		}
+		catch (IOException ex)
+		{
+			throw new MojoExecutionException("error build index file", ex);
+		}
 	}
 
 }
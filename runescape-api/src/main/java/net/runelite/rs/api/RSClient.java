@@ -314,6 +314,14 @@ public interface RSClient extends RSGameEngine, Client
 	@Override
 	RSIndexDataBase getIndexSprites();
 
+	@Import("indexConfigs")
+	@Override
+	RSIndexDataBase getIndexConfigs();
+
+	@Import("indexModels")
+	@Override
+	RSIndexDataBase getIndexModels();
+
 	@Import("widgetFlags")
 	@Override
 	RSHashTable getWidgetFlags();
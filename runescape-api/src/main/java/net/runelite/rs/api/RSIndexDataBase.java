@@ -29,6 +29,10 @@ import net.runelite.mapping.Import;
 
 public interface RSIndexDataBase extends IndexDataBase
 {
+	@Import("crc")
+	@Override
+	int getCrc();
+
 	@Import("getConfigData")
 	byte[] getConfigData(int archiveId, int fileId);
 }